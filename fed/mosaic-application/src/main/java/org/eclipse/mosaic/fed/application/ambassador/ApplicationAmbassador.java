@@ -48,10 +48,12 @@ import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistrations;
 import org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
@@ -68,6 +70,7 @@ import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.objects.vehicle.BatteryData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
@@ -108,6 +111,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -282,6 +287,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 this.process((TrafficLightRegistration) interaction);
             } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
                 this.process((VehicleRegistration) interaction);
+            } else if (interaction.getTypeId().equals(VehicleRegistrations.TYPE_ID)) {
+                this.process((VehicleRegistrations) interaction);
             } else if (interaction.getTypeId().equals(ScenarioVehicleRegistration.TYPE_ID)) {
                 this.process((ScenarioVehicleRegistration) interaction);
             } else if (interaction.getTypeId().equals(RoutelessVehicleRegistration.TYPE_ID)) {
@@ -314,6 +321,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 this.process((TrafficLightUpdates) interaction);
             } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
                 this.process((VehicleUpdates) interaction);
+            } else if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+                this.process(((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder));
             } else if (interaction.getTypeId().equals(AgentUpdates.TYPE_ID)) {
                 this.process((AgentUpdates) interaction);
             } else if (interaction.getTypeId().equals(LidarUpdates.TYPE_ID)) {
@@ -402,6 +411,12 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 .registerVehicleType(vehicleName, vehicleRegistration.getMapping().getVehicleType());
     }
 
+    private void process(final VehicleRegistrations vehicleRegistrations) {
+        for (VehicleRegistration vehicleRegistration : vehicleRegistrations.getRegistrations()) {
+            process(vehicleRegistration);
+        }
+    }
+
     private void process(final ScenarioVehicleRegistration scenarioVehicleRegistration) {
         // register vehicle type for perception, may be overridden later by VehicleRegistration
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
@@ -169,6 +169,9 @@ public class CentralNavigationComponent {
     }
 
     public void close() {
+        if (vehicleRouting != null) {
+            vehicleRouting.close();
+        }
         if (ptRouting != null) {
             ptRouting.close();
         }
@@ -213,6 +216,25 @@ public class CentralNavigationComponent {
         return vehicleRouting.findRoutes(routingRequest);
     }
 
+    /**
+     * Calculates the routes for a batch of routing requests, possibly in parallel.
+     *
+     * @param routingRequests A list of {@link RoutingRequest}s to calculate routes for.
+     * @return The responses to the routing requests, in the same order as the requests.
+     */
+    List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        return vehicleRouting.findRoutes(routingRequests);
+    }
+
+    /**
+     * Updates the measured travel speeds of the given connections, which are considered in subsequent routing requests.
+     *
+     * @param speedsByConnection the measured speeds in [m/s] by connection id
+     */
+    void updateTravelSpeeds(Map<String, Double> speedsByConnection) {
+        vehicleRouting.updateTravelSpeeds(speedsByConnection);
+    }
+
     /**
      * Switch to a specific route.
      *
@@ -264,9 +286,14 @@ public class CentralNavigationComponent {
      *
      * @param rawRoute The raw route object.
      * @param time The current simulation time. Used when sending the {@link VehicleRouteRegistration}.
+     *             If the route is already known, no {@link VehicleRouteRegistration} is sent.
      */
     public VehicleRoute createAndPropagateRoute(CandidateRoute rawRoute, long time) throws IllegalRouteException {
         VehicleRoute route = vehicleRouting.createRouteForRTI(rawRoute);
+        if (getAllRoutes().get(route.getId()) == route) {
+            // the routing returned a route which has already been registered, e.g., from its route cache
+            return route;
+        }
         try {
             log.debug("Propagate unknown route {}.", route.getId());
             propagateRoute(route, time);
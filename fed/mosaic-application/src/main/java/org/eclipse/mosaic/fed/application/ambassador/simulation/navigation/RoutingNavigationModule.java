@@ -35,6 +35,9 @@ import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Implementation of the interface to access the central navigation component.
  * This class provides implementation for both {@link NavigationModule} and {@link RoutingModule}, as
@@ -91,6 +94,18 @@ public class RoutingNavigationModule implements NavigationModule, RoutingModule
         return SimulationKernel.SimulationKernel.getCentralNavigationComponent().findRoutes(routingRequest);
     }
 
+    @Override
+    public List<RoutingResponse> calculateRoutes(List<RoutingRequest> routingRequests) {
+        belongingUnit.getOsLog().debug("RoutingModule#calculateRoutes: Calculate routes for {} requests", routingRequests.size());
+        return SimulationKernel.SimulationKernel.getCentralNavigationComponent().findRoutes(routingRequests);
+    }
+
+    @Override
+    public void updateTravelSpeeds(Map<String, Double> speedsByConnection) {
+        belongingUnit.getOsLog().debug("RoutingModule#updateTravelSpeeds: Update travel speeds of {} connections", speedsByConnection.size());
+        SimulationKernel.SimulationKernel.getCentralNavigationComponent().updateTravelSpeeds(speedsByConnection);
+    }
+
     @Override
     public boolean switchRoute(CandidateRoute newRoute) {
         belongingUnit.getOsLog().debug(
@@ -21,8 +21,12 @@ import org.eclipse.mosaic.lib.objects.road.INode;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interface to access road routing functionalities for server or road side units.
  * The offered methods, for example, provide route calculation from a provided source to
@@ -43,6 +47,24 @@ public interface RoutingModule {
      */
     RoutingResponse calculateRoutes(RoutingPosition sourcePosition, RoutingPosition targetPosition, RoutingParameters routingParameters);
 
+    /**
+     * Calculates the routes for a batch of routing requests, e.g., to reroute a whole fleet at once.
+     * The routes may be calculated in parallel, which is usually faster than calculating each route on its own.
+     *
+     * @param routingRequests The routing requests, each including source, target, and routing parameters.
+     * @return The responses to the routing requests, in the same order as the requests.
+     */
+    List<RoutingResponse> calculateRoutes(List<RoutingRequest> routingRequests);
+
+    /**
+     * Provides measured travel speeds of connections to the central routing, e.g., to enable traffic-aware
+     * rerouting. Routes calculated afterward consider these speeds instead of the speed limits of the
+     * connections. This affects the route calculation of all simulation units.
+     *
+     * @param speedsByConnection The measured speeds in [m/s] by connection id, {@link Double#NaN} removes a measured speed.
+     */
+    void updateTravelSpeeds(Map<String, Double> speedsByConnection);
+
     /**
      * Returns the node object identified by the given nodeId.
      *
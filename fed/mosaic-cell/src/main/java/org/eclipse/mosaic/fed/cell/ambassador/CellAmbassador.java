@@ -34,6 +34,7 @@ import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -46,6 +47,7 @@ import org.eclipse.mosaic.lib.objects.mapping.ServerMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TmcMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TrafficLightMapping;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -105,6 +107,11 @@ public class CellAmbassador extends AbstractFederateAmbassador {
      */
     private VehicleUpdates latestVehicleUpdates;
 
+    /**
+     * Reconstructs full vehicle data from received {@link VehicleDeltaUpdates}.
+     */
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
     /**
      * Manager for detailed statistic of network load (e.g. of Upstream and Downstream) in individual regions / cells.
      */
@@ -193,6 +200,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     public void finishSimulation() {
         log.info("FinishSimulation");
         chainManager.printStatistics();
+        chainManager.shutdown();
         bandwidthMeasurementManager.finish();
     }
 
@@ -221,6 +229,8 @@ public class CellAmbassador extends AbstractFederateAmbassador {
             process((TmcRegistration) interaction);
         } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
             process((VehicleUpdates) interaction);
+        } else if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+            process(((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder));
         } else if (interaction.getTypeId().equals(CellularCommunicationConfiguration.TYPE_ID)) {
             final CellularCommunicationConfiguration configInteraction = (CellularCommunicationConfiguration) interaction;
             // Node configuration must be done in the correct order, therefore we must ensure that it is scheduled by the chain manager
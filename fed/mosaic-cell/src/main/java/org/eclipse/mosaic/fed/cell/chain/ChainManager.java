@@ -15,21 +15,31 @@
 
 package org.eclipse.mosaic.fed.cell.chain;
 
+import org.eclipse.mosaic.fed.cell.config.CCell;
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
 import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
+import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.module.CellModule;
 import org.eclipse.mosaic.fed.cell.module.CellModuleNames;
 import org.eclipse.mosaic.fed.cell.module.GeocasterModule;
 import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.module.streammodules.UpstreamModule;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
@@ -38,23 +48,48 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 
 /**
  * The ChainManager receives communication dependent interactions from the CellAmbassador
  * and handles the complete interaction between the cell modules internally
  * and also interfaces towards MOSAIC to advance the simulation.
+ * <br><br>
+ * If {@link CCell#regionThreads} is set, the transmissions of each time step are partitioned by region
+ * and processed in parallel. Each region owns a separate chain of modules, a separate random number
+ * generator seeded from the id of the region, and the capacity of the region and of all nodes currently
+ * located in it. The stages of the chain (Upstream, Geocaster, Downstream) are connected through the
+ * queues of the regions, and the results of all regions are passed on in the order of the region ids,
+ * hence, the results are independent of the number of threads.
  */
 public class ChainManager implements EventManager {
 
+    /**
+     * The order of the module chain, in which the stages are processed if regions are processed in parallel.
+     */
+    private static final String[] STAGES = {
+            CellModuleNames.UPSTREAM_MODULE, CellModuleNames.GEOCASTER, CellModuleNames.DOWNSTREAM_MODULE
+    };
+
     private static final Logger log = LoggerFactory.getLogger(ChainManager.class);
     private long lastAdvanceTime = 0;
 
@@ -86,6 +121,46 @@ public class ChainManager implements EventManager {
 
     private final RandomNumberGenerator rng;
 
+    /**
+     * Times for which an advance has already been requested from the RTI but not been granted yet.
+     * Cell messages are often chained with equal delays, hence many events share the same time,
+     * for which only a single request is sent.
+     */
+    private final NavigableSet<Long> requestedTimes = new TreeSet<>();
+
+    /**
+     * Indicates that events are currently being processed within {@link #advanceTime(long)}.
+     */
+    private boolean processingEvents = false;
+
+    /**
+     * Number of threads processing the regions in parallel, or 0 if all events are processed by a single module chain.
+     */
+    private final int regionThreads;
+
+    /**
+     * Processors of the events for each module, which pass the events to the chains of the regions.
+     * Only used if regions are processed in parallel.
+     */
+    private final Map<String, ChainStage> stages = new HashMap<>();
+
+    /**
+     * The module chains of all regions, sorted by the id of the region.
+     */
+    private final Map<String, RegionChain> regionChains = new TreeMap<>();
+
+    /**
+     * The seed from which the random number generators of all regions are derived.
+     */
+    private final long regionSeed;
+
+    private final ExecutorService regionExecutor;
+
+    /**
+     * Indicates that the stages of the region chains are currently being processed.
+     */
+    private boolean processingRegions = false;
+
     /**
      * Initialize the ChainManager, which is the EventManager for the communication dependent events
      * and at the same time the only module in the cell to perform interactions towards MOSAIC.
@@ -94,11 +169,37 @@ public class ChainManager implements EventManager {
      * @param rng the RandomGeneratorObject object that is needed by the Geocaster
      */
     public ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter) {
+        this(rti, rng, ambassadorParameter, getConfiguredRegionThreads());
+    }
+
+    private ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter, int regionThreads) {
         log.info("Initialize ChainManager");
         this.rti = rti;
         this.rng = rng;
         this.ambassadorParameter = ambassadorParameter;
+        this.regionThreads = regionThreads;
         initializeModuleRegistry();
+
+        if (regionThreads > 0) {
+            log.info("Process regions in parallel using {} threads", regionThreads);
+            for (String moduleName : STAGES) {
+                stages.put(moduleName, new ChainStage(getModule(moduleName)));
+            }
+            this.regionSeed = ((long) rng.nextInt() << 32) ^ (rng.nextInt() & 0xFFFFFFFFL);
+            this.regionExecutor = Executors.newFixedThreadPool(regionThreads, runnable -> {
+                Thread thread = new Thread(runnable, "CellRegionChain");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.regionSeed = 0;
+            this.regionExecutor = null;
+        }
+    }
+
+    private static int getConfiguredRegionThreads() {
+        final CCell cellConfig = ConfigurationData.INSTANCE.getCellConfig();
+        return cellConfig != null ? cellConfig.regionThreads : 0;
     }
 
     /**
@@ -126,8 +227,18 @@ public class ChainManager implements EventManager {
      */
     public void advanceTime(long time) {
         this.lastAdvanceTime = time;
+        requestedTimes.headSet(time, true).clear();
 
-        final int scheduled = eventScheduler.scheduleEvents(time);
+        final int scheduled;
+        processingEvents = true;
+        try {
+            scheduled = eventScheduler.scheduleEvents(time);
+            if (regionThreads > 0) {
+                processRegionChains();
+            }
+        } finally {
+            processingEvents = false;
+        }
         if (log.isTraceEnabled()) {
             log.trace("t={}: scheduled {} events", TIME.format(time), scheduled);
         }
@@ -149,10 +260,12 @@ public class ChainManager implements EventManager {
                 log.debug("t={}: Introduce msg-{} from {} to chain to {} at {}",
                         TIME.format(lastAdvanceTime),
                         v2xMessageTransmission.getMessageId(), v2xMessageTransmission.getSourceName(),
-                        getFirstModule().getModuleName(),
+                        CellModuleNames.UPSTREAM_MODULE,
                         TIME.format(v2xMessageTransmission.getTime()));
             }
-            newEvent(v2xMessageTransmission.getTime(), getFirstModule()).withResource(v2xMessageTransmission.getMessage()).schedule();
+            newEvent(v2xMessageTransmission.getTime(), getProcessor(CellModuleNames.UPSTREAM_MODULE))
+                    .withResource(v2xMessageTransmission.getMessage())
+                    .schedule();
         }
     }
 
@@ -171,13 +284,14 @@ public class ChainManager implements EventManager {
 
         // Set event for the next module in the chain, unless the current module is the last module
         if (cellModuleMessage.getNextModule() != null) {
-            CellModule nextModule = getModule(cellModuleMessage.getNextModule());
             log.debug("t={}: Chain message through from {} to {} at {}",
                     TIME.format(lastAdvanceTime),
                     cellModuleMessage.getEmittingModule(),
-                    nextModule.getModuleName(),
+                    cellModuleMessage.getNextModule(),
                     TIME.format(cellModuleMessage.getEndTime()));
-            newEvent(cellModuleMessage.getEndTime(), nextModule).withResource(cellModuleMessage).schedule();
+            newEvent(cellModuleMessage.getEndTime(), getProcessor(cellModuleMessage.getNextModule()))
+                    .withResource(cellModuleMessage)
+                    .schedule();
         }
     }
 
@@ -192,13 +306,35 @@ public class ChainManager implements EventManager {
             log.trace(" event.resource: {}", event.getResourceClassSimpleName());
             log.trace(" event.processors: {}", event.getProcessors());
         }
+        if (processingRegions && event.getTime() == lastAdvanceTime) {
+            // the scheduler has already been processed for this time, the event is passed to the stages directly
+            for (EventProcessor processor : event.getProcessors()) {
+                processEvent(processor, event);
+            }
+            return;
+        }
         eventScheduler.addEvent(event);
+        requestAdvanceTime(event.getTime());
+    }
 
+    /**
+     * Requests a time advance from the RTI, unless the given time has already been requested, or an
+     * event of the given time will still be handled by the currently running {@link #advanceTime(long)} call.
+     *
+     * @param time the time of the added event
+     */
+    private void requestAdvanceTime(long time) {
+        if (processingEvents && time <= lastAdvanceTime) {
+            return;
+        }
+        if (!requestedTimes.add(time)) {
+            return;
+        }
         if (log.isTraceEnabled()) {
-            log.trace(" and requestAdvanceTime({})", TIME.format(event.getTime()));
+            log.trace(" and requestAdvanceTime({})", TIME.format(time));
         }
         try {
-            rti.requestAdvanceTime(event.getTime());
+            rti.requestAdvanceTime(time);
         } catch (IllegalValueException ex) {
             throw new RuntimeException("Could not request advanceTime from RTI.", ex);
         }
@@ -222,25 +358,98 @@ public class ChainManager implements EventManager {
         }
     }
 
-    /**
-     * Helper functions for the navigation in the moduleRegistry.
-     *
-     * @return firstModule in the chain (in the current design, the UpstreamModule).
-     */
-    private CellModule getFirstModule() {
-        return moduleRegistry.get(CellModuleNames.UPSTREAM_MODULE);
-    }
-
     /**
      * Returns the module with the given module name if it exists, otherwise null.
      *
      * @param moduleName The name (id) of the requested module
      * @return currentModule (just to convert moduleName to module object)
      */
-    private CellModule getModule(String moduleName) {
+    CellModule getModule(String moduleName) {
         return moduleRegistry.get(moduleName);
     }
 
+    /**
+     * Returns the processor of events for the module with the given name, which is the module itself,
+     * or the stage passing events to the chains of the regions if regions are processed in parallel.
+     */
+    private EventProcessor getProcessor(String moduleName) {
+        return regionThreads > 0 ? stages.get(moduleName) : getModule(moduleName);
+    }
+
+    /**
+     * Processes the transmissions queued by the stages for the current time. The stages are processed in the
+     * order of the module chain, each with all regions in parallel. Results for the current time are passed to the
+     * queues of the following stages, hence, the chain is repeated until no region has any queued events left.
+     */
+    private void processRegionChains() {
+        processingRegions = true;
+        try {
+            boolean processed;
+            do {
+                processed = false;
+                for (String moduleName : STAGES) {
+                    processed |= processStage(moduleName);
+                }
+            } while (processed);
+        } finally {
+            processingRegions = false;
+        }
+    }
+
+    private boolean processStage(String moduleName) {
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        final List<RegionChain> processedChains = new ArrayList<>();
+        for (RegionChain regionChain : regionChains.values()) {
+            if (regionChain.hasQueuedEvents(moduleName)) {
+                processedChains.add(regionChain);
+                tasks.add(() -> {
+                    regionChain.processQueuedEvents(moduleName);
+                    return null;
+                });
+            }
+        }
+        if (tasks.isEmpty()) {
+            return false;
+        }
+        // the stages only read the region of nodes, which therefore must be determined beforehand
+        for (String node : SimulationData.INSTANCE.getNodesWithoutRegion()) {
+            RegionUtility.getRegionForNode(node);
+        }
+        try {
+            for (Future<Void> result : regionExecutor.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing the regions in " + moduleName, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not process the regions in " + moduleName, e.getCause());
+        }
+        for (RegionChain regionChain : processedChains) {
+            regionChain.passResults();
+        }
+        return true;
+    }
+
+    private void processEvent(EventProcessor processor, Event event) {
+        try {
+            processor.processEvent(event);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private RegionChain getRegionChain(String regionId) {
+        return regionChains.computeIfAbsent(regionId, id -> new RegionChain(this, id));
+    }
+
+    /**
+     * Creates the random number generator of a region, whose seed is derived from the id of the region.
+     */
+    private RandomNumberGenerator createRegionRandomNumberGenerator(String regionId) {
+        return new DefaultRandomNumberGenerator(regionSeed ^ (regionId.hashCode() * 0x9E3779B97F4A7C15L));
+    }
+
     /**
      * Get the ambassador parameter (Ambassador-ID, Log-ID, Configuration file).
      *
@@ -288,11 +497,139 @@ public class ChainManager implements EventManager {
      */
     public void printStatistics() {
         for (CellModule module : moduleRegistry.values()) {
-            log.info("[{}] Processed messages: {}", module.getModuleName(), module.getProcessedMessages());
+            long processedMessages = module.getProcessedMessages();
+            for (RegionChain regionChain : regionChains.values()) {
+                processedMessages += regionChain.getModule(module.getModuleName()).getProcessedMessages();
+            }
+            log.info("[{}] Processed messages: {}", module.getModuleName(), processedMessages);
         }
 
         for (StreamListener streamListener : streamListeners) {
             streamListener.finish();
         }
     }
+
+    /**
+     * Stops the threads processing the regions in parallel.
+     */
+    public void shutdown() {
+        if (regionExecutor != null) {
+            regionExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Processor of the events of one module, if regions are processed in parallel. Releasing the capacity
+     * of a finished transmission is done right away, all other events are queued in the chain of the region
+     * they belong to.
+     */
+    private final class ChainStage implements EventProcessor {
+
+        private final CellModule module;
+
+        private ChainStage(CellModule module) {
+            this.module = module;
+        }
+
+        @Override
+        public void processEvent(Event event) throws Exception {
+            final Object resource = event.getResource();
+            if (resource instanceof CellModuleMessage message && module.getModuleName().equals(message.getEmittingModule())) {
+                // capacity is released before any transmission of the same time is processed
+                module.processEvent(event);
+                return;
+            }
+            switch (module.getModuleName()) {
+                case CellModuleNames.UPSTREAM_MODULE -> {
+                    final CNetworkProperties region = RegionUtility.getRegionForNode(getSender((V2xMessage) resource));
+                    getRegionChain(region.id).queueEvent(module.getModuleName(), event.getTime(), resource);
+                }
+                case CellModuleNames.GEOCASTER -> {
+                    final StreamResult streamResult = ((CellModuleMessage) resource).getResource();
+                    RegionUtility.getRegionForNode(getSender(streamResult.getV2xMessage()));
+                    getRegionChain(streamResult.getRegionId()).queueEvent(module.getModuleName(), event.getTime(), resource);
+                }
+                case CellModuleNames.DOWNSTREAM_MODULE -> queueDownstreamEvent(event.getTime(), (CellModuleMessage) resource);
+                default -> throw new IllegalStateException("Unknown module " + module.getModuleName());
+            }
+        }
+
+        /**
+         * Splits the receivers of the Geocaster into one event for each region.
+         */
+        private void queueDownstreamEvent(long time, CellModuleMessage message) {
+            final GeocasterResult geocasterResult = message.getResource();
+            RegionUtility.getRegionForNode(getSender(geocasterResult.getV2xMessage()));
+            for (CNetworkProperties region : geocasterResult.getReceivers().keySet()) {
+                final Multimap<CNetworkProperties, String> receivers = ArrayListMultimap.create();
+                receivers.putAll(region, geocasterResult.getReceivers().get(region));
+                final CellModuleMessage regionMessage = new CellModuleMessage.Builder(message.getEmittingModule(), message.getNextModule())
+                        .startTime(message.getStartTime())
+                        .endTime(message.getEndTime())
+                        .resource(new GeocasterResult(
+                                receivers, geocasterResult.getDownstreamMode(), geocasterResult.getV2xMessage(), geocasterResult.isFullMessage()
+                        ))
+                        .build();
+                getRegionChain(region.id).queueEvent(module.getModuleName(), time, regionMessage);
+            }
+        }
+
+        private String getSender(V2xMessage message) {
+            return message.getRouting().getSource().getSourceName();
+        }
+    }
+
+    /**
+     * The module chain of a single region, which processes the queued events of its region on a worker thread.
+     * All results are collected and passed on to the {@link ChainManager} on the simulation thread afterwards.
+     */
+    private static final class RegionChain extends ChainManager {
+
+        private final ChainManager parent;
+        private final Map<String, List<Event>> queuedEvents = new HashMap<>();
+        private final List<Runnable> results = new ArrayList<>();
+
+        private RegionChain(ChainManager parent, String regionId) {
+            super(parent.rti, parent.createRegionRandomNumberGenerator(regionId), parent.ambassadorParameter, 0);
+            this.parent = parent;
+        }
+
+        private void queueEvent(String moduleName, long time, Object resource) {
+            queuedEvents.computeIfAbsent(moduleName, k -> new ArrayList<>()).add(new Event(time, getModule(moduleName), resource));
+        }
+
+        private boolean hasQueuedEvents(String moduleName) {
+            final List<Event> events = queuedEvents.get(moduleName);
+            return events != null && !events.isEmpty();
+        }
+
+        private void processQueuedEvents(String moduleName) throws Exception {
+            final List<Event> events = queuedEvents.remove(moduleName);
+            for (Event event : events) {
+                getModule(moduleName).processEvent(event);
+            }
+        }
+
+        private void passResults() {
+            for (Runnable result : results) {
+                result.run();
+            }
+            results.clear();
+        }
+
+        @Override
+        public void finishEvent(CellModuleMessage cellModuleMessage) {
+            results.add(() -> parent.finishEvent(cellModuleMessage));
+        }
+
+        @Override
+        public void sendInteractionToRti(Interaction interaction) {
+            results.add(() -> parent.sendInteractionToRti(interaction));
+        }
+
+        @Override
+        public void notifyStreamListeners(StreamParticipant sender, StreamParticipant receiver, StreamProperties properties) {
+            results.add(() -> parent.notifyStreamListeners(sender, receiver, properties));
+        }
+    }
 }
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.cell.config;
 
+import org.eclipse.mosaic.fed.cell.config.model.BandwidthMeasurementFormat;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.lib.util.gson.DataFieldAdapter;
 import org.eclipse.mosaic.rti.DATA;
@@ -50,6 +51,15 @@ public final class CCell {
      */
     public boolean bandwidthMeasurementCompression = false;
 
+    /**
+     * The file format of the bandwidth measurements (default: CSV). If {@link BandwidthMeasurementFormat#BINARY} is
+     * chosen, measurements are written in columns by a background thread and can be converted to CSV
+     * afterwards by using {@code BinaryBandwidthMeasurementReader}.
+     *
+     * @see #bandwidthMeasurements
+     */
+    public BandwidthMeasurementFormat bandwidthMeasurementFormat = BandwidthMeasurementFormat.CSV;
+
     /**
      * Measure the bandwidth between regions.
      */
@@ -65,6 +75,14 @@ public final class CCell {
      */
     public String regionConfigurationFile = "regions.json";
 
+    /**
+     * Number of threads to process the transmissions of different regions in parallel (default: 0). If set to 0,
+     * all transmissions are processed sequentially by one chain of modules. Otherwise, each region is simulated
+     * with its own random number generator derived from the region id, hence, the results are independent
+     * of the number of threads, but differ from the sequential processing.
+     */
+    public int regionThreads = 0;
+
     @Override
     public String toString() {
         return String.format("networkConfigurationFile: %s, regionConfigurationFile: %s",
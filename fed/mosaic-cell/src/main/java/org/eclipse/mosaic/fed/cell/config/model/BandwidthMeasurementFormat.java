@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.config.model;
+
+/**
+ * File formats in which bandwidth measurements can be exported.
+ */
+public enum BandwidthMeasurementFormat {
+    /**
+     * Each time interval is written as one line of text with semicolon separated values.
+     */
+    CSV,
+    /**
+     * Blocks of time intervals are written as fixed-width binary columns.
+     */
+    BINARY
+}
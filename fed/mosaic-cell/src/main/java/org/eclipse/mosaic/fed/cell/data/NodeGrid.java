@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.data;
+
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Uniform grid of square cells holding the ids of all nodes positioned within each cell. Used to
+ * find candidate nodes within a bounding box without scanning all nodes of the simulation.
+ */
+class NodeGrid {
+
+    private final double cellSize;
+
+    private final Map<Long, Set<String>> cells = new HashMap<>();
+
+    NodeGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Moves the node from its previous position to its new position.
+     *
+     * @param nodeId           the id of the node
+     * @param previousPosition the previous position of the node, or {@code null} if the node is new
+     * @param position         the new position of the node, or {@code null} if the node is removed
+     */
+    void move(String nodeId, CartesianPoint previousPosition, CartesianPoint position) {
+        Long previousKey = previousPosition != null ? cellKey(previousPosition) : null;
+        Long key = position != null ? cellKey(position) : null;
+        if (previousKey != null && previousKey.equals(key)) {
+            return;
+        }
+        if (previousKey != null) {
+            Set<String> cell = cells.get(previousKey);
+            if (cell != null && cell.remove(nodeId) && cell.isEmpty()) {
+                cells.remove(previousKey);
+            }
+        }
+        if (key != null) {
+            cells.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(nodeId);
+        }
+    }
+
+    /**
+     * Adds the ids of all nodes within cells overlapping the given bounds to the result. The result
+     * may contain nodes outside the bounds, but never misses a node inside the bounds.
+     *
+     * @param bounds the bounds to search in
+     * @param result collection to add the found node ids to
+     */
+    void collectCandidates(Bounds<CartesianPoint> bounds, Collection<String> result) {
+        int minCellX = cellIndex(bounds.getSideD());
+        int maxCellX = cellIndex(bounds.getSideB());
+        int minCellY = cellIndex(bounds.getSideA());
+        int maxCellY = cellIndex(bounds.getSideC());
+
+        long cellsInBounds = ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+        if (cellsInBounds > cells.size()) {
+            // the bounds are larger than the occupied part of the grid, iterate over occupied cells instead
+            for (Map.Entry<Long, Set<String>> cell : cells.entrySet()) {
+                int cellX = (int) (cell.getKey() >> 32);
+                int cellY = (int) (long) cell.getKey();
+                if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY) {
+                    result.addAll(cell.getValue());
+                }
+            }
+            return;
+        }
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                Set<String> cell = cells.get(cellKey(cellX, cellY));
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+    }
+
+    private long cellKey(CartesianPoint position) {
+        return cellKey(cellIndex(position.getX()), cellIndex(position.getY()));
+    }
+
+    private int cellIndex(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.cell.data;
 
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Bounds;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -24,7 +25,11 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -37,6 +42,8 @@ import javax.annotation.Nonnull;
  * <li/>the position of each known node
  * <li/>the vehicle speeds (rsus, tl, cs have a speed of 0)
  * </ul>
+ * Additionally, nodes are indexed by their region and by their position in a uniform grid,
+ * which are kept up to date with each change of a region or position.
  */
 public enum SimulationData {
     INSTANCE;
@@ -53,8 +60,25 @@ public enum SimulationData {
         private CellConfiguration cellConfiguration;
     }
 
+    /**
+     * Size of the cells of the grid indexing node positions in meters.
+     */
+    private static final double NODE_GRID_CELL_SIZE = 250d;
+
     private final Map<String, SimulationNode> simulationNodeMap = new HashMap<>();
 
+    /**
+     * Ids of all nodes for each region id.
+     */
+    private final Map<String, Set<String>> nodesPerRegion = new HashMap<>();
+
+    /**
+     * Ids of all nodes, for which no region has been set yet.
+     */
+    private final Set<String> nodesWithoutRegion = new LinkedHashSet<>();
+
+    private final NodeGrid nodeGrid = new NodeGrid(NODE_GRID_CELL_SIZE);
+
     /**
      * Set or update the position for a node.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -64,7 +88,9 @@ public enum SimulationData {
      */
     public void setPositionOfNode(String nodeId, CartesianPoint position) {
         if (nodeId != null && position != null) {
-            getOrCreate(nodeId).position = position;
+            SimulationNode node = getOrCreate(nodeId);
+            nodeGrid.move(nodeId, node.position, position);
+            node.position = position;
         } else {
             throw new RuntimeException(
                     "Unable to setPositionOfNode for nodeId=" + nodeId + ", position=" + position);
@@ -81,7 +107,14 @@ public enum SimulationData {
         Validate.notNull(region, "Unable to setRegionOfNode for nodeId=" + nodeId + ", because the given region is null");
         Validate.notNull(nodeId, "Unable to setRegionOfNode for nodeId=" + nodeId + ", region=" + region.id);
 
-        getOrCreate(nodeId).region = region;
+        SimulationNode node = getOrCreate(nodeId);
+        if (node.region == null) {
+            nodesWithoutRegion.remove(nodeId);
+        } else if (!node.region.id.equals(region.id)) {
+            removeFromRegion(nodeId, node.region);
+        }
+        node.region = region;
+        nodesPerRegion.computeIfAbsent(region.id, k -> new LinkedHashSet<>()).add(nodeId);
     }
 
     /**
@@ -125,10 +158,18 @@ public enum SimulationData {
         if (node == null) {
             node = new SimulationNode();
             simulationNodeMap.put(nodeId, node);
+            nodesWithoutRegion.add(nodeId);
         }
         return node;
     }
 
+    private void removeFromRegion(String nodeId, CNetworkProperties region) {
+        Set<String> nodesInRegion = nodesPerRegion.get(region.id);
+        if (nodesInRegion != null && nodesInRegion.remove(nodeId) && nodesInRegion.isEmpty()) {
+            nodesPerRegion.remove(region.id);
+        }
+    }
+
     /**
      * Removes the node from position and speed table.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -136,7 +177,16 @@ public enum SimulationData {
      * @param nodeId the id of the node to remove.
      */
     public void removeNode(String nodeId) {
-        simulationNodeMap.remove(nodeId);
+        SimulationNode node = simulationNodeMap.remove(nodeId);
+        if (node == null) {
+            return;
+        }
+        nodeGrid.move(nodeId, node.position, null);
+        if (node.region != null) {
+            removeFromRegion(nodeId, node.region);
+        } else {
+            nodesWithoutRegion.remove(nodeId);
+        }
     }
 
     /**
@@ -148,6 +198,39 @@ public enum SimulationData {
         return simulationNodeMap.keySet();
     }
 
+    /**
+     * Returns the ids of all nodes within the given region.
+     *
+     * @param regionId the id of the region
+     * @return an unmodifiable view on all nodes within the region
+     */
+    public Set<String> getNodesInRegion(String regionId) {
+        Set<String> nodesInRegion = nodesPerRegion.get(regionId);
+        return nodesInRegion != null ? Collections.unmodifiableSet(nodesInRegion) : Collections.emptySet();
+    }
+
+    /**
+     * Returns the ids of all nodes, for which no region has been set yet.
+     *
+     * @return a copy of all nodes without region
+     */
+    public List<String> getNodesWithoutRegion() {
+        return new ArrayList<>(nodesWithoutRegion);
+    }
+
+    /**
+     * Returns the ids of all nodes which might be located within the given bounds. The result
+     * contains all nodes within the bounds, but may contain also nodes close to the bounds.
+     *
+     * @param bounds the bounds to search nodes in
+     * @return a list of all candidate nodes
+     */
+    public List<String> getNodeCandidatesInBounds(Bounds<CartesianPoint> bounds) {
+        List<String> candidates = new ArrayList<>();
+        nodeGrid.collectCandidates(bounds, candidates);
+        return candidates;
+    }
+
     /**
      * Returns the position of a node from the position table.
      * Returns null if the node is non existing.
@@ -37,7 +37,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 /**
  * This class contains static methods to make the region handling easier.
@@ -59,16 +58,11 @@ public class RegionUtility {
      * @return list of all nodes.
      */
     public static List<String> getNodesForRegion(CNetworkProperties region) {
-        final List<String> nodesForRegion = new ArrayList<>();
-        final Set<String> allNodes = SimulationData.INSTANCE.getAllNodesInSimulation();
-        for (String node : allNodes) {
-            final String regionForNode = RegionUtility.getRegionForNode(node).id;
-            if (regionForNode.equals(region.id)) {
-                nodesForRegion.add(node);
-            }
+        // determine the region of all nodes, for which it has not been determined yet
+        for (String node : SimulationData.INSTANCE.getNodesWithoutRegion()) {
+            RegionUtility.getRegionForNode(node);
         }
-
-        return nodesForRegion;
+        return new ArrayList<>(SimulationData.INSTANCE.getNodesInRegion(region.id));
     }
 
     /**
@@ -140,7 +134,7 @@ public class RegionUtility {
     public static List<String> getNodesForDestinationArea(GeoArea geoArea) {
         final CartesianArea area = geoArea.toCartesian();
         List<String> nodes = new ArrayList<>();
-        for (String n : SimulationData.INSTANCE.getAllNodesInSimulation()) {
+        for (String n : SimulationData.INSTANCE.getNodeCandidatesInBounds(area.getBounds())) {
             CartesianPoint nodePos = SimulationData.INSTANCE.getPositionOfNode(n);
             if (nodePos != null && area.contains(nodePos)) {
                 nodes.add(n);
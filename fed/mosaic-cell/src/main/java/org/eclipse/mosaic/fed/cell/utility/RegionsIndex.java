@@ -38,7 +38,6 @@ import java.util.Collection;
 public class RegionsIndex {
 
     private final KdTree<MobileNetworkPropertiesWrapper> regionIndex;
-    private final InArea inArea = new InArea();
 
     /**
      * Creates a new {@link RegionsIndex} object.
@@ -56,7 +55,8 @@ public class RegionsIndex {
     }
 
     public CNetworkProperties getRegion(CartesianPoint cartesianPoint) {
-
+        // a new traverser for each lookup, allowing concurrent lookups
+        final InArea inArea = new InArea();
         inArea.setup(cartesianPoint);
         inArea.traverse(regionIndex);
 
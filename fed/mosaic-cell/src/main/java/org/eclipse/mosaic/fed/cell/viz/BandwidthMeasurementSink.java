@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+/**
+ * Writes the rows of a {@link PerRegionBandwidthMeasurement} to an export file. Each row
+ * holds the bandwidth consumed within one time interval in each region.
+ */
+interface BandwidthMeasurementSink {
+
+    /**
+     * Appends a row of measurements.
+     *
+     * @param time the start time of the interval in seconds
+     * @param row  the measured bandwidth of each region in this interval
+     */
+    void writeRow(long time, PerRegionBandwidthMeasurement.Row row);
+
+    /**
+     * Forces all rows written so far to be passed to the export file.
+     */
+    void flush();
+
+    /**
+     * Writes all remaining rows and closes the export file.
+     */
+    void close();
+}
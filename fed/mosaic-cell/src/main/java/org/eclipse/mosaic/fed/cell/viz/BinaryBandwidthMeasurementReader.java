@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StreamCorruptedException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Converts bandwidth measurements written in {@link org.eclipse.mosaic.fed.cell.config.model.BandwidthMeasurementFormat#BINARY}
+ * format into CSV files, which are equal to the ones written in CSV format during the simulation.
+ *
+ * <p>Usage: {@code java -cp <classpath> org.eclipse.mosaic.fed.cell.viz.BinaryBandwidthMeasurementReader <file.bin[.gz]>...}
+ */
+public class BinaryBandwidthMeasurementReader {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * Converts each given binary file into a CSV file next to it.
+     *
+     * @param args paths of binary bandwidth measurement files
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryBandwidthMeasurementReader <file.bin[.gz]>...");
+            return;
+        }
+        for (String arg : args) {
+            File binaryFile = new File(arg);
+            File csvFile = new File(binaryFile.getParentFile(), toCsvFileName(binaryFile.getName()));
+            convertToCsv(binaryFile, csvFile);
+            System.out.println("Converted " + binaryFile + " to " + csvFile);
+        }
+    }
+
+    private static String toCsvFileName(String binaryFileName) {
+        String name = StringUtils.removeEnd(binaryFileName, GZIP_SUFFIX);
+        return StringUtils.removeEnd(name, BinaryBandwidthMeasurementSink.FILE_SUFFIX) + ".csv";
+    }
+
+    /**
+     * Converts the given binary file into a CSV file.
+     *
+     * @param binaryFile the binary file to read, which is decompressed if its name ends with ".gz"
+     * @param csvFile    the CSV file to write
+     * @throws IOException if the binary file could not be read or the CSV file could not be written
+     */
+    public static void convertToCsv(File binaryFile, File csvFile) throws IOException {
+        InputStream in = new FileInputStream(binaryFile);
+        if (binaryFile.getName().endsWith(GZIP_SUFFIX)) {
+            in = new GZIPInputStream(in);
+        }
+        try (InputStream binaryIn = in;
+             Writer csvOut = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8))) {
+            convertToCsv(binaryIn, csvOut);
+        }
+    }
+
+    /**
+     * Reads binary bandwidth measurements from the given stream and writes them as CSV.
+     *
+     * @param binaryIn the stream to read the binary measurements from
+     * @param csvOut   the writer to write the CSV lines to
+     * @throws IOException if the binary measurements could not be read or the CSV could not be written
+     */
+    public static void convertToCsv(InputStream binaryIn, Writer csvOut) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(binaryIn));
+        if (in.readInt() != BinaryBandwidthMeasurementSink.MAGIC || in.readInt() != BinaryBandwidthMeasurementSink.VERSION) {
+            throw new StreamCorruptedException("Unsupported bandwidth measurement file");
+        }
+        final int columnCount = in.readInt();
+        csvOut.write("time");
+        for (int i = 0; i < columnCount; i++) {
+            csvOut.write(";");
+            csvOut.write(in.readUTF());
+        }
+        csvOut.write(SystemUtils.LINE_SEPARATOR);
+
+        int rows;
+        while ((rows = in.readInt()) > 0) {
+            long[] times = new long[rows];
+            for (int row = 0; row < rows; row++) {
+                times[row] = in.readLong();
+            }
+            long[][] columns = new long[columnCount][rows];
+            for (long[] column : columns) {
+                for (int row = 0; row < rows; row++) {
+                    column[row] = in.readLong();
+                }
+            }
+            for (int row = 0; row < rows; row++) {
+                csvOut.write(Long.toUnsignedString(times[row]));
+                for (long[] column : columns) {
+                    csvOut.write(";");
+                    csvOut.write(Long.toUnsignedString(column[row]));
+                }
+                csvOut.write(SystemUtils.LINE_SEPARATOR);
+            }
+        }
+    }
+}
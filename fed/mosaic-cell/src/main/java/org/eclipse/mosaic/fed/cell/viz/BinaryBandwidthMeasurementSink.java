@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes bandwidth measurements into a compact binary file, which can be converted to CSV
+ * afterwards using the {@link BinaryBandwidthMeasurementReader}. Rows are collected in blocks of fixed-width
+ * columns, and each completed block is written to disk by a background thread, which is shared by all
+ * binary measurements. Therefore, no values need to be formatted on the simulation thread.
+ *
+ * <p>File layout (big endian):
+ * <pre>
+ * int magic, int version, int columnCount, UTF columnName[columnCount]
+ * block*: int rowCount, long time[rowCount], long value[columnCount][rowCount]
+ * int 0 (end of file)
+ * </pre>
+ */
+class BinaryBandwidthMeasurementSink implements BandwidthMeasurementSink {
+
+    private final static Logger log = LoggerFactory.getLogger(BinaryBandwidthMeasurementSink.class);
+
+    static final int MAGIC = 0x4D42574D;
+    static final int VERSION = 1;
+    static final String FILE_SUFFIX = ".bin";
+
+    private static final int BLOCK_SIZE = 600;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes blocks of all binary measurements in the order they were completed.
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bandwidth-measurement-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final DataOutputStream out;
+    private final int columnCount;
+
+    private long[] times;
+    private long[][] columns;
+    private int rows;
+    private boolean closed = false;
+
+    /**
+     * Creates the binary file and writes the header.
+     *
+     * @param file        the file to write to, without the suffix
+     * @param compress    <code>true</code>, if the file should be compressed using gzip
+     * @param columnNames the names of the regions, in order of their column index
+     */
+    BinaryBandwidthMeasurementSink(File file, boolean compress, List<String> columnNames) {
+        this.columnCount = columnNames.size();
+        try {
+            final OutputStream fileOut;
+            if (compress) {
+                fileOut = new GZIPOutputStream(new FileOutputStream(new File(file.getParentFile(), file.getName() + FILE_SUFFIX + ".gz")),
+                        BUFFER_SIZE);
+            } else {
+                fileOut = new FileOutputStream(new File(file.getParentFile(), file.getName() + FILE_SUFFIX));
+            }
+            out = new DataOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(columnCount);
+            for (String columnName : columnNames) {
+                out.writeUTF(columnName);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        newBlock();
+    }
+
+    private void newBlock() {
+        times = new long[BLOCK_SIZE];
+        columns = new long[columnCount][BLOCK_SIZE];
+        rows = 0;
+    }
+
+    @Override
+    public void writeRow(long time, PerRegionBandwidthMeasurement.Row row) {
+        times[rows] = time;
+        for (int i = 0; i < columnCount; i++) {
+            columns[i][rows] = row.get(i);
+        }
+        if (++rows == BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands over the current block to the background writer.
+     */
+    @Override
+    public void flush() {
+        if (rows == 0) {
+            return;
+        }
+        final long[] blockTimes = times;
+        final long[][] blockColumns = columns;
+        final int blockRows = rows;
+        WRITER.execute(() -> writeBlock(blockTimes, blockColumns, blockRows));
+        newBlock();
+    }
+
+    private void writeBlock(long[] blockTimes, long[][] blockColumns, int blockRows) {
+        try {
+            out.writeInt(blockRows);
+            for (int row = 0; row < blockRows; row++) {
+                out.writeLong(blockTimes[row]);
+            }
+            for (long[] column : blockColumns) {
+                for (int row = 0; row < blockRows; row++) {
+                    out.writeLong(column[row]);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Could not write block", e);
+        }
+    }
+
+    /**
+     * Writes all remaining rows and waits until the file has been closed by the background writer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        try {
+            WRITER.submit(() -> {
+                out.writeInt(0);
+                out.close();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            log.error("Could not close binary bandwidth measurement file", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while closing binary bandwidth measurement file", e);
+        }
+    }
+}
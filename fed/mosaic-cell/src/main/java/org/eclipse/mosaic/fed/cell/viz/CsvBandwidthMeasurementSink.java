@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import org.apache.commons.io.Charsets;
+import org.apache.commons.lang3.SystemUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes bandwidth measurements as semicolon separated text, one line per time interval.
+ */
+class CsvBandwidthMeasurementSink implements BandwidthMeasurementSink {
+
+    private final static Logger log = LoggerFactory.getLogger(CsvBandwidthMeasurementSink.class);
+
+    private final OutputStreamWriter csvWriter;
+
+    /**
+     * Creates the CSV file and writes the header line.
+     *
+     * @param csvFile     the CSV file to write to, without the suffix
+     * @param compress    <code>true</code>, if the file should be compressed using gzip
+     * @param columnNames the names of the regions, in order of their column index
+     */
+    CsvBandwidthMeasurementSink(File csvFile, boolean compress, List<String> columnNames) {
+        try {
+            final OutputStream out;
+            if (compress) {
+                out = new GZIPOutputStream(new FileOutputStream(new File(csvFile.getParentFile(), csvFile.getName() + ".csv.gz")));
+            } else {
+                out = new FileOutputStream(new File(csvFile.getParentFile(), csvFile.getName() + ".csv"));
+            }
+            csvWriter = new OutputStreamWriter(out, Charsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        StringBuilder b = new StringBuilder();
+        b.append("time");
+        for (String columnName : columnNames) {
+            b.append(";").append(columnName);
+        }
+        writeToCsv(b.toString());
+        flush();
+    }
+
+    @Override
+    public void writeRow(long time, PerRegionBandwidthMeasurement.Row row) {
+        StringBuilder b = new StringBuilder(Long.toUnsignedString(time));
+
+        /* Previous version:
+         *      for (Long transmitted: transmittedDataList.get(rowIndex)) {
+         *          b.append(";").append(ObjectUtils.defaultIfNull(transmitted, 0).toString());
+         *      }
+         * was quite slow; especially due to inefficient iteration over the array and
+         * frequent conversions of zeros to string. */
+        long transmitted;
+        for (int i = 0; i < row.size(); i++) {
+            transmitted = row.get(i);
+            if (transmitted == 0L) {
+                b.append(";0");
+            } else {
+                b.append(";").append(Long.toUnsignedString(transmitted));
+            }
+        }
+        writeToCsv(b.toString());
+    }
+
+    /**
+     * Writes measurements to the csv file.
+     *
+     * @param s String to write to csv file.
+     */
+    private void writeToCsv(String s) {
+        try {
+            csvWriter.write(s);
+            csvWriter.write(SystemUtils.LINE_SEPARATOR);
+        } catch (IOException e) {
+            log.error("Could not write line", e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            csvWriter.flush();
+        } catch (IOException e) {
+            log.error("Could not write line", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            csvWriter.close();
+        } catch (IOException e) {
+            log.error("Could not close CSVWriter", e);
+        }
+    }
+}
@@ -18,6 +18,8 @@ package org.eclipse.mosaic.fed.cell.viz;
 import static java.lang.Math.max;
 import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
 
+import org.eclipse.mosaic.fed.cell.config.CCell;
+import org.eclipse.mosaic.fed.cell.config.model.BandwidthMeasurementFormat;
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
@@ -26,29 +28,18 @@ import org.eclipse.mosaic.rti.TIME;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
-import org.apache.commons.io.Charsets;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.SystemUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Measures the bandwidth acquired by vehicles within each simulation time step.
  */
 public class PerRegionBandwidthMeasurement implements StreamListener {
 
-    private final static Logger log = LoggerFactory.getLogger(PerRegionBandwidthMeasurement.class);
-
     final static String WILDCARD_ALL = "*";
 
     private final File parentDir;
@@ -79,14 +70,14 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     final TransmittedData transmittedData = new TransmittedData();
 
     /**
-     * The number of data rows written to the CSV file so far.
+     * The number of data rows written to the export file so far.
      */
-    private int csvSize;
+    private int exportedRows;
 
     /**
-     * The name of the CSV file.
+     * The name of the export file, without suffix.
      */
-    private String csvName;
+    private String fileName;
 
     /**
      * The mode of transmission which is measured, either {@link TransmissionMode#UplinkUnicast} for bandwidth
@@ -120,9 +111,9 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     private long nextExport;
 
     /**
-     * Output stream writer for the csv file.
+     * Writes the rows to the export file, either as CSV or in binary format.
      */
-    private OutputStreamWriter csvWriter;
+    private BandwidthMeasurementSink sink;
 
     /**
      * Constructs a new PerRegionBandwidthMeasurement.
@@ -151,43 +142,36 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
 
         this.mode = mode;
 
-        this.csvName = String.format("%s#%s#%s",
+        this.fileName = String.format("%s#%s#%s",
                 (WILDCARD_ALL.equals(from)) ? "ALL" : from,
                 (WILDCARD_ALL.equals(to)) ? "ALL" : to,
                 (WILDCARD_ALL.equals(applicationClass)) ? "ALL" : applicationClass);
 
         if (WILDCARD_ALL.equals(from) && WILDCARD_ALL.equals(to) && WILDCARD_ALL.equals(applicationClass)) {
-            csvName += "#" + (mode.isUplink() ? "Up" : "Dn");
+            fileName += "#" + (mode.isUplink() ? "Up" : "Dn");
         }
 
         this.transmittedData.init(indexMap.size());
 
-        initCsv();
+        initExport();
     }
 
     /**
-     * Initializes the CSV file for bandwidth measurements.
+     * Initializes the export file for bandwidth measurements in the configured format.
      */
-    private void initCsv() {
-        try {
-            final OutputStream out;
-            if (ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementCompression) {
-                out = new GZIPOutputStream(new FileOutputStream(new File(parentDir, csvName + ".csv.gz")));
-            } else {
-                out = new FileOutputStream(new File(parentDir, csvName + ".csv"));
-            }
-            csvWriter = new OutputStreamWriter(out, Charsets.UTF_8);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private void initExport() {
+        List<String> columnNames = new ArrayList<>(indexMap.size());
+        for (int i = 0; i < indexMap.size(); i++) {
+            columnNames.add(indexMap.inverse().get(i));
         }
 
-        StringBuilder b = new StringBuilder();
-        b.append("time");
-        for (int i = 0; i < indexMap.size(); i++) {
-            b.append(";").append(indexMap.inverse().get(i));
+        CCell cellConfig = ConfigurationData.INSTANCE.getCellConfig();
+        File file = new File(parentDir, fileName);
+        if (cellConfig.bandwidthMeasurementFormat == BandwidthMeasurementFormat.BINARY) {
+            sink = new BinaryBandwidthMeasurementSink(file, cellConfig.bandwidthMeasurementCompression, columnNames);
+        } else {
+            sink = new CsvBandwidthMeasurementSink(file, cellConfig.bandwidthMeasurementCompression, columnNames);
         }
-        writeToCsv(b.toString());
-        flushCsv();
     }
 
     //The following methods are used to update the bandwidth measurement data during the simulation.
@@ -269,16 +253,12 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     }
 
     /**
-     * Writes everything to export file (CSV file).
+     * Writes everything to the export file.
      */
     @Override
     public void finish() {
-        updateCsv(true);
-        try {
-            csvWriter.close();
-        } catch (IOException e) {
-            log.error("Could not close CSVWriter", e);
-        }
+        updateExport(true);
+        sink.close();
     }
 
     /**
@@ -312,75 +292,33 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
      */
     private void checkForExport(long time) {
         if (time > nextExport) {
-            updateCsv(false);
+            updateExport(false);
             nextExport += EXPORT_STEP_SIZE * interval;
         }
     }
 
     /**
-     * Updates the CSV file with bandwidth measurements. The list of transmitted data is written
+     * Updates the export file with bandwidth measurements. The list of transmitted data is written
      * out, except the last EXPORT_STEP_SIZE items.
      *
      * @param everything if set to <code>true</code>, the complete list of transmitted data is written down
      */
-    private void updateCsv(boolean everything) {
+    private void updateExport(boolean everything) {
         final int exportSize;
         if (everything) {
-            exportSize = transmittedData.size() - csvSize;
+            exportSize = transmittedData.size() - exportedRows;
         } else {
-            exportSize = (((transmittedData.size() - csvSize) / EXPORT_STEP_SIZE) - 1) * EXPORT_STEP_SIZE;
-        }
-
-        int endRowIndex = max(csvSize, csvSize + exportSize);
-
-        StringBuffer b;
-        for (int rowIndex = csvSize; rowIndex < endRowIndex; rowIndex++) {
-            b = new StringBuffer(Long.toUnsignedString((csvSize * interval) / TIME.SECOND));
-
-            /* Previous version:
-             *      for (Long transmitted: transmittedDataList.get(rowIndex)) {
-             *          b.append(";").append(ObjectUtils.defaultIfNull(transmitted, 0).toString());
-             *      }
-             * was quite slow; especially due to inefficient iteration over the array and
-             * frequent conversions of zeros to string. */
-            long transmitted;
-            Row row = transmittedData.get(rowIndex);
-            for (int i = 0; i < row.size(); i++) {
-                transmitted = row.get(i);
-                if (transmitted == 0L) {
-                    b.append(";0");
-                } else {
-                    b.append(";").append(Long.toUnsignedString(transmitted));
-                }
-            }
-            transmittedData.clearRow(rowIndex);
-
-            writeToCsv(b.toString());
-            csvSize++;
+            exportSize = (((transmittedData.size() - exportedRows) / EXPORT_STEP_SIZE) - 1) * EXPORT_STEP_SIZE;
         }
-        flushCsv();
-    }
 
-    /**
-     * Writes measurements to the csv file.
-     *
-     * @param s String to write to csv file.
-     */
-    private void writeToCsv(String s) {
-        try {
-            csvWriter.write(s);
-            csvWriter.write(SystemUtils.LINE_SEPARATOR);
-        } catch (IOException e) {
-            log.error("Could not write line", e);
-        }
-    }
+        int endRowIndex = max(exportedRows, exportedRows + exportSize);
 
-    private void flushCsv() {
-        try {
-            csvWriter.flush();
-        } catch (IOException e) {
-            log.error("Could not write line", e);
+        for (int rowIndex = exportedRows; rowIndex < endRowIndex; rowIndex++) {
+            sink.writeRow((exportedRows * interval) / TIME.SECOND, transmittedData.get(rowIndex));
+            transmittedData.clearRow(rowIndex);
+            exportedRows++;
         }
+        sink.flush();
     }
 
     /**
@@ -427,7 +365,7 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
      */
     static class Row {
 
-        private Long[] content = null;
+        private long[] content = null;
         private final int size;
 
         private Row(int size) {
@@ -438,12 +376,12 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
             if (content == null) {
                 return 0;
             }
-            return ObjectUtils.defaultIfNull(content[column], 0L);
+            return content[column];
         }
 
         void set(int column, long value) {
             if (content == null) {
-                content = new Long[size];
+                content = new long[size];
             }
             content[column] = value;
         }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+
+import org.eclipse.mosaic.fed.cell.config.util.ConfigurationReader;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
+import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.addressing.CellMessageRoutingBuilder;
+import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.rti.DATA;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Tests the parallel processing of regions in the {@link ChainManager}.
+ */
+public class ChainManagerRegionThreadsTest {
+
+    private static final String REGION_CONFIG = "configs/regions_random_for_moduletest.json";
+    private static final String NETWORK_CONFIG = "configs/network_for_moduletest.json";
+
+    /**
+     * Positions within the regions tiergarten, kreuzberg, northBerlin, and outside any region.
+     */
+    private static final GeoPoint[] POSITIONS = {
+            GeoPoint.lonLat(13.349933624267578, 52.51388868388495),
+            GeoPoint.lonLat(13.404693603515625, 52.50038549553871),
+            GeoPoint.lonLat(13.390000000000000, 52.54000000000000),
+            GeoPoint.lonLat(13.386154174804688, 52.47065170749479)
+    };
+
+    private static final int NODES_PER_POSITION = 3;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule().strictness(Strictness.LENIENT);
+
+    @Mock
+    public RtiAmbassador rti;
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    private final GeoProjectionRule transformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.3856, 52.5415)), 388405.53, 5820063.64)
+    );
+
+    private final CellConfigurationRule configRule = new CellConfigurationRule()
+            .withNetworkConfig(NETWORK_CONFIG)
+            .withRegionConfig(REGION_CONFIG);
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(transformationRule).around(configRule);
+
+    @Rule
+    public CellSimulationRule simulationRule = new CellSimulationRule();
+
+    private final List<Interaction> rtiInteractionsSent = new ArrayList<>();
+    private final TreeSet<Long> requestedTimes = new TreeSet<>();
+
+    @Before
+    public void setup() throws Exception {
+        doAnswer(
+                invocationOnMock -> rtiInteractionsSent.add((Interaction) invocationOnMock.getArguments()[0])
+        ).when(rti).triggerInteraction(ArgumentMatchers.isA(Interaction.class));
+        doAnswer(
+                invocationOnMock -> requestedTimes.add((Long) invocationOnMock.getArguments()[0])
+        ).when(rti).requestAdvanceTime(ArgumentMatchers.anyLong());
+
+        for (int i = 0; i < POSITIONS.length * NODES_PER_POSITION; i++) {
+            IpResolver.getSingleton().registerHost("veh_" + i);
+        }
+    }
+
+    @Test
+    public void regionThreads_resultsIndependentOfNumberOfThreads() throws Exception {
+        //RUN
+        List<String> resultsSingleThread = runScenario(1);
+        List<String> resultsMultipleThreads = runScenario(4);
+        List<String> resultsMultipleThreadsRepeated = runScenario(4);
+
+        //ASSERT
+        assertTrue(resultsSingleThread.stream().anyMatch(r -> r.contains(V2xMessageReception.TYPE_ID)));
+        assertTrue(resultsSingleThread.stream().anyMatch(r -> r.endsWith("false")));
+        assertEquals(resultsSingleThread, resultsMultipleThreads);
+        assertEquals(resultsSingleThread, resultsMultipleThreadsRepeated);
+    }
+
+    /**
+     * Each node sends a unicast message to a node of the next region, and the nodes of the first
+     * region additionally send a broadcast to the area of the first two regions, every 100 ms.
+     *
+     * @return a description of all interactions sent to the RTI, with the messages numbered in the order of their creation
+     */
+    private List<String> runScenario(int regionThreads) throws Exception {
+        resetSimulation();
+        ConfigurationData.INSTANCE.getCellConfig().regionThreads = regionThreads;
+
+        final ChainManager chainManager = new ChainManager(
+                rti, new DefaultRandomNumberGenerator(182931861823L), new AmbassadorParameter("Cell", new File("cell_config.json"))
+        );
+        final Map<Integer, Integer> messageNumbers = new HashMap<>();
+        final int nodes = POSITIONS.length * NODES_PER_POSITION;
+        final GeoRectangle broadcastArea = new GeoRectangle(
+                GeoPoint.lonLat(13.333625793457031, 52.51563064800963), GeoPoint.lonLat(13.421859741210938, 52.4953554452214)
+        );
+        try {
+            for (long time = 100 * TIME.MILLI_SECOND; time <= 2 * TIME.SECOND; time += 100 * TIME.MILLI_SECOND) {
+                for (int i = 0; i < nodes; i++) {
+                    String sender = "veh_" + i;
+                    String receiver = "veh_" + ((i + NODES_PER_POSITION) % nodes);
+                    sendMessage(chainManager, messageNumbers, time, new CellMessageRoutingBuilder(sender, null)
+                            .destination(receiver)
+                            .tcp()
+                            .topological()
+                            .build());
+                    if (i < NODES_PER_POSITION) {
+                        sendMessage(chainManager, messageNumbers, time, new CellMessageRoutingBuilder(sender, null)
+                                .broadcast()
+                                .geographical(broadcastArea)
+                                .build());
+                    }
+                }
+                advanceTime(chainManager, time);
+            }
+            advanceTime(chainManager, Long.MAX_VALUE);
+        } finally {
+            chainManager.shutdown();
+        }
+
+        final List<String> results = new ArrayList<>();
+        for (Interaction interaction : rtiInteractionsSent) {
+            if (interaction instanceof V2xMessageReception reception) {
+                results.add(String.format("%d %s %s %d", reception.getTime(), reception.getTypeId(),
+                        reception.getReceiverName(), messageNumbers.get(reception.getMessageId())));
+            } else if (interaction instanceof V2xMessageAcknowledgement acknowledgement) {
+                results.add(String.format("%d %s %s %d %s", acknowledgement.getTime(), acknowledgement.getTypeId(),
+                        acknowledgement.getSourceName(), messageNumbers.get(acknowledgement.getOriginatingMessageId()),
+                        acknowledgement.isAcknowledged()));
+            }
+        }
+        return results;
+    }
+
+    private void sendMessage(ChainManager chainManager, Map<Integer, Integer> messageNumbers, long time,
+                             MessageRouting routing) {
+        V2xMessage message = new SampleV2xMessage(routing, 200 * DATA.BYTE);
+        messageNumbers.put(message.getId(), messageNumbers.size());
+        chainManager.startEvent(new V2xMessageTransmission(time, message));
+    }
+
+    private void advanceTime(ChainManager chainManager, long time) {
+        while (!requestedTimes.isEmpty() && requestedTimes.first() <= time) {
+            chainManager.advanceTime(requestedTimes.pollFirst());
+        }
+    }
+
+    /**
+     * Reloads all configurations, as the capacities of the regions are consumed during the simulation, and places
+     * all nodes at their initial positions.
+     */
+    private void resetSimulation() throws Exception {
+        rtiInteractionsSent.clear();
+        requestedTimes.clear();
+        for (String node : new ArrayList<>(SimulationData.INSTANCE.getAllNodesInSimulation())) {
+            SimulationData.INSTANCE.removeNode(node);
+        }
+        ConfigurationData.INSTANCE.setRegionConfig(ConfigurationReader.importRegionConfig(getResourcePath(REGION_CONFIG)));
+        ConfigurationData.INSTANCE.setNetworkConfig(ConfigurationReader.importNetworkConfig(getResourcePath(NETWORK_CONFIG)));
+        RegionUtility.initializeRegionsIndex(ConfigurationData.INSTANCE.getRegionConfig().regions);
+
+        for (int i = 0; i < POSITIONS.length * NODES_PER_POSITION; i++) {
+            String node = "veh_" + i;
+            GeoPoint position = POSITIONS[i / NODES_PER_POSITION];
+            SimulationData.INSTANCE.setPositionOfNode(node, GeoPoint.lonLat(
+                    position.getLongitude() + 0.0001 * (i % NODES_PER_POSITION), position.getLatitude()
+            ).toCartesian());
+            SimulationData.INSTANCE.setCellConfigurationOfNode(node, new CellConfiguration(node, true));
+        }
+    }
+
+    private String getResourcePath(String resource) throws Exception {
+        return new File(getClass().getResource("/" + resource).toURI()).getAbsolutePath();
+    }
+}
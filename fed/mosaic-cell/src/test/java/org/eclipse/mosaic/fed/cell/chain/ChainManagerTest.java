@@ -18,6 +18,8 @@ package org.eclipse.mosaic.fed.cell.chain;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.cell.config.CNetwork;
@@ -212,4 +214,29 @@ public class ChainManagerTest {
         assertTrue(eventsAdded.get(1).getProcessors().get(0) instanceof DownstreamModule);
         assertEquals(0, rtiInteractionsSent.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAddEvent_requestAdvanceTimeOncePerTime() throws IllegalValueException {
+        //SETUP
+        ChainManager realChainManager = new ChainManager(rti, rng, ambassadorParameter);
+        List<Long> processed = new ArrayList<>();
+
+        //RUN
+        realChainManager.addEvent(5 * TIME.SECOND, e -> processed.add(e.getTime()));
+        realChainManager.addEvent(5 * TIME.SECOND, e -> processed.add(e.getTime()));
+        realChainManager.addEvent(7 * TIME.SECOND, e -> {
+            processed.add(e.getTime());
+            // events of the current time are handled in the same step and require no further request
+            realChainManager.addEvent(7 * TIME.SECOND, e2 -> processed.add(e2.getTime()));
+        });
+        realChainManager.advanceTime(5 * TIME.SECOND);
+        realChainManager.advanceTime(7 * TIME.SECOND);
+        realChainManager.addEvent(9 * TIME.SECOND, e -> processed.add(e.getTime()));
+
+        //ASSERT
+        assertEquals(4, processed.size());
+        verify(rti, times(1)).requestAdvanceTime(5 * TIME.SECOND);
+        verify(rti, times(1)).requestAdvanceTime(7 * TIME.SECOND);
+        verify(rti, times(1)).requestAdvanceTime(9 * TIME.SECOND);
+    }
+}
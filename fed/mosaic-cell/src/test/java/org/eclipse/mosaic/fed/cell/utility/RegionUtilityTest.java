@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.cell.utility;
 
 import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
@@ -33,6 +34,7 @@ import org.eclipse.mosaic.lib.geo.UtmZone;
 import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
 import org.eclipse.mosaic.lib.transform.GeoProjection;
 
+import com.google.common.collect.Lists;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.RuleChain;
@@ -166,4 +168,33 @@ public class RegionUtilityTest {
         assertEquals(sampleRegion3.id, RegionUtility.getRegionForNode("nodeWithinBoundary3").id);
         assertEquals(GLOBAL_NETWORK_ID, RegionUtility.getRegionForNode("nodeOutsideBoundary3").id);
     }
+
+    /**
+     * Tests if nodes are found in the destination area and in their region after they moved.
+     */
+    @Test
+    public void testGetNodesForDestinationAreaAndRegion() {
+        CMobileNetworkProperties sampleRegion3 = ConfigurationData.INSTANCE.getRegionConfig().regions.get(2);
+        GeoPoint withinRegion3 = GeoPoint.lonLat(13.34, 52.53);
+        GeoPoint outsideRegions = GeoPoint.lonLat(13.30, 52.57);
+
+        SimulationData.INSTANCE.setPositionOfNode("veh_0", GeoProjection.getInstance().geographicToCartesian(withinRegion3));
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", GeoProjection.getInstance().geographicToCartesian(outsideRegions));
+
+        // ASSERT
+        assertEquals(Lists.newArrayList("veh_0"), RegionUtility.getNodesForDestinationArea(new GeoCircle(withinRegion3, 500)));
+        assertEquals(Lists.newArrayList("veh_0"), RegionUtility.getNodesForRegion(sampleRegion3));
+        assertEquals(Lists.newArrayList("veh_1"), RegionUtility.getNodesForDestinationArea(new GeoCircle(outsideRegions, 500)));
+
+        // RUN (veh_1 moves into region 3, veh_0 is removed)
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", GeoProjection.getInstance().geographicToCartesian(withinRegion3));
+        SimulationData.INSTANCE.setRegionOfNode("veh_1", RegionUtility.getRegionForPosition(SimulationData.INSTANCE.getPositionOfNode("veh_1")));
+        SimulationData.INSTANCE.removeNode("veh_0");
+
+        // ASSERT
+        assertEquals(Lists.newArrayList("veh_1"), RegionUtility.getNodesForDestinationArea(new GeoCircle(withinRegion3, 500)));
+        assertEquals(Lists.newArrayList("veh_1"), RegionUtility.getNodesForRegion(sampleRegion3));
+        assertTrue(RegionUtility.getNodesForDestinationArea(new GeoCircle(outsideRegions, 500)).isEmpty());
+        assertTrue(SimulationData.INSTANCE.getNodesInRegion(GLOBAL_NETWORK_ID).isEmpty());
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.cell.viz;
 
 import static org.junit.Assert.assertEquals;
 
+import org.eclipse.mosaic.fed.cell.config.model.BandwidthMeasurementFormat;
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
@@ -35,6 +36,7 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -217,6 +219,30 @@ public class PerRegionBandwidthMeasurementTest {
         assertExportedCsvFile(gzippedTargetStream);
     }
 
+    @Test
+    public void binaryExport_convertedToCsv() throws IOException {
+        ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementFormat = BandwidthMeasurementFormat.BINARY;
+        ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementCompression = true;
+        setup();
+
+        // RUN
+        sendNMessages(90, 10);
+        sendNMessages(250, 10);
+        sendNMessages(596, 1);
+        sendNMessages(1190, 10);
+        sendNMessages(1500, 10);
+        sendNMessages(1790, 10);
+        sendNMessages(3600, 1);
+        measurement.finish();
+
+        // ASSERT
+        StringWriter csv = new StringWriter();
+        BinaryBandwidthMeasurementReader.convertToCsv(
+                new GZIPInputStream(FileUtils.openInputStream(new File(targetFile.getParent(), "fromRegion#toRegion#ALL.bin.gz"))), csv
+        );
+        assertExportedCsvFile(IOUtils.toInputStream(csv.toString(), StandardCharsets.UTF_8));
+    }
+
     private void assertExportedCsvFile() throws IOException {
         assertExportedCsvFile(FileUtils.openInputStream(targetFile));
     }
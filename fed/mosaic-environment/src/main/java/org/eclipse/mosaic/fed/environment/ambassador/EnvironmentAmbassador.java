@@ -21,10 +21,13 @@ import org.eclipse.mosaic.fed.environment.config.CEventTime;
 import org.eclipse.mosaic.interactions.environment.EnvironmentSensorActivation;
 import org.eclipse.mosaic.interactions.environment.EnvironmentSensorUpdates;
 import org.eclipse.mosaic.interactions.environment.GlobalEnvironmentUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.enums.SensorType;
 import org.eclipse.mosaic.lib.objects.environment.EnvironmentEvent;
 import org.eclipse.mosaic.lib.objects.environment.EnvironmentEventLocation;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
@@ -37,8 +40,12 @@ import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -54,6 +61,22 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
      */
     private final Set<String> activeUnits = new HashSet<>();
 
+    /**
+     * Reconstructs full vehicle data from received {@link VehicleDeltaUpdates}.
+     */
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
+    /**
+     * Index on the configured events, created on first use.
+     */
+    private EnvironmentEventIndex eventIndex;
+
+    /**
+     * The ids of the events each vehicle sensed with its last update, only used if
+     * {@link CEnvironment#skipUnchangedSensorUpdates} is enabled.
+     */
+    private final Map<String, int[]> lastSensedEvents = new HashMap<>();
+
     /**
      * The configuration file referenced in {@link AmbassadorParameter} is used for {@link CEnvironment}
      * object instantiation. Log message from object instantiation is logged.
@@ -138,6 +161,8 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
     public void processInteraction(Interaction interaction) {
         if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
             emitSensorData((VehicleUpdates) interaction);
+        } else if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+            emitSensorData(((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder));
         } else if (interaction.getTypeId().equals(EnvironmentSensorActivation.TYPE_ID)) {
             final EnvironmentSensorActivation tmpInteraction = (EnvironmentSensorActivation) interaction;
 
@@ -160,11 +185,43 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
 
         log.debug("Received {} updated vehicle movements", vehicleUpdates.getUpdated().size());
 
+        if (eventIndex == null) {
+            eventIndex = new EnvironmentEventIndex(config.events);
+        }
+
         for (VehicleData info : vehicleUpdates.getUpdated()) {
-            final List<EnvironmentEvent> events = config.events.stream()
-                    .filter(e -> isValidEvent(e, info))
-                    .map(e -> new EnvironmentEvent(e.type.sensorType, e.type.value, startTime, endTime))
-                    .toList();
+            if (!isMonitored(info.getName())) {
+                continue;
+            }
+            final int[] sensedEvents = eventIndex.findEvents(info.getTime(), info.getPosition(), getConnectionId(info));
+
+            final List<EnvironmentEvent> events = new ArrayList<>();
+            if (config.skipUnchangedSensorUpdates) {
+                final int[] previousEvents = lastSensedEvents.getOrDefault(info.getName(), new int[0]);
+                if (Arrays.equals(previousEvents, sensedEvents)) {
+                    continue;
+                }
+                lastSensedEvents.put(info.getName(), sensedEvents);
+
+                final Set<SensorType> sensedTypes = EnumSet.noneOf(SensorType.class);
+                for (int id : sensedEvents) {
+                    final CEvent event = eventIndex.getEvent(id);
+                    events.add(new EnvironmentEvent(event.type.sensorType, event.type.value, startTime, event.time.end));
+                    sensedTypes.add(event.type.sensorType);
+                }
+                // reset sensor types which are not sensed anymore
+                for (int id : previousEvents) {
+                    final SensorType type = eventIndex.getEvent(id).type.sensorType;
+                    if (sensedTypes.add(type)) {
+                        events.add(new EnvironmentEvent(type, 0, startTime, endTime));
+                    }
+                }
+            } else {
+                for (int id : sensedEvents) {
+                    final CEvent event = eventIndex.getEvent(id);
+                    events.add(new EnvironmentEvent(event.type.sensorType, event.type.value, startTime, endTime));
+                }
+            }
 
             if (!events.isEmpty()) {
                 try {
@@ -181,24 +238,15 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
         for (String id : vehicleUpdates.getRemovedNames()) {
             log.debug("Removed {} from monitoring list.", id);
             activeUnits.remove(id);
+            lastSensedEvents.remove(id);
         }
     }
 
-    /**
-     * Checks if the event is valid based upon following criteria:
-     * 1. Is vehicle monitored for events?
-     * 2. Does the event fit into current time frame?
-     * 3. Is the vehicle in the area of the event?
-     *
-     * @param event       The event to check against
-     * @param vehicleData The vehicle for the event
-     * @return true if the event is valid according to criteria above
-     */
-    private boolean isValidEvent(CEvent event, VehicleData vehicleData) {
-        return event.location != null && event.time != null && event.type != null
-                && isMonitored(vehicleData.getName())
-                && isInTimeFrame(event.time, vehicleData.getTime())
-                && isInEventArea(event, vehicleData);
+    private static String getConnectionId(VehicleData vehicleData) {
+        if (vehicleData.getRoadPosition() == null || vehicleData.getRoadPosition().getConnection() == null) {
+            return null;
+        }
+        return vehicleData.getRoadPosition().getConnection().getId();
     }
 
     /**
@@ -215,16 +263,6 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
         return (messageTime >= eventTimeFrame.start && messageTime < eventTimeFrame.end);
     }
 
-    private static boolean isInEventArea(CEvent event, VehicleData vehicleData) {
-        if (event.location.area != null) {
-            return event.location.area.contains(vehicleData.getPosition());
-        }
-        if (event.location.connectionId != null) {
-            return event.location.connectionId.equals(vehicleData.getRoadPosition().getConnection().getId());
-        }
-        return false;
-    }
-
     @Override
     public boolean isTimeConstrained() {
         return false;
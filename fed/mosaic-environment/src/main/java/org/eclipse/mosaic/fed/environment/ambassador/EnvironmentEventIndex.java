@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.environment.ambassador;
+
+import org.eclipse.mosaic.fed.environment.config.CEvent;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.transform.GeoProjection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Index on the configured environment events, which allows to find the events a vehicle is located in
+ * without checking all events. The time windows of the events are held in an interval tree, and the
+ * areas of the events are registered in all cells of a regular grid they overlap. Events located on a
+ * connection are looked up by the connection id.
+ */
+class EnvironmentEventIndex {
+
+    /**
+     * Events overlapping more cells than this are not registered in the grid, but are checked for each query.
+     */
+    private static final int MAX_CELLS_PER_EVENT = 1024;
+
+    private static final double MIN_CELL_SIZE = 0.0001;
+
+    private final List<CEvent> events;
+
+    private final IntervalTree timeIndex;
+
+    private final double cellSize;
+    private final Map<Long, int[]> cells = new HashMap<>();
+    private final int[] unindexedAreaEvents;
+    private final Map<String, int[]> connectionEvents = new HashMap<>();
+
+    private long activeEventsTime = Long.MIN_VALUE;
+    private BitSet activeEvents;
+
+    /**
+     * Creates the index for the given events. Events without location, time or type are ignored.
+     *
+     * @param events the list of all configured events
+     */
+    EnvironmentEventIndex(List<CEvent> events) {
+        this.events = events;
+
+        final List<Integer> validEvents = new ArrayList<>();
+        final List<Integer> areaEvents = new ArrayList<>();
+        final Map<String, List<Integer>> eventsByConnection = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            final CEvent event = events.get(i);
+            if (event.location == null || event.time == null || event.type == null) {
+                continue;
+            }
+            validEvents.add(i);
+            if (event.location.area != null) {
+                areaEvents.add(i);
+            } else if (event.location.connectionId != null) {
+                eventsByConnection.computeIfAbsent(event.location.connectionId, k -> new ArrayList<>()).add(i);
+            }
+        }
+        eventsByConnection.forEach((connectionId, ids) -> connectionEvents.put(connectionId, toArray(ids)));
+
+        // events with an empty time window are never active
+        timeIndex = new IntervalTree(validEvents.stream()
+                .filter(id -> events.get(id).time.start < events.get(id).time.end)
+                .mapToInt(Integer::intValue).toArray());
+
+        final Map<Integer, Bounds<GeoPoint>> bounds = new HashMap<>();
+        // the bounds of circular areas can only be calculated with an initialized projection
+        if (GeoProjection.isInitialized()) {
+            for (int id : areaEvents) {
+                bounds.put(id, events.get(id).location.area.getBounds());
+            }
+        }
+        cellSize = calculateCellSize(bounds.values());
+
+        final List<Integer> unindexed = new ArrayList<>();
+        final Map<Long, List<Integer>> eventsByCell = new HashMap<>();
+        for (int id : areaEvents) {
+            final Bounds<GeoPoint> b = bounds.get(id);
+            if (b == null) {
+                unindexed.add(id);
+                continue;
+            }
+            final int minRow = toCell(b.getSideA());
+            final int maxRow = toCell(b.getSideC());
+            final int minCol = toCell(b.getSideD());
+            final int maxCol = toCell(b.getSideB());
+            if ((long) (maxRow - minRow + 1) * (maxCol - minCol + 1) > MAX_CELLS_PER_EVENT) {
+                unindexed.add(id);
+                continue;
+            }
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    eventsByCell.computeIfAbsent(cellKey(row, col), k -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+        eventsByCell.forEach((key, ids) -> cells.put(key, toArray(ids)));
+        unindexedAreaEvents = toArray(unindexed);
+    }
+
+    /**
+     * Uses the average extent of the event areas as cell size, so that most events overlap only a few cells.
+     */
+    private static double calculateCellSize(Iterable<Bounds<GeoPoint>> bounds) {
+        double sum = 0;
+        int count = 0;
+        for (Bounds<GeoPoint> b : bounds) {
+            sum += Math.max(b.getSideC() - b.getSideA(), b.getSideB() - b.getSideD());
+            count++;
+        }
+        return count == 0 ? 1d : Math.max(MIN_CELL_SIZE, sum / count);
+    }
+
+    /**
+     * Finds all events which are active at the given time and which contain the given position or connection.
+     *
+     * @param time         the simulation time
+     * @param position     the position of the vehicle
+     * @param connectionId the connection the vehicle is driving on, may be {@code null}
+     * @return the ids of the matching events, i.e., their index in the list of configured events, in ascending order
+     */
+    int[] findEvents(long time, @Nullable GeoPoint position, @Nullable String connectionId) {
+        final BitSet active = getActiveEvents(time);
+        if (active.isEmpty()) {
+            return new int[0];
+        }
+        final BitSet result = new BitSet();
+        if (position != null) {
+            final int[] cellEvents = cells.get(cellKey(toCell(position.getLatitude()), toCell(position.getLongitude())));
+            if (cellEvents != null) {
+                addContaining(cellEvents, active, position, result);
+            }
+            addContaining(unindexedAreaEvents, active, position, result);
+        }
+        if (connectionId != null) {
+            final int[] onConnection = connectionEvents.get(connectionId);
+            if (onConnection != null) {
+                for (int id : onConnection) {
+                    if (active.get(id)) {
+                        result.set(id);
+                    }
+                }
+            }
+        }
+        return result.stream().toArray();
+    }
+
+    private void addContaining(int[] candidates, BitSet active, GeoPoint position, BitSet result) {
+        for (int id : candidates) {
+            if (active.get(id) && events.get(id).location.area.contains(position)) {
+                result.set(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the events active at the given time. As all vehicles of one update share the same time,
+     * the result of the last lookup is kept.
+     */
+    private BitSet getActiveEvents(long time) {
+        if (activeEvents == null || activeEventsTime != time) {
+            activeEvents = timeIndex.findActive(time);
+            activeEventsTime = time;
+        }
+        return activeEvents;
+    }
+
+    CEvent getEvent(int id) {
+        return events.get(id);
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A static centered interval tree on the time windows of the events, which finds all events
+     * active at a certain time in O(log n + k).
+     */
+    private class IntervalTree {
+
+        private final Node root;
+
+        private IntervalTree(int[] ids) {
+            root = build(ids);
+        }
+
+        private Node build(int[] ids) {
+            if (ids.length == 0) {
+                return null;
+            }
+            // the median start time is covered by at least one interval, which guarantees progress
+            final long[] starts = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                starts[i] = start(ids[i]);
+            }
+            Arrays.sort(starts);
+            final long center = starts[ids.length / 2];
+
+            final List<Integer> left = new ArrayList<>();
+            final List<Integer> right = new ArrayList<>();
+            final List<Integer> overlapping = new ArrayList<>();
+            for (int id : ids) {
+                if (end(id) <= center) {
+                    left.add(id);
+                } else if (start(id) > center) {
+                    right.add(id);
+                } else {
+                    overlapping.add(id);
+                }
+            }
+            final Node node = new Node(center);
+            node.byStart = overlapping.stream().sorted(Comparator.comparingLong(this::start)).mapToInt(Integer::intValue).toArray();
+            node.byEnd = overlapping.stream().sorted(Comparator.comparingLong(this::end).reversed()).mapToInt(Integer::intValue).toArray();
+            node.left = build(toArray(left));
+            node.right = build(toArray(right));
+            return node;
+        }
+
+        private BitSet findActive(long time) {
+            final BitSet result = new BitSet(events.size());
+            Node node = root;
+            while (node != null) {
+                if (time < node.center) {
+                    // all intervals of this node end after the center, check their start
+                    for (int id : node.byStart) {
+                        if (start(id) > time) {
+                            break;
+                        }
+                        result.set(id);
+                    }
+                    node = node.left;
+                } else {
+                    // all intervals of this node start at or before the center, check their end
+                    for (int id : node.byEnd) {
+                        if (end(id) <= time) {
+                            break;
+                        }
+                        result.set(id);
+                    }
+                    node = node.right;
+                }
+            }
+            return result;
+        }
+
+        private long start(int id) {
+            return events.get(id).time.start;
+        }
+
+        private long end(int id) {
+            return events.get(id).time.end;
+        }
+    }
+
+    private static class Node {
+
+        private final long center;
+        private int[] byStart;
+        private int[] byEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long center) {
+            this.center = center;
+        }
+    }
+}
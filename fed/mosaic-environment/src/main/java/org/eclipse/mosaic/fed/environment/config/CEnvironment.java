@@ -33,5 +33,13 @@ public class CEnvironment implements Serializable {
      */
     public List<CEvent> events = new ArrayList<>();
 
+    /**
+     * If enabled, sensor data is only sent to a vehicle if the set of events it senses has changed since
+     * the last update. The emitted events are then valid until the end of their configured time window,
+     * and sensor types no longer sensed are reset by an event with strength 0. If disabled (default),
+     * sensor data is sent with each vehicle update and is valid until the next update.
+     */
+    public boolean skipUnchangedSensorUpdates = false;
+
 }
 
@@ -36,6 +36,7 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -204,6 +205,46 @@ public class EnvironmentAmbassadorTest {
         assertNull(environmentSensorUpdates);
     }
 
+    @Test
+    public void emitSensorUpdates_skipUnchanged() throws IOException {
+        //PREPARE
+        ambassador = initEventAmbassador("/environment_config_skip_unchanged.json");
+        ambassador.processInteraction(new EnvironmentSensorActivation(0, "veh_0"));
+        when(vehicleDataMock.getName()).thenReturn("veh_0");
+        when(vehicleDataMock.getPosition()).thenReturn(GeoPoint.latLon(52.5, 13.2));
+
+        //RUN + ASSERT
+        emitVehicleUpdate(6 * TIME.SECOND);
+        assertNotNull(environmentSensorUpdates);
+        assertEquals(2, environmentSensorUpdates.getEvents().size());
+        assertEquals(8 * TIME.SECOND, Iterables.get(environmentSensorUpdates.getEvents(), 1).until);
+
+        // nothing changed
+        environmentSensorUpdates = null;
+        emitVehicleUpdate(7 * TIME.SECOND);
+        assertNull(environmentSensorUpdates);
+
+        // second event has ended
+        emitVehicleUpdate(8 * TIME.SECOND);
+        assertNotNull(environmentSensorUpdates);
+        assertEquals(1, environmentSensorUpdates.getEvents().size());
+        assertEquals(1, Iterables.get(environmentSensorUpdates.getEvents(), 0).strength);
+        assertEquals(10 * TIME.SECOND, Iterables.get(environmentSensorUpdates.getEvents(), 0).until);
+
+        // all events have ended, sensor is reset
+        emitVehicleUpdate(11 * TIME.SECOND);
+        assertEquals(1, environmentSensorUpdates.getEvents().size());
+        assertEquals(0, Iterables.get(environmentSensorUpdates.getEvents(), 0).strength);
+
+        environmentSensorUpdates = null;
+        emitVehicleUpdate(12 * TIME.SECOND);
+        assertNull(environmentSensorUpdates);
+    }
+
+    private void emitVehicleUpdate(long time) {
+        when(vehicleDataMock.getTime()).thenReturn(time);
+        ambassador.processInteraction(new VehicleUpdates(time, Lists.newArrayList(), Lists.newArrayList(vehicleDataMock), Lists.newArrayList()));
+    }
 
     @Test
     public void testTimeSliceWithinWindowBegin() {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.environment.ambassador;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.eclipse.mosaic.fed.environment.config.CEvent;
+import org.eclipse.mosaic.lib.enums.SensorType;
+import org.eclipse.mosaic.lib.geo.GeoArea;
+import org.eclipse.mosaic.lib.geo.GeoCircle;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for {@link EnvironmentEventIndex}.
+ */
+public class EnvironmentEventIndexTest {
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
+    @Test
+    public void findEvents_sameAsLinearSearch() {
+        //PREPARE
+        final Random random = new Random(42);
+        final List<CEvent> events = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final long start = random.nextInt(100) * TIME.SECOND;
+            final long end = start + random.nextInt(50) * TIME.SECOND;
+            final GeoPoint center = randomPosition(random);
+            final GeoArea area = switch (i % 3) {
+                case 0 -> new GeoCircle(center, 10 + random.nextInt(500));
+                case 1 -> new GeoRectangle(center, GeoPoint.latLon(center.getLatitude() + 0.005, center.getLongitude() + 0.01));
+                default -> null;
+            };
+            events.add(createEvent(area, area == null ? "connection_" + random.nextInt(20) : null, start, end));
+        }
+        // one event covering the whole scenario, too large to be registered in the grid
+        events.add(createEvent(new GeoCircle(GeoPoint.latLon(52.5, 13.4), 100_000), null, 0, 100 * TIME.SECOND));
+        // invalid event
+        events.add(new CEvent());
+
+        final EnvironmentEventIndex index = new EnvironmentEventIndex(events);
+
+        for (int i = 0; i < 2000; i++) {
+            final long time = random.nextInt(150) * TIME.SECOND;
+            final GeoPoint position = randomPosition(random);
+            final String connectionId = "connection_" + random.nextInt(20);
+
+            //RUN
+            final int[] actual = index.findEvents(time, position, connectionId);
+
+            //ASSERT
+            assertArrayEquals(findEventsLinear(events, time, position, connectionId), actual);
+        }
+    }
+
+    @Test
+    public void findEvents_rectanglesAndConnections() {
+        //PREPARE
+        final List<CEvent> events = List.of(
+                createEvent(new GeoRectangle(GeoPoint.latLon(52.0, 13.0), GeoPoint.latLon(53.0, 14.0)), null, 0, 10 * TIME.SECOND),
+                createEvent(new GeoRectangle(GeoPoint.latLon(52.0, 13.0), GeoPoint.latLon(52.1, 13.1)), null, 0, 10 * TIME.SECOND),
+                createEvent(null, "connection_1", 5 * TIME.SECOND, 10 * TIME.SECOND),
+                createEvent(null, "connection_1", 5 * TIME.SECOND, 5 * TIME.SECOND)
+        );
+        final EnvironmentEventIndex index = new EnvironmentEventIndex(events);
+
+        //RUN + ASSERT
+        assertArrayEquals(new int[]{0}, index.findEvents(0, GeoPoint.latLon(52.5, 13.5), "connection_1"));
+        assertArrayEquals(new int[]{0, 2}, index.findEvents(5 * TIME.SECOND, GeoPoint.latLon(52.5, 13.5), "connection_1"));
+        assertArrayEquals(new int[]{0, 1}, index.findEvents(9 * TIME.SECOND, GeoPoint.latLon(52.05, 13.05), null));
+        assertArrayEquals(new int[0], index.findEvents(10 * TIME.SECOND, GeoPoint.latLon(52.05, 13.05), "connection_1"));
+    }
+
+    private static GeoPoint randomPosition(Random random) {
+        return GeoPoint.latLon(52.4 + random.nextDouble() * 0.2, 13.3 + random.nextDouble() * 0.2);
+    }
+
+    private static CEvent createEvent(GeoArea area, String connectionId, long start, long end) {
+        final CEvent event = new CEvent();
+        event.type.sensorType = SensorType.OBSTACLE;
+        event.location.area = area;
+        event.location.connectionId = connectionId;
+        event.time.start = start;
+        event.time.end = end;
+        return event;
+    }
+
+    private static int[] findEventsLinear(List<CEvent> events, long time, GeoPoint position, String connectionId) {
+        return IntStream.range(0, events.size()).filter(i -> {
+            final CEvent event = events.get(i);
+            if (event.location == null || event.time == null || event.type == null) {
+                return false;
+            }
+            if (!EnvironmentAmbassador.isInTimeFrame(event.time, time)) {
+                return false;
+            }
+            if (event.location.area != null) {
+                return event.location.area.contains(position);
+            }
+            return connectionId.equals(event.location.connectionId);
+        }).toArray();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.mapping.ambassador;
+
+import java.util.Arrays;
+
+/**
+ * Holds the next departure time of each {@link VehicleFlowGenerator}, so that the {@link SpawningFramework}
+ * only needs to advance the generators which actually spawn a vehicle at the current time. Departures
+ * are kept in a binary heap on primitive arrays, ordered by their time and, for departures at the same
+ * time, by the index of the generator to keep the order of the configuration.
+ */
+class DepartureSchedule {
+
+    private long[] times = new long[16];
+    private int[] generators = new int[16];
+    private int size = 0;
+
+    /**
+     * Schedules the departure of the given generator.
+     *
+     * @param time      the time of the departure [ns]
+     * @param generator the index of the generator
+     */
+    void add(long time, int generator) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            generators = Arrays.copyOf(generators, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (!isBefore(time, generator, times[parent], generators[parent])) {
+                break;
+            }
+            times[i] = times[parent];
+            generators[i] = generators[parent];
+            i = parent;
+        }
+        times[i] = time;
+        generators[i] = generator;
+    }
+
+    /**
+     * Returns the time of the earliest departure, or {@link Long#MAX_VALUE} if no departure is scheduled.
+     */
+    long peekTime() {
+        return size == 0 ? Long.MAX_VALUE : times[0];
+    }
+
+    /**
+     * Removes the earliest departure and returns the index of its generator.
+     *
+     * @throws IllegalStateException if no departure is scheduled
+     */
+    int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("No departure scheduled.");
+        }
+        final int result = generators[0];
+        final long lastTime = times[--size];
+        final int lastGenerator = generators[size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isBefore(times[child + 1], generators[child + 1], times[child], generators[child])) {
+                child++;
+            }
+            if (!isBefore(times[child], generators[child], lastTime, lastGenerator)) {
+                break;
+            }
+            times[i] = times[child];
+            generators[i] = generators[child];
+            i = child;
+        }
+        times[i] = lastTime;
+        generators[i] = lastGenerator;
+        return result;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static boolean isBefore(long time, int generator, long otherTime, int otherGenerator) {
+        return time < otherTime || (time == otherTime && generator < otherGenerator);
+    }
+}
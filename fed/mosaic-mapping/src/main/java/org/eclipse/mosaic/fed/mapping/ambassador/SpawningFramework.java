@@ -38,6 +38,8 @@ import org.eclipse.mosaic.fed.mapping.config.units.CTrafficLight;
 import org.eclipse.mosaic.fed.mapping.config.units.CTrafficManagementCenter;
 import org.eclipse.mosaic.fed.mapping.config.units.CVehicle;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistrations;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -45,6 +47,7 @@ import org.eclipse.mosaic.lib.objects.UnitNameGenerator;
 import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 
@@ -70,6 +73,10 @@ public class SpawningFramework {
     private final Map<String, List<CPrototype>> typeDistributions = new HashMap<>();
     private final Map<String, TrafficLightSpawner> tls = new HashMap<>();
     private final List<VehicleFlowGenerator> vehicleFlowGenerators = new ArrayList<>();
+    /**
+     * The next departures of all active {@link VehicleFlowGenerator}s, referenced by their index in {@link #vehicleFlowGenerators}.
+     */
+    private final DepartureSchedule departures = new DepartureSchedule();
     private final List<AgentSpawner> agentSpawners = new ArrayList<>();
     private final List<RoadSideUnitSpawner> rsus = new ArrayList<>();
     private final List<TrafficManagementCenterSpawner> tmcs = new ArrayList<>();
@@ -98,6 +105,19 @@ public class SpawningFramework {
      * (relevant for external scenarios).
      */
     private boolean trafficLightsInitialized = false;
+    /**
+     * Flag used to indicate if all vehicle flow generators have been advanced once and are scheduled in {@link #departures}.
+     */
+    private boolean vehicleFlowsInitialized = false;
+    /**
+     * Registrations of vehicles spawned by vehicle flows at the current time, which are sent together
+     * if {@link CMappingConfiguration#bulkVehicleRegistrations} is enabled.
+     */
+    private final List<VehicleRegistration> pendingVehicleRegistrations = new ArrayList<>();
+    /**
+     * The last time advance requested for the next departure of a vehicle flow. Unit: [ns].
+     */
+    private long requestedDepartureTime = -1;
 
     /**
      * Constructor for {@link SpawningFramework}.
@@ -239,6 +259,39 @@ public class SpawningFramework {
         return rti;
     }
 
+    /**
+     * Sends the registration of a vehicle spawned by a vehicle flow. If {@link CMappingConfiguration#bulkVehicleRegistrations}
+     * is enabled, {@link VehicleRegistration}s are collected and sent as one {@link VehicleRegistrations} interaction
+     * after all vehicle flows have been advanced for the current time.
+     *
+     * @param registration the registration of the spawned vehicle
+     */
+    void registerVehicle(Interaction registration) throws InternalFederateException, IllegalValueException {
+        if (config != null && config.bulkVehicleRegistrations && registration instanceof VehicleRegistration vehicleRegistration) {
+            pendingVehicleRegistrations.add(vehicleRegistration);
+            return;
+        }
+        // keep the order of registrations
+        sendPendingVehicleRegistrations();
+        rti.triggerInteraction(registration);
+    }
+
+    private void sendPendingVehicleRegistrations() throws InternalFederateException {
+        if (pendingVehicleRegistrations.isEmpty()) {
+            return;
+        }
+        final Interaction interaction = pendingVehicleRegistrations.size() == 1
+                ? pendingVehicleRegistrations.get(0)
+                : new VehicleRegistrations(time, new ArrayList<>(pendingVehicleRegistrations));
+        pendingVehicleRegistrations.clear();
+        try {
+            rti.triggerInteraction(interaction);
+        } catch (IllegalValueException e) {
+            LOG.error("Couldn't send {} interaction", interaction.getTypeId(), e);
+            throw new InternalFederateException("Exception while sending vehicle registrations", e);
+        }
+    }
+
     void setScenarioTrafficLightRegistration(ScenarioTrafficLightRegistration trafficLightsRegistration) {
         this.scenarioTrafficLightRegistration = trafficLightsRegistration;
     }
@@ -495,13 +548,7 @@ public class SpawningFramework {
             immobileUnitsInitialized = true;
         }
 
-        Iterator<VehicleFlowGenerator> vehicleFlowIt = vehicleFlowGenerators.iterator();
-        while (vehicleFlowIt.hasNext()) {
-            VehicleFlowGenerator vehicleFlowGenerator = vehicleFlowIt.next();
-            if (vehicleFlowGenerator.timeAdvance(this)) {
-                vehicleFlowIt.remove();
-            }
-        }
+        advanceVehicleFlows(time);
 
         Iterator<AgentSpawner> agentSpawnerIt = agentSpawners.iterator();
         while (agentSpawnerIt.hasNext()) {
@@ -512,6 +559,42 @@ public class SpawningFramework {
         }
     }
 
+    /**
+     * Advances all vehicle flow generators which have a departure at the given time or have missed it, in the order
+     * of their configuration, and requests a single time advance towards the next departure of all vehicle flows.
+     */
+    private void advanceVehicleFlows(long time) throws InternalFederateException {
+        if (!vehicleFlowsInitialized) {
+            for (int i = 0; i < vehicleFlowGenerators.size(); i++) {
+                advanceVehicleFlow(i);
+            }
+            vehicleFlowsInitialized = true;
+        }
+        // departures which have been missed are spawned at the current time
+        while (departures.peekTime() <= time) {
+            advanceVehicleFlow(departures.poll());
+        }
+        sendPendingVehicleRegistrations();
+
+        final long nextDepartureTime = departures.peekTime();
+        if (nextDepartureTime != Long.MAX_VALUE && nextDepartureTime != requestedDepartureTime) {
+            try {
+                rti.requestAdvanceTime(nextDepartureTime);
+                requestedDepartureTime = nextDepartureTime;
+            } catch (IllegalValueException e) {
+                LOG.error("Exception while requesting time advance for next vehicle departure", e);
+                throw new InternalFederateException("Exception while requesting time advance for next vehicle departure", e);
+            }
+        }
+    }
+
+    private void advanceVehicleFlow(int index) throws InternalFederateException {
+        final VehicleFlowGenerator vehicleFlowGenerator = vehicleFlowGenerators.get(index);
+        if (!vehicleFlowGenerator.timeAdvance(this)) {
+            departures.add(vehicleFlowGenerator.getNextSpawnTime(), index);
+        }
+    }
+
     private void initTrafficLights(long time, RtiAmbassador rti, RandomNumberGenerator rng) throws InternalFederateException {
         WeightedSelector<TrafficLightSpawner> selector = null;
         List<TrafficLightSpawner> itemsWithWeight = tls.values().stream().filter(tl -> tl.getWeight() != 0).toList();
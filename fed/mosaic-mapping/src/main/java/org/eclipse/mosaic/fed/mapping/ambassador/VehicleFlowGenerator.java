@@ -328,11 +328,12 @@ public class VehicleFlowGenerator {
     }
 
     /**
-     * This contains the main logic of vehicle spawning.
+     * This contains the main logic of vehicle spawning. The time advance towards the next spawning time,
+     * given by {@link #getNextSpawnTime()}, is requested by the {@link SpawningFramework}.
      *
      * @param framework the {@link SpawningFramework} handling the time advance
      * @return true if there is no more vehicles to spawn or max time reached, thus the vehicle spawner can be removed
-     * @throws InternalFederateException thrown if time advance couldn't be completed successfully
+     * @throws InternalFederateException thrown if a vehicle couldn't be registered successfully
      */
     boolean timeAdvance(SpawningFramework framework) throws InternalFederateException {
         // to reduce load, first handle everything that might stop execution
@@ -347,25 +348,16 @@ public class VehicleFlowGenerator {
         // now determine if a vehicle has to be spawned
         if (nextSpawnTime == -1) { // init some variables before the first time advance
             nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-            try {
-                framework.getRti().requestAdvanceTime(nextSpawnTime);
-            } catch (IllegalValueException e) {
-                LOG.error("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-                throw new InternalFederateException("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-            }
         }
         // check if we really need to spawn something right now
-        if (nextSpawnTime != framework.getTime()) {
+        if (nextSpawnTime > framework.getTime()) {
             return false;
         }
+        if (nextSpawnTime < framework.getTime()) {
+            LOG.warn("Departure at {} has been missed, vehicle is spawned at {} instead.", nextSpawnTime, framework.getTime());
+        }
 
         nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-        try {
-            framework.getRti().requestAdvanceTime(nextSpawnTime);
-        } catch (IllegalValueException e) {
-            LOG.error("Exception in VehicleStreamGenerator.timeAdvance()", e);
-            throw new InternalFederateException("Exception in VehicleStreamGenerator.timeAdvance()", e);
-        }
 
         // If maxNumberVehicles wasn't given in mapping, we assume that it should be an endless flow, so
         // we set it to Integer.MAX_VALUE and don't reduce the max number of vehicles in this case
@@ -385,6 +377,13 @@ public class VehicleFlowGenerator {
         return false;
     }
 
+    /**
+     * Returns the time at which this generator spawns its next vehicle, or -1 if it hasn't been advanced yet.
+     */
+    long getNextSpawnTime() {
+        return nextSpawnTime;
+    }
+
     private boolean notInTimeFrame(long time) {
         return time < start || time >= end;
     }
@@ -420,7 +419,7 @@ public class VehicleFlowGenerator {
             LOG.info("Creating Vehicle: time={},name={},route={},laneSelectionMode={},lane={},departConnectionIndex={},pos={},type={},departSpeed={},applications={}",
                     framework.getTime(), name, route, laneSelectionMode, lane,
                     departConnectionIndex, pos, type.getPrototypeName(), departSpeed, type.getApplications());
-            framework.getRti().triggerInteraction(interaction);
+            framework.registerVehicle(interaction);
         } catch (IllegalValueException e) {
             LOG.error("Couldn't send an {} interaction in VehicleStreamGenerator.timeAdvance()", interaction.getTypeId(), e);
             throw new InternalFederateException("Exception in VehicleStreamGenerator.timeAdvance()", e);
@@ -75,4 +75,10 @@ public class CMappingConfiguration {
      * If set to {@code true}, the configured weights of all types are slightly randomized by {@code +-1%} of the sum of all weights.
      */
     public boolean randomizeWeights = false;
+
+    /**
+     * If set to {@code true}, all vehicles spawned by vehicle flows at the same time are registered
+     * with one {@code VehicleRegistrations} interaction instead of one interaction per vehicle.
+     */
+    public boolean bulkVehicleRegistrations = false;
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.mapping.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for {@link DepartureSchedule}.
+ */
+public class DepartureScheduleTest {
+
+    @Test
+    public void poll_orderedByTimeAndGenerator() {
+        //SETUP
+        DepartureSchedule schedule = new DepartureSchedule();
+        schedule.add(20, 0);
+        schedule.add(10, 2);
+        schedule.add(20, 1);
+        schedule.add(10, 1);
+
+        //RUN + ASSERT
+        assertEquals(10, schedule.peekTime());
+        assertEquals(1, schedule.poll());
+        assertEquals(2, schedule.poll());
+        assertEquals(20, schedule.peekTime());
+        assertEquals(0, schedule.poll());
+        assertEquals(1, schedule.poll());
+        assertTrue(schedule.isEmpty());
+        assertEquals(Long.MAX_VALUE, schedule.peekTime());
+    }
+
+    @Test
+    public void poll_manyDepartures() {
+        //SETUP
+        Random random = new Random(7);
+        DepartureSchedule schedule = new DepartureSchedule();
+        List<long[]> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long time = random.nextInt(100);
+            schedule.add(time, i);
+            expected.add(new long[]{time, i});
+        }
+        expected.sort(Comparator.<long[]>comparingLong(d -> d[0]).thenComparingLong(d -> d[1]));
+
+        //RUN + ASSERT
+        assertEquals(1000, schedule.size());
+        for (long[] departure : expected) {
+            assertEquals(departure[0], schedule.peekTime());
+            assertEquals(departure[1], schedule.poll());
+        }
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void poll_empty() {
+        new DepartureSchedule().poll();
+    }
+}
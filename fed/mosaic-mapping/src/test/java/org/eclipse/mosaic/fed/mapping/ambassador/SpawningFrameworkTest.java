@@ -18,12 +18,15 @@ package org.eclipse.mosaic.fed.mapping.ambassador;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.eclipse.mosaic.fed.mapping.config.CMappingAmbassador;
+import org.eclipse.mosaic.fed.mapping.config.CMappingConfiguration;
 import org.eclipse.mosaic.fed.mapping.config.CPrototype;
 import org.eclipse.mosaic.fed.mapping.config.units.CChargingStation;
 import org.eclipse.mosaic.fed.mapping.config.units.CRoadSideUnit;
@@ -37,6 +40,7 @@ import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistrations;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
@@ -59,6 +63,8 @@ import org.mockito.junit.MockitoRule;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tests for {@link SpawningFramework}.
@@ -180,6 +186,97 @@ public class SpawningFrameworkTest {
         verify(rti, times(7)).triggerInteraction(isA(VehicleRegistration.class));
     }
 
+    @Test
+    public void vehicleFlows_singleTimeAdvancePerDeparture() throws InternalFederateException, IllegalValueException {
+        //SETUP
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype"));
+        CVehicle everyThreeSeconds = newSpawner("prototype");
+        everyThreeSeconds.maxNumberVehicles = 3;
+        CVehicle everyTwoSeconds = newSpawner("prototype");
+        everyTwoSeconds.targetFlow = 1800;
+        everyTwoSeconds.maxNumberVehicles = 3;
+        framework.vehicles = Lists.newArrayList(everyThreeSeconds, everyTwoSeconds);
+
+        final List<Long> requestedTimes = new ArrayList<>();
+        doAnswer(invocation -> requestedTimes.add(invocation.getArgument(0))).when(rti).requestAdvanceTime(anyLong());
+
+        //RUN
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        spawningFramework.timeAdvance(0, rti, rng);
+        int processedRequests = 0;
+        while (processedRequests < requestedTimes.size()) {
+            spawningFramework.timeAdvance(requestedTimes.get(processedRequests++), rti, rng);
+        }
+
+        //ASSERT
+        assertEquals(Lists.newArrayList(2 * TIME.SECOND, 3 * TIME.SECOND, 4 * TIME.SECOND, 6 * TIME.SECOND, 9 * TIME.SECOND),
+                requestedTimes);
+        verify(rti, times(6)).triggerInteraction(isA(VehicleRegistration.class));
+    }
+
+    @Test
+    public void vehicleFlows_missedDepartureSpawnedAtCurrentTime() throws InternalFederateException, IllegalValueException {
+        //SETUP
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype"));
+        CVehicle everyThreeSeconds = newSpawner("prototype");
+        everyThreeSeconds.maxNumberVehicles = 3;
+        framework.vehicles = Lists.newArrayList(everyThreeSeconds);
+
+        final List<Long> registrationTimes = new ArrayList<>();
+        doAnswer(invocation -> registrationTimes.add(invocation.<VehicleRegistration>getArgument(0).getTime()))
+                .when(rti).triggerInteraction(isA(VehicleRegistration.class));
+
+        //RUN
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        spawningFramework.timeAdvance(0, rti, rng);
+        // the departure at 3 seconds is missed
+        spawningFramework.timeAdvance(4 * TIME.SECOND, rti, rng);
+        spawningFramework.timeAdvance(6 * TIME.SECOND, rti, rng);
+
+        //ASSERT
+        assertEquals(Lists.newArrayList(0L, 4 * TIME.SECOND, 6 * TIME.SECOND), registrationTimes);
+    }
+
+    @Test
+    public void vehicleFlows_bulkVehicleRegistrationsPerDepartureTime() throws InternalFederateException, IllegalValueException {
+        //SETUP
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.config = new CMappingConfiguration();
+        framework.config.bulkVehicleRegistrations = true;
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype"));
+        CVehicle everyThreeSeconds = newSpawner("prototype");
+        everyThreeSeconds.maxNumberVehicles = 3;
+        CVehicle everyTwoSeconds = newSpawner("prototype");
+        everyTwoSeconds.targetFlow = 1800;
+        everyTwoSeconds.maxNumberVehicles = 4;
+        framework.vehicles = Lists.newArrayList(everyThreeSeconds, everyTwoSeconds);
+
+        final List<Long> requestedTimes = new ArrayList<>();
+        doAnswer(invocation -> requestedTimes.add(invocation.getArgument(0))).when(rti).requestAdvanceTime(anyLong());
+        final List<VehicleRegistrations> bulkRegistrations = new ArrayList<>();
+        doAnswer(invocation -> bulkRegistrations.add(invocation.getArgument(0)))
+                .when(rti).triggerInteraction(isA(VehicleRegistrations.class));
+
+        //RUN
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        spawningFramework.timeAdvance(0, rti, rng);
+        int processedRequests = 0;
+        while (processedRequests < requestedTimes.size()) {
+            spawningFramework.timeAdvance(requestedTimes.get(processedRequests++), rti, rng);
+        }
+
+        //ASSERT
+        // both flows depart at 0 and 6 seconds, single departures at 2, 3, and 4 seconds are sent as plain registrations
+        assertEquals(2, bulkRegistrations.size());
+        assertEquals(0L, bulkRegistrations.get(0).getTime());
+        assertEquals(2, bulkRegistrations.get(0).getRegistrations().size());
+        assertEquals(6 * TIME.SECOND, bulkRegistrations.get(1).getTime());
+        assertEquals(2, bulkRegistrations.get(1).getRegistrations().size());
+        verify(rti, times(3)).triggerInteraction(isA(VehicleRegistration.class));
+    }
+
     private CTrafficManagementCenter newTmc(String prototype) {
         CTrafficManagementCenter trafficManagementCenterConfiguration = new CTrafficManagementCenter();
         trafficManagementCenterConfiguration.name = prototype;
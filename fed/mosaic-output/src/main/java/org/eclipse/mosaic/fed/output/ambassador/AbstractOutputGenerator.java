@@ -23,8 +23,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -117,16 +120,43 @@ public class AbstractOutputGenerator {
                 }
             }
 
+            final MethodHandle handleMethod;
+            try {
+                handleMethod = toHandleMethod(m);
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.warn("Handle method '{}' is not accessible", m.getName(), e);
+                continue;
+            }
             registerInteractionForOutputGeneration(annotatedTypeId, (Interaction interaction) -> {
                 try {
-                    m.invoke(AbstractOutputGenerator.this, interaction);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    log.warn("Could not invoke handle method for method " + interaction.getTypeId(), e.getCause());
+                    handleMethod.invokeExact(interaction);
+                } catch (Exception e) {
+                    log.warn("Could not invoke handle method for method " + interaction.getTypeId(), e);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
                 }
             });
         }
     }
 
+    /**
+     * Converts the given handle method into a method handle bound to this generator, which
+     * avoids any reflective access when interactions are dispatched.
+     */
+    private MethodHandle toHandleMethod(Method m) throws IllegalAccessException {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(m);
+        } catch (IllegalAccessException e) {
+            // e.g. public methods of non-public generator classes
+            m.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(m);
+        }
+        return handle.bindTo(this).asType(MethodType.methodType(void.class, Interaction.class));
+    }
+
     public void finish() {
         //nop
     }
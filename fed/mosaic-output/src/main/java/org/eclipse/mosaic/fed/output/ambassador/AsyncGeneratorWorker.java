@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.ambassador;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Passes interactions to an {@link AbstractOutputGenerator} on a dedicated worker thread. The simulation
+ * thread only enqueues interactions into a bounded single-producer/single-consumer ring, which is drained
+ * by the worker in the same order. If the ring is full, the simulation thread waits until the worker has
+ * freed a slot (backpressure), so that no interaction is lost and memory consumption is bounded.
+ */
+class AsyncGeneratorWorker {
+
+    private final static Logger log = LoggerFactory.getLogger(AsyncGeneratorWorker.class);
+
+    /**
+     * Maximum time the worker or the producer is parked before checking the ring again.
+     */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int SPINS_BEFORE_PARK = 64;
+
+    private final String id;
+    private final AbstractOutputGenerator generator;
+    private final Interaction[] ring;
+    private final int mask;
+
+    /**
+     * Sequence of the next interaction to be handled by the worker.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Sequence of the next interaction to be enqueued by the simulation thread.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private final Thread worker;
+
+    private volatile boolean sleeping = false;
+    private volatile boolean closed = false;
+    private volatile RuntimeException failure;
+
+    /**
+     * Number of times the simulation thread had to wait for a free slot.
+     */
+    private long stalls = 0;
+
+    AsyncGeneratorWorker(String id, AbstractOutputGenerator generator, int queueSize) {
+        this.id = id;
+        this.generator = generator;
+        int capacity = Integer.highestOneBit(Math.max(1, queueSize - 1)) << 1;
+        this.ring = new Interaction[capacity];
+        this.mask = capacity - 1;
+        this.worker = new Thread(this::run, "output-" + id);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Enqueues an interaction to be handled by the output generator. Blocks while the ring is full.
+     *
+     * @param interaction the interaction to handle
+     */
+    void enqueue(Interaction interaction) {
+        checkFailure();
+        final long sequence = tail.get();
+        if (sequence - head.get() >= ring.length) {
+            awaitFreeSlot(sequence);
+        }
+        ring[(int) (sequence & mask)] = interaction;
+        tail.set(sequence + 1);
+        if (sleeping) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void awaitFreeSlot(long sequence) {
+        stalls++;
+        int spins = 0;
+        while (sequence - head.get() >= ring.length) {
+            checkWorkerAlive();
+            if (++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+        }
+    }
+
+    private void run() {
+        while (true) {
+            final boolean isClosed = closed;
+            final long sequence = head.get();
+            if (sequence == tail.get()) {
+                if (isClosed) {
+                    return;
+                }
+                sleeping = true;
+                if (sequence == tail.get() && !closed) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                sleeping = false;
+                continue;
+            }
+
+            final int index = (int) (sequence & mask);
+            final Interaction interaction = ring[index];
+            ring[index] = null;
+            head.set(sequence + 1);
+            try {
+                generator.handleInteraction(interaction);
+            } catch (Throwable e) {
+                // also errors are passed to the simulation thread, which would otherwise wait for a dead worker
+                failure = new RuntimeException("Could not handle interactions in output generator " + id + ": " + e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Throws the failure of the worker, or an exception if the worker has stopped without handling
+     * all enqueued interactions.
+     */
+    private void checkWorkerAlive() {
+        checkFailure();
+        if (!worker.isAlive()) {
+            checkFailure();
+            if (head.get() != tail.get()) {
+                throw new IllegalStateException("Output generator " + id + " stopped unexpectedly");
+            }
+        }
+    }
+
+    /**
+     * Waits until all enqueued interactions have been handled and stops the worker thread.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for output generator " + id, e);
+        }
+        if (stalls > 0) {
+            log.info("Simulation waited {} times for output generator '{}', consider increasing its queue size.", stalls, id);
+        }
+        checkWorkerAlive();
+    }
+}
@@ -34,6 +34,7 @@ public class ConfigHelper {
     private static final int DEFAULT_UPDATE_INTERVAL = 1;
     private static final int DEFAULT_HANDLE_START_TIME = 0;
     private static final int DEFAULT_HANDLE_END_TIME = Integer.MAX_VALUE;
+    private static final int DEFAULT_QUEUE_SIZE = 4096;
 
     /**
      * Load attribute "id" from the given configuration.
@@ -73,6 +74,32 @@ public class ConfigHelper {
         return updateInterval;
     }
 
+    /**
+     * Load attribute "async". If not given, return false by default.
+     *
+     * @param config configuration
+     * @return true, if interactions should be handled by the output generator on its own thread
+     */
+    public static boolean isAsync(HierarchicalConfiguration<?> config) {
+        return config.getBoolean("[@async]", false);
+    }
+
+    /**
+     * Load attribute "queueSize". If not given, return default queue size of 4096.
+     * If the given queue size is invalid, an exception is thrown.
+     *
+     * @param config configuration
+     * @return the maximum number of interactions waiting for an asynchronous output generator
+     * @throws Exception If less than or equal to 0
+     */
+    public static int getQueueSize(HierarchicalConfiguration<?> config) throws Exception {
+        int queueSize = config.getInt("[@queueSize]", DEFAULT_QUEUE_SIZE);
+        if (queueSize <= 0) {
+            throw new Exception("The queue size must be a positive value.");
+        }
+        return queueSize;
+    }
+
     /**
      * Load attribute "start" using helper function {@link #loadAndCheckHandleStartOrEndTime(HierarchicalConfiguration, boolean)}.
      * If not given return default value of 0.
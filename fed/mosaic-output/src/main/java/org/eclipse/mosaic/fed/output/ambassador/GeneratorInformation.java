@@ -34,7 +34,7 @@ class GeneratorInformation {
     private int updateUnitCount;
     private final long handleStartTime;
     private final long handleEndTime;
-
+    private final AsyncGeneratorWorker asyncWorker;
 
     GeneratorInformation(OutputGeneratorLoader config, AbstractOutputGenerator generator, int globalUpdateIntervalInSeconds) {
         this.id = config.getId();
@@ -46,6 +46,7 @@ class GeneratorInformation {
 
         this.handleStartTime = config.getHandleStartTime();
         this.handleEndTime = config.getHandleEndTime();
+        this.asyncWorker = config.isAsync() ? new AsyncGeneratorWorker(id, generator, config.getQueueSize()) : null;
         reloadUpdateUnitCount();
     }
 
@@ -113,7 +114,31 @@ class GeneratorInformation {
     }
 
     void processNextInteraction() {
-        generator.handleInteraction(interactionQueue.poll());
+        handleInteraction(interactionQueue.poll());
+    }
+
+    /**
+     * Passes the interaction to the output generator, either directly or,
+     * if the generator is asynchronous, by enqueuing it for its worker thread.
+     *
+     * @param interaction the interaction to handle
+     */
+    void handleInteraction(Interaction interaction) {
+        if (asyncWorker != null) {
+            asyncWorker.enqueue(interaction);
+        } else {
+            generator.handleInteraction(interaction);
+        }
+    }
+
+    /**
+     * Waits until an asynchronous output generator has handled all enqueued interactions, and finishes the generator.
+     */
+    void finish() {
+        if (asyncWorker != null) {
+            asyncWorker.close();
+        }
+        generator.finish();
     }
 
     boolean hasNextInteraction() {
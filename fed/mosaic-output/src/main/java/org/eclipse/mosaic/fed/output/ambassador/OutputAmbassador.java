@@ -15,7 +15,11 @@
 
 package org.eclipse.mosaic.fed.output.ambassador;
 
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistrations;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.lib.math.MathUtils;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.lib.util.XmlUtils;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
@@ -70,6 +74,12 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
      */
     private static final String XML_TAG_OUTPUT = "output";
 
+    /**
+     * Reconstructs full vehicle data from received {@link VehicleDeltaUpdates}, which are
+     * passed to the output generators as regular {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates}.
+     */
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
     public OutputAmbassador(AmbassadorParameter ambassadorParameter) {
         super(ambassadorParameter);
     }
@@ -188,6 +198,17 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void processInteraction(Interaction interaction) {
+        if (interaction.getTypeId().equals(VehicleRegistrations.TYPE_ID)) {
+            // output generators handle each registration on its own
+            for (VehicleRegistration vehicleRegistration : ((VehicleRegistrations) interaction).getRegistrations()) {
+                processInteraction(vehicleRegistration);
+            }
+            return;
+        }
+        if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+            interaction = ((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder);
+        }
+
         String type = interaction.getTypeId();
         long interactionTime = interaction.getTime();
         log.trace("Process interaction with type '{}' at time: {}", type, interactionTime);
@@ -199,7 +220,7 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
             if (generator.isInteractionRelevant(type, interactionTime)) {
                 if (generator.getUpdateUnitCount() == 0) {
                     //handle interaction immediately if no update interval is set
-                    generator.getGenerator().handleInteraction(interaction);
+                    generator.handleInteraction(interaction);
                 } else {
                     generator.addInteraction(interaction);
 
@@ -217,7 +238,7 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
             for (GeneratorInformation generator : this.generators.values()) {
                 flushInteractionsForOutputGenerator(generator);
-                generator.getGenerator().finish();
+                generator.finish();
             }
         } catch (Exception e) {
             throw new InternalFederateException(e);
@@ -36,6 +36,8 @@ public abstract class OutputGeneratorLoader {
     private int updateInterval;
     private long handleStartTime;
     private long handleEndTime;
+    private boolean async;
+    private int queueSize;
     private Collection<String> interactionTypes;
     private File configurationDirectory;
 
@@ -84,6 +86,24 @@ public abstract class OutputGeneratorLoader {
         return handleEndTime;
     }
 
+    /**
+     * Returns whether interactions are passed to the output generator on its own thread.
+     *
+     * @return <code>true</code>, if the output generator runs asynchronously to the simulation
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Returns the maximum number of interactions waiting to be handled by an asynchronous output generator.
+     *
+     * @return the queue size of the output generator
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
     /**
      * Returns a collection of supported interaction types.
      *
@@ -115,6 +135,8 @@ public abstract class OutputGeneratorLoader {
         this.updateInterval = ConfigHelper.getUpdateInterval(config);
         this.handleStartTime = ConfigHelper.getHandleStartTime(config);
         this.handleEndTime = ConfigHelper.getHandleEndTime(config);
+        this.async = ConfigHelper.isAsync(config);
+        this.queueSize = ConfigHelper.getQueueSize(config);
         this.interactionTypes = ConfigHelper.getSubscriptions(config);
         this.configurationDirectory = configurationDirectory;
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file;
+
+import org.eclipse.mosaic.fed.output.ambassador.AbstractOutputGenerator;
+import org.eclipse.mosaic.fed.output.ambassador.Handle;
+import org.eclipse.mosaic.fed.output.generator.file.format.ExtendedMethodSet;
+import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
+import org.eclipse.mosaic.fed.output.generator.file.trace.TraceColumnType;
+import org.eclipse.mosaic.fed.output.generator.file.trace.TraceWriter;
+import org.eclipse.mosaic.interactions.communication.V2xMessageRemoval;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the same values as the {@link FileOutput} into a binary columnar trace using the {@link TraceWriter},
+ * which can be read again using the {@link org.eclipse.mosaic.fed.output.generator.file.trace.TraceReader}.
+ * Each subscription is written into its own table, named by the interaction type, followed by
+ * "#" and the index of the subscription if several subscriptions exist for the same interaction type.
+ * The column names equal the configured entries, the types of the columns are derived from the return
+ * types of the configured methods. Rows holding values which do not match the type of their column are
+ * rejected by the {@link TraceWriter} and logged. Failures when writing the trace are propagated, as the trace
+ * would be incomplete otherwise.
+ */
+public class BinaryFileOutput extends AbstractOutputGenerator {
+
+    private final static Logger log = LoggerFactory.getLogger(BinaryFileOutput.class);
+
+    private final TraceWriter traceWriter;
+
+    private final InteractionFormatter interactionFormatter;
+
+    /**
+     * The identifiers of the tables of each definition for each interaction type.
+     */
+    private final Map<String, int[]> tableIds = new HashMap<>();
+
+    /**
+     * The first failure when writing the trace, which is thrown again when finishing the output.
+     */
+    private UncheckedIOException writeFailure;
+
+    public BinaryFileOutput(TraceWriter traceWriter, InteractionFormatter interactionFormatter) {
+        this.traceWriter = traceWriter;
+        this.interactionFormatter = interactionFormatter;
+
+        for (String interactionType : interactionFormatter.getInteractionTypes()) {
+            final int definitions = interactionFormatter.getDefinitionCount(interactionType);
+            final int[] ids = new int[definitions];
+            for (int definition = 0; definition < definitions; definition++) {
+                List<TraceColumnType> columnTypes = interactionFormatter.getColumnTypes(interactionType, definition)
+                        .stream().map(TraceColumnType::of).toList();
+                ids[definition] = traceWriter.addTable(
+                        definitions > 1 ? interactionType + "#" + definition : interactionType,
+                        interactionFormatter.getColumnNames(interactionType, definition),
+                        columnTypes
+                );
+            }
+            tableIds.put(interactionType, ids);
+        }
+    }
+
+    @Handle
+    public void visualizeInteraction(V2xMessageTransmission interaction) {
+        ExtendedMethodSet.putV2xMessage(interaction.getMessage());
+        visualize(interaction);
+    }
+
+    @Handle
+    public void visualizeInteraction(V2xMessageRemoval interaction) {
+        interaction.getRemovedMessageIds().forEach(ExtendedMethodSet::deleteV2xMessage);
+        visualize(interaction);
+    }
+
+    @Override
+    public void handleUnregisteredInteraction(Interaction interaction) {
+        visualize(interaction);
+    }
+
+    private void visualize(Interaction interaction) {
+        final int[] ids = tableIds.get(interaction.getClass().getSimpleName());
+        if (ids == null) {
+            return;
+        }
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+        try {
+            interactionFormatter.forEachRow(interaction, (definition, values) -> {
+                try {
+                    traceWriter.writeRow(ids[definition], interaction.getTime(), values);
+                } catch (IOException e) {
+                    writeFailure = new UncheckedIOException("Could not write binary file output", e);
+                    throw writeFailure;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Could not visualize message '{}': {}", interaction.getTypeId(), e.getMessage());
+            log.debug("", e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            this.traceWriter.close();
+        } catch (IOException e) {
+            log.error("Could not close binary file output", e);
+            throw new UncheckedIOException("Could not close binary file output", e);
+        }
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+}
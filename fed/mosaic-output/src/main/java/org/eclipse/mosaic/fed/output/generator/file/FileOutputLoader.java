@@ -19,6 +19,7 @@ import org.eclipse.mosaic.fed.output.ambassador.AbstractOutputGenerator;
 import org.eclipse.mosaic.fed.output.ambassador.ConfigHelper;
 import org.eclipse.mosaic.fed.output.ambassador.OutputGeneratorLoader;
 import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
+import org.eclipse.mosaic.fed.output.generator.file.trace.TraceWriter;
 import org.eclipse.mosaic.fed.output.generator.file.write.Write;
 import org.eclipse.mosaic.fed.output.generator.file.write.WriteByFile;
 import org.eclipse.mosaic.fed.output.generator.file.write.WriteByFileCompress;
@@ -49,16 +50,21 @@ public class FileOutputLoader extends OutputGeneratorLoader {
     private static final String DECIMAL_SEPARATOR = "decimalSeparator";
     private static final String WRITE = "write";
     private static final String APPEND = "append";
+    private static final String BLOCK_SIZE = "blockSize";
 
     /* Configuration values */
     private static final String WRITE_BY_FILE = "file";
     private static final String WRITE_BY_FILE_COMPRESS = "file+compress";
     private static final String WRITE_BY_LOG = "log";
+    private static final String WRITE_BY_BINARY = "binary";
+    private static final String WRITE_BY_BINARY_COMPRESS = "binary+compress";
     private static final String WRITE_BY_DEFAULT = WRITE_BY_LOG;
     private static final boolean APPEND_DEFAULT = true;
     private static final String DIR_DEFAULT = ".";
+    private static final int BLOCK_SIZE_DEFAULT = 4096;
 
     private Write writer;
+    private TraceWriter traceWriter;
     private InteractionFormatter interactionFormatter;
 
     @Override
@@ -73,8 +79,15 @@ public class FileOutputLoader extends OutputGeneratorLoader {
     @Override
     public void configure(HierarchicalConfiguration<ImmutableNode> config) {
         try {
-            this.writer = this.getWrite(config);
             this.interactionFormatter = this.createInteractionFormatter(config);
+            String write = config.getString(WRITE, WRITE_BY_DEFAULT);
+            if (write.equals(WRITE_BY_BINARY) || write.equals(WRITE_BY_BINARY_COMPRESS)) {
+                this.traceWriter = new TraceWriter(
+                        getOutputFile(config), config.getInt(BLOCK_SIZE, BLOCK_SIZE_DEFAULT), write.equals(WRITE_BY_BINARY_COMPRESS)
+                );
+            } else {
+                this.writer = this.getWrite(config);
+            }
         } catch (Exception e) {
             log.error("Exception", e);
             throw new RuntimeException("Caused by OutputGenerator " + getId(), e);
@@ -126,18 +139,10 @@ public class FileOutputLoader extends OutputGeneratorLoader {
      */
     private Write getWrite(HierarchicalConfiguration<ImmutableNode> sub) throws IOException {
         Write ret;
-        String fileName = sub.getString(FILE_NAME);
-        String dir = loggerDirectory() + File.separator
-                + sub.getString(DIR, DIR_DEFAULT);
         String write = sub.getString(WRITE, WRITE_BY_DEFAULT);
         boolean append = sub.getBoolean(APPEND, APPEND_DEFAULT);
 
-        File d = new File(dir);
-        if (!d.exists() && !d.mkdirs()) {
-            log.warn("Could not create directory in {}", dir);
-        }
-
-        File outputFile = new File(dir + File.separator + fileName);
+        File outputFile = getOutputFile(sub);
 
         ret = switch (write) {
             case WRITE_BY_LOG -> new WriteByLog(outputFile, append);
@@ -148,8 +153,30 @@ public class FileOutputLoader extends OutputGeneratorLoader {
         return ret;
     }
 
+    /**
+     * Returns the output file according to dir and file name, and creates its directory if required.
+     *
+     * @param sub sub-configuration
+     * @return the output file
+     */
+    private File getOutputFile(HierarchicalConfiguration<ImmutableNode> sub) {
+        String fileName = sub.getString(FILE_NAME);
+        String dir = loggerDirectory() + File.separator
+                + sub.getString(DIR, DIR_DEFAULT);
+
+        File d = new File(dir);
+        if (!d.exists() && !d.mkdirs()) {
+            log.warn("Could not create directory in {}", dir);
+        }
+
+        return new File(dir + File.separator + fileName);
+    }
+
     @Override
     public AbstractOutputGenerator createOutputGenerator() {
+        if (this.traceWriter != null) {
+            return new BinaryFileOutput(this.traceWriter, this.getInteractionFormatter());
+        }
         return new FileOutput(this.writer, this.getInteractionFormatter());
     }
 }
@@ -24,11 +24,14 @@ import org.eclipse.mosaic.rti.api.Interaction;
 
 import java.util.Objects;
 import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class ExtendedMethodSet {
 
-    private final static SortedMap<Integer, V2xMessage> V2X_MESSAGES = new TreeMap<>();
+    /**
+     * Messages of all file outputs, which may run on different threads if configured as asynchronous.
+     */
+    private final static SortedMap<Integer, V2xMessage> V2X_MESSAGES = new ConcurrentSkipListMap<>();
 
     public static void deleteV2xMessage(int messageId) {
         V2X_MESSAGES.remove(messageId);
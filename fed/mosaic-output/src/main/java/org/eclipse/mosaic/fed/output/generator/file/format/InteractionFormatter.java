@@ -33,6 +33,12 @@ public class InteractionFormatter {
      */
     private final Map<String, ArrayList<MethodManager>> methodManagers;
 
+    /**
+     * Reused buffer for formatting interactions. Hence, an {@link InteractionFormatter}
+     * must only be used by one thread at a time.
+     */
+    private final StringBuilder result = new StringBuilder();
+
     /**
      * Construct an InteractionFormatter according to its separator, the pairs of
      * message types and their definitions. The definition for all interaction types
@@ -80,11 +86,72 @@ public class InteractionFormatter {
     public String format(Interaction interaction) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
         String messageName = interaction.getClass().getSimpleName();
 
-        StringBuilder res = new StringBuilder();
+        result.setLength(0);
         for (MethodManager methodManager : this.methodManagers.get(messageName)) {
-            res.append(methodManager.format(interaction));
+            methodManager.format(interaction, result);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the number of definitions (i.e. subscriptions) for the given interaction type.
+     *
+     * @param interactionType the simple class name of the interaction
+     * @return number of definitions
+     */
+    public int getDefinitionCount(String interactionType) {
+        return this.methodManagers.getOrDefault(interactionType, new ArrayList<>()).size();
+    }
+
+    /**
+     * Returns the column names of a definition, which are the method definitions as given in the configuration.
+     *
+     * @param interactionType the simple class name of the interaction
+     * @param definition      the index of the definition of this interaction type
+     * @return column names of the definition
+     */
+    public List<String> getColumnNames(String interactionType, int definition) {
+        return this.methodManagers.get(interactionType).get(definition).getColumnNames();
+    }
+
+    /**
+     * Returns the types of the values of each column of a definition. Constant
+     * values are of type {@link String}, primitive types are not boxed.
+     *
+     * @param interactionType the simple class name of the interaction
+     * @param definition      the index of the definition of this interaction type
+     * @return column types of the definition
+     */
+    public List<Class<?>> getColumnTypes(String interactionType, int definition) {
+        return this.methodManagers.get(interactionType).get(definition).getColumnTypes();
+    }
+
+    /**
+     * Passes the unformatted values of each line of the given interaction to the consumer, as they would
+     * be formatted by {@link #format(Interaction)}. The array of values is reused for each line.
+     *
+     * @param interaction interaction
+     * @param consumer    consumer of the index of the definition and the values of each line
+     */
+    public void forEachRow(Interaction interaction, RowConsumer consumer)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        List<MethodManager> managers = this.methodManagers.get(interaction.getClass().getSimpleName());
+        for (int i = 0; i < managers.size(); i++) {
+            final int definition = i;
+            managers.get(i).forEachRow(interaction, row -> consumer.accept(definition, row));
         }
-        return res.toString();
+    }
+
+    /**
+     * Consumer of the values of one line of a formatted interaction.
+     */
+    public interface RowConsumer {
+
+        /**
+         * @param definition the index of the definition of the interaction type
+         * @param values     the values of each column, which must not be retained
+         */
+        void accept(int definition, Object[] values);
     }
 
     /**
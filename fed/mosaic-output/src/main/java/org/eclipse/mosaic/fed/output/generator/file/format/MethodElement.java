@@ -23,23 +23,37 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * A {@link MethodElement} defines a specific method, including the name
  * of the method to be called and from which level of the iterate
  * structure (That means, within an iterate, there can be another
  * embedded iterate.) comes the object, to which the method belongs.
+ * All methods are resolved to {@link MethodHandle}s once when the element is created,
+ * hence, no reflective lookup or invocation is required when formatting interactions.
  */
 class MethodElement {
 
     private final Logger log = LoggerFactory.getLogger(FileOutputLoader.class);
 
+    /**
+     * Type of all method handles in {@link #accessorList}, i.e. {@code Object accessor(Object declaringObject)}.
+     */
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
     /**
      * The iteration level of the object, to which the method belongs.
      */
@@ -48,8 +62,15 @@ class MethodElement {
     private final String constantValue;
 
     private ArrayList<Method> methodList;
+    private ArrayList<MethodHandle> accessorList;
     private ArrayList<Filter> filterList;
 
+    /**
+     * Accessors of the {@link ExtendedMethodSet}, which are used if a basic method returns <code>null</code>,
+     * for each method of the chain and each class of the declaring object.
+     */
+    private ArrayList<Map<Class<?>, Optional<MethodHandle>>> extendedAccessorList;
+
     /**
      * Constructs a method element with sanity checking.
      *
@@ -88,6 +109,8 @@ class MethodElement {
         }
 
         this.methodList = new ArrayList<>();
+        this.accessorList = new ArrayList<>();
+        this.extendedAccessorList = new ArrayList<>();
         this.filterList = new ArrayList<>();
 
         for (int i = 0, begin = 0, end = methods.indexOf("."); begin != -1; i++) {
@@ -116,6 +139,8 @@ class MethodElement {
                 );
             }
             this.methodList.add(m);
+            this.accessorList.add(toAccessor(m));
+            this.extendedAccessorList.add(new HashMap<>());
             cl = m.getReturnType();
 
             for (String filterDef : filterDefs.split(",")) {
@@ -126,6 +151,26 @@ class MethodElement {
         }
     }
 
+    /**
+     * Converts the given getter, or static method of the {@link ExtendedMethodSet}, into a method handle
+     * of the type {@link #ACCESSOR_TYPE}.
+     */
+    private static MethodHandle toAccessor(Method method) throws NoSuchMethodException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException e) {
+            // e.g. public methods declared in non-public classes
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+            } catch (IllegalAccessException | RuntimeException e1) {
+                NoSuchMethodException ex = new NoSuchMethodException("Method(" + method.getName() + ") is not accessible");
+                ex.initCause(e1);
+                throw ex;
+            }
+        }
+    }
+
     /**
      * Returns method from class.
      *
@@ -165,6 +210,32 @@ class MethodElement {
         return m;
     }
 
+    /**
+     * Returns the type of the values returned by {@link #invoke(List)}, i.e. {@link String} for
+     * constants, or the return type of the last method of the chain otherwise. If the last method
+     * may fall back to a method of the {@link ExtendedMethodSet} returning another type,
+     * {@link Object} is returned.
+     *
+     * @return the type of the returned values, or <code>null</code> if the element has not been initialized
+     */
+    Class<?> getValueType() {
+        if (constantValue != null) {
+            return String.class;
+        }
+        if (methodList == null || methodList.isEmpty()) {
+            return null;
+        }
+        final Method method = methodList.get(methodList.size() - 1);
+        if (method.getDeclaringClass() != ExtendedMethodSet.class) {
+            for (Method extendedMethod : ExtendedMethodSet.class.getMethods()) {
+                if (extendedMethod.getName().equals(method.getName()) && extendedMethod.getReturnType() != method.getReturnType()) {
+                    return Object.class;
+                }
+            }
+        }
+        return method.getReturnType();
+    }
+
     /**
      * Return the component Class of iteration.
      * If the return type of the method isn't Collection, then return null;
@@ -221,38 +292,24 @@ class MethodElement {
             return null;
         }
 
-        Class<?> declareClass = declareObj.getClass();
-
         // cascaded method
-        for (Method m : methodList) {
-            String simpleName = m.getName();
+        for (int i = 0; i < accessorList.size(); i++) {
+            ret = invokeAccessor(accessorList.get(i), declareObj);
 
-            // extended method
-            if (m.getDeclaringClass() == ExtendedMethodSet.class) {
-                ret = m.invoke(null, declareObj);
-            } else {
-                // basic method
-                ret = m.invoke(declareObj);
-
-                // if basic method returns null, then try the extended method
-                if (ret == null) {
-                    for (Class<?> c = declareClass; c != null; c = c.getSuperclass()) {
-                        try {
-                            Method extMet = ExtendedMethodSet.class.getMethod(simpleName, c);
-                            ret = extMet.invoke(null, declareObj);
-                        } catch (NoSuchMethodException e) {
-                            //be quiet as we try until we find something suitable
-                        } catch (Exception e) {
-                            log.debug("Exception occurred", e);
-                        }
+            // if basic method returns null, then try the extended method
+            if (ret == null && methodList.get(i).getDeclaringClass() != ExtendedMethodSet.class) {
+                MethodHandle extendedAccessor = getExtendedAccessor(i, declareObj.getClass());
+                if (extendedAccessor != null) {
+                    try {
+                        ret = invokeAccessor(extendedAccessor, declareObj);
+                    } catch (Exception e) {
+                        log.debug("Exception occurred", e);
                     }
                 }
             }
 
             declareObj = ret;
-            if (declareObj != null) {
-                declareClass = declareObj.getClass();
-            } else {
+            if (declareObj == null) {
                 // if a null object is returned, then stop invoking remaining methods
                 return null;
             }
@@ -261,6 +318,38 @@ class MethodElement {
         return ret;
     }
 
+    private static Object invokeAccessor(MethodHandle accessor, Object declareObj) throws InvocationTargetException {
+        try {
+            return (Object) accessor.invokeExact(declareObj);
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Looks up the method of the {@link ExtendedMethodSet} with the same name as the basic method at the
+     * given index, which accepts the given class or one of its super classes. The result is cached per class.
+     */
+    private MethodHandle getExtendedAccessor(int methodIndex, Class<?> declareClass) {
+        return extendedAccessorList.get(methodIndex).computeIfAbsent(declareClass, c -> {
+            String simpleName = methodList.get(methodIndex).getName();
+            MethodHandle extendedAccessor = null;
+            // the most general matching method is used, as it was done when looking up the method for each invocation
+            for (Class<?> cl = c; cl != null; cl = cl.getSuperclass()) {
+                try {
+                    extendedAccessor = toAccessor(ExtendedMethodSet.class.getMethod(simpleName, cl));
+                } catch (NoSuchMethodException e) {
+                    //be quiet as we try until we find something suitable
+                }
+            }
+            return Optional.ofNullable(extendedAccessor);
+        }).orElse(null);
+    }
+
     public boolean isAcceptedByFilter(final List<Object> objList) {
         if (constantValue != null) {
             return true;
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 /**
  * A MethodManager saves the methods to be used for visualizing interactions
@@ -47,6 +48,11 @@ class MethodManager {
      */
     private final List<MethodElement> outputMethods = new ArrayList<>();
 
+    /**
+     * The method definitions of all output methods, as given in the configuration.
+     */
+    private final List<String> outputDefinitions;
+
     /**
      * Constructs a MethodManager.
      *
@@ -66,6 +72,7 @@ class MethodManager {
         decimalFormat.setGroupingUsed(false); // disable grouping when using custom separator to prevent issues
 
         final List<String> methods = new ArrayList<>(methodsDefinitions);
+        this.outputDefinitions = new ArrayList<>(methodsDefinitions);
 
         final List<Integer> objLevels = new ArrayList<>();
         final List<Class<?>> objClasses = new ArrayList<>();
@@ -132,17 +139,34 @@ class MethodManager {
         }
     }
 
+    /**
+     * Reused list of the objects of each iteration level, the first element is the interaction itself.
+     */
+    private final List<Object> itObjects = new ArrayList<>();
+
     public String format(Interaction interaction) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
-        List<Object> itObjects = new ArrayList<>();
-        itObjects.add(interaction);
-        return format(itObjects, 0);
+        StringBuilder result = new StringBuilder();
+        format(interaction, result);
+        return result.toString();
     }
 
-    private String format(List<Object> itObjects, int level) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
-        StringBuilder result = new StringBuilder();
+    /**
+     * Appends the formatted interaction to the given {@link StringBuilder}.
+     *
+     * @param interaction the interaction to format
+     * @param result      the builder to append the formatted lines to
+     */
+    void format(Interaction interaction, StringBuilder result) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        itObjects.clear();
+        itObjects.add(interaction);
+        format(itObjects, 0, result);
+    }
 
+    private void format(List<Object> itObjects, int level, StringBuilder result)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
         if (level == this.iterationMethods.size()) {
             // output method
+            final int lineStart = result.length();
             MethodElement outputMethod;
             for (int i = 0; i < this.outputMethods.size(); i++) {
                 outputMethod = this.outputMethods.get(i);
@@ -156,7 +180,9 @@ class MethodManager {
                 }
                 result.append(i == this.outputMethods.size() - 1 ? LINE_SEPARATOR : this.separator); // add separator or linebreak
                 if (!outputMethod.isAcceptedByFilter(itObjects)) {
-                    return "";
+                    // discard the whole line
+                    result.setLength(lineStart);
+                    return;
                 }
             }
         } else {
@@ -167,17 +193,78 @@ class MethodManager {
 
             if (c == null) {
                 itObjects.set(level + 1, null);
-                result.append(format(itObjects, level + 1));
+                format(itObjects, level + 1, result);
             } else {
                 for (Object element : c) {
                     itObjects.set(level + 1, element);
-                    result.append(format(itObjects, level + 1));
+                    format(itObjects, level + 1, result);
                 }
             }
             itObjects.remove(level);
         }
+    }
 
-        return result.toString();
+    /**
+     * Returns the method definitions of all output methods, which are the names of the columns.
+     */
+    List<String> getColumnNames() {
+        return outputDefinitions;
+    }
+
+    /**
+     * Returns the type of values of each output method.
+     */
+    List<Class<?>> getColumnTypes() {
+        List<Class<?>> columnTypes = new ArrayList<>(outputMethods.size());
+        for (MethodElement outputMethod : outputMethods) {
+            columnTypes.add(outputMethod.getValueType());
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Passes the unformatted values of each output line of the given interaction to the consumer,
+     * omitting lines which are not accepted by the filters. The array passed to the consumer is
+     * reused for each line.
+     *
+     * @param interaction the interaction to read the values from
+     * @param consumer    the consumer of the values of each line
+     */
+    void forEachRow(Interaction interaction, Consumer<Object[]> consumer)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        itObjects.clear();
+        itObjects.add(interaction);
+        forEachRow(itObjects, 0, new Object[outputMethods.size()], consumer);
+    }
+
+    private void forEachRow(List<Object> itObjects, int level, Object[] row, Consumer<Object[]> consumer)
+            throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        if (level == this.iterationMethods.size()) {
+            for (int i = 0; i < this.outputMethods.size(); i++) {
+                MethodElement outputMethod = this.outputMethods.get(i);
+                row[i] = outputMethod.invoke(itObjects);
+                if (!outputMethod.isAcceptedByFilter(itObjects)) {
+                    return;
+                }
+            }
+            consumer.accept(row);
+        } else {
+            // same iteration as in format()
+            Collection<?> c = (Collection<?>) this.iterationMethods.get(level).invoke(itObjects);
+
+            itObjects.add(null);
+
+            if (c == null) {
+                itObjects.set(level + 1, null);
+                forEachRow(itObjects, level + 1, row, consumer);
+            } else {
+                for (Object element : c) {
+                    itObjects.set(level + 1, element);
+                    forEachRow(itObjects, level + 1, row, consumer);
+                }
+            }
+            itObjects.remove(level);
+        }
     }
 
     private String getIterationMethodName(String method) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.trace;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A block of rows of one table of a binary trace, which provides random access to its values.
+ * The values are read directly from the memory-mapped trace file, unless the block is compressed.
+ */
+public class TraceBlock {
+
+    private final ByteBuffer payload;
+    private final int rowCount;
+    private final TraceColumnType[] columnTypes;
+    private final int[] columnOffsets;
+    private final List<String> dictionary;
+
+    TraceBlock(ByteBuffer payload, int rowCount, TraceColumnType[] columnTypes, List<String> dictionary) {
+        this.payload = payload;
+        this.rowCount = rowCount;
+        this.columnTypes = columnTypes;
+        this.dictionary = dictionary;
+        this.columnOffsets = new int[columnTypes.length];
+        int offset = rowCount * Long.BYTES;
+        for (int column = 0; column < columnTypes.length; column++) {
+            columnOffsets[column] = offset;
+            offset += rowCount * columnTypes[column].width;
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the simulation time of the given row.
+     */
+    public long getTime(int row) {
+        return payload.getLong(row * Long.BYTES);
+    }
+
+    /**
+     * Returns the value of a {@link TraceColumnType#LONG} column, or {@link TraceColumnType#NULL_LONG} if no value is present.
+     */
+    public long getLong(int column, int row) {
+        checkType(column, TraceColumnType.LONG);
+        return payload.getLong(columnOffsets[column] + row * Long.BYTES);
+    }
+
+    /**
+     * Returns the value of a {@link TraceColumnType#DOUBLE} column, or {@link Double#NaN} if no value is present.
+     */
+    public double getDouble(int column, int row) {
+        checkType(column, TraceColumnType.DOUBLE);
+        return payload.getDouble(columnOffsets[column] + row * Double.BYTES);
+    }
+
+    /**
+     * Returns the value of a {@link TraceColumnType#STRING} column, or <code>null</code> if no value is present.
+     */
+    public String getString(int column, int row) {
+        checkType(column, TraceColumnType.STRING);
+        int index = payload.getInt(columnOffsets[column] + row * Integer.BYTES);
+        return index == TraceColumnType.NULL_STRING ? null : dictionary.get(index);
+    }
+
+    /**
+     * Returns the value of any column as {@link Long}, {@link Double}, or {@link String},
+     * or <code>null</code> if no value is present.
+     */
+    public Object getValue(int column, int row) {
+        switch (columnTypes[column]) {
+            case LONG: {
+                long value = getLong(column, row);
+                return value == TraceColumnType.NULL_LONG ? null : value;
+            }
+            case DOUBLE: {
+                double value = getDouble(column, row);
+                return Double.isNaN(value) ? null : value;
+            }
+            default:
+                return getString(column, row);
+        }
+    }
+
+    private void checkType(int column, TraceColumnType expected) {
+        if (columnTypes[column] != expected) {
+            throw new IllegalArgumentException("Column " + column + " is of type " + columnTypes[column] + ", not " + expected);
+        }
+    }
+}
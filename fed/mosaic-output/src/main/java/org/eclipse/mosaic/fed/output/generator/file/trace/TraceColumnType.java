@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.trace;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Types of the columns of a binary trace. Each value is stored with a fixed width.
+ */
+public enum TraceColumnType {
+    /**
+     * Integral numbers and booleans (as 0 or 1), stored as 8 byte integers.
+     * Missing values are stored as {@link #NULL_LONG}.
+     */
+    LONG(Long.BYTES),
+    /**
+     * Floating-point numbers, stored as 8 byte doubles. Missing values are stored as {@link Double#NaN}.
+     */
+    DOUBLE(Double.BYTES),
+    /**
+     * Any other values, stored as 4 byte index of its string representation in the dictionary of the trace.
+     * Missing values are stored as {@link #NULL_STRING}.
+     */
+    STRING(Integer.BYTES);
+
+    public static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_STRING = -1;
+
+    final int width;
+
+    TraceColumnType(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Returns the column type to store values of the given class.
+     *
+     * @param valueClass the class of the values, may be primitive
+     * @return the column type
+     */
+    public static TraceColumnType of(Class<?> valueClass) {
+        if (valueClass == null) {
+            return STRING;
+        }
+        Class<?> type = ClassUtils.primitiveToWrapper(valueClass);
+        if (type == Double.class || type == Float.class) {
+            return DOUBLE;
+        }
+        if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || type == Boolean.class) {
+            return LONG;
+        }
+        return STRING;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.trace;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads binary trace files written by the {@link TraceWriter}. Blocks are memory-mapped when they are scanned,
+ * and blocks which do not overlap the requested time range are skipped by using the index in the footer of
+ * the trace, without touching their data at all.
+ *
+ * <pre>
+ * try (TraceReader reader = new TraceReader(path)) {
+ *     int speed = reader.getColumnNames("VehicleUpdates").indexOf("Updated:Speed");
+ *     reader.scanRows("VehicleUpdates", 10 * TIME.SECOND, 20 * TIME.SECOND,
+ *             (block, row) -> System.out.println(block.getTime(row) + ": " + block.getDouble(speed, row)));
+ * }
+ * </pre>
+ */
+public class TraceReader implements Closeable {
+
+    private final FileChannel channel;
+    private final Map<String, TableInfo> tables = new LinkedHashMap<>();
+    private final List<String> dictionary;
+
+    /**
+     * Opens the given trace file and reads its footer.
+     *
+     * @param traceFile the trace file to read
+     * @throws IOException if the file could not be opened or is no complete trace file
+     */
+    public TraceReader(Path traceFile) throws IOException {
+        this.channel = FileChannel.open(traceFile, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+            ByteBuffer trailer = ByteBuffer.allocate(TraceWriter.TRAILER_SIZE);
+            if (size < header.capacity() + trailer.capacity()) {
+                throw new StreamCorruptedException("Invalid trace file " + traceFile);
+            }
+            readFully(header, 0);
+            if (header.getLong(0) != TraceWriter.MAGIC || header.getInt(Long.BYTES) != TraceWriter.VERSION) {
+                throw new StreamCorruptedException("Unsupported trace file " + traceFile);
+            }
+            readFully(trailer, size - TraceWriter.TRAILER_SIZE);
+            if (trailer.getLong(Long.BYTES) != TraceWriter.MAGIC) {
+                throw new StreamCorruptedException("Incomplete trace file " + traceFile);
+            }
+            final long footerOffset = trailer.getLong(0);
+            this.dictionary = readFooter(footerOffset, size - TraceWriter.TRAILER_SIZE - footerOffset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new StreamCorruptedException("Unexpected end of trace file");
+            }
+        }
+    }
+
+    private List<String> readFooter(long offset, long length) throws IOException {
+        ByteBuffer footerBuffer = ByteBuffer.allocate(Math.toIntExact(length));
+        readFully(footerBuffer, offset);
+        DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBuffer.array()));
+
+        final List<TableInfo> tableList = new ArrayList<>();
+        final int tableCount = footer.readInt();
+        for (int i = 0; i < tableCount; i++) {
+            String name = readString(footer);
+            int columnCount = footer.readInt();
+            List<String> columnNames = new ArrayList<>(columnCount);
+            TraceColumnType[] columnTypes = new TraceColumnType[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                columnNames.add(readString(footer));
+                columnTypes[column] = TraceColumnType.values()[footer.readByte()];
+            }
+            TableInfo table = new TableInfo(Collections.unmodifiableList(columnNames), columnTypes, new ArrayList<>());
+            tableList.add(table);
+            tables.put(name, table);
+        }
+
+        final int dictionarySize = footer.readInt();
+        final List<String> values = new ArrayList<>(dictionarySize);
+        for (int i = 0; i < dictionarySize; i++) {
+            values.add(readString(footer));
+        }
+
+        final int blockCount = footer.readInt();
+        for (int i = 0; i < blockCount; i++) {
+            TraceWriter.BlockInfo block = new TraceWriter.BlockInfo(
+                    footer.readInt(), footer.readLong(), footer.readInt(), footer.readLong(), footer.readLong()
+            );
+            tableList.get(block.table()).blocks.add(block);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private static String readString(DataInputStream footer) throws IOException {
+        final int length = footer.readInt();
+        if (length < 0 || length > footer.available()) {
+            throw new StreamCorruptedException("Invalid string length " + length + " in trace footer");
+        }
+        final byte[] bytes = new byte[length];
+        footer.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the names of all tables in the trace.
+     */
+    public List<String> getTableNames() {
+        return new ArrayList<>(tables.keySet());
+    }
+
+    /**
+     * Returns the names of the columns of the given table, without the implicit time column.
+     */
+    public List<String> getColumnNames(String table) {
+        return getTable(table).columnNames;
+    }
+
+    /**
+     * Returns the types of the columns of the given table.
+     */
+    public List<TraceColumnType> getColumnTypes(String table) {
+        return List.of(getTable(table).columnTypes);
+    }
+
+    /**
+     * Returns the total number of rows of the given table.
+     */
+    public long getRowCount(String table) {
+        long rows = 0;
+        for (TraceWriter.BlockInfo block : getTable(table).blocks) {
+            rows += block.rowCount();
+        }
+        return rows;
+    }
+
+    private TableInfo getTable(String table) {
+        TableInfo tableInfo = tables.get(table);
+        if (tableInfo == null) {
+            throw new IllegalArgumentException("No table " + table + " in trace");
+        }
+        return tableInfo;
+    }
+
+    /**
+     * Passes all blocks of the given table, which contain rows within the given time range, to the consumer.
+     * Blocks may also contain rows outside the time range.
+     *
+     * @param table    the name of the table
+     * @param fromTime the start of the time range (inclusive)
+     * @param toTime   the end of the time range (inclusive)
+     * @param consumer the consumer of the blocks
+     * @throws IOException if a block could not be read
+     */
+    public void scan(String table, long fromTime, long toTime, Consumer<TraceBlock> consumer) throws IOException {
+        TableInfo tableInfo = getTable(table);
+        for (TraceWriter.BlockInfo block : tableInfo.blocks) {
+            if (block.maxTime() >= fromTime && block.minTime() <= toTime) {
+                consumer.accept(readBlock(block, tableInfo));
+            }
+        }
+    }
+
+    /**
+     * Passes all rows of the given table within the given time range to the visitor.
+     *
+     * @param table    the name of the table
+     * @param fromTime the start of the time range (inclusive)
+     * @param toTime   the end of the time range (inclusive)
+     * @param visitor  the visitor of the rows
+     * @throws IOException if a block could not be read
+     */
+    public void scanRows(String table, long fromTime, long toTime, RowVisitor visitor) throws IOException {
+        scan(table, fromTime, toTime, block -> {
+            for (int row = 0; row < block.getRowCount(); row++) {
+                long time = block.getTime(row);
+                if (time >= fromTime && time <= toTime) {
+                    visitor.visit(block, row);
+                }
+            }
+        });
+    }
+
+    private TraceBlock readBlock(TraceWriter.BlockInfo block, TableInfo table) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(TraceWriter.BLOCK_HEADER_SIZE);
+        readFully(header, block.offset());
+        final boolean compressed = header.get(2 * Integer.BYTES) != 0;
+        final int storedLength = header.getInt(2 * Integer.BYTES + 1);
+        final int rawLength = header.getInt(3 * Integer.BYTES + 1);
+
+        final MappedByteBuffer stored =
+                channel.map(FileChannel.MapMode.READ_ONLY, block.offset() + TraceWriter.BLOCK_HEADER_SIZE, storedLength);
+        if (!compressed) {
+            return new TraceBlock(stored, block.rowCount(), table.columnTypes, dictionary);
+        }
+
+        final ByteBuffer payload = ByteBuffer.allocate(rawLength);
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            while (payload.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(payload) == 0 && inflater.needsInput()) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException("Corrupted block at offset " + block.offset());
+        } finally {
+            inflater.end();
+        }
+        if (payload.hasRemaining()) {
+            throw new StreamCorruptedException("Truncated block at offset " + block.offset());
+        }
+        return new TraceBlock(payload, block.rowCount(), table.columnTypes, dictionary);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Visitor of single rows of a trace.
+     */
+    public interface RowVisitor {
+
+        /**
+         * @param block the block containing the row
+         * @param row   the index of the row within the block
+         */
+        void visit(TraceBlock block, int row);
+    }
+
+    private record TableInfo(List<String> columnNames, TraceColumnType[] columnTypes, List<TraceWriter.BlockInfo> blocks) {
+    }
+}
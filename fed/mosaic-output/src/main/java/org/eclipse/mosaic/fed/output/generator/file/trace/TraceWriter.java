@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.trace;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Writes rows of typed values into a binary columnar trace file, which can be read using the {@link TraceReader}.
+ * Rows are written into tables, whereas each table has a fixed set of typed columns and an implicit time column.
+ * Rows of each table are collected in blocks, which are stored column by column and may be compressed individually.
+ * String values are replaced by their index in a dictionary, which is shared by all tables.
+ *
+ * <p>File layout (big endian):
+ * <pre>
+ * header:  long magic, int version
+ * block*:  int table, int rowCount, byte compressed, int storedLength, int rawLength, byte[storedLength] payload
+ *          payload: long time[rowCount], column values[rowCount] for each column
+ * footer:  int tableCount, (string name, int columnCount, (string name, byte type)[columnCount])[tableCount]
+ *          int dictionarySize, string value[dictionarySize]
+ *          int blockCount, (int table, long offset, int rowCount, long minTime, long maxTime)[blockCount]
+ * trailer: long footerOffset, long magic
+ * string:  int length, byte[length] UTF-8
+ * </pre>
+ * The footer is written when the writer is closed, hence incomplete trace files can not be read.
+ */
+public class TraceWriter implements Closeable {
+
+    static final long MAGIC = 0x4D4F534149435452L; // "MOSAICTR"
+    static final int VERSION = 2;
+    static final int BLOCK_HEADER_SIZE = 4 * Integer.BYTES + 1;
+    static final int TRAILER_SIZE = 2 * Long.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+    private final int blockSize;
+    private final Deflater deflater;
+
+    private final List<Table> tables = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private final List<BlockInfo> blocks = new ArrayList<>();
+
+    private ByteBuffer payload = ByteBuffer.allocate(0);
+    private byte[] compressed = new byte[0];
+    private long position;
+    private boolean closed = false;
+
+    /**
+     * Creates a new trace file, or overwrites an existing one.
+     *
+     * @param traceFile the file to write the trace to
+     * @param blockSize the maximum number of rows per block
+     * @param compress  <code>true</code>, if blocks should be compressed
+     * @throws IOException if the file could not be created
+     */
+    public TraceWriter(File traceFile, int blockSize, boolean compress) throws IOException {
+        Validate.isTrue(blockSize > 0, "The block size must be positive.");
+        this.blockSize = blockSize;
+        this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(traceFile), BUFFER_SIZE));
+        this.out.writeLong(MAGIC);
+        this.out.writeInt(VERSION);
+        this.position = Long.BYTES + Integer.BYTES;
+    }
+
+    /**
+     * Adds a new table to the trace.
+     *
+     * @param name        the unique name of the table
+     * @param columnNames the names of the columns, without the implicit time column
+     * @param columnTypes the types of the columns
+     * @return the identifier of the table, which is used when writing rows
+     */
+    public int addTable(String name, List<String> columnNames, List<TraceColumnType> columnTypes) {
+        Validate.isTrue(columnNames.size() == columnTypes.size(), "Number of column names and types differ.");
+        for (Table table : tables) {
+            Validate.isTrue(!table.name.equals(name), "Duplicate table " + name);
+        }
+        tables.add(new Table(name, columnNames, columnTypes, blockSize));
+        return tables.size() - 1;
+    }
+
+    /**
+     * Appends a row to the given table. Integral numbers and booleans (as 0 or 1) are stored in long columns,
+     * any numbers in double columns, and any values by their string representation in string columns.
+     *
+     * @param tableId the identifier of the table as returned by {@link #addTable}
+     * @param time    the simulation time of the row
+     * @param values  the values of each column, may contain <code>null</code>
+     * @throws IllegalArgumentException if a value can not be stored in the type of its column, the row is not written then
+     * @throws IOException              if a completed block could not be written
+     */
+    public void writeRow(int tableId, long time, Object[] values) throws IOException {
+        final Table table = tables.get(tableId);
+        final int row = table.rows;
+        table.times[row] = time;
+        for (int column = 0; column < table.columnTypes.length; column++) {
+            final Object value = values[column];
+            switch (table.columnTypes[column]) {
+                case LONG -> ((long[]) table.columns[column])[row] = toLong(table, column, value);
+                case DOUBLE -> ((double[]) table.columns[column])[row] = toDouble(table, column, value);
+                default -> ((int[]) table.columns[column])[row] = value == null ? TraceColumnType.NULL_STRING : toDictionary(value.toString());
+            }
+        }
+        if (++table.rows == blockSize) {
+            writeBlock(tableId, table);
+        }
+    }
+
+    private static long toLong(Table table, int column, Object value) {
+        if (value == null) {
+            return TraceColumnType.NULL_LONG;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean b) {
+            return b ? 1 : 0;
+        }
+        throw unsupportedValue(table, column, value);
+    }
+
+    private static double toDouble(Table table, int column, Object value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        if (value instanceof Number n) {
+            return n.doubleValue();
+        }
+        throw unsupportedValue(table, column, value);
+    }
+
+    private static IllegalArgumentException unsupportedValue(Table table, int column, Object value) {
+        return new IllegalArgumentException(String.format("Value of type %s can not be stored in %s column \"%s\" of table \"%s\"",
+                value.getClass().getName(), table.columnTypes[column], table.columnNames.get(column), table.name));
+    }
+
+    private int toDictionary(String value) {
+        Integer index = dictionaryIndex.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndex.put(value, index);
+        }
+        return index;
+    }
+
+    private void writeBlock(int tableId, Table table) throws IOException {
+        final int rows = table.rows;
+        if (rows == 0) {
+            return;
+        }
+        final int rawLength = table.getPayloadSize(rows);
+        if (payload.capacity() < rawLength) {
+            payload = ByteBuffer.allocate(rawLength);
+        }
+        payload.clear();
+
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        for (int row = 0; row < rows; row++) {
+            final long time = table.times[row];
+            payload.putLong(time);
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+        }
+        for (int column = 0; column < table.columnTypes.length; column++) {
+            switch (table.columnTypes[column]) {
+                case LONG -> payload.asLongBuffer().put((long[]) table.columns[column], 0, rows);
+                case DOUBLE -> payload.asDoubleBuffer().put((double[]) table.columns[column], 0, rows);
+                default -> payload.asIntBuffer().put((int[]) table.columns[column], 0, rows);
+            }
+            payload.position(payload.position() + rows * table.columnTypes[column].width);
+        }
+
+        byte[] stored = payload.array();
+        int storedLength = rawLength;
+        if (deflater != null) {
+            if (compressed.length < rawLength) {
+                compressed = new byte[rawLength];
+            }
+            deflater.reset();
+            deflater.setInput(payload.array(), 0, rawLength);
+            deflater.finish();
+            int compressedLength = deflater.deflate(compressed, 0, rawLength);
+            // store uncompressed if compression does not pay off
+            if (deflater.finished() && compressedLength < rawLength) {
+                stored = compressed;
+                storedLength = compressedLength;
+            }
+        }
+
+        blocks.add(new BlockInfo(tableId, position, rows, minTime, maxTime));
+        out.writeInt(tableId);
+        out.writeInt(rows);
+        out.writeByte(stored == compressed ? 1 : 0);
+        out.writeInt(storedLength);
+        out.writeInt(rawLength);
+        out.write(stored, 0, storedLength);
+        position += BLOCK_HEADER_SIZE + storedLength;
+        table.rows = 0;
+    }
+
+    /**
+     * Writes all pending rows and the footer, and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (int tableId = 0; tableId < tables.size(); tableId++) {
+                writeBlock(tableId, tables.get(tableId));
+            }
+            final long footerOffset = position;
+            out.writeInt(tables.size());
+            for (Table table : tables) {
+                writeString(table.name);
+                out.writeInt(table.columnNames.size());
+                for (int column = 0; column < table.columnTypes.length; column++) {
+                    writeString(table.columnNames.get(column));
+                    out.writeByte(table.columnTypes[column].ordinal());
+                }
+            }
+            out.writeInt(dictionary.size());
+            for (String value : dictionary) {
+                writeString(value);
+            }
+            out.writeInt(blocks.size());
+            for (BlockInfo block : blocks) {
+                out.writeInt(block.table);
+                out.writeLong(block.offset);
+                out.writeInt(block.rowCount);
+                out.writeLong(block.minTime);
+                out.writeLong(block.maxTime);
+            }
+            out.writeLong(footerOffset);
+            out.writeLong(MAGIC);
+        } finally {
+            out.close();
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Writes the string with a length prefix, as {@link DataOutputStream#writeUTF} is limited to 64 KB.
+     */
+    private void writeString(String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static class Table {
+
+        private final String name;
+        private final List<String> columnNames;
+        private final TraceColumnType[] columnTypes;
+        private final long[] times;
+        private final Object[] columns;
+        private int rows;
+
+        private Table(String name, List<String> columnNames, List<TraceColumnType> columnTypes, int blockSize) {
+            this.name = name;
+            this.columnNames = new ArrayList<>(columnNames);
+            this.columnTypes = columnTypes.toArray(new TraceColumnType[0]);
+            this.times = new long[blockSize];
+            this.columns = new Object[this.columnTypes.length];
+            for (int column = 0; column < this.columnTypes.length; column++) {
+                columns[column] = switch (this.columnTypes[column]) {
+                    case LONG -> new long[blockSize];
+                    case DOUBLE -> new double[blockSize];
+                    default -> new int[blockSize];
+                };
+            }
+        }
+
+        private int getPayloadSize(int rows) {
+            int size = rows * Long.BYTES;
+            for (TraceColumnType columnType : columnTypes) {
+                size += rows * columnType.width;
+            }
+            return size;
+        }
+    }
+
+    record BlockInfo(int table, long offset, int rowCount, long minTime, long maxTime) {
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.output.generator.file.write;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -25,10 +26,12 @@ import java.nio.charset.StandardCharsets;
 
 public class WriteByFile implements Write {
 
+    static final int BUFFER_SIZE = 1 << 16;
+
     private final OutputStreamWriter out;
 
     public WriteByFile(File file, boolean append) throws FileNotFoundException {
-        this(new FileOutputStream(file, append));
+        this(new BufferedOutputStream(new FileOutputStream(file, append), BUFFER_SIZE));
     }
 
     public WriteByFile(OutputStream outputStream) {
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.output.generator.file.write;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -26,6 +27,8 @@ import java.util.zip.GZIPOutputStream;
 public class WriteByFileCompress extends WriteByFile {
 
     public WriteByFileCompress(File file, boolean append) throws IOException {
-        super(new GZIPOutputStream(new FileOutputStream(new File(file.getPath() + ".gz"), append)));
+        super(new GZIPOutputStream(
+                new BufferedOutputStream(new FileOutputStream(new File(file.getPath() + ".gz"), append), BUFFER_SIZE), BUFFER_SIZE
+        ));
     }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.websocket;
+
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes the vehicle positions of {@link VehicleUpdates} into compact binary frames for a single
+ * client of the {@link WebsocketVisualizerServer}. Each vehicle is assigned a numeric id once, and
+ * positions are transmitted as deltas to the position which has been sent previously to the same client.
+ * Vehicles which did not move since the last frame are omitted. The id of a removed vehicle is
+ * assigned to the next new vehicle, which is then announced again with its name. The frame layout is:
+ * <pre>
+ *   byte    frame type ({@link #FRAME_VEHICLE_POSITIONS})
+ *   double  simulation time in seconds
+ *   varint  number of new vehicles, followed by (varint id, varint length, UTF-8 name) each
+ *   varint  number of moved vehicles, followed by (varint id, zigzag varint latitude delta,
+ *           zigzag varint longitude delta) each, with coordinates given in 1e-7 degrees
+ * </pre>
+ * An encoder keeps the state of its client, hence a frame which has been encoded must be sent.
+ */
+class VehicleFrameEncoder {
+
+    static final byte FRAME_VEHICLE_POSITIONS = 1;
+
+    static final double COORDINATE_RESOLUTION = 1e7;
+
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private final Map<String, Integer> vehicleIds = new HashMap<>();
+    private int[] freeIds = new int[64];
+    private int freeIdCount = 0;
+    private int nextId = 0;
+    private int[] lastLatitudes = new int[256];
+    private int[] lastLongitudes = new int[256];
+
+    private ByteBuffer newVehicles = ByteBuffer.allocate(4096);
+    private ByteBuffer movedVehicles = ByteBuffer.allocate(16384);
+    private ByteBuffer frame = ByteBuffer.allocate(16384);
+
+    /**
+     * Encodes the positions of all updated vehicles into a binary frame. The returned buffer
+     * is reused by the next call of this method.
+     *
+     * @param vehicleUpdates the latest vehicle updates
+     * @return the encoded frame, ready to be read
+     */
+    ByteBuffer encode(VehicleUpdates vehicleUpdates) {
+        removeVehicles(vehicleUpdates.getRemovedNames());
+
+        newVehicles.clear();
+        movedVehicles.clear();
+        int newCount = 0;
+        int movedCount = 0;
+        for (VehicleData vehicle : vehicleUpdates.getUpdated()) {
+            final GeoPoint position = vehicle.getPosition();
+            if (position == null) {
+                continue;
+            }
+            final int latitude = (int) Math.round(position.getLatitude() * COORDINATE_RESOLUTION);
+            final int longitude = (int) Math.round(position.getLongitude() * COORDINATE_RESOLUTION);
+
+            Integer id = vehicleIds.get(vehicle.getName());
+            if (id == null) {
+                id = acquireId();
+                vehicleIds.put(vehicle.getName(), id);
+                final byte[] name = vehicle.getName().getBytes(StandardCharsets.UTF_8);
+                newVehicles = ensureRemaining(newVehicles, 2 * MAX_VARINT_LENGTH + name.length);
+                writeVarint(newVehicles, id);
+                writeVarint(newVehicles, name.length);
+                newVehicles.put(name);
+                newCount++;
+            } else if (lastLatitudes[id] == latitude && lastLongitudes[id] == longitude) {
+                continue;
+            }
+            movedVehicles = ensureRemaining(movedVehicles, 3 * MAX_VARINT_LENGTH);
+            writeVarint(movedVehicles, id);
+            writeVarint(movedVehicles, zigzag((long) latitude - lastLatitudes[id]));
+            writeVarint(movedVehicles, zigzag((long) longitude - lastLongitudes[id]));
+            lastLatitudes[id] = latitude;
+            lastLongitudes[id] = longitude;
+            movedCount++;
+        }
+        newVehicles.flip();
+        movedVehicles.flip();
+
+        frame.clear();
+        frame = ensureRemaining(frame, 1 + Double.BYTES + 2 * MAX_VARINT_LENGTH + newVehicles.remaining() + movedVehicles.remaining());
+        frame.put(FRAME_VEHICLE_POSITIONS);
+        frame.putDouble(vehicleUpdates.getTime() / 1e9);
+        writeVarint(frame, newCount);
+        frame.put(newVehicles);
+        writeVarint(frame, movedCount);
+        frame.put(movedVehicles);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Frees the ids of the given vehicles, e.g. of vehicles removed by {@link VehicleUpdates} which
+     * have never been encoded. Freed ids are assigned to vehicles which are new in later frames.
+     *
+     * @param vehicleNames the names of the removed vehicles
+     */
+    void removeVehicles(Collection<String> vehicleNames) {
+        for (String vehicleName : vehicleNames) {
+            final Integer id = vehicleIds.remove(vehicleName);
+            if (id != null) {
+                if (freeIdCount == freeIds.length) {
+                    freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+                }
+                freeIds[freeIdCount++] = id;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of vehicles which currently hold an id.
+     */
+    int getVehicleCount() {
+        return vehicleIds.size();
+    }
+
+    private int acquireId() {
+        final int id;
+        if (freeIdCount > 0) {
+            id = freeIds[--freeIdCount];
+        } else {
+            id = nextId++;
+            if (id >= lastLatitudes.length) {
+                lastLatitudes = Arrays.copyOf(lastLatitudes, lastLatitudes.length * 2);
+                lastLongitudes = Arrays.copyOf(lastLongitudes, lastLongitudes.length * 2);
+            }
+        }
+        // the client starts with a zero position for each announced vehicle
+        lastLatitudes[id] = 0;
+        lastLongitudes[id] = 0;
+        return id;
+    }
+
+    private static ByteBuffer ensureRemaining(ByteBuffer buffer, int required) {
+        if (buffer.remaining() >= required) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + required));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
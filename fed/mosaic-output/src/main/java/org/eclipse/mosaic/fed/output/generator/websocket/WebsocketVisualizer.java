@@ -35,10 +35,21 @@ public class WebsocketVisualizer extends AbstractOutputGenerator {
     private final WebsocketVisualizerServer websocketVisualizerServer;
 
     public WebsocketVisualizer(int port) {
-        websocketVisualizerServer = new WebsocketVisualizerServer(new InetSocketAddress(port));
+        this(port, false, 0);
+    }
+
+    public WebsocketVisualizer(int port, boolean binaryVehicleFrames, long frameInterval) {
+        websocketVisualizerServer = new WebsocketVisualizerServer(new InetSocketAddress(port), binaryVehicleFrames, frameInterval);
         websocketVisualizerServer.start();
     }
 
+    @Override
+    public void finish() {
+        if (websocketVisualizerServer.getDroppedFrames() > 0) {
+            log.info("Dropped {} updates for visualizer clients which fell behind", websocketVisualizerServer.getDroppedFrames());
+        }
+    }
+
     @Handle
     public void visualizeInteraction(AgentUpdates interaction) throws Exception {
         websocketVisualizerServer.updateAgentUpdates(interaction);
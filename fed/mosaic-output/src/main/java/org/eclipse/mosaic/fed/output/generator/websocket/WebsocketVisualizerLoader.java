@@ -17,22 +17,40 @@ package org.eclipse.mosaic.fed.output.generator.websocket;
 
 import org.eclipse.mosaic.fed.output.ambassador.AbstractOutputGenerator;
 import org.eclipse.mosaic.fed.output.ambassador.OutputGeneratorLoader;
+import org.eclipse.mosaic.rti.TIME;
 
 import org.apache.commons.configuration2.HierarchicalConfiguration;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 
 public class WebsocketVisualizerLoader extends OutputGeneratorLoader {
 
+    private static final String PROTOCOL_JSON = "json";
+    private static final String PROTOCOL_BINARY = "binary";
+
     private int port;
+    private boolean binaryVehicleFrames;
+    private long frameInterval;
 
     @Override
     public void configure(HierarchicalConfiguration<ImmutableNode> config) {
         port = config.getInt("port");
+
+        final String protocol = config.getString("protocol", PROTOCOL_JSON);
+        if (!PROTOCOL_JSON.equals(protocol) && !PROTOCOL_BINARY.equals(protocol)) {
+            throw new IllegalArgumentException("Unknown protocol '" + protocol + "' for websocket visualizer");
+        }
+        binaryVehicleFrames = PROTOCOL_BINARY.equals(protocol);
+
+        final int frameIntervalMs = config.getInt("frameInterval", 0);
+        if (frameIntervalMs < 0) {
+            throw new IllegalArgumentException("Frame interval of websocket visualizer must not be negative");
+        }
+        frameInterval = frameIntervalMs * TIME.MILLI_SECOND;
     }
 
     @Override
     public AbstractOutputGenerator createOutputGenerator() {
-        return new WebsocketVisualizer(port);
+        return new WebsocketVisualizer(port, binaryVehicleFrames, frameInterval);
     }
 
 }
@@ -45,7 +45,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings("UnstableApiUsage")
@@ -61,6 +64,15 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
      */
     private static final String UNITS_REMOVE = "UnitsRemove";
 
+    private static final Gson GSON = new Gson();
+
+    private final boolean binaryVehicleFrames;
+    private final long frameInterval;
+    private long nextFrameTime = Long.MIN_VALUE;
+
+    private final Map<WebSocket, ClientState> clients = new ConcurrentHashMap<>();
+    private final AtomicLong droppedFrames = new AtomicLong();
+
     private final AtomicReference<VehicleUpdates> vehicleUpdatesReference = new AtomicReference<>();
     private final AtomicReference<AgentUpdates> agentUpdatesReference = new AtomicReference<>();
     private final Queue<String> vehiclesToRemove = createQueue();
@@ -77,7 +89,22 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     private final Queue<ChargingStationUpdate> chargingStationUpdates = createQueue();
 
     public WebsocketVisualizerServer(InetSocketAddress address) {
+        this(address, false, 0);
+    }
+
+    /**
+     * Creates a new server for the websocket visualizer.
+     *
+     * @param address             the address to listen on
+     * @param binaryVehicleFrames if <code>true</code>, vehicle positions are sent as binary delta frames
+     *                            (see {@link VehicleFrameEncoder}) instead of JSON messages
+     * @param frameInterval       the minimum simulation time between two transmitted vehicle updates,
+     *                            or 0 to consider each {@link VehicleUpdates}
+     */
+    public WebsocketVisualizerServer(InetSocketAddress address, boolean binaryVehicleFrames, long frameInterval) {
         super(address);
+        this.binaryVehicleFrames = binaryVehicleFrames;
+        this.frameInterval = frameInterval;
     }
 
     @Override
@@ -86,7 +113,8 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     }
 
     @Override
-    public void onClose(WebSocket arg0, int arg1, String arg2, boolean arg3) {
+    public void onClose(WebSocket socket, int code, String reason, boolean remote) {
+        clients.remove(socket);
         log.debug("Closed");
     }
 
@@ -96,28 +124,66 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     }
 
     @Override
-    public synchronized void onMessage(WebSocket socket, String arg1) {
+    public void onMessage(WebSocket socket, String arg1) {
+        final List<Interaction> registrations = new ArrayList<>();
+        final List<Interaction> events = new ArrayList<>();
+        final VehicleUpdates vehicleUpdates;
+        final AgentUpdates agentUpdates;
+        final List<String> unitsToRemove = new ArrayList<>();
+        final ClientState client;
+        final List<String> removedVehicles;
+
+        // collect everything to be sent while holding the lock, but serialize and send without blocking the simulation
+        synchronized (this) {
+            client = clients.computeIfAbsent(socket, s -> new ClientState(binaryVehicleFrames));
+            removedVehicles = client.takeRemovedVehicles();
+
+            drain(vehicleRegistrations, registrations);
+            drain(agentRegistrations, registrations);
+            drain(rsuRegistrations, registrations);
+            drain(trafficLightRegistrations, registrations);
+            drain(chargingStationRegistrations, registrations);
+
+            vehicleUpdates = vehicleUpdatesReference.get();
+            agentUpdates = agentUpdatesReference.get();
+            drain(vehiclesToRemove, unitsToRemove);
+            drain(agentsToRemove, unitsToRemove);
+
+            drain(sentV2xMessages, events);
+            drain(receivedV2xMessages, events);
+            drain(chargingStationUpdates, events);
+        }
 
-        sendInteractions(socket, vehicleRegistrations);
-        sendInteractions(socket, agentRegistrations);
-        sendInteractions(socket, rsuRegistrations);
-        sendInteractions(socket, trafficLightRegistrations);
-        sendInteractions(socket, chargingStationRegistrations);
+        synchronized (client) {
+            sendInteractions(socket, registrations);
 
-        sendVehicleUpdates(socket);
-        sendAgentUpdates(socket);
-        sendUnitsToBeRemoved(socket);
+            if (client.vehicleFrameEncoder != null) {
+                client.vehicleFrameEncoder.removeVehicles(removedVehicles);
+            }
 
-        sendInteractions(socket, sentV2xMessages);
-        sendInteractions(socket, receivedV2xMessages);
+            sendVehicleUpdates(socket, client, vehicleUpdates);
+            sendAgentUpdates(socket, client, agentUpdates);
+            sendUnitsToBeRemoved(socket, unitsToRemove);
 
-        sendInteractions(socket, chargingStationUpdates);
+            sendInteractions(socket, events);
+        }
     }
 
-    private void sendVehicleUpdates(WebSocket socket) {
-        if (vehicleUpdatesReference.get() != null && !vehicleUpdatesReference.get().getUpdated().isEmpty()) {
-            VehicleUpdates reduced = reduceVehicleUpdates(vehicleUpdatesReference.get());
-            JsonElement jsonElement = new Gson().toJsonTree(reduced);
+    private void sendVehicleUpdates(WebSocket socket, ClientState client, VehicleUpdates vehicleUpdates) {
+        if (vehicleUpdates == null || vehicleUpdates == client.lastVehicleUpdates || vehicleUpdates.getUpdated().isEmpty()) {
+            return;
+        }
+        if (socket.hasBufferedData()) {
+            // the client has not yet received the previous frame, skip this one and send a later state instead
+            droppedFrames.incrementAndGet();
+            return;
+        }
+        client.lastVehicleUpdates = vehicleUpdates;
+        if (client.vehicleFrameEncoder != null) {
+            socket.send(client.vehicleFrameEncoder.encode(vehicleUpdates));
+        } else {
+            VehicleUpdates reduced = reduceVehicleUpdates(vehicleUpdates);
+            JsonElement jsonElement = GSON.toJsonTree(reduced);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(VehicleUpdates.TYPE_ID, jsonElement);
             socket.send(jsonObject.toString());
@@ -134,14 +200,20 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         return new VehicleUpdates(original.getTime(), Collections.EMPTY_LIST, reducedUpdates, Collections.EMPTY_LIST);
     }
 
-    private void sendAgentUpdates(WebSocket socket) {
-        if (agentUpdatesReference.get() != null && !agentUpdatesReference.get().getUpdated().isEmpty()) {
-            AgentUpdates reduced = reduceAgentUpdates(agentUpdatesReference.get());
-            JsonElement jsonElement = new Gson().toJsonTree(reduced);
-            JsonObject jsonObject = new JsonObject();
-            jsonObject.add(AgentUpdates.TYPE_ID, jsonElement);
-            socket.send(jsonObject.toString());
+    private void sendAgentUpdates(WebSocket socket, ClientState client, AgentUpdates agentUpdates) {
+        if (agentUpdates == null || agentUpdates == client.lastAgentUpdates || agentUpdates.getUpdated().isEmpty()) {
+            return;
         }
+        if (socket.hasBufferedData()) {
+            droppedFrames.incrementAndGet();
+            return;
+        }
+        client.lastAgentUpdates = agentUpdates;
+        AgentUpdates reduced = reduceAgentUpdates(agentUpdates);
+        JsonElement jsonElement = GSON.toJsonTree(reduced);
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.add(AgentUpdates.TYPE_ID, jsonElement);
+        socket.send(jsonObject.toString());
     }
 
     private AgentUpdates reduceAgentUpdates(AgentUpdates original) {
@@ -154,36 +226,27 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         return new AgentUpdates(original.getTime(), reducedUpdates, Collections.EMPTY_LIST);
     }
 
-    private void sendUnitsToBeRemoved(WebSocket socket) {
-        if (!agentsToRemove.isEmpty() || !vehiclesToRemove.isEmpty()) {
-            // copy (and remove) vehicles from queue to separate list in a thread-safe manner
-            final List<String> toRemove = new ArrayList<>(vehiclesToRemove.size() + agentsToRemove.size());
-            for (Iterator<String> iterator = vehiclesToRemove.iterator(); iterator.hasNext(); ) {
-                toRemove.add(iterator.next());
-                iterator.remove();
-            }
-            for (Iterator<String> iterator = agentsToRemove.iterator(); iterator.hasNext(); ) {
-                toRemove.add(iterator.next());
-                iterator.remove();
-            }
-
-            JsonElement jsonElement = new Gson().toJsonTree(toRemove);
+    private void sendUnitsToBeRemoved(WebSocket socket, List<String> toRemove) {
+        if (!toRemove.isEmpty()) {
+            JsonElement jsonElement = GSON.toJsonTree(toRemove);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(UNITS_REMOVE, jsonElement);
             socket.send(jsonObject.toString());
         }
     }
 
-    private <T extends Interaction> void sendInteractions(WebSocket socket, Queue<T> interactionsQueue) {
-        for (Iterator<T> iterator = interactionsQueue.iterator(); iterator.hasNext(); ) {
-            T interaction = iterator.next();
-
-            Gson gson = new Gson();
-            JsonElement jsonElement = gson.toJsonTree(interaction);
+    private void sendInteractions(WebSocket socket, List<Interaction> interactions) {
+        for (Interaction interaction : interactions) {
+            JsonElement jsonElement = GSON.toJsonTree(interaction);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(interaction.getTypeId(), jsonElement);
             socket.send(jsonObject.toString());
+        }
+    }
 
+    private static <T> void drain(Queue<? extends T> queue, List<T> target) {
+        for (Iterator<? extends T> iterator = queue.iterator(); iterator.hasNext(); ) {
+            target.add(iterator.next());
             iterator.remove();
         }
     }
@@ -194,10 +257,20 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     }
 
     public synchronized void updateVehicleUpdates(VehicleUpdates interaction) {
-        vehicleUpdatesReference.set(interaction);
+        // updates removing vehicles are always kept, so that the latest state never contains vehicles already removed
+        if (interaction.getTime() >= nextFrameTime || !interaction.getRemovedNames().isEmpty()) {
+            vehicleUpdatesReference.set(interaction);
+            nextFrameTime = interaction.getTime() + frameInterval;
+        }
         /* VehicleUpdates can be dropped as only the latest VehicleUpdates is sent when the server is ready for the next message.
          * To avoid dropping removed vehicles, we collect then in this extra queue and send them all together. */
         vehiclesToRemove.addAll(interaction.getRemovedNames());
+        if (binaryVehicleFrames && !interaction.getRemovedNames().isEmpty()) {
+            // the ids of removed vehicles must be freed even if this update is never sent to a client
+            for (ClientState client : clients.values()) {
+                client.removedVehicles.addAll(interaction.getRemovedNames());
+            }
+        }
     }
 
     public synchronized void updateAgentUpdates(AgentUpdates interaction) {
@@ -237,8 +310,39 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         agentRegistrations.add(interaction);
     }
 
+    /**
+     * Returns the number of vehicle or agent updates which have not been sent, since the
+     * receiving client had not yet consumed the previous message.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
     private static <T> Queue<T> createQueue() {
         return Queues.synchronizedQueue(EvictingQueue.create(MAX_MESSAGES_LIST));
     }
 
+    /**
+     * Holds what has already been sent to a single client.
+     */
+    private static class ClientState {
+        private VehicleUpdates lastVehicleUpdates;
+        private AgentUpdates lastAgentUpdates;
+        private final VehicleFrameEncoder vehicleFrameEncoder;
+        /**
+         * Vehicles removed since the last message, guarded by the lock of the server.
+         */
+        private List<String> removedVehicles = new ArrayList<>();
+
+        private ClientState(boolean binaryVehicleFrames) {
+            this.vehicleFrameEncoder = binaryVehicleFrames ? new VehicleFrameEncoder() : null;
+        }
+
+        private List<String> takeRemovedVehicles() {
+            final List<String> removed = removedVehicles;
+            removedVehicles = new ArrayList<>();
+            return removed;
+        }
+    }
+
 }
@@ -669,6 +669,13 @@ const WebSocketClient = (function() {
     let tries = 0
     const maxRetries = 30
     let simulated = false
+
+    // state of binary vehicle position frames, positions are kept in 1e-7 degrees per vehicle id
+    const FRAME_VEHICLE_POSITIONS = 1
+    const COORDINATE_RESOLUTION = 1e7
+    const vehicleNames = []
+    const vehicleLatitudes = []
+    const vehicleLongitudes = []
     // eslint-disable-next-line no-undef
     const $status = $('#status')
 
@@ -699,6 +706,7 @@ const WebSocketClient = (function() {
         setStatus('connecting')
 
         webSocket = new WebSocket("ws://localhost:" + window.port)
+        webSocket.binaryType = 'arraybuffer'
         webSocket.onopen = socketOnOpen
         webSocket.onmessage = socketOnMessage
         webSocket.onclose = socketOnClose
@@ -750,6 +758,10 @@ const WebSocketClient = (function() {
     function socketOnMessage(evt) {
         websocketEstablishedConnection = true
         simulated = true
+        if (evt.data instanceof ArrayBuffer) {
+            onBinaryFrame(new DataView(evt.data))
+            return
+        }
         const data = JSON.parse(evt.data)
         if (data != null) {
             const updatedUnits = []
@@ -816,6 +828,54 @@ const WebSocketClient = (function() {
         }
     }
 
+    /**
+     * Decodes a binary frame as written by the VehicleFrameEncoder of the websocket visualizer server.
+     * @param view DataView on the received frame.
+     */
+    function onBinaryFrame(view) {
+        let offset = 0
+        // coordinate deltas may exceed 32 bit, hence bitwise operators must be avoided
+        const readVarint = () => {
+            let value = 0
+            let factor = 1
+            let b
+            do {
+                b = view.getUint8(offset++)
+                value += (b & 0x7F) * factor
+                factor *= 128
+            } while (b & 0x80)
+            return value
+        }
+        const readZigzag = () => {
+            const value = readVarint()
+            return value % 2 === 0 ? value / 2 : -(value + 1) / 2
+        }
+
+        if (view.getUint8(offset++) !== FRAME_VEHICLE_POSITIONS) {
+            return
+        }
+        offset += 8 // simulation time
+        const newVehicles = readVarint()
+        for (let i = 0; i < newVehicles; i++) {
+            const id = readVarint()
+            const length = readVarint()
+            vehicleNames[id] = new TextDecoder().decode(new Uint8Array(view.buffer, view.byteOffset + offset, length))
+            vehicleLatitudes[id] = 0
+            vehicleLongitudes[id] = 0
+            offset += length
+        }
+        const updatedUnits = []
+        const movedVehicles = readVarint()
+        for (let i = 0; i < movedVehicles; i++) {
+            const id = readVarint()
+            vehicleLatitudes[id] += readZigzag()
+            vehicleLongitudes[id] += readZigzag()
+            map.setVehiclePosition(vehicleNames[id], vehicleLatitudes[id] / COORDINATE_RESOLUTION, vehicleLongitudes[id] / COORDINATE_RESOLUTION)
+            updatedUnits.push(vehicleNames[id])
+        }
+        map.updateViews(updatedUnits)
+    }
+
     /**
      * Called as soon as the socket was closed.
      */
@@ -823,6 +883,10 @@ const WebSocketClient = (function() {
         if (websocketEstablishedConnection) {
             websocketEstablishedConnection = false
             map.removeAllUnits()
+            // a new connection starts with new vehicle ids
+            vehicleNames.length = 0
+            vehicleLatitudes.length = 0
+            vehicleLongitudes.length = 0
             setStatus('closed')
         }
     }
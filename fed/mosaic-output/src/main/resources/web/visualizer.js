@@ -890,6 +890,6 @@
 "use strict";module.exports=rbush,module.exports.default=rbush;var quickselect=require("quickselect");function rbush(t,i){if(!(this instanceof rbush))return new rbush(t,i);this._maxEntries=Math.max(4,t||9),this._minEntries=Math.max(2,Math.ceil(.4*this._maxEntries)),i&&this._initFormat(i),this.clear()}function findItem(t,i,n){if(!n)return i.indexOf(t);for(var e=0;e<i.length;e++)if(n(t,i[e]))return e;return-1}function calcBBox(t,i){distBBox(t,0,t.children.length,i,t)}function distBBox(t,i,n,e,r){r||(r=createNode(null)),r.minX=1/0,r.minY=1/0,r.maxX=-1/0,r.maxY=-1/0;for(var a,h=i;h<n;h++)a=t.children[h],extend(r,t.leaf?e(a):a);return r}function extend(t,i){return t.minX=Math.min(t.minX,i.minX),t.minY=Math.min(t.minY,i.minY),t.maxX=Math.max(t.maxX,i.maxX),t.maxY=Math.max(t.maxY,i.maxY),t}function compareNodeMinX(t,i){return t.minX-i.minX}function compareNodeMinY(t,i){return t.minY-i.minY}function bboxArea(t){return(t.maxX-t.minX)*(t.maxY-t.minY)}function bboxMargin(t){return t.maxX-t.minX+(t.maxY-t.minY)}function enlargedArea(t,i){return(Math.max(i.maxX,t.maxX)-Math.min(i.minX,t.minX))*(Math.max(i.maxY,t.maxY)-Math.min(i.minY,t.minY))}function intersectionArea(t,i){var n=Math.max(t.minX,i.minX),e=Math.max(t.minY,i.minY),r=Math.min(t.maxX,i.maxX),a=Math.min(t.maxY,i.maxY);return Math.max(0,r-n)*Math.max(0,a-e)}function contains(t,i){return t.minX<=i.minX&&t.minY<=i.minY&&i.maxX<=t.maxX&&i.maxY<=t.maxY}function intersects(t,i){return i.minX<=t.maxX&&i.minY<=t.maxY&&i.maxX>=t.minX&&i.maxY>=t.minY}function createNode(t){return{children:t,height:1,leaf:!0,minX:1/0,minY:1/0,maxX:-1/0,maxY:-1/0}}function multiSelect(t,i,n,e,r){for(var a,h=[i,n];h.length;)(n=h.pop())-(i=h.pop())<=e||(a=i+Math.ceil((n-i)/e/2)*e,quickselect(t,a,i,n,r),h.push(i,a,a,n))}rbush.prototype={all:function(){return this._all(this.data,[])},search:function(t){var i=this.data,n=[],e=this.toBBox;if(!intersects(t,i))return n;for(var r,a,h,o,s=[];i;){for(r=0,a=i.children.length;r<a;r++)h=i.children[r],intersects(t,o=i.leaf?e(h):h)&&(i.leaf?n.push(h):contains(t,o)?this._all(h,n):s.push(h));i=s.pop()}return n},collides:function(t){var i=this.data,n=this.toBBox;if(!intersects(t,i))return!1;for(var e,r,a,h,o=[];i;){for(e=0,r=i.children.length;e<r;e++)if(a=i.children[e],intersects(t,h=i.leaf?n(a):a)){if(i.leaf||contains(t,h))return!0;o.push(a)}i=o.pop()}return!1},load:function(t){if(!t||!t.length)return this;if(t.length<this._minEntries){for(var i=0,n=t.length;i<n;i++)this.insert(t[i]);return this}var e=this._build(t.slice(),0,t.length-1,0);if(this.data.children.length)if(this.data.height===e.height)this._splitRoot(this.data,e);else{if(this.data.height<e.height){var r=this.data;this.data=e,e=r}this._insert(e,this.data.height-e.height-1,!0)}else this.data=e;return this},insert:function(t){return t&&this._insert(t,this.data.height-1),this},clear:function(){return this.data=createNode([]),this},remove:function(t,i){if(!t)return this;for(var n,e,r,a,h=this.data,o=this.toBBox(t),s=[],c=[];h||s.length;){if(h||(h=s.pop(),e=s[s.length-1],n=c.pop(),a=!0),h.leaf&&-1!==(r=findItem(t,h.children,i)))return h.children.splice(r,1),s.push(h),this._condense(s),this;a||h.leaf||!contains(h,o)?e?(n++,h=e.children[n],a=!1):h=null:(s.push(h),c.push(n),n=0,e=h,h=h.children[0])}return this},toBBox:function(t){return t},compareMinX:compareNodeMinX,compareMinY:compareNodeMinY,toJSON:function(){return this.data},fromJSON:function(t){return this.data=t,this},_all:function(t,i){for(var n=[];t;)t.leaf?i.push.apply(i,t.children):n.push.apply(n,t.children),t=n.pop();return i},_build:function(t,i,n,e){var r,a=n-i+1,h=this._maxEntries;if(a<=h)return calcBBox(r=createNode(t.slice(i,n+1)),this.toBBox),r;e||(e=Math.ceil(Math.log(a)/Math.log(h)),h=Math.ceil(a/Math.pow(h,e-1))),(r=createNode([])).leaf=!1,r.height=e;var o,s,c,l,u=Math.ceil(a/h),m=u*Math.ceil(Math.sqrt(h));for(multiSelect(t,i,n,m,this.compareMinX),o=i;o<=n;o+=m)for(multiSelect(t,o,c=Math.min(o+m-1,n),u,this.compareMinY),s=o;s<=c;s+=u)l=Math.min(s+u-1,c),r.children.push(this._build(t,s,l,e-1));return calcBBox(r,this.toBBox),r},_chooseSubtree:function(t,i,n,e){for(var r,a,h,o,s,c,l,u;e.push(i),!i.leaf&&e.length-1!==n;){for(l=u=1/0,r=0,a=i.children.length;r<a;r++)s=bboxArea(h=i.children[r]),(c=enlargedArea(t,h)-s)<u?(u=c,l=s<l?s:l,o=h):c===u&&s<l&&(l=s,o=h);i=o||i.children[0]}return i},_insert:function(t,i,n){var e=this.toBBox,r=n?t:e(t),a=[],h=this._chooseSubtree(r,this.data,i,a);for(h.children.push(t),extend(h,r);i>=0&&a[i].children.length>this._maxEntries;)this._split(a,i),i--;this._adjustParentBBoxes(r,a,i)},_split:function(t,i){var n=t[i],e=n.children.length,r=this._minEntries;this._chooseSplitAxis(n,r,e);var a=this._chooseSplitIndex(n,r,e),h=createNode(n.children.splice(a,n.children.length-a));h.height=n.height,h.leaf=n.leaf,calcBBox(n,this.toBBox),calcBBox(h,this.toBBox),i?t[i-1].children.push(h):this._splitRoot(n,h)},_splitRoot:function(t,i){this.data=createNode([t,i]),this.data.height=t.height+1,this.data.leaf=!1,calcBBox(this.data,this.toBBox)},_chooseSplitIndex:function(t,i,n){var e,r,a,h,o,s,c,l;for(s=c=1/0,e=i;e<=n-i;e++)h=intersectionArea(r=distBBox(t,0,e,this.toBBox),a=distBBox(t,e,n,this.toBBox)),o=bboxArea(r)+bboxArea(a),h<s?(s=h,l=e,c=o<c?o:c):h===s&&o<c&&(c=o,l=e);return l},_chooseSplitAxis:function(t,i,n){var e=t.leaf?this.compareMinX:compareNodeMinX,r=t.leaf?this.compareMinY:compareNodeMinY;this._allDistMargin(t,i,n,e)<this._allDistMargin(t,i,n,r)&&t.children.sort(e)},_allDistMargin:function(t,i,n,e){t.children.sort(e);var r,a,h=this.toBBox,o=distBBox(t,0,i,h),s=distBBox(t,n-i,n,h),c=bboxMargin(o)+bboxMargin(s);for(r=i;r<n-i;r++)a=t.children[r],extend(o,t.leaf?h(a):a),c+=bboxMargin(o);for(r=n-i-1;r>=i;r--)a=t.children[r],extend(s,t.leaf?h(a):a),c+=bboxMargin(s);return c},_adjustParentBBoxes:function(t,i,n){for(var e=n;e>=0;e--)extend(i[e],t)},_condense:function(t){for(var i,n=t.length-1;n>=0;n--)0===t[n].children.length?n>0?(i=t[n-1].children).splice(i.indexOf(t[n]),1):this.clear():calcBBox(t[n],this.toBBox)},_initFormat:function(t){var i=["return a"," - b",";"];this.compareMinX=new Function("a","b",i.join(t[0])),this.compareMinY=new Function("a","b",i.join(t[1])),this.toBBox=new Function("a","return {minX: a"+t[0]+", minY: a"+t[1]+", maxX: a"+t[2]+", maxY: a"+t[3]+"};")}};
 
 },{"quickselect":296}],298:[function(require,module,exports){
-"use strict";var _ol=require("ol"),_layer=require("ol/layer"),_source=require("ol/source"),_Vector=_interopRequireDefault(require("ol/layer/Vector")),_Vector2=_interopRequireDefault(require("ol/source/Vector")),_Point=_interopRequireDefault(require("ol/geom/Point")),_proj=require("ol/proj"),_style=require("ol/style");function _interopRequireDefault(e){return e&&e.__esModule?e:{default:e}}function _createForOfIteratorHelper(e,t){var i;if("undefined"==typeof Symbol||null==e[Symbol.iterator]){if(Array.isArray(e)||(i=_unsupportedIterableToArray(e))||t&&e&&"number"==typeof e.length){i&&(e=i);var n=0,a=function(){};return{s:a,n:function(){return n>=e.length?{done:!0}:{done:!1,value:e[n++]}},e:function(e){throw e},f:a}}throw new TypeError("Invalid attempt to iterate non-iterable instance.\nIn order to be iterable, non-array objects must have a [Symbol.iterator]() method.")}var r,s=!0,o=!1;return{s:function(){i=e[Symbol.iterator]()},n:function(){var e=i.next();return s=e.done,e},e:function(e){o=!0,r=e},f:function(){try{s||null==i.return||i.return()}finally{if(o)throw r}}}}function _unsupportedIterableToArray(e,t){if(e){if("string"==typeof e)return _arrayLikeToArray(e,t);var i=Object.prototype.toString.call(e).slice(8,-1);return"Object"===i&&e.constructor&&(i=e.constructor.name),"Map"===i||"Set"===i?Array.from(e):"Arguments"===i||/^(?:Ui|I)nt(?:8|16|32)(?:Clamped)?Array$/.test(i)?_arrayLikeToArray(e,t):void 0}}function _arrayLikeToArray(e,t){(null==t||t>e.length)&&(t=e.length);for(var i=0,n=new Array(t);i<t;i++)n[i]=e[i];return n}var Rsu={name:"unnamed_rsu",latitude:0,longitude:0,marker:null,timeStateChange:0,state:{},init:function(e,t,i){this.name=e,this.latitude=t,this.longitude=i,this.marker=new _ol.Feature({type:"rsu",geometry:new _Point.default((0,_proj.fromLonLat)([i,t]))}),this.marker.setProperties(["name"]),this.marker.set("name",e),this.state={sending:!1,receiving:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="roadside-unit";return this.state.equipped&&(e="roadside-unit-equipped"),this.state.sending&&(e="roadside-unit-sending"),this.state.receiving&&(e="roadside-unit-receiving"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},Vehicle={name:"unnamed_vehicle",latitude:0,longitude:0,marker:null,timeStateChange:0,vehicleClass:null,state:{},init:function(e,t){this.name=e,this.marker=new _ol.Feature({type:"vehicle",geometry:void 0}),this.marker.setProperties(["name","unit"]),this.marker.set("name",e),this.marker.set("unit",this),this.vehicleClass=t,this.state={equipped:!1,sending:!1,receiving:!1,parking:!1,charging:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){void 0!==this.latitude&&void 0!==this.longitude&&this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="unknown";return"Car"===this.vehicleClass||"ElectricVehicle"===this.vehicleClass||"AutomatedVehicle"===this.vehicleClass||"Taxi"===this.vehicleClass||"HighOccupancyVehicle"===this.vehicleClass?(e="car",this.state.equipped&&(e="car-equipped"),this.state.parking&&(e="car-parking"),this.state.charging&&(e="car-charging"),this.state.sending&&(e="car-sending"),this.state.receiving&&(e="car-receiving")):"PublicTransportVehicle"===this.vehicleClass?(e="bus",this.state.equipped&&(e="bus-equipped"),this.state.sending&&(e="bus-sending"),this.state.receiving&&(e="bus-receiving")):"Bicycle"===this.vehicleClass&&(e="bicycle",this.state.equipped&&(e="bicycle-equipped"),this.state.sending&&(e="bicycle-sending"),this.state.receiving&&(e="bicycle-receiving")),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},Agent={name:"unnamed_agent",latitude:0,longitude:0,marker:null,timeStateChange:0,agentState:"WAITING",init:function(e){this.name=e,this.marker=new _ol.Feature({type:"agent",geometry:void 0}),this.marker.setProperties(["name","unit"]),this.marker.set("name",e),this.marker.set("unit",this),this.agentState="WAITING"},getMarker:function(){return this.marker},setLocation:function(e,t){this.latitude=e,this.longitude=t},setAgentState:function(e){this.agentState=e},updateView:function(){void 0!==this.latitude&&void 0!==this.longitude&&this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e)},createStyle:function(){var e="agent-waiting";return"WAITING"===this.agentState&&(e="agent-waiting"),"WALKING"===this.agentState&&(e="agent-walking"),"IN_SHARED_VEHICLE"===this.agentState&&(e="agent-in-shared-vehicle"),"IN_PRIVATE_VEHICLE"===this.agentState&&(e="agent-in-private-vehicle"),"IN_PT_VEHICLE"===this.agentState&&(e="agent-in-pt-vehicle"),"IN_PT_VEHICLE_AT_STOP"===this.agentState&&(e="agent-in-pt-vehicle-at-stop"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},TrafficLight={name:"unnamed_traffic_light",latitude:0,longitude:0,marker:null,timeStateChange:0,state:{},init:function(e,t,i){this.name=e,this.latitude=t,this.longitude=i,this.marker=new _ol.Feature({type:"trafficLight",geometry:new _Point.default((0,_proj.fromLonLat)([i,t]))}),this.marker.setProperties(["name"]),this.marker.set("name",e),this.state={sending:!1,receiving:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="traffic-light";return this.state.equipped&&(e="traffic-light-equipped"),this.state.sending&&(e="traffic-light-sending"),this.state.receiving&&(e="traffic-light-receiving"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},map=function(){var e=new Boolean(!1),t={},i={},n={},a={},r=new _Vector.default({source:new _Vector2.default({features:[],attributions:['<a href="https://mapicons.mapsmarker.com/"><img src="markers/map-icons-collection.gif"/></a>']})}),s=new _ol.Map({target:"map",loadTilesWhileAnimating:!0,layers:[new _layer.Tile({source:new _source.OSM}),r],view:new _ol.View({center:(0,_proj.fromLonLat)([window.centerLocation.longitude,window.centerLocation.latitude]),zoom:window.zoomLevel})});function o(e){r.getSource().addFeature(e)}return{setUnitState:function(e,i){t[e]?t[e].setState(i):n[e]?n[e].setState(i):a[e]&&a[e].setState(i)},setVehiclePosition:function(i,n,a){t[i]?t[i].setLocation(n,a):console.error("Try to set location for non-existing vehicle",i),0==e&&(s.getView().setCenter((0,_proj.fromLonLat)([a,n])),s.getView().setZoom(18),e=!0)},setAgentPosition:function(t,n,a,r){i[t]?(i[t].setLocation(a,r),i[t].setAgentState(n)):console.error("Try to set location for non-existing agent",t),0==e&&(s.getView().setCenter((0,_proj.fromLonLat)([r,a])),s.getView().setZoom(18),e=!0)},addVehicle:function(e,i,n){t[e]||(t[e]=Object.assign({},Vehicle),t[e].init(e,i),t[e].setIsEquipped(n),o(t[e].getMarker()))},addAgent:function(e,t,n){i[e]||(i[e]=Object.assign({},Agent),i[e].init(e),i[e].setLocation(t,n),o(i[e].getMarker()))},addRsu:function(e,t,i,a){n[e]||(n[e]=Object.assign({},Rsu),n[e].init(e,t,i),n[e].setIsEquipped(a),o(n[e].getMarker()))},addTrafficLight:function(e,t,i,n){a[e]||(a[e]=Object.assign({},TrafficLight),a[e].init(e,t,i),a[e].setIsEquipped(n),o(a[e].getMarker()))},updateViews:function(e){var r,s=_createForOfIteratorHelper(e);try{for(s.s();!(r=s.n()).done;){var o=r.value;t[o]?t[o].updateView():i[o]?i[o].updateView():n[o]?n[o].updateView():a[o]&&a[o].updateView()}}catch(e){s.e(e)}finally{s.f()}},removeUnit:function(e){var s;t[e]?(s=t[e].getMarker(),r.getSource().removeFeature(s),delete t[e]):i[e]?(s=i[e].getMarker(),r.getSource().removeFeature(s),delete i[e]):n[e]?(s=n[e].getMarker(),r.getSource().removeFeature(s),delete n[e]):a[e]&&(s=a[e].getMarker(),r.getSource().removeFeature(s),delete a[e])},removeAllUnits:function(){t={},i={},n={},a={},r.getSource().clear()}}}(),WebSocketClient=function(){var e,t=!1,i=0,n=30,a=!1,r=$("#status");function s(e){r.removeClass(),r.addClass(e),r.children("#tries").text(i+"/"+n)}function o(){t||(a?s("closed"):(a=!1,i++,s("connecting"),(e=new WebSocket("ws://localhost:"+window.port)).onopen=c,e.onmessage=u,e.onclose=l,i<=n?setTimeout(function(){t||o()},3e3):(s("error"),alert("ERROR: Stopped trying to connect to MOSAIC due to timeout."))))}function c(){s("connected"),t=!0,setInterval(function(){t&&e.send("pull")},window.updateInterval)}function u(e){t=!0,a=!0;var i=JSON.parse(e.data);if(null!=i){var n,r=[];if(i.VehicleUpdates)i.VehicleUpdates.updated&&i.VehicleUpdates.updated.forEach(function(e){map.setVehiclePosition(e.name,e.position.latitude,e.position.longitude),r.push(e.name)});else if(i.AgentUpdates)i.AgentUpdates.updated&&i.AgentUpdates.updated.forEach(function(e){map.setAgentPosition(e.name,e.state,e.position.latitude,e.position.longitude),r.push(e.name)});else if(i.UnitsRemove)i.UnitsRemove.forEach(map.removeUnit);else if(i.VehicleRegistration){console.log(JSON.stringify(i.VehicleRegistration));var s=i.VehicleRegistration.vehicleMapping.applications.length>0,o=i.VehicleRegistration.vehicleMapping.vehicleType.vehicleClass;map.addVehicle(i.VehicleRegistration.vehicleMapping.name,o,s)}else if(i.AgentRegistration){console.log(JSON.stringify(i.AgentRegistration));var c=i.AgentRegistration.origin;map.addAgent(i.AgentRegistration.agentMapping.name,c.latitude,c.longitude)}else if(i.V2xMessageTransmission)n=i.V2xMessageTransmission.message.routing.source.sourceName,map.setUnitState(n,"sending"),r.push(n);else if(i.V2xMessageReception)n=i.V2xMessageReception.receiverName,map.setUnitState(n,"receiving"),r.push(n);else if(i.RsuRegistration){n=i.RsuRegistration.rsuMapping.name;var u=i.RsuRegistration.rsuMapping.position,l=i.RsuRegistration.rsuMapping.applications.length>0;map.addRsu(n,u.latitude,u.longitude,l),r.push(n)}else if(i.TrafficLightRegistration){n=i.TrafficLightRegistration.trafficLightMapping.name;var g=i.TrafficLightRegistration.trafficLightMapping.position,h=i.TrafficLightRegistration.trafficLightMapping.applications.length>0;h&&(map.addTrafficLight(n,g.latitude,g.longitude,h),r.push(n))}map.updateViews(r)}}function l(){t&&(t=!1,map.removeAllUnits(),s("closed"))}return{initialize:function(){if(!("WebSocket"in window)){var e="Sorry, your Browser does not support WebSocket";throw alert(e),new Error(e)}r.children("button#reconnect").on("click",function(){a=!1,t=!1,i=0,o()}),o()}}}();$(function(){WebSocketClient.initialize()});
+"use strict";var _ol=require("ol"),_layer=require("ol/layer"),_source=require("ol/source"),_Vector=_interopRequireDefault(require("ol/layer/Vector")),_Vector2=_interopRequireDefault(require("ol/source/Vector")),_Point=_interopRequireDefault(require("ol/geom/Point")),_proj=require("ol/proj"),_style=require("ol/style");function _interopRequireDefault(e){return e&&e.__esModule?e:{default:e}}function _createForOfIteratorHelper(e,t){var i;if("undefined"==typeof Symbol||null==e[Symbol.iterator]){if(Array.isArray(e)||(i=_unsupportedIterableToArray(e))||t&&e&&"number"==typeof e.length){i&&(e=i);var n=0,a=function(){};return{s:a,n:function(){return n>=e.length?{done:!0}:{done:!1,value:e[n++]}},e:function(e){throw e},f:a}}throw new TypeError("Invalid attempt to iterate non-iterable instance.\nIn order to be iterable, non-array objects must have a [Symbol.iterator]() method.")}var r,s=!0,o=!1;return{s:function(){i=e[Symbol.iterator]()},n:function(){var e=i.next();return s=e.done,e},e:function(e){o=!0,r=e},f:function(){try{s||null==i.return||i.return()}finally{if(o)throw r}}}}function _unsupportedIterableToArray(e,t){if(e){if("string"==typeof e)return _arrayLikeToArray(e,t);var i=Object.prototype.toString.call(e).slice(8,-1);return"Object"===i&&e.constructor&&(i=e.constructor.name),"Map"===i||"Set"===i?Array.from(e):"Arguments"===i||/^(?:Ui|I)nt(?:8|16|32)(?:Clamped)?Array$/.test(i)?_arrayLikeToArray(e,t):void 0}}function _arrayLikeToArray(e,t){(null==t||t>e.length)&&(t=e.length);for(var i=0,n=new Array(t);i<t;i++)n[i]=e[i];return n}var Rsu={name:"unnamed_rsu",latitude:0,longitude:0,marker:null,timeStateChange:0,state:{},init:function(e,t,i){this.name=e,this.latitude=t,this.longitude=i,this.marker=new _ol.Feature({type:"rsu",geometry:new _Point.default((0,_proj.fromLonLat)([i,t]))}),this.marker.setProperties(["name"]),this.marker.set("name",e),this.state={sending:!1,receiving:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="roadside-unit";return this.state.equipped&&(e="roadside-unit-equipped"),this.state.sending&&(e="roadside-unit-sending"),this.state.receiving&&(e="roadside-unit-receiving"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},Vehicle={name:"unnamed_vehicle",latitude:0,longitude:0,marker:null,timeStateChange:0,vehicleClass:null,state:{},init:function(e,t){this.name=e,this.marker=new _ol.Feature({type:"vehicle",geometry:void 0}),this.marker.setProperties(["name","unit"]),this.marker.set("name",e),this.marker.set("unit",this),this.vehicleClass=t,this.state={equipped:!1,sending:!1,receiving:!1,parking:!1,charging:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){void 0!==this.latitude&&void 0!==this.longitude&&this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="unknown";return"Car"===this.vehicleClass||"ElectricVehicle"===this.vehicleClass||"AutomatedVehicle"===this.vehicleClass||"Taxi"===this.vehicleClass||"HighOccupancyVehicle"===this.vehicleClass?(e="car",this.state.equipped&&(e="car-equipped"),this.state.parking&&(e="car-parking"),this.state.charging&&(e="car-charging"),this.state.sending&&(e="car-sending"),this.state.receiving&&(e="car-receiving")):"PublicTransportVehicle"===this.vehicleClass?(e="bus",this.state.equipped&&(e="bus-equipped"),this.state.sending&&(e="bus-sending"),this.state.receiving&&(e="bus-receiving")):"Bicycle"===this.vehicleClass&&(e="bicycle",this.state.equipped&&(e="bicycle-equipped"),this.state.sending&&(e="bicycle-sending"),this.state.receiving&&(e="bicycle-receiving")),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},Agent={name:"unnamed_agent",latitude:0,longitude:0,marker:null,timeStateChange:0,agentState:"WAITING",init:function(e){this.name=e,this.marker=new _ol.Feature({type:"agent",geometry:void 0}),this.marker.setProperties(["name","unit"]),this.marker.set("name",e),this.marker.set("unit",this),this.agentState="WAITING"},getMarker:function(){return this.marker},setLocation:function(e,t){this.latitude=e,this.longitude=t},setAgentState:function(e){this.agentState=e},updateView:function(){void 0!==this.latitude&&void 0!==this.longitude&&this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e)},createStyle:function(){var e="agent-waiting";return"WAITING"===this.agentState&&(e="agent-waiting"),"WALKING"===this.agentState&&(e="agent-walking"),"IN_SHARED_VEHICLE"===this.agentState&&(e="agent-in-shared-vehicle"),"IN_PRIVATE_VEHICLE"===this.agentState&&(e="agent-in-private-vehicle"),"IN_PT_VEHICLE"===this.agentState&&(e="agent-in-pt-vehicle"),"IN_PT_VEHICLE_AT_STOP"===this.agentState&&(e="agent-in-pt-vehicle-at-stop"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},TrafficLight={name:"unnamed_traffic_light",latitude:0,longitude:0,marker:null,timeStateChange:0,state:{},init:function(e,t,i){this.name=e,this.latitude=t,this.longitude=i,this.marker=new _ol.Feature({type:"trafficLight",geometry:new _Point.default((0,_proj.fromLonLat)([i,t]))}),this.marker.setProperties(["name"]),this.marker.set("name",e),this.state={sending:!1,receiving:!1}},getMarker:function(){return this.marker},setIsEquipped:function(e){this.state.equipped=e},setLocation:function(e,t){this.latitude=e,this.longitude=t},setState:function(e){void 0!==this.state[e]&&(this.state[e]=!0,this.timeStateChange=Date.now())},updateView:function(){this.marker.setGeometry(new _Point.default((0,_proj.fromLonLat)([this.longitude,this.latitude])));var e=this.createStyle();this.marker.setStyle(e),Date.now()-this.timeStateChange>500&&(this.state.sending=!1,this.state.receiving=!1)},createStyle:function(){var e="traffic-light";return this.state.equipped&&(e="traffic-light-equipped"),this.state.sending&&(e="traffic-light-sending"),this.state.receiving&&(e="traffic-light-receiving"),new _style.Style({image:new _style.Icon({anchor:[.5,1],src:"markers/".concat(e,".png")})})}},map=function(){var e=new Boolean(!1),t={},i={},n={},a={},r=new _Vector.default({source:new _Vector2.default({features:[],attributions:['<a href="https://mapicons.mapsmarker.com/"><img src="markers/map-icons-collection.gif"/></a>']})}),s=new _ol.Map({target:"map",loadTilesWhileAnimating:!0,layers:[new _layer.Tile({source:new _source.OSM}),r],view:new _ol.View({center:(0,_proj.fromLonLat)([window.centerLocation.longitude,window.centerLocation.latitude]),zoom:window.zoomLevel})});function o(e){r.getSource().addFeature(e)}return{setUnitState:function(e,i){t[e]?t[e].setState(i):n[e]?n[e].setState(i):a[e]&&a[e].setState(i)},setVehiclePosition:function(i,n,a){t[i]?t[i].setLocation(n,a):console.error("Try to set location for non-existing vehicle",i),0==e&&(s.getView().setCenter((0,_proj.fromLonLat)([a,n])),s.getView().setZoom(18),e=!0)},setAgentPosition:function(t,n,a,r){i[t]?(i[t].setLocation(a,r),i[t].setAgentState(n)):console.error("Try to set location for non-existing agent",t),0==e&&(s.getView().setCenter((0,_proj.fromLonLat)([r,a])),s.getView().setZoom(18),e=!0)},addVehicle:function(e,i,n){t[e]||(t[e]=Object.assign({},Vehicle),t[e].init(e,i),t[e].setIsEquipped(n),o(t[e].getMarker()))},addAgent:function(e,t,n){i[e]||(i[e]=Object.assign({},Agent),i[e].init(e),i[e].setLocation(t,n),o(i[e].getMarker()))},addRsu:function(e,t,i,a){n[e]||(n[e]=Object.assign({},Rsu),n[e].init(e,t,i),n[e].setIsEquipped(a),o(n[e].getMarker()))},addTrafficLight:function(e,t,i,n){a[e]||(a[e]=Object.assign({},TrafficLight),a[e].init(e,t,i),a[e].setIsEquipped(n),o(a[e].getMarker()))},updateViews:function(e){var r,s=_createForOfIteratorHelper(e);try{for(s.s();!(r=s.n()).done;){var o=r.value;t[o]?t[o].updateView():i[o]?i[o].updateView():n[o]?n[o].updateView():a[o]&&a[o].updateView()}}catch(e){s.e(e)}finally{s.f()}},removeUnit:function(e){var s;t[e]?(s=t[e].getMarker(),r.getSource().removeFeature(s),delete t[e]):i[e]?(s=i[e].getMarker(),r.getSource().removeFeature(s),delete i[e]):n[e]?(s=n[e].getMarker(),r.getSource().removeFeature(s),delete n[e]):a[e]&&(s=a[e].getMarker(),r.getSource().removeFeature(s),delete a[e])},removeAllUnits:function(){t={},i={},n={},a={},r.getSource().clear()}}}(),WebSocketClient=function(){var e,t=!1,i=0,n=30,a=!1,p=[],f=[],v=[],r=$("#status");function s(e){r.removeClass(),r.addClass(e),r.children("#tries").text(i+"/"+n)}function o(){t||(a?s("closed"):(a=!1,i++,s("connecting"),(e=new WebSocket("ws://localhost:"+window.port)).binaryType="arraybuffer",e.onopen=c,e.onmessage=u,e.onclose=l,i<=n?setTimeout(function(){t||o()},3e3):(s("error"),alert("ERROR: Stopped trying to connect to MOSAIC due to timeout."))))}function c(){s("connected"),t=!0,setInterval(function(){t&&e.send("pull")},window.updateInterval)}function u(e){if(t=!0,a=!0,e.data instanceof ArrayBuffer)return void d(new DataView(e.data));var i=JSON.parse(e.data);if(null!=i){var n,r=[];if(i.VehicleUpdates)i.VehicleUpdates.updated&&i.VehicleUpdates.updated.forEach(function(e){map.setVehiclePosition(e.name,e.position.latitude,e.position.longitude),r.push(e.name)});else if(i.AgentUpdates)i.AgentUpdates.updated&&i.AgentUpdates.updated.forEach(function(e){map.setAgentPosition(e.name,e.state,e.position.latitude,e.position.longitude),r.push(e.name)});else if(i.UnitsRemove)i.UnitsRemove.forEach(map.removeUnit);else if(i.VehicleRegistration){console.log(JSON.stringify(i.VehicleRegistration));var s=i.VehicleRegistration.vehicleMapping.applications.length>0,o=i.VehicleRegistration.vehicleMapping.vehicleType.vehicleClass;map.addVehicle(i.VehicleRegistration.vehicleMapping.name,o,s)}else if(i.AgentRegistration){console.log(JSON.stringify(i.AgentRegistration));var c=i.AgentRegistration.origin;map.addAgent(i.AgentRegistration.agentMapping.name,c.latitude,c.longitude)}else if(i.V2xMessageTransmission)n=i.V2xMessageTransmission.message.routing.source.sourceName,map.setUnitState(n,"sending"),r.push(n);else if(i.V2xMessageReception)n=i.V2xMessageReception.receiverName,map.setUnitState(n,"receiving"),r.push(n);else if(i.RsuRegistration){n=i.RsuRegistration.rsuMapping.name;var u=i.RsuRegistration.rsuMapping.position,l=i.RsuRegistration.rsuMapping.applications.length>0;map.addRsu(n,u.latitude,u.longitude,l),r.push(n)}else if(i.TrafficLightRegistration){n=i.TrafficLightRegistration.trafficLightMapping.name;var g=i.TrafficLightRegistration.trafficLightMapping.position,h=i.TrafficLightRegistration.trafficLightMapping.applications.length>0;h&&(map.addTrafficLight(n,g.latitude,g.longitude,h),r.push(n))}map.updateViews(r)}}function d(e){var t=0;function i(){var i,n=0,a=1;do{n+=(127&(i=e.getUint8(t++)))*a,a*=128}while(128&i);return n}function n(){var e=i();return e%2==0?e/2:-(e+1)/2}if(1===e.getUint8(t++)){t+=8;for(var a=i(),r=0;r<a;r++){var s=i(),o=i();p[s]=(new TextDecoder).decode(new Uint8Array(e.buffer,e.byteOffset+t,o)),f[s]=0,v[s]=0,t+=o}for(var c=[],u=i(),l=0;l<u;l++){var g=i();f[g]+=n(),v[g]+=n(),map.setVehiclePosition(p[g],f[g]/1e7,v[g]/1e7),c.push(p[g])}map.updateViews(c)}}function l(){t&&(t=!1,map.removeAllUnits(),p.length=0,f.length=0,v.length=0,s("closed"))}return{initialize:function(){if(!("WebSocket"in window)){var e="Sorry, your Browser does not support WebSocket";throw alert(e),new Error(e)}r.children("button#reconnect").on("click",function(){a=!1,t=!1,i=0,o()}),o()}}}();$(function(){WebSocketClient.initialize()});
 
 },{"ol":105,"ol/geom/Point":82,"ol/layer":128,"ol/layer/Vector":137,"ol/proj":153,"ol/source":221,"ol/source/Vector":245,"ol/style":260}]},{},[298]);
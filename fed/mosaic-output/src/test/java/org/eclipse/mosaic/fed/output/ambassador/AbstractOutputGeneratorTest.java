@@ -105,6 +105,27 @@ public class AbstractOutputGeneratorTest {
         assertEquals(0, generator.callsV2xMessageAcknowledgement.get());
     }
 
+    @Test
+    public void generatorWithAnnotations_exceptionInHandleMethodIsCaught() {
+        //SETUP
+        FailingOutputGenerator generator = new FailingOutputGenerator();
+
+        //RUN
+        generator.handleInteraction(new V2xMessageTransmission(0, null));
+
+        //ASSERT
+        assertEquals(1, generator.calls.get());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void generatorWithAnnotations_errorInHandleMethodIsRethrown() {
+        //SETUP
+        FailingOutputGenerator generator = new FailingOutputGenerator();
+
+        //RUN
+        generator.handleInteraction(new V2xMessageReception(0, "", 0, new V2xReceiverInformation(0)));
+    }
+
     /**
      * Extension of {@link AbstractOutputGenerator} for testing purposes.
      */
@@ -140,4 +161,24 @@ public class AbstractOutputGeneratorTest {
 
     }
 
+    /**
+     * Extension of {@link AbstractOutputGenerator} with failing handle methods.
+     */
+    static class FailingOutputGenerator extends AbstractOutputGenerator {
+
+        private AtomicInteger calls = new AtomicInteger();
+
+        @Handle
+        public void handleV2xMessageTransmission(V2xMessageTransmission v2xMessageTransmission) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("test");
+        }
+
+        @Handle
+        public void handleV2xMessageReception(V2xMessageReception v2xMessageReception) {
+            throw new AssertionError("test");
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.mosaic.interactions.vehicle.VehicleResume;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for {@link AsyncGeneratorWorker}.
+ */
+public class AsyncGeneratorWorkerTest {
+
+    @Test
+    public void allInteractionsHandledInOrderOnWorkerThread() {
+        //SETUP
+        RecordingOutputGenerator generator = new RecordingOutputGenerator();
+        // a small queue forces the simulation thread to wait for the worker
+        AsyncGeneratorWorker worker = new AsyncGeneratorWorker("test", generator, 3);
+
+        //RUN
+        for (int i = 0; i < 10000; i++) {
+            worker.enqueue(new VehicleResume(i, "veh_0"));
+        }
+        worker.close();
+
+        //ASSERT
+        assertEquals(10000, generator.handled.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, generator.handled.get(i).getTime());
+        }
+        assertNotEquals(Thread.currentThread(), generator.handlingThread);
+    }
+
+    @Test
+    public void failureInGenerator_reportedToSimulationThread() {
+        //SETUP
+        AbstractOutputGenerator generator = new AbstractOutputGenerator() {
+            @Override
+            public void handleUnregisteredInteraction(Interaction interaction) {
+                throw new IllegalStateException("failure");
+            }
+        };
+        AsyncGeneratorWorker worker = new AsyncGeneratorWorker("test", generator, 16);
+
+        //RUN
+        worker.enqueue(new VehicleResume(0, "veh_0"));
+        try {
+            worker.close();
+            fail("Expected failure of output generator");
+        } catch (RuntimeException e) {
+            //ASSERT
+            assertTrue(e.getMessage().contains("failure"));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void errorInGenerator_reportedToWaitingSimulationThread() {
+        //SETUP
+        AbstractOutputGenerator generator = new AbstractOutputGenerator() {
+            @Override
+            public void handleUnregisteredInteraction(Interaction interaction) {
+                throw new AssertionError("error");
+            }
+        };
+        AsyncGeneratorWorker worker = new AsyncGeneratorWorker("test", generator, 2);
+
+        //RUN
+        try {
+            // the ring runs full after the worker has stopped
+            for (int i = 0; i < 100; i++) {
+                worker.enqueue(new VehicleResume(i, "veh_0"));
+            }
+            worker.close();
+            fail("Expected failure of output generator");
+        } catch (RuntimeException e) {
+            //ASSERT
+            assertTrue(e.getMessage().contains("error"));
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+    }
+
+    private static class RecordingOutputGenerator extends AbstractOutputGenerator {
+
+        private final List<Interaction> handled = new ArrayList<>();
+        private Thread handlingThread;
+
+        @Override
+        public void handleUnregisteredInteraction(Interaction interaction) {
+            handlingThread = Thread.currentThread();
+            handled.add(interaction);
+        }
+    }
+}
@@ -149,6 +149,21 @@ public class InteractionFormatterTest {
         assertEquals(expected[0] + expected[1], interaction);
     }
 
+    @Test
+    public void testNormalIteration_formatterReused() throws Exception {
+
+        vehicleUpdatesMethods.clear();
+        vehicleUpdatesMethods.add("Time");
+        vehicleUpdatesMethods.add("Updated:Name");
+
+        InteractionFormatter interactionFormatter = new InteractionFormatter(';', '.', vehicleUpdatesDef);
+        String first = interactionFormatter.format(vehicleUpdates);
+        String second = interactionFormatter.format(vehicleUpdates);
+
+        assertEquals("0;1\n0;2\n", first);
+        assertEquals(first, second);
+    }
+
     @Test
     public void testNormalIterationDifferentDecimalSeperator() throws Exception {
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.fed.output.generator.file.BinaryFileOutput;
+import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the {@link TraceWriter} and {@link TraceReader}.
+ */
+public class TraceReaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndScanTimeRange_compressed() throws IOException {
+        writeAndScanTimeRange(true);
+    }
+
+    @Test
+    public void writeAndScanTimeRange_uncompressed() throws IOException {
+        writeAndScanTimeRange(false);
+    }
+
+    private void writeAndScanTimeRange(boolean compress) throws IOException {
+        File traceFile = temporaryFolder.newFile("trace.bin");
+
+        // RUN
+        try (TraceWriter writer = new TraceWriter(traceFile, 10, compress)) {
+            int table = writer.addTable("Test",
+                    List.of("Count", "Value", "Name"),
+                    List.of(TraceColumnType.LONG, TraceColumnType.DOUBLE, TraceColumnType.STRING)
+            );
+            int other = writer.addTable("Other", List.of("Flag"), List.of(TraceColumnType.LONG));
+            for (int i = 0; i < 100; i++) {
+                writer.writeRow(table, i * TIME.SECOND, new Object[]{i, i / 2d, "veh_" + (i % 3)});
+            }
+            writer.writeRow(table, 100 * TIME.SECOND, new Object[]{null, null, null});
+            writer.writeRow(other, 0, new Object[]{true});
+        }
+
+        // ASSERT
+        try (TraceReader reader = new TraceReader(traceFile.toPath())) {
+            assertEquals(List.of("Test", "Other"), reader.getTableNames());
+            assertEquals(List.of("Count", "Value", "Name"), reader.getColumnNames("Test"));
+            assertEquals(TraceColumnType.DOUBLE, reader.getColumnTypes("Test").get(1));
+            assertEquals(101, reader.getRowCount("Test"));
+
+            List<Long> counts = new ArrayList<>();
+            reader.scanRows("Test", 25 * TIME.SECOND, 34 * TIME.SECOND, (block, row) -> {
+                counts.add(block.getLong(0, row));
+                assertEquals(block.getLong(0, row) / 2d, block.getDouble(1, row), 0d);
+                assertEquals("veh_" + (block.getLong(0, row) % 3), block.getString(2, row));
+            });
+            assertEquals(10, counts.size());
+            assertEquals(25L, (long) counts.get(0));
+            assertEquals(34L, (long) counts.get(9));
+
+            // only the blocks overlapping the time range are read
+            List<TraceBlock> blocks = new ArrayList<>();
+            reader.scan("Test", 25 * TIME.SECOND, 34 * TIME.SECOND, blocks::add);
+            assertEquals(2, blocks.size());
+
+            reader.scanRows("Test", 100 * TIME.SECOND, 100 * TIME.SECOND, (block, row) -> {
+                assertNull(block.getValue(0, row));
+                assertNull(block.getValue(1, row));
+                assertNull(block.getValue(2, row));
+            });
+            reader.scanRows("Other", 0, 0, (block, row) -> assertEquals(1L, block.getLong(0, row)));
+        }
+    }
+
+    @Test
+    public void writeRow_valueTypeNotMatchingColumn() throws IOException {
+        File traceFile = temporaryFolder.newFile("mismatch.bin");
+
+        // RUN
+        try (TraceWriter writer = new TraceWriter(traceFile, 10, false)) {
+            int table = writer.addTable("Test", List.of("Count", "Value"), List.of(TraceColumnType.LONG, TraceColumnType.DOUBLE));
+            writer.writeRow(table, 0, new Object[]{1, 1d});
+            assertThrows(IllegalArgumentException.class, () -> writer.writeRow(table, 1, new Object[]{1.5d, 1d}));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeRow(table, 2, new Object[]{"2", 2d}));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeRow(table, 3, new Object[]{3, "3.0"}));
+            writer.writeRow(table, 4, new Object[]{4L, 4f});
+        }
+
+        // ASSERT
+        try (TraceReader reader = new TraceReader(traceFile.toPath())) {
+            assertEquals(2, reader.getRowCount("Test"));
+            List<Long> counts = new ArrayList<>();
+            reader.scanRows("Test", 0, 10, (block, row) -> counts.add(block.getLong(0, row)));
+            assertEquals(List.of(1L, 4L), counts);
+        }
+    }
+
+    @Test
+    public void writeAndRead_largeDictionaryString() throws IOException {
+        File traceFile = temporaryFolder.newFile("large.bin");
+        String largeValue = "\u00e4".repeat(40_000) + "x";
+
+        // RUN
+        try (TraceWriter writer = new TraceWriter(traceFile, 10, true)) {
+            int table = writer.addTable("Test", List.of("Name"), List.of(TraceColumnType.STRING));
+            writer.writeRow(table, 0, new Object[]{largeValue});
+            writer.writeRow(table, 1, new Object[]{"small"});
+        }
+
+        // ASSERT
+        try (TraceReader reader = new TraceReader(traceFile.toPath())) {
+            List<String> values = new ArrayList<>();
+            reader.scanRows("Test", 0, 1, (block, row) -> values.add(block.getString(0, row)));
+            assertEquals(List.of(largeValue, "small"), values);
+        }
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void incompleteTrace() throws IOException {
+        File traceFile = temporaryFolder.newFile("incomplete.bin");
+        Files.write(traceFile.toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28});
+
+        // RUN
+        new TraceReader(traceFile.toPath()).close();
+    }
+
+    @Test
+    public void binaryFileOutput_typedColumnsFromFormat() throws Exception {
+        File traceFile = temporaryFolder.newFile("output.bin");
+        Map<String, List<List<String>>> definitions = new HashMap<>();
+        definitions.put("VehicleUpdates", List.of(List.of("\"Update\"", "Time", "Updated:Name", "Updated:Position.Latitude")));
+        InteractionFormatter formatter = new InteractionFormatter(';', '.', definitions);
+
+        // RUN
+        BinaryFileOutput output = new BinaryFileOutput(new TraceWriter(traceFile, 2, true), formatter);
+        for (int i = 1; i <= 3; i++) {
+            List<VehicleData> updated = new ArrayList<>();
+            updated.add(new VehicleData.Builder(i * TIME.SECOND, "veh_0").position(GeoPoint.latLon(52, 13 + i), null).create());
+            updated.add(new VehicleData.Builder(i * TIME.SECOND, "veh_1").position(GeoPoint.latLon(53, 13 + i), null).create());
+            output.handleInteraction(new VehicleUpdates(i * TIME.SECOND, new ArrayList<>(), updated, new ArrayList<>()));
+        }
+        output.finish();
+
+        // ASSERT
+        try (TraceReader reader = new TraceReader(traceFile.toPath())) {
+            assertEquals(List.of(TraceColumnType.STRING, TraceColumnType.LONG, TraceColumnType.STRING, TraceColumnType.DOUBLE),
+                    reader.getColumnTypes("VehicleUpdates"));
+            assertEquals(6, reader.getRowCount("VehicleUpdates"));
+
+            List<String> rows = new ArrayList<>();
+            reader.scanRows("VehicleUpdates", 2 * TIME.SECOND, 2 * TIME.SECOND, (block, row) -> rows.add(
+                    block.getString(0, row) + ";" + block.getLong(1, row) + ";" + block.getString(2, row) + ";" + block.getDouble(3, row)
+            ));
+            assertEquals(List.of("Update;2000000000;veh_0;52.0", "Update;2000000000;veh_1;53.0"), rows);
+            assertTrue(reader.getTableNames().contains("VehicleUpdates"));
+        }
+    }
+
+    @Test
+    public void binaryFileOutput_writeFailurePropagated() throws Exception {
+        File traceFile = temporaryFolder.newFile("failing.bin");
+        Map<String, List<List<String>>> definitions = new HashMap<>();
+        definitions.put("VehicleUpdates", List.of(List.of("Time", "Updated:Name")));
+        InteractionFormatter formatter = new InteractionFormatter(';', '.', definitions);
+        TraceWriter failingWriter = new TraceWriter(traceFile, 2, true) {
+            @Override
+            public void writeRow(int tableId, long time, Object[] values) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        BinaryFileOutput output = new BinaryFileOutput(failingWriter, formatter);
+        List<VehicleData> updated = List.of(new VehicleData.Builder(TIME.SECOND, "veh_0").create());
+
+        // RUN + ASSERT
+        assertThrows(UncheckedIOException.class, () ->
+                output.handleInteraction(new VehicleUpdates(TIME.SECOND, new ArrayList<>(), updated, new ArrayList<>()))
+        );
+        assertThrows(UncheckedIOException.class, output::finish);
+    }
+}
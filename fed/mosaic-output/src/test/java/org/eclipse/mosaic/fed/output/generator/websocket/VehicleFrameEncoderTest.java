@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.websocket;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class VehicleFrameEncoderTest {
+
+    private final Map<Integer, String> names = new HashMap<>();
+    private final Map<Integer, long[]> positions = new HashMap<>();
+
+    @Test
+    public void encodeDeltas() {
+        VehicleFrameEncoder encoder = new VehicleFrameEncoder();
+
+        // RUN + ASSERT: all vehicles are new
+        Map<String, GeoPoint> moved = decode(encoder.encode(updates(TIME.SECOND,
+                vehicle("veh_0", 52.5, 13.4),
+                vehicle("veh_1", -33.9, -151.2)
+        )));
+        assertEquals(2, moved.size());
+        assertPosition(52.5, 13.4, moved.get("veh_0"));
+        assertPosition(-33.9, -151.2, moved.get("veh_1"));
+
+        // RUN + ASSERT: only moved vehicles are encoded
+        ByteBuffer frame = encoder.encode(updates(2 * TIME.SECOND,
+                vehicle("veh_0", 52.5, 13.4),
+                vehicle("veh_1", -33.90001, 179.9),
+                vehicle("veh_2", 0, 0)
+        ));
+        moved = decode(frame);
+        assertEquals(2, moved.size());
+        assertPosition(-33.90001, 179.9, moved.get("veh_1"));
+        assertPosition(0, 0, moved.get("veh_2"));
+
+        // RUN + ASSERT: small movements result in small frames
+        frame = encoder.encode(updates(3 * TIME.SECOND, vehicle("veh_0", 52.50001, 13.40002)));
+        assertEquals(1 + Double.BYTES + 1 + 1 + (1 + 2 + 2), frame.remaining());
+        moved = decode(frame);
+        assertPosition(52.50001, 13.40002, moved.get("veh_0"));
+    }
+
+    @Test
+    public void removedVehiclesFreeTheirIds() {
+        VehicleFrameEncoder encoder = new VehicleFrameEncoder();
+        decode(encoder.encode(updates(TIME.SECOND,
+                vehicle("veh_0", 52.5, 13.4),
+                vehicle("veh_1", 52.6, 13.5)
+        )));
+
+        // RUN: veh_0 is removed by the encoded update, veh_1 by an update which has not been encoded
+        encoder.removeVehicles(Lists.newArrayList("veh_1"));
+        Map<String, GeoPoint> moved = decode(encoder.encode(new VehicleUpdates(2 * TIME.SECOND,
+                Lists.newArrayList(),
+                Lists.newArrayList(vehicle("veh_2", 52.7, 13.6), vehicle("veh_3", 52.8, 13.7)),
+                Lists.newArrayList("veh_0")
+        )));
+
+        // ASSERT: the new vehicles took over the freed ids and are decoded from a zero position
+        assertEquals(2, encoder.getVehicleCount());
+        assertEquals(2, names.size());
+        assertPosition(52.7, 13.6, moved.get("veh_2"));
+        assertPosition(52.8, 13.7, moved.get("veh_3"));
+
+        // RUN + ASSERT: removing unknown vehicles has no effect
+        encoder.removeVehicles(Lists.newArrayList("veh_0", "veh_9"));
+        moved = decode(encoder.encode(updates(3 * TIME.SECOND, vehicle("veh_4", 1, 2))));
+        assertEquals(3, encoder.getVehicleCount());
+        assertEquals(3, names.size());
+        assertPosition(1, 2, moved.get("veh_4"));
+    }
+
+    /**
+     * Decodes a frame the same way the visualizer client does.
+     */
+    private Map<String, GeoPoint> decode(ByteBuffer frame) {
+        assertEquals(VehicleFrameEncoder.FRAME_VEHICLE_POSITIONS, frame.get());
+        frame.getDouble();
+        long newVehicles = readVarint(frame);
+        for (int i = 0; i < newVehicles; i++) {
+            int id = (int) readVarint(frame);
+            byte[] name = new byte[(int) readVarint(frame)];
+            frame.get(name);
+            names.put(id, new String(name, StandardCharsets.UTF_8));
+            positions.put(id, new long[2]);
+        }
+        Map<String, GeoPoint> moved = new LinkedHashMap<>();
+        long movedVehicles = readVarint(frame);
+        for (int i = 0; i < movedVehicles; i++) {
+            int id = (int) readVarint(frame);
+            long[] position = positions.get(id);
+            position[0] += readZigzag(frame);
+            position[1] += readZigzag(frame);
+            moved.put(names.get(id), GeoPoint.latLon(
+                    position[0] / VehicleFrameEncoder.COORDINATE_RESOLUTION,
+                    position[1] / VehicleFrameEncoder.COORDINATE_RESOLUTION
+            ));
+        }
+        assertEquals(0, frame.remaining());
+        frame.rewind();
+        return moved;
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long readZigzag(ByteBuffer buffer) {
+        long value = readVarint(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void assertPosition(double expectedLat, double expectedLon, GeoPoint actual) {
+        assertEquals(expectedLat, actual.getLatitude(), 1e-7);
+        assertEquals(expectedLon, actual.getLongitude(), 1e-7);
+    }
+
+    private static VehicleData vehicle(String name, double lat, double lon) {
+        return new VehicleData.Builder(0, name).position(GeoPoint.latLon(lat, lon), null).create();
+    }
+
+    private static VehicleUpdates updates(long time, VehicleData... vehicles) {
+        return new VehicleUpdates(time, Lists.newArrayList(), Lists.newArrayList(vehicles), Lists.newArrayList());
+    }
+}
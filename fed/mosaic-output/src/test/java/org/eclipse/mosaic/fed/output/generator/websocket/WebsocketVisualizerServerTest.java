@@ -15,6 +15,7 @@
 
 package org. eclipse.mosaic.fed.output.generator.websocket;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
@@ -24,6 +25,7 @@ import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleSensors;
 import org.eclipse.mosaic.lib.objects.vehicle.sensor.DistanceSensor;
+import org.eclipse.mosaic.rti.TIME;
 
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
@@ -37,6 +39,8 @@ import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class WebsocketVisualizerServerTest {
@@ -132,4 +136,45 @@ public class WebsocketVisualizerServerTest {
         Assert.assertEquals(vehMovementsToReceive, actualVehMovementsReceived);
     }
 
+    @Test
+    public void binaryFramesDroppedWhileClientIsBehind() {
+        // setup
+        websocketVisualizer = new WebsocketVisualizerServer(Mockito.mock(InetSocketAddress.class), true, 500 * TIME.MILLI_SECOND);
+        final AtomicInteger sentFrames = new AtomicInteger();
+        Mockito.doAnswer((Answer<Void>) invocation -> {
+            sentFrames.incrementAndGet();
+            return null;
+        }).when(socketMock).send(ArgumentMatchers.any(ByteBuffer.class));
+
+        // RUN + ASSERT: first frame is sent as binary frame
+        websocketVisualizer.updateVehicleUpdates(vehicleUpdates(0));
+        websocketVisualizer.onMessage(socketMock, (String) null);
+        assertEquals(1, sentFrames.get());
+        assertNull(sentString.get());
+
+        // RUN + ASSERT: no new frame within the frame interval, and the same frame is not sent twice
+        websocketVisualizer.updateVehicleUpdates(vehicleUpdates(200 * TIME.MILLI_SECOND));
+        websocketVisualizer.onMessage(socketMock, (String) null);
+        assertEquals(1, sentFrames.get());
+
+        // RUN + ASSERT: frame is dropped while the client has not consumed the previous one
+        websocketVisualizer.updateVehicleUpdates(vehicleUpdates(600 * TIME.MILLI_SECOND));
+        Mockito.when(socketMock.hasBufferedData()).thenReturn(true);
+        websocketVisualizer.onMessage(socketMock, (String) null);
+        assertEquals(1, sentFrames.get());
+        assertEquals(1, websocketVisualizer.getDroppedFrames());
+
+        // RUN + ASSERT: latest frame is sent as soon as the client caught up
+        Mockito.when(socketMock.hasBufferedData()).thenReturn(false);
+        websocketVisualizer.onMessage(socketMock, (String) null);
+        assertEquals(2, sentFrames.get());
+    }
+
+    private static VehicleUpdates vehicleUpdates(long time) {
+        final VehicleData vehicleData = new VehicleData.Builder(time, "veh_0")
+                .position(GeoPoint.lonLat(11, 10 + time / (double) TIME.SECOND), null)
+                .create();
+        return new VehicleUpdates(time, Lists.newArrayList(), Lists.newArrayList(vehicleData), Lists.newArrayList());
+    }
+
 }
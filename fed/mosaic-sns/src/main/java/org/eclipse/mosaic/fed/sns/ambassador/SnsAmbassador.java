@@ -22,6 +22,7 @@ import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DestinationType;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -34,6 +35,7 @@ import org.eclipse.mosaic.lib.objects.mapping.RsuMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TrafficLightMapping;
 import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
@@ -75,6 +77,11 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
      */
     private VehicleUpdates latestVehicleUpdates;
 
+    /**
+     * Reconstructs full vehicle data from received {@link VehicleDeltaUpdates}.
+     */
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
     /**
      * Construct the Ambassador.
      *
@@ -119,6 +126,8 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 this.process((ChargingStationRegistration) interaction);
             } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
                 this.process((VehicleUpdates) interaction);
+            } else if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+                this.process(((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder));
             } else if (interaction.getTypeId().equals(AdHocCommunicationConfiguration.TYPE_ID)) {
                 this.process((AdHocCommunicationConfiguration) interaction);
             } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
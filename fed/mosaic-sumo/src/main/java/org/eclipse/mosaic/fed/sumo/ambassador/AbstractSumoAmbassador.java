@@ -38,8 +38,11 @@ import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SumoLaneChangeMode;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SumoSpeedMode;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
+import org.eclipse.mosaic.fed.sumo.bridge.partition.PartitionedBridge;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.VehicleSetRemove;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.fed.sumo.trace.InteractionTraceWriter;
+import org.eclipse.mosaic.fed.sumo.trace.RecordingRtiAmbassador;
 import org.eclipse.mosaic.fed.sumo.util.SumoVehicleClassMapping;
 import org.eclipse.mosaic.fed.sumo.util.TrafficSignManager;
 import org.eclipse.mosaic.interactions.application.SumoTraciRequest;
@@ -52,6 +55,7 @@ import org.eclipse.mosaic.interactions.traffic.LanePropertyChange;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightStateChange;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightSubscription;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.trafficsigns.TrafficSignLaneAssignmentChange;
 import org.eclipse.mosaic.interactions.trafficsigns.TrafficSignRegistration;
@@ -79,11 +83,13 @@ import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightState;
 import org.eclipse.mosaic.lib.objects.trafficsign.TrafficSignLaneAssignment;
 import org.eclipse.mosaic.lib.objects.trafficsign.TrafficSignSpeed;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaEncoder;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleParameter;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.ProcessLoggingThread;
+import org.eclipse.mosaic.lib.util.SocketUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
@@ -156,6 +162,17 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     Socket socket;
 
+    /**
+     * Sockets with which data is exchanged with the SUMO instances of all additional partitions,
+     * if {@link CSumo#partitions} are configured.
+     */
+    private final List<Socket> partitionSockets = new ArrayList<>();
+
+    /**
+     * Commands used to start the SUMO instances of all additional partitions.
+     */
+    private final List<FederateExecutor> partitionExecutors = new ArrayList<>();
+
     /**
      * Indicates whether advance time is called for the first time.
      */
@@ -186,6 +203,16 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     private final TrafficSignManager trafficSignManager;
 
+    /**
+     * Encodes published vehicle updates, if {@link CSumo#deltaEncodedVehicleUpdates} is enabled.
+     */
+    private final VehicleDataDeltaEncoder vehicleDataEncoder;
+
+    /**
+     * Records all interactions published by this ambassador, if {@link CSumo#traceFile} is set.
+     */
+    private InteractionTraceWriter traceWriter;
+
     /**
      * Sleep after each connection try. Unit: [ms].
      */
@@ -236,6 +263,13 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         }
 
         log.info("sumoConfig.updateInterval: " + sumoConfig.updateInterval);
+        if (!sumoConfig.partitions.isEmpty()) {
+            // the SUMO instance started by the RTI simulates the first partition
+            sumoConfig.sumoConfigurationFile = sumoConfig.partitions.get(0).sumoConfigurationFile;
+            if (!sumoConfig.subscribeToAllVehicles) {
+                log.warn("Partitions require all vehicles to be subscribed, otherwise vehicles can not be handed over.");
+            }
+        }
         log.info("sumoConfig.sumoConfigurationFile: " + sumoConfig.sumoConfigurationFile);
 
         if (!findSumoConfigurationFile()) {
@@ -246,6 +280,10 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         log.info("sumoConfig.sumoConfigurationFile: " + sumoConfig.sumoConfigurationFile);
 
         trafficSignManager = new TrafficSignManager(sumoConfig.trafficSignLaneWidth);
+        vehicleDataEncoder = sumoConfig.deltaEncodedVehicleUpdates
+                ? new VehicleDataDeltaEncoder(
+                        sumoConfig.deltaPositionThreshold, sumoConfig.deltaSpeedThreshold, sumoConfig.deltaHeadingThreshold)
+                : null;
 
     }
 
@@ -400,6 +438,20 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
 
         nextTimeStep = startTime;
 
+        if (sumoConfig.traceFile != null) {
+            File traceFile = new File(sumoConfig.traceFile);
+            if (!traceFile.isAbsolute() && ambassadorParameter.configuration != null) {
+                traceFile = new File(ambassadorParameter.configuration.getParentFile(), sumoConfig.traceFile);
+            }
+            try {
+                traceWriter = new InteractionTraceWriter(traceFile);
+            } catch (IOException e) {
+                throw new InternalFederateException("Could not create trace file " + traceFile, e);
+            }
+            log.info("Recording published interactions to {}", traceFile);
+            rti = new RecordingRtiAmbassador(rti, traceWriter);
+        }
+
         // If simulation is to start and stop, do nothing and postpone the thing
         // to do until a VehicleRoutesInitialization interaction was received
         // Else connect to the TraCI server, if Sumo is already started no
@@ -441,6 +493,15 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             }
             log.info("Current API version of SUMO is {} (=SUMO {})", bridge.getCurrentVersion().getApiVersion(),
                     bridge.getCurrentVersion().getSumoVersion());
+
+            if (!partitionSockets.isEmpty()) {
+                final List<Bridge> partitionBridges = Lists.newArrayList(bridge);
+                for (Socket partitionSocket : partitionSockets) {
+                    partitionBridges.add(new TraciClientBridge(sumoConfig, partitionSocket));
+                }
+                bridge = new PartitionedBridge(sumoConfig, partitionBridges);
+                log.info("Coordinating {} SUMO instances, one for each partition", partitionBridges.size());
+            }
         } catch (IOException e) {
             log.error("Error while trying to initialize SUMO ambassador.", e);
             throw new InternalFederateException("Could not initialize SUMO ambassador. Please see Traffic.log for details.", e);
@@ -1182,6 +1243,53 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             log.error("Error while executing command: {}", federateExecutor.toString());
             throw new InternalFederateException("Error while starting Sumo: " + e.getLocalizedMessage());
         }
+
+        startAdditionalPartitionsLocal(dir);
+    }
+
+    /**
+     * Starts one further SUMO instance for each additional partition, the first partition
+     * is simulated by the SUMO instance started by the RTI.
+     */
+    private void startAdditionalPartitionsLocal(File dir) throws InternalFederateException {
+        for (CSumo.CSumoPartition partition : Iterables.skip(sumoConfig.partitions, 1)) {
+            int port = SocketUtils.findFreePort();
+            FederateExecutor partitionExecutor = new ExecutableFederateExecutor(
+                    descriptor, getFromSumoHome("sumo"), getProgramArguments(partition.sumoConfigurationFile, port)
+            );
+            partitionExecutors.add(partitionExecutor);
+
+            log.info("Start SUMO instance of partition {}", partition.id);
+            try {
+                Process p = partitionExecutor.startLocalFederate(dir);
+                new ProcessLoggingThread("sumo-" + partition.id, p.getInputStream(), log::info).start();
+                new ProcessLoggingThread("sumo-" + partition.id, p.getErrorStream(), log::error).start();
+            } catch (FederateExecutor.FederateStarterException e) {
+                log.error("Error while executing command: {}", partitionExecutor.toString());
+                throw new InternalFederateException("Error while starting Sumo: " + e.getLocalizedMessage());
+            }
+            partitionSockets.add(connectToPartition(partition, port));
+        }
+    }
+
+    private Socket connectToPartition(CSumo.CSumoPartition partition, int port) throws InternalFederateException {
+        for (int attempt = 0; attempt <= connectionAttempts; attempt++) {
+            try {
+                Socket partitionSocket = new Socket("localhost", port);
+                partitionSocket.setPerformancePreferences(0, 100, 10);
+                partitionSocket.setTcpNoDelay(true);
+                return partitionSocket;
+            } catch (IOException e) {
+                log.warn("Error while connecting to SUMO instance of partition {}. Retrying.", partition.id);
+            }
+            try {
+                Thread.sleep(SLEEP_AFTER_ATTEMPT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new InternalFederateException("Could not connect to SUMO instance of partition " + partition.id);
     }
 
     @Override
@@ -1233,7 +1341,11 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             nextTimeStep += sumoConfig.updateInterval * TIME.MILLI_SECOND;
             simulationStepResult.getVehicleUpdates().setNextUpdate(nextTimeStep);
 
-            rti.triggerInteraction(vehicleUpdates);
+            if (vehicleDataEncoder != null) {
+                rti.triggerInteraction(VehicleDeltaUpdates.encode(vehicleUpdates, vehicleDataEncoder));
+            } else {
+                rti.triggerInteraction(vehicleUpdates);
+            }
             rti.triggerInteraction(simulationStepResult.getTrafficDetectorUpdates());
             this.rti.triggerInteraction(simulationStepResult.getTrafficLightUpdates());
 
@@ -1393,6 +1505,20 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
                 log.warn("Could not properly stop federate");
             }
         }
+        for (FederateExecutor partitionExecutor : partitionExecutors) {
+            try {
+                partitionExecutor.stopLocalFederate();
+            } catch (FederateExecutor.FederateStarterException e) {
+                log.warn("Could not properly stop SUMO instance of partition");
+            }
+        }
+        if (traceWriter != null) {
+            try {
+                traceWriter.close();
+            } catch (IOException e) {
+                log.warn("Could not properly close trace file");
+            }
+        }
         log.info("Finished simulation");
     }
 
@@ -1458,11 +1584,15 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
     }
 
     List<String> getProgramArguments(int port) {
+        return getProgramArguments(sumoConfig.sumoConfigurationFile, port);
+    }
+
+    List<String> getProgramArguments(String sumoConfigurationFile, int port) {
         double stepSize = (double) sumoConfig.updateInterval / 1000.0;
         log.info("Simulation step size is {} sec.", stepSize);
 
         List<String> args = Lists.newArrayList(
-                "-c", sumoConfig.sumoConfigurationFile,
+                "-c", sumoConfigurationFile,
                 "-v",
                 "--remote-port", Integer.toString(port),
                 "--step-length", String.format(Locale.ENGLISH, "%.2f", stepSize)
@@ -108,6 +108,9 @@ public class LibSumoAmbassador extends SumoAmbassador {
             throw new InternalFederateException("Could not load sumo configuration file", e);
         }
 
+        if (sumoConfig.partitions.size() > 1) {
+            log.warn("Partitions are not supported when using libsumo. Only the first partition will be simulated.");
+        }
         bridge = new LibSumoBridge(sumoConfig, getProgramArguments(0));
     }
 
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.sumo.ambassador;
 import org.eclipse.mosaic.fed.sumo.util.SumoVehicleClassMapping;
 import org.eclipse.mosaic.fed.sumo.util.SumoVehicleTypesWriter;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistrations;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
@@ -105,6 +106,10 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
             this.receiveInteraction((VehicleTypesInitialization) interaction);
         } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
             this.receiveInteraction((VehicleRegistration) interaction);
+        } else if (interaction.getTypeId().equals(VehicleRegistrations.TYPE_ID)) {
+            for (VehicleRegistration vehicleRegistration : ((VehicleRegistrations) interaction).getRegistrations()) {
+                this.receiveInteraction(vehicleRegistration);
+            }
         } else {
             // ... everything else is saved for later
             super.processInteraction(interaction);
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.ambassador;
+
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.fed.sumo.trace.InteractionTraceReader;
+import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Replaces the SUMO ambassador by replaying a trace of interactions, which has been recorded
+ * in a previous simulation run by setting {@link CSumo#traceFile}. No SUMO instance is required,
+ * since all {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates}, traffic light updates, and
+ * registrations are read from the trace file. Consequently, interactions which would control
+ * vehicles or traffic lights in SUMO are ignored.
+ */
+public class SumoReplayAmbassador extends AbstractFederateAmbassador {
+
+    private final CSumo sumoConfig;
+
+    private InteractionTraceReader traceReader;
+
+    public SumoReplayAmbassador(AmbassadorParameter ambassadorParameter) {
+        super(ambassadorParameter);
+
+        CSumo config;
+        try {
+            config = new ObjectInstantiation<>(CSumo.class, log).readFile(ambassadorParameter.configuration);
+        } catch (InstantiationException e) {
+            log.error("Configuration object could not be instantiated. Using default ", e);
+            config = new CSumo();
+        }
+        sumoConfig = config;
+    }
+
+    @Override
+    public void initialize(long startTime, long endTime) throws InternalFederateException {
+        super.initialize(startTime, endTime);
+
+        if (sumoConfig.traceFile == null) {
+            throw new InternalFederateException("No trace file configured for replay.");
+        }
+        File traceFile = new File(sumoConfig.traceFile);
+        if (!traceFile.isAbsolute() && ambassadorParameter.configuration != null) {
+            traceFile = new File(ambassadorParameter.configuration.getParentFile(), sumoConfig.traceFile);
+        }
+        try {
+            traceReader = new InteractionTraceReader(traceFile, sumoConfig.traceReadAhead);
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not open trace file " + traceFile, e);
+        }
+        log.info("Replaying interactions from {}", traceFile);
+        requestNextInteraction();
+    }
+
+    @Override
+    protected void processInteraction(Interaction interaction) throws InternalFederateException {
+        log.debug("Ignoring interaction {} during replay", interaction.getTypeId());
+    }
+
+    @Override
+    protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
+        try {
+            Interaction next = traceReader.peek();
+            while (next != null && next.getTime() <= time) {
+                rti.triggerInteraction(traceReader.next());
+                next = traceReader.peek();
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new InternalFederateException(e);
+        }
+        requestNextInteraction();
+    }
+
+    private void requestNextInteraction() throws InternalFederateException {
+        try {
+            Interaction next = traceReader.peek();
+            if (next != null && next.getTime() <= getEndTime()) {
+                rti.requestAdvanceTime(next.getTime(), 0, FederatePriority.higher(descriptor.getPriority()));
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new InternalFederateException(e);
+        }
+    }
+
+    @Override
+    public void finishSimulation() throws InternalFederateException {
+        if (traceReader != null) {
+            try {
+                traceReader.close();
+            } catch (IOException e) {
+                log.warn("Could not properly close trace file");
+            }
+        }
+        log.info("Finished replay");
+    }
+
+    @Override
+    public boolean isTimeConstrained() {
+        return true;
+    }
+
+    @Override
+    public boolean isTimeRegulating() {
+        return true;
+    }
+}
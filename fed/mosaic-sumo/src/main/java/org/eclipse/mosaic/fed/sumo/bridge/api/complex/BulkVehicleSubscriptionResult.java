@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.api.complex;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.objects.pt.PtVehicleData;
+import org.eclipse.mosaic.lib.util.objects.Position;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the state of all subscribed vehicles of one simulation step in a column-oriented layout, i.e. one
+ * primitive array per vehicle variable. This allows bridges which retrieve vehicle states in-process
+ * (e.g. via libsumo) to export the state of all vehicles at once without creating one
+ * {@link VehicleSubscriptionResult} per vehicle and step. The arrays grow on demand and are
+ * meant to be reused for each simulation step. The {@link Position} of a vehicle is reused as long
+ * as the vehicle does not move, and the same applies to its leading and following vehicle as long as
+ * they and their distance do not change.
+ */
+public class BulkVehicleSubscriptionResult extends AbstractSubscriptionResult {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int size = 0;
+
+    public String[] ids = new String[INITIAL_CAPACITY];
+    /**
+     * Whether the vehicle has a valid position. If not, all other values of this vehicle are undefined.
+     */
+    public boolean[] positionValid = new boolean[INITIAL_CAPACITY];
+    public double[] x = new double[INITIAL_CAPACITY];
+    public double[] y = new double[INITIAL_CAPACITY];
+    public double[] z = new double[INITIAL_CAPACITY];
+    public double[] heading = new double[INITIAL_CAPACITY];
+    public double[] speed = new double[INITIAL_CAPACITY];
+    public double[] acceleration = new double[INITIAL_CAPACITY];
+    public double[] slope = new double[INITIAL_CAPACITY];
+    public double[] distanceDriven = new double[INITIAL_CAPACITY];
+    public int[] stoppedStateEncoded = new int[INITIAL_CAPACITY];
+    public int[] signalsEncoded = new int[INITIAL_CAPACITY];
+    public double[] minGap = new double[INITIAL_CAPACITY];
+
+    public String[] routeId = new String[INITIAL_CAPACITY];
+    public String[] edgeId = new String[INITIAL_CAPACITY];
+    public int[] laneIndex = new int[INITIAL_CAPACITY];
+    public double[] lanePosition = new double[INITIAL_CAPACITY];
+    public double[] lateralLanePosition = new double[INITIAL_CAPACITY];
+
+    public double[] co = new double[INITIAL_CAPACITY];
+    public double[] co2 = new double[INITIAL_CAPACITY];
+    public double[] pmx = new double[INITIAL_CAPACITY];
+    public double[] hc = new double[INITIAL_CAPACITY];
+    public double[] nox = new double[INITIAL_CAPACITY];
+    public double[] fuel = new double[INITIAL_CAPACITY];
+
+    public String[] leaderId = new String[INITIAL_CAPACITY];
+    public double[] leaderDistance = new double[INITIAL_CAPACITY];
+    public String[] followerId = new String[INITIAL_CAPACITY];
+    public double[] followerDistance = new double[INITIAL_CAPACITY];
+
+    public Object[] nextStops = new Object[INITIAL_CAPACITY];
+
+    /**
+     * The last position passed on for each vehicle. Positions end up in immutable vehicle data, hence
+     * a new object is only required if the vehicle has moved.
+     */
+    private final Map<String, Position> positions = new HashMap<>();
+
+    /**
+     * The last leading and following vehicle passed on for each vehicle, which are immutable as well.
+     */
+    private final Map<String, LeadFollowVehicle> leadingVehicles = new HashMap<>();
+    private final Map<String, LeadFollowVehicle> followerVehicles = new HashMap<>();
+
+    /**
+     * Returns the number of vehicles stored in this result.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all vehicles from this result, without releasing the allocated arrays.
+     */
+    public void clear() {
+        Arrays.fill(ids, 0, size, null);
+        Arrays.fill(routeId, 0, size, null);
+        Arrays.fill(edgeId, 0, size, null);
+        Arrays.fill(leaderId, 0, size, null);
+        Arrays.fill(followerId, 0, size, null);
+        Arrays.fill(nextStops, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds a new vehicle with default values and returns the index to store its values at.
+     *
+     * @param vehicleId the id of the vehicle
+     * @return the index of the vehicle in all arrays of this result
+     */
+    public int add(String vehicleId) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        final int index = size++;
+        ids[index] = vehicleId;
+        positionValid[index] = false;
+        leaderId[index] = null;
+        followerId[index] = null;
+        leaderDistance[index] = Double.POSITIVE_INFINITY;
+        followerDistance[index] = Double.POSITIVE_INFINITY;
+        return index;
+    }
+
+    /**
+     * Removes the most recently added vehicle, e.g. if its state could not be retrieved completely.
+     */
+    public void removeLast() {
+        if (size > 0) {
+            size--;
+            ids[size] = null;
+            nextStops[size] = null;
+        }
+    }
+
+    /**
+     * Forgets the last position of the given vehicle, e.g. after it has left the simulation.
+     *
+     * @param vehicleId the id of the vehicle
+     */
+    public void forget(String vehicleId) {
+        positions.remove(vehicleId);
+        leadingVehicles.remove(vehicleId);
+        followerVehicles.remove(vehicleId);
+    }
+
+    /**
+     * Copies all values of the vehicle at the given index into the given, reusable {@link VehicleSubscriptionResult}.
+     *
+     * @param index  the index of the vehicle
+     * @param target the result to overwrite with the values of the vehicle
+     * @return the given target
+     */
+    @SuppressWarnings("unchecked")
+    public VehicleSubscriptionResult copyTo(int index, VehicleSubscriptionResult target) {
+        target.id = ids[index];
+        target.position = positionValid[index] ? getPosition(index) : null;
+        target.heading = heading[index];
+        target.speed = speed[index];
+        target.acceleration = acceleration[index];
+        target.slope = slope[index];
+        target.distanceDriven = distanceDriven[index];
+        target.stoppedStateEncoded = stoppedStateEncoded[index];
+        target.signalsEncoded = signalsEncoded[index];
+        target.minGap = minGap[index];
+        target.routeId = routeId[index];
+        target.edgeId = edgeId[index];
+        target.laneIndex = laneIndex[index];
+        target.lanePosition = lanePosition[index];
+        target.lateralLanePosition = lateralLanePosition[index];
+        target.co = co[index];
+        target.co2 = co2[index];
+        target.pmx = pmx[index];
+        target.hc = hc[index];
+        target.nox = nox[index];
+        target.fuel = fuel[index];
+        target.leadingVehicle = getLeadFollowVehicle(leadingVehicles, ids[index], leaderId[index], leaderDistance[index]);
+        target.followerVehicle = getLeadFollowVehicle(followerVehicles, ids[index], followerId[index], followerDistance[index]);
+        target.nextStops = (List<PtVehicleData.StoppingPlace>) nextStops[index];
+        return target;
+    }
+
+    private Position getPosition(int index) {
+        Position position = positions.get(ids[index]);
+        if (position == null
+                || position.getProjectedPosition().getX() != x[index]
+                || position.getProjectedPosition().getY() != y[index]
+                || position.getProjectedPosition().getZ() != z[index]) {
+            position = new Position(CartesianPoint.xyz(x[index], y[index], z[index]));
+            positions.put(ids[index], position);
+        }
+        return position;
+    }
+
+    private static LeadFollowVehicle getLeadFollowVehicle(
+            Map<String, LeadFollowVehicle> lastVehicles, String vehicleId, String otherVehicleId, double distance
+    ) {
+        if (otherVehicleId == null) {
+            lastVehicles.remove(vehicleId);
+            return LeadFollowVehicle.NONE;
+        }
+        LeadFollowVehicle otherVehicle = lastVehicles.get(vehicleId);
+        if (otherVehicle == null || otherVehicle.getDistance() != distance || !otherVehicle.getOtherVehicleId().equals(otherVehicleId)) {
+            otherVehicle = new LeadFollowVehicle(otherVehicleId, distance);
+            lastVehicles.put(vehicleId, otherVehicle);
+        }
+        return otherVehicle;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        positionValid = Arrays.copyOf(positionValid, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        heading = Arrays.copyOf(heading, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        acceleration = Arrays.copyOf(acceleration, capacity);
+        slope = Arrays.copyOf(slope, capacity);
+        distanceDriven = Arrays.copyOf(distanceDriven, capacity);
+        stoppedStateEncoded = Arrays.copyOf(stoppedStateEncoded, capacity);
+        signalsEncoded = Arrays.copyOf(signalsEncoded, capacity);
+        minGap = Arrays.copyOf(minGap, capacity);
+        routeId = Arrays.copyOf(routeId, capacity);
+        edgeId = Arrays.copyOf(edgeId, capacity);
+        laneIndex = Arrays.copyOf(laneIndex, capacity);
+        lanePosition = Arrays.copyOf(lanePosition, capacity);
+        lateralLanePosition = Arrays.copyOf(lateralLanePosition, capacity);
+        co = Arrays.copyOf(co, capacity);
+        co2 = Arrays.copyOf(co2, capacity);
+        pmx = Arrays.copyOf(pmx, capacity);
+        hc = Arrays.copyOf(hc, capacity);
+        nox = Arrays.copyOf(nox, capacity);
+        fuel = Arrays.copyOf(fuel, capacity);
+        leaderId = Arrays.copyOf(leaderId, capacity);
+        leaderDistance = Arrays.copyOf(leaderDistance, capacity);
+        followerId = Arrays.copyOf(followerId, capacity);
+        followerDistance = Arrays.copyOf(followerDistance, capacity);
+        nextStops = Arrays.copyOf(nextStops, capacity);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.api.complex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class summarizes the results of a context subscription on the simulation, which
+ * retrieves the values of all objects of a certain domain (e.g. all induction loops) at once.
+ */
+public class SimulationContextSubscriptionResult extends AbstractSubscriptionResult {
+
+    /**
+     * A list of subscription results generated from the context subscription,
+     * e.g. all {@link InductionLoopSubscriptionResult}s of the simulation.
+     */
+    public List<AbstractSubscriptionResult> contextSubscriptions = new ArrayList<>();
+}
@@ -53,7 +53,7 @@ public class RouteFacade {
      * @param edges   list of edges of the new route
      * @throws InternalFederateException if the wanted route could not be added to simulation
      */
-    public final void addRoute(String routeId, List<String> edges) throws InternalFederateException {
+    public void addRoute(String routeId, List<String> edges) throws InternalFederateException {
         try {
             routeAdd.execute(bridge, routeId, edges);
         } catch (CommandException e) {
@@ -68,7 +68,7 @@ public class RouteFacade {
      * @return a list of edges
      * @throws InternalFederateException if the edges from the wanted route could not be retrieved
      */
-    public final List<String> getRouteEdges(String routeId) throws InternalFederateException {
+    public List<String> getRouteEdges(String routeId) throws InternalFederateException {
         try {
             return routeGetEdges.execute(bridge, routeId);
         } catch (CommandException e) {
@@ -19,7 +19,9 @@ import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
 import org.eclipse.mosaic.fed.sumo.bridge.api.InductionLoopSubscribe;
+import org.eclipse.mosaic.fed.sumo.bridge.api.InductionLoopSubscribeAll;
 import org.eclipse.mosaic.fed.sumo.bridge.api.LaneAreaSubscribe;
+import org.eclipse.mosaic.fed.sumo.bridge.api.LaneAreaSubscribeAll;
 import org.eclipse.mosaic.fed.sumo.bridge.api.LaneGetLength;
 import org.eclipse.mosaic.fed.sumo.bridge.api.LaneGetShape;
 import org.eclipse.mosaic.fed.sumo.bridge.api.LaneSetAllow;
@@ -37,9 +39,12 @@ import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSubscribe;
 import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSubscribeSurroundingVehicle;
 import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSubscriptionSetFieldOfVision;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.BulkVehicleSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopVehicleData;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LaneAreaSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SimulationContextSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TrafficLightSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleContextSubscriptionResult;
@@ -79,7 +84,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -110,6 +114,8 @@ public class SimulationFacade {
     private final InductionLoopSubscribe inductionloopSubscribe;
     private final LaneAreaSubscribe laneAreaSubscribe;
     private final TrafficLightSubscribe trafficLightSubscribe;
+    private final InductionLoopSubscribeAll inductionLoopSubscribeAll;
+    private final LaneAreaSubscribeAll laneAreaSubscribeAll;
 
     private final LaneSetAllow laneSetAllow;
     private final LaneSetDisallow laneSetDisallow;
@@ -121,6 +127,23 @@ public class SimulationFacade {
     private final Map<String, InductionLoop> inductionLoops = new HashMap<>();
     private final Map<String, SumoVehicleState> sumoVehicles = new HashMap<>();
 
+    /**
+     * End times of all subscribed induction loops and lane area detectors, if
+     * {@link CSumo#aggregateDetectorSubscriptions} is enabled. Results of detectors which
+     * are not contained are dropped, since SUMO returns the values of all detectors then.
+     */
+    private final Map<String, Long> subscribedInductionLoops = new HashMap<>();
+    private final Map<String, Long> subscribedLaneAreas = new HashMap<>();
+
+    /**
+     * Reused for each vehicle of a {@link BulkVehicleSubscriptionResult}, which avoids creating
+     * an intermediate result object per vehicle and simulation step.
+     */
+    private final VehicleSubscriptionResult bulkVehicleResult = new VehicleSubscriptionResult();
+
+    private long nextInductionLoopUpdate = 0;
+    private long nextLaneAreaUpdate = 0;
+
     /**
      * This list is used to cache teleporting vehicles. It is only filled if at least one vehicle is potentially teleporting
      * and reset to {@code null} after each time step.
@@ -182,6 +205,13 @@ public class SimulationFacade {
         this.laneAreaSubscribe = bridge.getCommandRegister().getOrCreate(LaneAreaSubscribe.class);
         this.vehicleSubscribe = bridge.getCommandRegister().getOrCreate(VehicleSubscribe.class);
         this.trafficLightSubscribe = bridge.getCommandRegister().getOrCreate(TrafficLightSubscribe.class);
+        if (sumoConfiguration.aggregateDetectorSubscriptions) {
+            this.inductionLoopSubscribeAll = bridge.getCommandRegister().getOrCreate(InductionLoopSubscribeAll.class);
+            this.laneAreaSubscribeAll = bridge.getCommandRegister().getOrCreate(LaneAreaSubscribeAll.class);
+        } else {
+            this.inductionLoopSubscribeAll = null;
+            this.laneAreaSubscribeAll = null;
+        }
 
         this.laneSetAllow = bridge.getCommandRegister().getOrCreate(LaneSetAllow.class);
         this.laneSetDisallow = bridge.getCommandRegister().getOrCreate(LaneSetDisallow.class);
@@ -200,7 +230,7 @@ public class SimulationFacade {
      * @return a list of vehicle ids.
      * @throws InternalFederateException if departed vehicles couldn't be retrieved
      */
-    public final List<String> getDepartedVehicles() throws InternalFederateException {
+    public List<String> getDepartedVehicles() throws InternalFederateException {
         try {
             return getDepartedVehicleIds.execute(bridge);
         } catch (CommandException e) {
@@ -286,8 +316,15 @@ public class SimulationFacade {
      * @param end             the time [ns] the subscription should end
      * @throws InternalFederateException if it wasn't possible to subscribe for the wanted induction loop
      */
-    public final void subscribeForInductionLoop(String inductionLoopId, long start, long end) throws InternalFederateException {
+    public void subscribeForInductionLoop(String inductionLoopId, long start, long end) throws InternalFederateException {
         try {
+            if (inductionLoopSubscribeAll != null) {
+                if (subscribedInductionLoops.isEmpty()) {
+                    inductionLoopSubscribeAll.execute(bridge, start, Long.MAX_VALUE);
+                }
+                subscribedInductionLoops.put(inductionLoopId, end);
+                return;
+            }
             inductionloopSubscribe.execute(bridge, inductionLoopId, start, end);
         } catch (CommandException e) {
             throw new InternalFederateException(String.format("Could not subscribe for induction loop %s", inductionLoopId), e);
@@ -302,8 +339,15 @@ public class SimulationFacade {
      * @param end        the time [ns] the subscription should end
      * @throws InternalFederateException if it wasn't possible to subscribe for the wanted lane area
      */
-    public final void subscribeForLaneArea(String laneAreaId, long start, long end) throws InternalFederateException {
+    public void subscribeForLaneArea(String laneAreaId, long start, long end) throws InternalFederateException {
         try {
+            if (laneAreaSubscribeAll != null) {
+                if (subscribedLaneAreas.isEmpty()) {
+                    laneAreaSubscribeAll.execute(bridge, start, Long.MAX_VALUE);
+                }
+                subscribedLaneAreas.put(laneAreaId, end);
+                return;
+            }
             laneAreaSubscribe.execute(bridge, laneAreaId, start, end);
         } catch (CommandException e) {
             throw new InternalFederateException(String.format("Could not subscribe for lane area %s", laneAreaId), e);
@@ -334,7 +378,7 @@ public class SimulationFacade {
      * @param allowedVClasses classes for which the lane should be opened
      * @throws InternalFederateException if changing the set of allowed vehicles for the chosen lane couldn't be done
      */
-    public final void setLaneAllowedVehicles(String laneId, List<String> allowedVClasses) throws InternalFederateException {
+    public void setLaneAllowedVehicles(String laneId, List<String> allowedVClasses) throws InternalFederateException {
         try {
             laneSetAllow.execute(bridge, laneId, allowedVClasses);
             updateBestLanesBeforeNextSimulationStep = true;
@@ -350,7 +394,7 @@ public class SimulationFacade {
      * @param disallowedVClasses classes for which the lane should be closed
      * @throws InternalFederateException if changing the set of disallowed vehicles for the chosen lane couldn't be done
      */
-    public final void setLaneDisallowedVehicles(String laneId, List<String> disallowedVClasses) throws InternalFederateException {
+    public void setLaneDisallowedVehicles(String laneId, List<String> disallowedVClasses) throws InternalFederateException {
         try {
             laneSetDisallow.execute(bridge, laneId, disallowedVClasses);
             updateBestLanesBeforeNextSimulationStep = true;
@@ -369,7 +413,7 @@ public class SimulationFacade {
      * @param maxSpeed the maximum speed to set in m/s
      * @throws InternalFederateException if changing the allowed maximum speed for the wanted lane wasn't possible
      */
-    public final void setLaneMaxSpeed(String laneId, double maxSpeed) throws InternalFederateException {
+    public void setLaneMaxSpeed(String laneId, double maxSpeed) throws InternalFederateException {
         try {
             laneSetMaxSpeed.execute(bridge, laneId, maxSpeed);
         } catch (CommandException e) {
@@ -383,7 +427,7 @@ public class SimulationFacade {
      * @param laneId The id of the lane. Must be known to the simulation.
      * @throws InternalFederateException if the length of the wanted lane on the wanted edge couldn't be retrieved
      */
-    public final double getLengthOfLane(String laneId) throws InternalFederateException {
+    public double getLengthOfLane(String laneId) throws InternalFederateException {
         try {
             return laneGetLength.execute(bridge, laneId);
         } catch (CommandException e) {
@@ -397,7 +441,7 @@ public class SimulationFacade {
      * @param laneId The id of the lane. Must be known to the simulation.
      * @throws InternalFederateException if the length of the wanted lane on the wanted edge couldn't be retrieved
      */
-    public final List<Position> getShapeOfLane(String laneId) throws InternalFederateException {
+    public List<Position> getShapeOfLane(String laneId) throws InternalFederateException {
         try {
             return laneGetShape.execute(bridge, laneId);
         } catch (CommandException e) {
@@ -437,34 +481,41 @@ public class SimulationFacade {
             // POST-PROCESSING
             sumoVehicles.values().forEach(v -> v.lastVehicleData = v.currentVehicleData);
 
-            final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(subscriptions);
+            final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(time, subscriptions);
+
+            final List<VehicleData> addedVehicles = new ArrayList<>();
+            final List<VehicleData> updatedVehicles = new ArrayList<>(sumoVehicles.size());
 
-            final List<VehicleData> addedVehicles = new LinkedList<>();
-            final List<VehicleData> updatedVehicles = new LinkedList<>();
+            // detectors without a specific update interval are updated with each simulation step
+            final boolean inductionLoopsDue = time >= nextInductionLoopUpdate;
+            final boolean laneAreasDue = time >= nextLaneAreaUpdate;
+            if (inductionLoopsDue && sumoConfiguration.inductionLoopUpdateInterval != null) {
+                nextInductionLoopUpdate = time + sumoConfiguration.inductionLoopUpdateInterval * TIME.MILLI_SECOND;
+            }
+            if (laneAreasDue && sumoConfiguration.laneAreaUpdateInterval != null) {
+                nextLaneAreaUpdate = time + sumoConfiguration.laneAreaUpdateInterval * TIME.MILLI_SECOND;
+            }
 
-            final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
+            final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>(inductionLoopsDue ? inductionLoops.size() : 0);
             final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
             final Map<String, TrafficLightGroupInfo> trafficLightGroupInfos = new HashMap<>();
 
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleSubscriptionResult result) {
-                    final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(
-                            time, result, vehicleSegmentInfo
-                    );
-                    if (sumoVehicle == null) {
-                        continue;
+                    processVehicle(time, result, vehicleSegmentInfo, addedVehicles, updatedVehicles);
+                } else if (subscriptionResult instanceof BulkVehicleSubscriptionResult result) {
+                    for (int i = 0; i < result.size(); i++) {
+                        processVehicle(time, result.copyTo(i, bulkVehicleResult), vehicleSegmentInfo, addedVehicles, updatedVehicles);
                     }
-                    if (sumoVehicle.isAdded()) {
-                        addedVehicles.add(sumoVehicle.currentVehicleData);
-                    } else if (sumoVehicle.isUpdated()) {
-                        updatedVehicles.add(sumoVehicle.currentVehicleData);
+                } else if (subscriptionResult instanceof SimulationContextSubscriptionResult result) {
+                    for (AbstractSubscriptionResult detectorResult : result.contextSubscriptions) {
+                        processDetectorSubscriptionResult(time, detectorResult, inductionLoopsDue, laneAreasDue,
+                                updatedInductionLoops, updatedLaneAreas);
                     }
-                } else if (subscriptionResult instanceof InductionLoopSubscriptionResult result) {
-                    final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(time, result);
-                    updatedInductionLoops.add(inductionLoopInfo);
-                } else if (subscriptionResult instanceof LaneAreaSubscriptionResult result) {
-                    final LaneAreaDetectorInfo laneAreaDetectorInfo = processLaneAreaSubscriptionResult(time, result);
-                    updatedLaneAreas.add(laneAreaDetectorInfo);
+                } else if (subscriptionResult instanceof InductionLoopSubscriptionResult
+                        || subscriptionResult instanceof LaneAreaSubscriptionResult) {
+                    processDetectorSubscriptionResult(time, subscriptionResult, inductionLoopsDue, laneAreasDue,
+                            updatedInductionLoops, updatedLaneAreas);
                 } else if (subscriptionResult instanceof TrafficLightSubscriptionResult result) {
                     final TrafficLightGroupInfo trafficLightGroupInfo = processTrafficLightSubscriptionResult(result);
                     trafficLightGroupInfos.put(trafficLightGroupInfo.getGroupId(), trafficLightGroupInfo);
@@ -492,6 +543,20 @@ public class SimulationFacade {
         }
     }
 
+    private void processVehicle(long time, VehicleSubscriptionResult result, Map<String, String> vehicleSegmentInfo,
+                                List<VehicleData> addedVehicles, List<VehicleData> updatedVehicles
+    ) throws CommandException, InternalFederateException {
+        final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(time, result, vehicleSegmentInfo);
+        if (sumoVehicle == null) {
+            return;
+        }
+        if (sumoVehicle.isAdded()) {
+            addedVehicles.add(sumoVehicle.currentVehicleData);
+        } else if (sumoVehicle.isUpdated()) {
+            updatedVehicles.add(sumoVehicle.currentVehicleData);
+        }
+    }
+
     private SumoVehicleState processVehicleSubscriptionResult(final long time,
                                                               final VehicleSubscriptionResult veh,
                                                               final Map<String, String> vehicleSegmentInfo
@@ -584,7 +649,7 @@ public class SimulationFacade {
     }
 
     private List<String> findRemovedVehicles(long time) throws CommandException, InternalFederateException {
-        final List<String> removedVehicles = new LinkedList<>();
+        final List<String> removedVehicles = new ArrayList<>();
         for (Iterator<SumoVehicleState> vehicleIt = sumoVehicles.values().iterator(); vehicleIt.hasNext(); ) {
             SumoVehicleState vehicle = vehicleIt.next();
             if (vehicle.isNotUpdated()) {
@@ -611,11 +676,50 @@ public class SimulationFacade {
         }
     }
 
-    private InductionLoopInfo processInductionLoopSubscriptionResult(long time, InductionLoopSubscriptionResult inductionLoop) {
-        int count = (int) inductionLoop.vehiclesOnInductionLoop.stream().filter((s) -> s.leaveTime >= 0).count();
+    /**
+     * Processes the result of a single induction loop or lane area detector. The flow of induction loops is
+     * updated with every simulation step, whereas detector information is only created if the update
+     * interval of the respective detector class has passed.
+     */
+    private void processDetectorSubscriptionResult(long time, AbstractSubscriptionResult detectorResult,
+                                                   boolean inductionLoopsDue, boolean laneAreasDue,
+                                                   List<InductionLoopInfo> updatedInductionLoops,
+                                                   List<LaneAreaDetectorInfo> updatedLaneAreas) {
+        if (detectorResult instanceof InductionLoopSubscriptionResult result) {
+            if (inductionLoopSubscribeAll != null && !isSubscribed(subscribedInductionLoops, result.id, time)) {
+                return;
+            }
+            final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(time, result, inductionLoopsDue);
+            if (inductionLoopInfo != null) {
+                updatedInductionLoops.add(inductionLoopInfo);
+            }
+        } else if (detectorResult instanceof LaneAreaSubscriptionResult result && laneAreasDue) {
+            if (laneAreaSubscribeAll != null && !isSubscribed(subscribedLaneAreas, result.id, time)) {
+                return;
+            }
+            updatedLaneAreas.add(processLaneAreaSubscriptionResult(time, result));
+        }
+    }
+
+    private static boolean isSubscribed(Map<String, Long> subscribedDetectors, String detectorId, long time) {
+        final Long subscriptionEnd = subscribedDetectors.get(detectorId);
+        return subscriptionEnd != null && subscriptionEnd >= time;
+    }
+
+    private InductionLoopInfo processInductionLoopSubscriptionResult(long time, InductionLoopSubscriptionResult inductionLoop, boolean due) {
+        int count = 0;
+        for (InductionLoopVehicleData vehicle : inductionLoop.vehiclesOnInductionLoop) {
+            if (vehicle.leaveTime >= 0) {
+                count++;
+            }
+        }
+        final double flow = calculateFlow(time, inductionLoop.id, count);
+        if (!due) {
+            return null;
+        }
         return new InductionLoopInfo.Builder(time, inductionLoop.id)
                 .vehicleData(inductionLoop.meanSpeed, inductionLoop.meanVehicleLength)
-                .traffic(count, calculateFlow(time, inductionLoop.id, count))
+                .traffic(count, flow)
                 .create();
     }
 
@@ -722,22 +826,36 @@ public class SimulationFacade {
     /**
      * Maps vehicles to the their current lane segments (on which a vehicle is located).
      *
+     * @param time          The current simulation time.
      * @param subscriptions Subscription data.
      * @return The segment of the vehicle.
      */
-    private Map<String, String> calculateVehicleSegmentInfo(List<AbstractSubscriptionResult> subscriptions) {
+    private Map<String, String> calculateVehicleSegmentInfo(long time, List<AbstractSubscriptionResult> subscriptions) {
         Map<String, String> vehicleToSegmentMap = new HashMap<>();
-        for (AbstractSubscriptionResult laneAreaDetector : subscriptions) {
-            if (!(laneAreaDetector instanceof LaneAreaSubscriptionResult result)) {
-                continue;
-            }
-            for (String vehicle : result.vehicles) {
-                vehicleToSegmentMap.putIfAbsent(vehicle, laneAreaDetector.id);
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof SimulationContextSubscriptionResult result) {
+                for (AbstractSubscriptionResult laneAreaDetector : result.contextSubscriptions) {
+                    addVehicleSegmentInfo(time, laneAreaDetector, vehicleToSegmentMap);
+                }
+            } else {
+                addVehicleSegmentInfo(time, subscriptionResult, vehicleToSegmentMap);
             }
         }
         return vehicleToSegmentMap;
     }
 
+    private void addVehicleSegmentInfo(long time, AbstractSubscriptionResult laneAreaDetector, Map<String, String> vehicleToSegmentMap) {
+        if (!(laneAreaDetector instanceof LaneAreaSubscriptionResult result)) {
+            return;
+        }
+        if (laneAreaSubscribeAll != null && !isSubscribed(subscribedLaneAreas, result.id, time)) {
+            return;
+        }
+        for (String vehicle : result.vehicles) {
+            vehicleToSegmentMap.putIfAbsent(vehicle, result.id);
+        }
+    }
+
     private SumoVehicleState getOrCreateVehicleState(String id) {
         return sumoVehicles.computeIfAbsent(id, SumoVehicleState::new);
     }
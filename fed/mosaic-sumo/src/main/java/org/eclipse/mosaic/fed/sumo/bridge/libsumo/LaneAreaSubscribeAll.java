@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.libsumo;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+
+import org.eclipse.sumo.libsumo.LaneArea;
+import org.eclipse.sumo.libsumo.StringVector;
+
+public class LaneAreaSubscribeAll implements org.eclipse.mosaic.fed.sumo.bridge.api.LaneAreaSubscribeAll {
+
+    public void execute(Bridge bridge, long startTime, long endTime) {
+        final StringVector ids = LaneArea.getIDList();
+        for (String id : ids) {
+            if (!SimulationSimulateStep.LANE_AREA_SUBSCRIPTIONS.contains(id)) {
+                SimulationSimulateStep.LANE_AREA_SUBSCRIPTIONS.add(id);
+            }
+        }
+        ids.delete();
+    }
+}
@@ -15,16 +15,37 @@
 
 package org.eclipse.mosaic.fed.sumo.bridge.libsumo;
 
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_ACCELERATION;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_ANGLE;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_DISTANCE;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_CO;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_CO2;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_FUEL;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_HC;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_NOX;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_EMISSIONS_PMX;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_LANE_INDEX;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_LANE_POSITION;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_LATERAL_LANE_POSITION;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_POSITION_3D;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_ROAD_ID;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_ROUTE_ID;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_SIGNAL_STATES;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_SLOPE;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_SPEED;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState.VAR_STOP_STATE;
+
 import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.BulkVehicleSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopVehicleData;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LaneAreaSubscriptionResult;
-import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TrafficLightSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleContextSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.SumoVar;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.lib.enums.VehicleStopMode;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
@@ -36,37 +57,50 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.sumo.libsumo.ContextSubscriptionResults;
 import org.eclipse.sumo.libsumo.InductionLoop;
+import org.eclipse.sumo.libsumo.IntVector;
 import org.eclipse.sumo.libsumo.LaneArea;
 import org.eclipse.sumo.libsumo.Simulation;
 import org.eclipse.sumo.libsumo.StringDoublePair;
 import org.eclipse.sumo.libsumo.StringVector;
+import org.eclipse.sumo.libsumo.SubscriptionResults;
+import org.eclipse.sumo.libsumo.TraCIDouble;
+import org.eclipse.sumo.libsumo.TraCIInt;
 import org.eclipse.sumo.libsumo.TraCINextStopData;
 import org.eclipse.sumo.libsumo.TraCINextStopDataVector2;
 import org.eclipse.sumo.libsumo.TraCIPosition;
+import org.eclipse.sumo.libsumo.TraCIResults;
+import org.eclipse.sumo.libsumo.TraCIString;
 import org.eclipse.sumo.libsumo.TraCIVehicleData;
 import org.eclipse.sumo.libsumo.TrafficLight;
 import org.eclipse.sumo.libsumo.Vehicle;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 
 public class SimulationSimulateStep implements org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep {
 
-    private final static Logger LOG = LoggerFactory.getLogger(SimulationSimulateStep.class);
-
     final static List<String> VEHICLE_SUBSCRIPTIONS = new ArrayList<>();
     final static List<String> INDUCTION_LOOP_SUBSCRIPTIONS = new ArrayList<>();
     final static List<String> LANE_AREA_SUBSCRIPTIONS = new ArrayList<>();
     final static List<String> TRAFFIC_LIGHT_SUBSCRIPTIONS = new ArrayList<>();
 
+    /**
+     * The variables each vehicle is subscribed to, depending on the configured subscription categories.
+     */
+    final static IntVector VEHICLE_VARIABLES = new IntVector();
+
     private final boolean fetchRoadPosition;
     private final boolean fetchEmissions;
     private final boolean fetchLeaderAndFollower;
     private final boolean fetchSignals;
+    private final boolean fetchNextStops;
+
+    /**
+     * Holds the states of all subscribed vehicles. Reused for each simulation step to avoid
+     * creating one result object per vehicle and step.
+     */
+    private final BulkVehicleSubscriptionResult vehicleStates = new BulkVehicleSubscriptionResult();
 
     public SimulationSimulateStep(Bridge ignored, CSumo sumoConfiguration) {
         VEHICLE_SUBSCRIPTIONS.clear();
@@ -78,6 +112,8 @@ public class SimulationSimulateStep implements org.eclipse.mosaic.fed.sumo.bridg
         fetchEmissions = sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_EMISSIONS);
         fetchSignals = sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_SIGNALS);
         fetchLeaderAndFollower = sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_LEADER);
+        fetchNextStops = sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_TRAINS);
+        initVehicleVariables();
     }
 
     public SimulationSimulateStep() {
@@ -90,6 +126,28 @@ public class SimulationSimulateStep implements org.eclipse.mosaic.fed.sumo.bridg
         fetchEmissions = true;
         fetchSignals = true;
         fetchLeaderAndFollower = true;
+        fetchNextStops = true;
+        initVehicleVariables();
+    }
+
+    private void initVehicleVariables() {
+        VEHICLE_VARIABLES.clear();
+        addVehicleVariables(VAR_POSITION_3D, VAR_SPEED, VAR_DISTANCE, VAR_ANGLE, VAR_SLOPE, VAR_ACCELERATION, VAR_STOP_STATE, VAR_ROUTE_ID);
+        if (fetchRoadPosition) {
+            addVehicleVariables(VAR_ROAD_ID, VAR_LANE_INDEX, VAR_LANE_POSITION, VAR_LATERAL_LANE_POSITION);
+        }
+        if (fetchEmissions) {
+            addVehicleVariables(VAR_EMISSIONS_CO2, VAR_EMISSIONS_CO, VAR_EMISSIONS_HC, VAR_EMISSIONS_PMX, VAR_EMISSIONS_NOX, VAR_EMISSIONS_FUEL);
+        }
+        if (fetchSignals) {
+            addVehicleVariables(VAR_SIGNAL_STATES);
+        }
+    }
+
+    private static void addVehicleVariables(SumoVar... vars) {
+        for (SumoVar var : vars) {
+            VEHICLE_VARIABLES.add(var.var);
+        }
     }
 
     public List<AbstractSubscriptionResult> execute(Bridge bridge, long time) throws CommandException, InternalFederateException {
@@ -108,72 +166,93 @@ public class SimulationSimulateStep implements org.eclipse.mosaic.fed.sumo.bridg
     private void readVehicles(List<AbstractSubscriptionResult> results) {
         StringVector arrivedIds = Simulation.getArrivedIDList();
         for (String arrived : arrivedIds) {
-            VEHICLE_SUBSCRIPTIONS.remove(Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(arrived));
+            String mosaicVehicleId = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(arrived);
+            VEHICLE_SUBSCRIPTIONS.remove(mosaicVehicleId);
+            vehicleStates.forget(mosaicVehicleId);
         }
         arrivedIds.delete();
 
-        String sumoVehicleId;
-        String mosaicVehicleId;
-        for (Iterator<String> subscriptionsIt = VEHICLE_SUBSCRIPTIONS.iterator(); subscriptionsIt.hasNext(); ) {
-            mosaicVehicleId = subscriptionsIt.next();
-            sumoVehicleId = Bridge.VEHICLE_ID_TRANSFORMER.toExternalId(mosaicVehicleId);
-
-            VehicleSubscriptionResult result = new VehicleSubscriptionResult();
-            result.id = mosaicVehicleId;
-
-            try {
-                result.position = getPosition(Vehicle.getPosition(sumoVehicleId, true));
-            } catch (IllegalArgumentException e) {
-                LOG.error("Could not read position from vehicle. Unsubscribe.", e);
-                subscriptionsIt.remove();
+        vehicleStates.clear();
+
+        // all subscribed variables of all vehicles are fetched with one call instead of one call per vehicle and variable
+        final SubscriptionResults subscriptionResults = Vehicle.getAllSubscriptionResults();
+        subscriptionResults.forEach((sumoVehicleId, values) -> {
+            final int i = vehicleStates.add(Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(sumoVehicleId));
+            readPosition(TraCIPosition.cast(values.get(VAR_POSITION_3D.var)), i);
+            if (!vehicleStates.positionValid[i]) {
+                vehicleStates.removeLast();
+                values.delete();
+                return;
             }
-            if (result.position == null) {
-                continue;
-            }
-
-            result.speed = Vehicle.getSpeed(sumoVehicleId);
-            result.distanceDriven = Vehicle.getDistance(sumoVehicleId);
-            result.heading = Vehicle.getAngle(sumoVehicleId);
-            result.slope = Vehicle.getSlope(sumoVehicleId);
-            result.acceleration = Vehicle.getAcceleration(sumoVehicleId);
-            result.stoppedStateEncoded = Vehicle.getStopState(sumoVehicleId);
-            result.routeId = Vehicle.getRouteID(sumoVehicleId);
 
-            if (fetchSignals) {
-                result.signalsEncoded = Vehicle.getSignals(sumoVehicleId);
-            }
+            vehicleStates.speed[i] = getDouble(values, VAR_SPEED);
+            vehicleStates.distanceDriven[i] = getDouble(values, VAR_DISTANCE);
+            vehicleStates.heading[i] = getDouble(values, VAR_ANGLE);
+            vehicleStates.slope[i] = getDouble(values, VAR_SLOPE);
+            vehicleStates.acceleration[i] = getDouble(values, VAR_ACCELERATION);
+            vehicleStates.stoppedStateEncoded[i] = getInt(values, VAR_STOP_STATE);
+            vehicleStates.routeId[i] = getString(values, VAR_ROUTE_ID);
+            vehicleStates.signalsEncoded[i] = fetchSignals ? getInt(values, VAR_SIGNAL_STATES) : 0;
 
             if (fetchRoadPosition) {
-                result.edgeId = Vehicle.getRoadID(sumoVehicleId);
-                result.lanePosition = Vehicle.getLanePosition(sumoVehicleId);
-                result.lateralLanePosition = Vehicle.getLateralLanePosition(sumoVehicleId);
-                result.laneIndex = Vehicle.getLaneIndex(sumoVehicleId);
+                vehicleStates.edgeId[i] = getString(values, VAR_ROAD_ID);
+                vehicleStates.lanePosition[i] = getDouble(values, VAR_LANE_POSITION);
+                vehicleStates.lateralLanePosition[i] = getDouble(values, VAR_LATERAL_LANE_POSITION);
+                vehicleStates.laneIndex[i] = getInt(values, VAR_LANE_INDEX);
+            } else {
+                vehicleStates.edgeId[i] = null;
+                vehicleStates.lanePosition[i] = 0;
+                vehicleStates.lateralLanePosition[i] = 0;
+                vehicleStates.laneIndex[i] = 0;
             }
 
             if (fetchEmissions) {
-                result.co2 = Vehicle.getCO2Emission(sumoVehicleId);
-                result.co = Vehicle.getCOEmission(sumoVehicleId);
-                result.hc = Vehicle.getHCEmission(sumoVehicleId);
-                result.pmx = Vehicle.getPMxEmission(sumoVehicleId);
-                result.nox = Vehicle.getNOxEmission(sumoVehicleId);
-                result.fuel = Vehicle.getFuelConsumption(sumoVehicleId);
+                vehicleStates.co2[i] = getDouble(values, VAR_EMISSIONS_CO2);
+                vehicleStates.co[i] = getDouble(values, VAR_EMISSIONS_CO);
+                vehicleStates.hc[i] = getDouble(values, VAR_EMISSIONS_HC);
+                vehicleStates.pmx[i] = getDouble(values, VAR_EMISSIONS_PMX);
+                vehicleStates.nox[i] = getDouble(values, VAR_EMISSIONS_NOX);
+                vehicleStates.fuel[i] = getDouble(values, VAR_EMISSIONS_FUEL);
+            } else {
+                vehicleStates.co2[i] = 0;
+                vehicleStates.co[i] = 0;
+                vehicleStates.hc[i] = 0;
+                vehicleStates.pmx[i] = 0;
+                vehicleStates.nox[i] = 0;
+                vehicleStates.fuel[i] = 0;
             }
+            values.delete();
 
+            // leader, follower and stops require parameters or complex types, hence they are fetched directly
             if (fetchLeaderAndFollower) {
-                result.minGap = Vehicle.getMinGap(sumoVehicleId);
-                result.leadingVehicle = getLeaderFollower(Vehicle.getLeader(sumoVehicleId));
-                result.followerVehicle = getLeaderFollower(Vehicle.getFollower(sumoVehicleId));
+                vehicleStates.minGap[i] = Vehicle.getMinGap(sumoVehicleId);
+                readLeader(Vehicle.getLeader(sumoVehicleId), i);
+                readFollower(Vehicle.getFollower(sumoVehicleId), i);
             } else {
-                result.leadingVehicle = LeadFollowVehicle.NONE;
-                result.followerVehicle = LeadFollowVehicle.NONE;
+                vehicleStates.minGap[i] = 0;
             }
 
-            result.nextStops = getNextStop(Vehicle.getStops(sumoVehicleId, 1));
+            vehicleStates.nextStops[i] = fetchNextStops ? getNextStop(Vehicle.getStops(sumoVehicleId, 1)) : null;
+        });
+        subscriptionResults.delete();
 
-            results.add(result);
+        if (vehicleStates.size() > 0) {
+            results.add(vehicleStates);
         }
     }
 
+    private static double getDouble(TraCIResults values, SumoVar var) {
+        return TraCIDouble.cast(values.get(var.var)).getValue();
+    }
+
+    private static int getInt(TraCIResults values, SumoVar var) {
+        return TraCIInt.cast(values.get(var.var)).getValue();
+    }
+
+    private static String getString(TraCIResults values, SumoVar var) {
+        return TraCIString.cast(values.get(var.var)).getValue();
+    }
+
     private List<PtVehicleData.StoppingPlace> getNextStop(TraCINextStopDataVector2 stops) {
         if (stops.isEmpty()) {
             return null;
@@ -192,17 +271,40 @@ public class SimulationSimulateStep implements org.eclipse.mosaic.fed.sumo.bridg
         return nextStops;
     }
 
-    private LeadFollowVehicle getLeaderFollower(StringDoublePair leaderFollower) {
+    private void readLeader(StringDoublePair leader, int index) {
+        try {
+            if (StringUtils.isNotBlank(leader.getFirst())) {
+                vehicleStates.leaderId[index] = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(leader.getFirst());
+                vehicleStates.leaderDistance[index] = leader.getSecond();
+            }
+        } finally {
+            leader.delete();
+        }
+    }
+
+    private void readFollower(StringDoublePair follower, int index) {
+        try {
+            if (StringUtils.isNotBlank(follower.getFirst())) {
+                vehicleStates.followerId[index] = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(follower.getFirst());
+                vehicleStates.followerDistance[index] = follower.getSecond();
+            }
+        } finally {
+            follower.delete();
+        }
+    }
+
+    private void readPosition(TraCIPosition traCIPosition, int index) {
         try {
-            if (StringUtils.isNotBlank(leaderFollower.getFirst())) {
-                return new LeadFollowVehicle(
-                        Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(leaderFollower.getFirst()),
-                        leaderFollower.getSecond()
-                );
+            if (traCIPosition.getX() < -1000 && traCIPosition.getY() < -1000) {
+                vehicleStates.positionValid[index] = false;
+                return;
             }
-            return LeadFollowVehicle.NONE;
+            vehicleStates.positionValid[index] = true;
+            vehicleStates.x[index] = traCIPosition.getX();
+            vehicleStates.y[index] = traCIPosition.getY();
+            vehicleStates.z[index] = traCIPosition.getZ() < -1000 ? 0 : traCIPosition.getZ();
         } finally {
-            leaderFollower.delete();
+            traCIPosition.delete();
         }
     }
 
@@ -16,11 +16,25 @@
 package org.eclipse.mosaic.fed.sumo.bridge.libsumo;
 
 import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.eclipse.sumo.libsumo.Vehicle;
 
 public class VehicleSubscribe implements org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSubscribe {
 
-    public void execute(Bridge bridge, String vehicleId, long startTime, long endTime) {
+    public void execute(Bridge bridge, String vehicleId, long startTime, long endTime) throws CommandException {
         if (!SimulationSimulateStep.VEHICLE_SUBSCRIPTIONS.contains(vehicleId)) {
+            try {
+                Vehicle.subscribe(
+                        Bridge.VEHICLE_ID_TRANSFORMER.toExternalId(vehicleId),
+                        SimulationSimulateStep.VEHICLE_VARIABLES,
+                        ((double) startTime) / TIME.SECOND,
+                        ((double) endTime) / TIME.SECOND
+                );
+            } catch (IllegalArgumentException e) {
+                throw new CommandException("Could not subscribe to vehicle " + vehicleId);
+            }
             SimulationSimulateStep.VEHICLE_SUBSCRIPTIONS.add(vehicleId);
         }
     }
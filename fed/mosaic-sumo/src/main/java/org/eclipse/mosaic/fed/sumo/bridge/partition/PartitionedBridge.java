@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.PoiFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Nonnull;
+
+/**
+ * Implementation of a {@link Bridge} which coordinates several SUMO instances, each simulating
+ * one geographic partition of the road network (see {@link CSumo#partitions}). Each vehicle and each
+ * traffic light group is assigned to the partition simulating it, and all calls to the facades of this
+ * bridge are forwarded to the bridge of the responsible partition. The first partition is the primary one,
+ * which is used for all calls which are not related to a specific partition.
+ */
+public class PartitionedBridge implements Bridge {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final List<SumoPartition> partitions = new ArrayList<>();
+    private final SumoPartition primary;
+
+    private final Map<String, SumoPartition> vehiclePartitions = new HashMap<>();
+    private final Map<String, SumoPartition> trafficLightPartitions = new HashMap<>();
+
+    /**
+     * Caches the edges of all routes known to any partition.
+     */
+    private final Map<String, List<String>> routeEdges = new HashMap<>();
+
+    /**
+     * Maps the IDs of routes which have been cut at the boundaries of a partition to the IDs of their original routes.
+     */
+    private final Map<String, String> cutRoutes = new HashMap<>();
+
+    private final ExecutorService executorService;
+
+    private final PartitionedSimulationFacade simulationControl;
+    private final PartitionedVehicleFacade vehicleControl;
+    private final PartitionedTrafficLightFacade trafficLightControl;
+    private final PartitionedRouteFacade routeControl;
+
+    /**
+     * Creates a new {@link PartitionedBridge} on top of the bridges to the SUMO instances of all partitions.
+     *
+     * @param sumoConfiguration the SUMO configuration containing the list of partitions
+     * @param bridges           the bridges to the SUMO instances, in the same order as {@link CSumo#partitions}
+     * @throws InternalFederateException if the routes known to the SUMO instances could not be read
+     */
+    public PartitionedBridge(@Nonnull CSumo sumoConfiguration, @Nonnull List<Bridge> bridges) throws InternalFederateException {
+        Validate.isTrue(!bridges.isEmpty() && bridges.size() == sumoConfiguration.partitions.size(),
+                "Expected one bridge for each of the %d partitions", sumoConfiguration.partitions.size());
+
+        final Map<String, SumoPartition> partitionsById = new HashMap<>();
+        for (int i = 0; i < bridges.size(); i++) {
+            SumoPartition partition = new SumoPartition(sumoConfiguration.partitions.get(i).id, bridges.get(i));
+            Validate.isTrue(partitionsById.put(partition.getId(), partition) == null, "Duplicate partition %s", partition.getId());
+            partitions.add(partition);
+        }
+        for (int i = 0; i < bridges.size(); i++) {
+            SumoPartition partition = partitions.get(i);
+            for (Map.Entry<String, String> boundaryEdge : sumoConfiguration.partitions.get(i).boundaryEdges.entrySet()) {
+                SumoPartition target = partitionsById.get(boundaryEdge.getValue());
+                Validate.notNull(target, "Unknown partition %s at boundary edge %s", boundaryEdge.getValue(), boundaryEdge.getKey());
+                partition.getBoundaryEdges().put(boundaryEdge.getKey(), target);
+            }
+            partition.getRouteIds().addAll(partition.getBridge().getRouteControl().getRouteIds());
+        }
+        this.primary = partitions.get(0);
+
+        this.executorService = Executors.newFixedThreadPool(partitions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "sumo-partition");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.simulationControl = new PartitionedSimulationFacade(this, sumoConfiguration);
+        this.vehicleControl = new PartitionedVehicleFacade(this);
+        this.trafficLightControl = new PartitionedTrafficLightFacade(this);
+        this.routeControl = new PartitionedRouteFacade(this);
+    }
+
+    List<SumoPartition> getPartitions() {
+        return Collections.unmodifiableList(partitions);
+    }
+
+    SumoPartition getPrimaryPartition() {
+        return primary;
+    }
+
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Returns the partition currently simulating the given vehicle, or the primary partition if the vehicle is unknown.
+     */
+    SumoPartition getPartitionOfVehicle(String vehicleId) {
+        return vehiclePartitions.getOrDefault(vehicleId, primary);
+    }
+
+    void assignVehicle(String vehicleId, SumoPartition partition) {
+        vehiclePartitions.put(vehicleId, partition);
+    }
+
+    void unassignVehicle(String vehicleId) {
+        vehiclePartitions.remove(vehicleId);
+    }
+
+    /**
+     * Returns the partition simulating the given traffic light group, or the primary partition if the group is unknown.
+     */
+    SumoPartition getPartitionOfTrafficLight(String trafficLightGroupId) {
+        return trafficLightPartitions.getOrDefault(trafficLightGroupId, primary);
+    }
+
+    void assignTrafficLight(String trafficLightGroupId, SumoPartition partition) {
+        trafficLightPartitions.put(trafficLightGroupId, partition);
+    }
+
+    void putRouteEdges(String routeId, List<String> edges) {
+        routeEdges.put(routeId, edges);
+    }
+
+    /**
+     * Returns the edges of the given route, which are read from the first partition knowing the route if not yet cached.
+     *
+     * @throws InternalFederateException if no partition knows the given route
+     */
+    List<String> getRouteEdges(String routeId) throws InternalFederateException {
+        List<String> edges = routeEdges.get(routeId);
+        if (edges != null) {
+            return edges;
+        }
+        for (SumoPartition partition : partitions) {
+            if (partition.getRouteIds().contains(routeId)) {
+                edges = partition.getBridge().getRouteControl().getRouteEdges(routeId);
+                routeEdges.put(routeId, edges);
+                return edges;
+            }
+        }
+        throw new InternalFederateException(String.format("Could not retrieve route edges for route '%s'", routeId));
+    }
+
+    /**
+     * Returns the ID of the route of which the given route has been cut from, or the given ID if it is an original route.
+     */
+    String getOriginalRouteId(String routeId) {
+        return cutRoutes.getOrDefault(routeId, routeId);
+    }
+
+    /**
+     * Returns the ID of a route known to the given partition, which follows the given route beginning at the given
+     * edge index up to and including the next boundary edge of the partition. Such a route is added to the partition
+     * if not yet existing.
+     *
+     * @param partition  the partition to prepare the route for
+     * @param routeId    the ID of the original route
+     * @param startIndex the index of the first edge of the route to follow
+     * @return the ID of the route to use for vehicles in the given partition
+     * @throws InternalFederateException if the route is not known or contains edges not existing in the partition
+     */
+    String prepareRoute(SumoPartition partition, String routeId, int startIndex) throws InternalFederateException {
+        final List<String> edges = getRouteEdges(routeId);
+        int endIndex = edges.size();
+        for (int i = startIndex + 1; i < edges.size(); i++) {
+            if (partition.getBoundaryEdges().containsKey(edges.get(i))) {
+                endIndex = i + 1;
+                break;
+            }
+        }
+
+        final String partitionRouteId = startIndex == 0 && endIndex == edges.size()
+                ? routeId
+                : routeId + "_" + partition.getId() + "_" + startIndex;
+        if (partition.getRouteIds().contains(partitionRouteId)) {
+            return partitionRouteId;
+        }
+        if (partition.getRejectedRouteIds().contains(partitionRouteId)) {
+            throw new InternalFederateException(
+                    String.format("Route '%s' is not valid in partition %s", partitionRouteId, partition.getId())
+            );
+        }
+        try {
+            partition.getBridge().getRouteControl().addRoute(partitionRouteId, edges.subList(startIndex, endIndex));
+        } catch (InternalFederateException e) {
+            partition.getRejectedRouteIds().add(partitionRouteId);
+            throw e;
+        }
+        partition.getRouteIds().add(partitionRouteId);
+        if (!partitionRouteId.equals(routeId)) {
+            cutRoutes.put(partitionRouteId, routeId);
+        }
+        return partitionRouteId;
+    }
+
+    @Override
+    public DataInputStream getIn() {
+        return primary.getBridge().getIn();
+    }
+
+    @Override
+    public DataOutputStream getOut() {
+        return primary.getBridge().getOut();
+    }
+
+    @Override
+    public SumoVersion getCurrentVersion() {
+        return primary.getBridge().getCurrentVersion();
+    }
+
+    @Override
+    public CommandRegister getCommandRegister() {
+        return primary.getBridge().getCommandRegister();
+    }
+
+    @Override
+    public SimulationFacade getSimulationControl() {
+        return simulationControl;
+    }
+
+    @Override
+    public VehicleFacade getVehicleControl() {
+        return vehicleControl;
+    }
+
+    @Override
+    public TrafficLightFacade getTrafficLightControl() {
+        return trafficLightControl;
+    }
+
+    @Override
+    public RouteFacade getRouteControl() {
+        return routeControl;
+    }
+
+    /**
+     * Returns the facade of the primary partition, as POIs are only used for visualization purposes.
+     */
+    @Override
+    public PoiFacade getPoiControl() {
+        return primary.getBridge().getPoiControl();
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        for (SumoPartition partition : partitions) {
+            log.info("Closing SUMO connection of partition {}", partition.getId());
+            partition.getBridge().close();
+        }
+    }
+
+    @Override
+    public void emergencyExit(Throwable e) {
+        executorService.shutdownNow();
+        for (SumoPartition partition : partitions) {
+            partition.getBridge().emergencyExit(e);
+        }
+    }
+
+    @Override
+    public void onCommandCompleted() {
+        // commands are executed on the bridges of the partitions which handle this callback themselves
+    }
+}
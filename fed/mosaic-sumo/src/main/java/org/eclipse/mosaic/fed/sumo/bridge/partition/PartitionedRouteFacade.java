@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adds routes to all partitions whose network contains all edges of the route. Routes crossing
+ * the boundaries of partitions are only cached, and cut into partition specific routes as soon
+ * as a vehicle is added to or handed over to a partition (see {@link PartitionedBridge#prepareRoute}).
+ */
+class PartitionedRouteFacade extends RouteFacade {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final PartitionedBridge bridge;
+
+    PartitionedRouteFacade(PartitionedBridge bridge) {
+        super(bridge.getPrimaryPartition().getBridge());
+        this.bridge = bridge;
+    }
+
+    @Override
+    public void addRoute(String routeId, List<String> edges) throws InternalFederateException {
+        bridge.putRouteEdges(routeId, new ArrayList<>(edges));
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                partition.getBridge().getRouteControl().addRoute(routeId, edges);
+                partition.getRouteIds().add(routeId);
+            } catch (InternalFederateException e) {
+                log.debug("Route '{}' is not completely covered by partition {}", routeId, partition.getId());
+            }
+        }
+    }
+
+    @Override
+    public List<String> getRouteEdges(String routeId) throws InternalFederateException {
+        return bridge.getRouteEdges(bridge.getOriginalRouteId(routeId));
+    }
+
+    @Override
+    public List<String> getRouteIds() throws InternalFederateException {
+        final Set<String> routeIds = new LinkedHashSet<>();
+        for (SumoPartition partition : bridge.getPartitions()) {
+            for (String routeId : partition.getBridge().getRouteControl().getRouteIds()) {
+                routeIds.add(bridge.getOriginalRouteId(routeId));
+            }
+        }
+        return new ArrayList<>(routeIds);
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSetRemove;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
+import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroupInfo;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Advances the SUMO instances of all partitions in parallel and merges their results into one
+ * {@link TraciSimulationStepResult}. After each simulation step, all vehicles which entered a boundary
+ * edge of their partition are handed over to the adjacent partition, by removing them from the SUMO instance
+ * of their current partition and adding them on the same lane and position to the SUMO instance of the
+ * adjacent partition. Hand overs are transparent to other federates, i.e. such vehicles are neither reported
+ * as removed nor as added, and their route and driven distance are kept consistent.
+ */
+class PartitionedSimulationFacade extends SimulationFacade {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final PartitionedBridge bridge;
+    private final CSumo sumoConfiguration;
+
+    /**
+     * Vehicles which have been handed over, mapped to the partition which is about to report their removal.
+     */
+    private final Map<String, SumoPartition> leavingVehicles = new HashMap<>();
+
+    /**
+     * Vehicles which have been handed over, mapped to the partition which is about to report their addition.
+     */
+    private final Map<String, SumoPartition> arrivingVehicles = new HashMap<>();
+
+    /**
+     * The distance driven by handed over vehicles in previous partitions.
+     */
+    private final Map<String, Double> distanceOffsets = new HashMap<>();
+
+    /**
+     * The edge at which each vehicle has been handed over the last time.
+     */
+    private final Map<String, String> handOverEdges = new HashMap<>();
+
+    /**
+     * The end time of the subscriptions of each vehicle, required to subscribe again after a hand over.
+     */
+    private final Map<String, Long> subscriptionEnds = new HashMap<>();
+
+    PartitionedSimulationFacade(PartitionedBridge bridge, CSumo sumoConfiguration) {
+        super(bridge.getPrimaryPartition().getBridge(), sumoConfiguration);
+        this.bridge = bridge;
+        this.sumoConfiguration = sumoConfiguration;
+    }
+
+    private SimulationFacade of(SumoPartition partition) {
+        return partition.getBridge().getSimulationControl();
+    }
+
+    private SimulationFacade ofVehicle(String vehicleId) {
+        return of(bridge.getPartitionOfVehicle(vehicleId));
+    }
+
+    @Override
+    public List<String> getDepartedVehicles() throws InternalFederateException {
+        final List<String> departedVehicles = new ArrayList<>();
+        for (SumoPartition partition : bridge.getPartitions()) {
+            for (String vehicleId : of(partition).getDepartedVehicles()) {
+                if (handOverEdges.containsKey(vehicleId)) {
+                    continue; // vehicle has been handed over from another partition
+                }
+                bridge.assignVehicle(vehicleId, partition);
+                departedVehicles.add(vehicleId);
+            }
+        }
+        return departedVehicles;
+    }
+
+    @Override
+    public List<String> getTrafficLightGroupIds() throws InternalFederateException {
+        final List<String> trafficLightGroupIds = new ArrayList<>();
+        for (SumoPartition partition : bridge.getPartitions()) {
+            for (String trafficLightGroupId : of(partition).getTrafficLightGroupIds()) {
+                bridge.assignTrafficLight(trafficLightGroupId, partition);
+                trafficLightGroupIds.add(trafficLightGroupId);
+            }
+        }
+        return trafficLightGroupIds;
+    }
+
+    /**
+     * Adds the vehicle to the first partition which contains the first edges of the given route.
+     */
+    @Override
+    public void addVehicle(String vehicleId, String routeId, String vehicleType,
+                           String laneId, String departPos, String departSpeed) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                String partitionRouteId = bridge.prepareRoute(partition, routeId, 0);
+                of(partition).addVehicle(vehicleId, partitionRouteId, vehicleType, laneId, departPos, departSpeed);
+                bridge.assignVehicle(vehicleId, partition);
+                return;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        throw new InternalFederateException(String.format("Could not add vehicle %s to any partition", vehicleId), lastException);
+    }
+
+    @Override
+    public void subscribeForVehicle(String vehicleId, long start, long end) throws InternalFederateException {
+        ofVehicle(vehicleId).subscribeForVehicle(vehicleId, start, end);
+        subscriptionEnds.put(vehicleId, end);
+    }
+
+    @Override
+    public void subscribeForVehiclesWithinFieldOfVision(String vehicleId, long start, long end, double range, double openingAngle)
+            throws InternalFederateException {
+        ofVehicle(vehicleId).subscribeForVehiclesWithinFieldOfVision(vehicleId, start, end, range, openingAngle);
+    }
+
+    @Override
+    public void subscribeForInductionLoop(String inductionLoopId, long start, long end) throws InternalFederateException {
+        if (sumoConfiguration.aggregateDetectorSubscriptions) {
+            // unknown detectors are not rejected by SUMO in this case, but are filtered out by each partition
+            for (SumoPartition partition : bridge.getPartitions()) {
+                of(partition).subscribeForInductionLoop(inductionLoopId, start, end);
+            }
+            return;
+        }
+        InternalFederateException lastException = null;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                of(partition).subscribeForInductionLoop(inductionLoopId, start, end);
+                return;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public void subscribeForLaneArea(String laneAreaId, long start, long end) throws InternalFederateException {
+        if (sumoConfiguration.aggregateDetectorSubscriptions) {
+            // unknown detectors are not rejected by SUMO in this case, but are filtered out by each partition
+            for (SumoPartition partition : bridge.getPartitions()) {
+                of(partition).subscribeForLaneArea(laneAreaId, start, end);
+            }
+            return;
+        }
+        InternalFederateException lastException = null;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                of(partition).subscribeForLaneArea(laneAreaId, start, end);
+                return;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public void subscribeForTrafficLight(String trafficLightGroupId, long start, long end) throws InternalFederateException {
+        of(bridge.getPartitionOfTrafficLight(trafficLightGroupId)).subscribeForTrafficLight(trafficLightGroupId, start, end);
+    }
+
+    @Override
+    public void setLaneAllowedVehicles(String laneId, List<String> allowedVClasses) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        boolean applied = false;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                of(partition).setLaneAllowedVehicles(laneId, allowedVClasses);
+                applied = true;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        if (!applied) {
+            throw lastException;
+        }
+    }
+
+    @Override
+    public void setLaneDisallowedVehicles(String laneId, List<String> disallowedVClasses) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        boolean applied = false;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                of(partition).setLaneDisallowedVehicles(laneId, disallowedVClasses);
+                applied = true;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        if (!applied) {
+            throw lastException;
+        }
+    }
+
+    @Override
+    public void setLaneMaxSpeed(String laneId, double maxSpeed) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        boolean applied = false;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                of(partition).setLaneMaxSpeed(laneId, maxSpeed);
+                applied = true;
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        if (!applied) {
+            throw lastException;
+        }
+    }
+
+    @Override
+    public double getLengthOfLane(String laneId) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                return of(partition).getLengthOfLane(laneId);
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public List<Position> getShapeOfLane(String laneId) throws InternalFederateException {
+        InternalFederateException lastException = null;
+        for (SumoPartition partition : bridge.getPartitions()) {
+            try {
+                return of(partition).getShapeOfLane(laneId);
+            } catch (InternalFederateException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public void configureDistanceSensors(String vehicleId, double maximumLookahead, boolean front, boolean rear) {
+        for (SumoPartition partition : bridge.getPartitions()) {
+            of(partition).configureDistanceSensors(vehicleId, maximumLookahead, front, rear);
+        }
+    }
+
+    @Override
+    public VehicleData getLastKnownVehicleData(String vehicleId) {
+        final VehicleData vehicleData = ofVehicle(vehicleId).getLastKnownVehicleData(vehicleId);
+        return vehicleData != null ? restore(vehicleData) : null;
+    }
+
+    @Override
+    public void removeVehicle(String vehicleId, VehicleSetRemove.Reason reason) throws InternalFederateException {
+        ofVehicle(vehicleId).removeVehicle(vehicleId, reason);
+    }
+
+    /**
+     * Simulates all partitions in parallel until the given time, merges their results, and
+     * hands over all vehicles which entered a boundary edge of their partition afterward.
+     *
+     * @param time Time step.
+     * @return merged result of the simulation step of all partitions.
+     * @throws InternalFederateException if any partition could not properly simulate the step
+     */
+    @Override
+    public TraciSimulationStepResult simulateUntil(long time) throws InternalFederateException {
+        final List<Future<TraciSimulationStepResult>> futures = new ArrayList<>();
+        for (SumoPartition partition : bridge.getPartitions()) {
+            final Callable<TraciSimulationStepResult> step = () -> of(partition).simulateUntil(time);
+            futures.add(bridge.getExecutorService().submit(step));
+        }
+
+        final List<VehicleData> addedVehicles = new ArrayList<>();
+        final List<VehicleData> updatedVehicles = new ArrayList<>();
+        final List<String> removedVehicles = new ArrayList<>();
+        final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
+        final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
+        final Map<String, TrafficLightGroupInfo> trafficLightGroupInfos = new HashMap<>();
+
+        for (int i = 0; i < futures.size(); i++) {
+            final SumoPartition partition = bridge.getPartitions().get(i);
+            final TraciSimulationStepResult result = awaitResult(futures.get(i), partition);
+
+            final VehicleUpdates vehicleUpdates = result.getVehicleUpdates();
+            for (VehicleData added : vehicleUpdates.getAdded()) {
+                if (arrivingVehicles.remove(added.getName(), partition)) {
+                    updatedVehicles.add(restore(added));
+                } else {
+                    addedVehicles.add(restore(added));
+                }
+            }
+            for (VehicleData updated : vehicleUpdates.getUpdated()) {
+                updatedVehicles.add(restore(updated));
+            }
+            for (String removed : vehicleUpdates.getRemovedNames()) {
+                if (!leavingVehicles.remove(removed, partition)) {
+                    removedVehicles.add(removed);
+                    bridge.unassignVehicle(removed);
+                    distanceOffsets.remove(removed);
+                    handOverEdges.remove(removed);
+                    subscriptionEnds.remove(removed);
+                }
+            }
+
+            updatedInductionLoops.addAll(result.getTrafficDetectorUpdates().getUpdatedInductionLoops());
+            updatedLaneAreas.addAll(result.getTrafficDetectorUpdates().getUpdatedLaneAreaDetectors());
+            trafficLightGroupInfos.putAll(result.getTrafficLightUpdates().getUpdated());
+        }
+
+        handOverVehicles(addedVehicles, time);
+        handOverVehicles(updatedVehicles, time);
+
+        return new TraciSimulationStepResult(
+                new VehicleUpdates(time, addedVehicles, updatedVehicles, removedVehicles),
+                new TrafficDetectorUpdates(time, updatedLaneAreas, updatedInductionLoops),
+                new TrafficLightUpdates(time, trafficLightGroupInfos)
+        );
+    }
+
+    private TraciSimulationStepResult awaitResult(Future<TraciSimulationStepResult> future, SumoPartition partition)
+            throws InternalFederateException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException("Interrupted while simulating partition " + partition.getId(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InternalFederateException cause) {
+                throw cause;
+            }
+            throw new InternalFederateException("Could not simulate partition " + partition.getId(), e);
+        }
+    }
+
+    /**
+     * Replaces the ID of a cut route with the ID of the original route, and adds the distance driven in previous partitions.
+     */
+    private VehicleData restore(VehicleData vehicleData) {
+        final String originalRouteId = bridge.getOriginalRouteId(vehicleData.getRouteId());
+        final Double distanceOffset = distanceOffsets.get(vehicleData.getName());
+        if (distanceOffset == null && Objects.equals(originalRouteId, vehicleData.getRouteId())) {
+            return vehicleData;
+        }
+        final VehicleData.Builder builder = new VehicleData.Builder(vehicleData.getTime(), vehicleData.getName())
+                .copyFrom(vehicleData)
+                .route(originalRouteId);
+        if (distanceOffset != null) {
+            builder.movement(
+                    vehicleData.getSpeed(),
+                    vehicleData.getLongitudinalAcceleration() != null ? vehicleData.getLongitudinalAcceleration() : 0d,
+                    vehicleData.getDistanceDriven() + distanceOffset
+            );
+        }
+        return builder.create();
+    }
+
+    private void handOverVehicles(List<VehicleData> vehicles, long time) {
+        for (VehicleData vehicleData : vehicles) {
+            final IRoadPosition roadPosition = vehicleData.getRoadPosition();
+            if (roadPosition == null || leavingVehicles.containsKey(vehicleData.getName())
+                    || roadPosition.getConnectionId().equals(handOverEdges.get(vehicleData.getName()))) {
+                continue;
+            }
+            final SumoPartition source = bridge.getPartitionOfVehicle(vehicleData.getName());
+            final SumoPartition target = source.getBoundaryEdges().get(roadPosition.getConnectionId());
+            if (target != null) {
+                try {
+                    handOverVehicle(vehicleData, source, target, time);
+                } catch (InternalFederateException e) {
+                    log.warn("Could not hand over vehicle {} from partition {} to partition {}",
+                            vehicleData.getName(), source.getId(), target.getId(), e);
+                }
+            }
+        }
+    }
+
+    private void handOverVehicle(VehicleData vehicleData, SumoPartition source, SumoPartition target, long time)
+            throws InternalFederateException {
+        final String vehicleId = vehicleData.getName();
+        final IRoadPosition roadPosition = vehicleData.getRoadPosition();
+        final String routeId = vehicleData.getRouteId();
+        final int edgeIndex = bridge.getRouteEdges(routeId).indexOf(roadPosition.getConnectionId());
+        if (edgeIndex < 0) {
+            throw new InternalFederateException(
+                    String.format("Boundary edge %s is not part of route %s", roadPosition.getConnectionId(), routeId)
+            );
+        }
+
+        final String vehicleType = source.getBridge().getVehicleControl().getVehicleTypeId(vehicleId);
+        final String targetRouteId = bridge.prepareRoute(target, routeId, edgeIndex);
+
+        of(source).removeVehicle(vehicleId, VehicleSetRemove.Reason.ARRIVED);
+        of(target).addVehicle(vehicleId, targetRouteId, vehicleType,
+                Integer.toString(roadPosition.getLaneIndex()),
+                String.format(Locale.ENGLISH, "%.2f", roadPosition.getOffset()),
+                String.format(Locale.ENGLISH, "%.2f", vehicleData.getSpeed())
+        );
+        leavingVehicles.put(vehicleId, source);
+        arrivingVehicles.put(vehicleId, target);
+        distanceOffsets.put(vehicleId, vehicleData.getDistanceDriven());
+        handOverEdges.put(vehicleId, roadPosition.getConnectionId());
+        bridge.assignVehicle(vehicleId, target);
+
+        final Long subscriptionEnd = subscriptionEnds.get(vehicleId);
+        if (subscriptionEnd != null) {
+            of(target).subscribeForVehicle(vehicleId, time, subscriptionEnd);
+        }
+        log.debug("Handed over vehicle {} from partition {} to partition {} at edge {}",
+                vehicleId, source.getId(), target.getId(), roadPosition.getConnectionId());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightState;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Forwards all calls to the traffic light facade of the partition simulating the respective traffic light group.
+ */
+class PartitionedTrafficLightFacade extends TrafficLightFacade {
+
+    private final PartitionedBridge bridge;
+
+    PartitionedTrafficLightFacade(PartitionedBridge bridge) {
+        super(bridge.getPrimaryPartition().getBridge());
+        this.bridge = bridge;
+    }
+
+    private TrafficLightFacade of(String trafficLightGroupId) {
+        return bridge.getPartitionOfTrafficLight(trafficLightGroupId).getBridge().getTrafficLightControl();
+    }
+
+    @Override
+    public String getCurrentProgram(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getCurrentProgram(trafficLightGroupId);
+    }
+
+    @Override
+    public int getCurrentPhase(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getCurrentPhase(trafficLightGroupId);
+    }
+
+    @Override
+    public double getNextSwitchTime(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getNextSwitchTime(trafficLightGroupId);
+    }
+
+    @Override
+    public Collection<String> getControlledLanes(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getControlledLanes(trafficLightGroupId);
+    }
+
+    @Override
+    public TrafficLightGroup getTrafficLightGroup(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getTrafficLightGroup(trafficLightGroupId);
+    }
+
+    @Override
+    public List<TrafficLightState> getCurrentStates(String trafficLightGroupId) throws InternalFederateException {
+        return of(trafficLightGroupId).getCurrentStates(trafficLightGroupId);
+    }
+
+    @Override
+    public void setPhaseRemainingDuration(String trafficLightGroupId, double phaseRemainingDurationS) throws InternalFederateException {
+        of(trafficLightGroupId).setPhaseRemainingDuration(trafficLightGroupId, phaseRemainingDurationS);
+    }
+
+    @Override
+    public void setProgramById(String trafficLightGroupId, String programId) throws InternalFederateException {
+        of(trafficLightGroupId).setProgramById(trafficLightGroupId, programId);
+    }
+
+    @Override
+    public void setPhaseIndex(String trafficLightGroupId, int phaseId) throws InternalFederateException {
+        of(trafficLightGroupId).setPhaseIndex(trafficLightGroupId, phaseId);
+    }
+
+    @Override
+    public void setPhase(String trafficLightGroupId, List<TrafficLightState> stateList) throws InternalFederateException {
+        of(trafficLightGroupId).setPhase(trafficLightGroupId, stateList);
+    }
+}
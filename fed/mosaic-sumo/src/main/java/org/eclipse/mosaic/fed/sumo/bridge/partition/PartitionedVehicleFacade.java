@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSetMoveToXY;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SumoLaneChangeMode;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SumoSpeedMode;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.awt.Color;
+import java.util.List;
+
+/**
+ * Forwards all calls to the vehicle facade of the partition currently simulating the respective vehicle.
+ * Vehicle types are expected to be equal in all partitions, and are therefore read from the primary partition.
+ */
+class PartitionedVehicleFacade extends VehicleFacade {
+
+    private final PartitionedBridge bridge;
+
+    PartitionedVehicleFacade(PartitionedBridge bridge) {
+        super(bridge.getPrimaryPartition().getBridge());
+        this.bridge = bridge;
+    }
+
+    private VehicleFacade of(String vehicleId) {
+        return bridge.getPartitionOfVehicle(vehicleId).getBridge().getVehicleControl();
+    }
+
+    @Override
+    public String getRouteId(String vehicleId) throws InternalFederateException {
+        return bridge.getOriginalRouteId(of(vehicleId).getRouteId(vehicleId));
+    }
+
+    /**
+     * Sets the given route for the vehicle. Since the route may cross the boundaries of the partition currently
+     * simulating the vehicle, the vehicle actually follows a route which begins at its current edge and ends
+     * at the next boundary edge of its partition.
+     */
+    @Override
+    public void setRouteById(String vehicle, String routeId) throws InternalFederateException {
+        final SumoPartition partition = bridge.getPartitionOfVehicle(vehicle);
+        final VehicleData vehicleData = bridge.getSimulationControl().getLastKnownVehicleData(vehicle);
+        int startIndex = 0;
+        if (vehicleData != null && vehicleData.getRoadPosition() != null) {
+            List<String> edges = bridge.getRouteEdges(routeId);
+            startIndex = Math.max(0, edges.indexOf(vehicleData.getRoadPosition().getConnectionId()));
+        }
+        partition.getBridge().getVehicleControl().setRouteById(vehicle, bridge.prepareRoute(partition, routeId, startIndex));
+    }
+
+    @Override
+    public String getVehicleTypeId(String vehicleId) throws InternalFederateException {
+        return of(vehicleId).getVehicleTypeId(vehicleId);
+    }
+
+    @Override
+    public void changeLane(String vehicle, int lane, long duration) throws InternalFederateException {
+        of(vehicle).changeLane(vehicle, lane, duration);
+    }
+
+    @Override
+    public void slowDown(String vehicle, double newSpeedMps, long duration) throws InternalFederateException {
+        of(vehicle).slowDown(vehicle, newSpeedMps, duration);
+    }
+
+    @Override
+    public void stop(String vehicle, String edgeId, double position, int laneIndex, long duration, VehicleStopMode stopMode) throws InternalFederateException {
+        of(vehicle).stop(vehicle, edgeId, position, laneIndex, duration, stopMode);
+    }
+
+    @Override
+    public void resume(String vehicle) throws InternalFederateException {
+        of(vehicle).resume(vehicle);
+    }
+
+    @Override
+    public void highlight(String vehicleId, Color color) throws InternalFederateException {
+        of(vehicleId).highlight(vehicleId, color);
+    }
+
+    @Override
+    public void setMaxSpeed(String vehicleId, double speed) throws InternalFederateException {
+        of(vehicleId).setMaxSpeed(vehicleId, speed);
+    }
+
+    @Override
+    public void setImperfection(String vehicleId, double imperfectionValue) throws InternalFederateException {
+        of(vehicleId).setImperfection(vehicleId, imperfectionValue);
+    }
+
+    @Override
+    public void setMaxAcceleration(String vehicleId, double maxAcceleration) throws InternalFederateException {
+        of(vehicleId).setMaxAcceleration(vehicleId, maxAcceleration);
+    }
+
+    @Override
+    public void setMaxDeceleration(String vehicleId, double maxDeceleration) throws InternalFederateException {
+        of(vehicleId).setMaxDeceleration(vehicleId, maxDeceleration);
+    }
+
+    @Override
+    public void setMinimumGap(String vehicleId, double minGap) throws InternalFederateException {
+        of(vehicleId).setMinimumGap(vehicleId, minGap);
+    }
+
+    @Override
+    public void setReactionTime(String vehicleId, double reactionTime) throws InternalFederateException {
+        of(vehicleId).setReactionTime(vehicleId, reactionTime);
+    }
+
+    @Override
+    public void setVehicleLength(String vehicleId, double vehicleLength) throws InternalFederateException {
+        of(vehicleId).setVehicleLength(vehicleId, vehicleLength);
+    }
+
+    @Override
+    public void setSpeedFactor(String vehicleId, double speedFactor) throws InternalFederateException {
+        of(vehicleId).setSpeedFactor(vehicleId, speedFactor);
+    }
+
+    @Override
+    public void setLaneChangeMode(String vehicleId, SumoLaneChangeMode laneChangeMode) throws InternalFederateException {
+        of(vehicleId).setLaneChangeMode(vehicleId, laneChangeMode);
+    }
+
+    @Override
+    public void setSpeedMode(String vehicleId, SumoSpeedMode speedMode) throws InternalFederateException {
+        of(vehicleId).setSpeedMode(vehicleId, speedMode);
+    }
+
+    @Override
+    public void setColor(String vehicleId, int red, int green, int blue, int alpha) throws InternalFederateException {
+        of(vehicleId).setColor(vehicleId, red, green, blue, alpha);
+    }
+
+    @Override
+    public void setSpeed(String vehicleId, double speed) throws InternalFederateException {
+        of(vehicleId).setSpeed(vehicleId, speed);
+    }
+
+    @Override
+    public void setParameter(String vehicleId, String parameter, String value) throws InternalFederateException {
+        of(vehicleId).setParameter(vehicleId, parameter, value);
+    }
+
+    @Override
+    public void setParameter(String vehicleId, String parameter, double value) throws InternalFederateException {
+        of(vehicleId).setParameter(vehicleId, parameter, value);
+    }
+
+    @Override
+    public String getParameter(String vehicleId, String parameterName) throws InternalFederateException {
+        return of(vehicleId).getParameter(vehicleId, parameterName);
+    }
+
+    @Override
+    public double getParameterAsDouble(String vehicleId, String parameterName) throws InternalFederateException {
+        return of(vehicleId).getParameterAsDouble(vehicleId, parameterName);
+    }
+
+    @Override
+    public void moveToXY(String vehicleId, CartesianPoint cartesianPoint, double angle, VehicleSetMoveToXY.Mode mode) throws InternalFederateException {
+        of(vehicleId).moveToXY(vehicleId, cartesianPoint, angle, mode);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One partition of the road network, which is simulated by its own SUMO instance.
+ */
+class SumoPartition {
+
+    private final String id;
+    private final Bridge bridge;
+
+    /**
+     * Maps the IDs of the boundary edges of this partition to the partitions taking over vehicles entering them.
+     */
+    private final Map<String, SumoPartition> boundaryEdges = new HashMap<>();
+
+    /**
+     * IDs of all routes known to the SUMO instance of this partition.
+     */
+    private final Set<String> routeIds = new HashSet<>();
+
+    /**
+     * IDs of all routes which could not be added to the SUMO instance of this partition.
+     */
+    private final Set<String> rejectedRouteIds = new HashSet<>();
+
+    SumoPartition(String id, Bridge bridge) {
+        this.id = id;
+        this.bridge = bridge;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Bridge getBridge() {
+        return bridge;
+    }
+
+    Map<String, SumoPartition> getBoundaryEdges() {
+        return boundaryEdges;
+    }
+
+    Set<String> getRouteIds() {
+        return routeIds;
+    }
+
+    Set<String> getRejectedRouteIds() {
+        return rejectedRouteIds;
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveInductionLoopState.VAR_LAST_STEP_MEAN_SPEED;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveInductionLoopState.VAR_LAST_STEP_MEAN_VEHICLE_LENGTH;
+import static org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveInductionLoopState.VAR_LAST_STEP_VEHICLE_DATA;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandVariableSubscriptions;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Subscribes to all induction loops of the simulation by using a context subscription on the simulation domain.
+ * Instead of one response per induction loop, SUMO then returns the values of all induction loops in one single
+ * response after each simulation step.
+ */
+public class InductionLoopSubscribeAll
+        extends AbstractTraciCommand<Void>
+        implements org.eclipse.mosaic.fed.sumo.bridge.api.InductionLoopSubscribeAll {
+
+    /**
+     * The range of the context subscription, which is chosen to cover the whole scenario.
+     */
+    private final static double RANGE = 1e9;
+
+    /**
+     * Default constructor for {@link InductionLoopSubscribeAll}.
+     * Called by {@link CommandRegister#getOrCreate(java.lang.Class)}.
+     * Access needs to be public, because command is called using Reflection.
+     *
+     * @see <a href="https://sumo.dlr.de/docs/TraCI/Object_Context_Subscription.html">Context Subscriptions</a>
+     */
+    @SuppressWarnings("WeakerAccess")
+    public InductionLoopSubscribeAll() {
+        this(Arrays.asList(
+                VAR_LAST_STEP_MEAN_SPEED,
+                VAR_LAST_STEP_MEAN_VEHICLE_LENGTH,
+                VAR_LAST_STEP_VEHICLE_DATA
+        ));
+    }
+
+    /**
+     * Creates a new {@link InductionLoopSubscribeAll} object.
+     * Access needs to be public, because command is called using Reflection.
+     *
+     * @param subscriptionCodes variables to subscribe to
+     */
+    @SuppressWarnings("WeakerAccess")
+    public InductionLoopSubscribeAll(Collection<Integer> subscriptionCodes) {
+        super(TraciVersion.API_20);
+
+        TraciCommandWriterBuilder write = write()
+                .command(CommandVariableSubscriptions.COMMAND_SUBSCRIBE_CONTEXT_SIMULATION_VALUES)
+                .writeDoubleParam() // start time
+                .writeDoubleParam() // end time
+                .writeString("") // the simulation has no object id
+                .writeByte(CommandVariableSubscriptions.CONTEXT_DOMAIN_INDUCTION_LOOP)
+                .writeDouble(RANGE)
+                .writeByte(subscriptionCodes.size());
+
+        for (Integer subscriptionCode : subscriptionCodes) {
+            write.writeByte(subscriptionCode);
+        }
+
+        read()
+                .expectByte(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_CONTEXT_SIMULATION_VALUES)
+                .skipRemaining();
+    }
+
+    @Override
+    public void execute(Bridge bridge, long startTime, long endTime) throws CommandException, InternalFederateException {
+        super.execute(bridge, ((double) startTime) / TIME.SECOND, ((double) endTime) / TIME.SECOND);
+    }
+
+    @Override
+    protected Void constructResult(Status status, Object... objects) {
+        return null;
+    }
+}
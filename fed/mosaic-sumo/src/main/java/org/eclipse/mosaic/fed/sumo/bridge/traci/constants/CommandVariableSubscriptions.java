@@ -72,6 +72,26 @@ public class CommandVariableSubscriptions {
      */
     public final static int RESPONSE_SUBSCRIBE_CONTEXT_VEHICLE_VALUES = 0x94;
 
+    /**
+     * Subscribe for values of all objects of a domain within the context of the simulation.
+     */
+    public final static int COMMAND_SUBSCRIBE_CONTEXT_SIMULATION_VALUES = 0x8b;
+
+    /**
+     * Response to simulation context subscriptions.
+     */
+    public final static int RESPONSE_SUBSCRIBE_CONTEXT_SIMULATION_VALUES = 0x9b;
+
+    /**
+     * Context domain to retrieve values of induction loops.
+     */
+    public final static int CONTEXT_DOMAIN_INDUCTION_LOOP = 0xa0;
+
+    /**
+     * Context domain to retrieve values of lane area detectors.
+     */
+    public final static int CONTEXT_DOMAIN_LANE_AREA = 0xad;
+
     /**
      * Add a filter to reduce previous set context subscription.
      */
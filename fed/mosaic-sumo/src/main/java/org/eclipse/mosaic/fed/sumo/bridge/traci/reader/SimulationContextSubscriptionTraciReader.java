@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SimulationContextSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandVariableSubscriptions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Reads the response of a context subscription on the simulation. The values of all objects of the
+ * subscribed domain are decoded by the subscription reader of the respective domain, e.g. into
+ * {@link org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopSubscriptionResult}s.
+ */
+public class SimulationContextSubscriptionTraciReader extends AbstractTraciResultReader<SimulationContextSubscriptionResult> {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final InductionLoopSubscriptionTraciReader inductionLoopReader = new InductionLoopSubscriptionTraciReader();
+    private final LaneAreaSubscriptionTraciReader laneAreaReader = new LaneAreaSubscriptionTraciReader();
+
+    public SimulationContextSubscriptionTraciReader() {
+        super(null);
+    }
+
+    @Override
+    protected SimulationContextSubscriptionResult readFromStream(DataInputStream in) throws IOException {
+        SimulationContextSubscriptionResult result = new SimulationContextSubscriptionResult();
+        result.id = readString(in);
+
+        int contextDomain = readUnsignedByte(in);
+        int varCount = readUnsignedByte(in);
+        int objectCount = readInt(in);
+
+        result.contextSubscriptions = new ArrayList<>(objectCount);
+        switch (contextDomain) {
+            case CommandVariableSubscriptions.CONTEXT_DOMAIN_INDUCTION_LOOP:
+                readObjects(in, inductionLoopReader, varCount, objectCount, result);
+                break;
+            case CommandVariableSubscriptions.CONTEXT_DOMAIN_LANE_AREA:
+                readObjects(in, laneAreaReader, varCount, objectCount, result);
+                break;
+            default:
+                throw new IOException(String.format("Unsupported context domain %02X", contextDomain));
+        }
+        return result;
+    }
+
+    private <T extends AbstractSubscriptionResult> void readObjects(DataInputStream in,
+                                                                    AbstractSubscriptionTraciReader<T> childReader,
+                                                                    int varCount,
+                                                                    int objectCount,
+                                                                    SimulationContextSubscriptionResult result) throws IOException {
+        TypeBasedTraciReader typeBasedTraciReader = childReader.getTypeBasedTraciReader();
+        for (int o = 0; o < objectCount; o++) {
+            T childResult = childReader.createSubscriptionResult(readString(in));
+            for (int v = 0; v < varCount; v++) {
+                int varId = readUnsignedByte(in);
+                int varStatus = readUnsignedByte(in);
+
+                typeBasedTraciReader.setNextCompoundVarId(varId);
+                Object varValue = typeBasedTraciReader.read(in, totalBytesLeft - numBytesRead);
+                this.numBytesRead += typeBasedTraciReader.getNumberOfBytesRead();
+
+                if (varStatus == 0x00) {
+                    childReader.handleSubscriptionVariable(childResult, varId, varValue);
+                } else {
+                    log.warn("Could not read subscription variable {}: {}", String.format("%02X ", varId), varValue);
+                }
+            }
+            result.contextSubscriptions.add(childResult);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -87,6 +88,67 @@ public class CSumo implements Serializable {
      */
     public boolean subscribeToAllVehicles = true;
 
+    /**
+     * If set to {@code true}, vehicle updates are published as delta encoded
+     * {@link org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates}, which only contain
+     * the values of the vehicles which changed since their last publication. All federates
+     * subscribed to {@code VehicleUpdates} should then subscribe to {@code VehicleDeltaUpdates} instead.
+     */
+    public boolean deltaEncodedVehicleUpdates = false;
+
+    /**
+     * Minimum change of the position or driven distance of a vehicle to be published, if
+     * {@link #deltaEncodedVehicleUpdates} is enabled. Unit: [m].
+     */
+    public double deltaPositionThreshold = 0;
+
+    /**
+     * Minimum change of the speed of a vehicle to be published, if
+     * {@link #deltaEncodedVehicleUpdates} is enabled. Unit: [m/s].
+     */
+    public double deltaSpeedThreshold = 0;
+
+    /**
+     * Minimum change of the heading or slope of a vehicle to be published, if
+     * {@link #deltaEncodedVehicleUpdates} is enabled. Unit: [deg].
+     */
+    public double deltaHeadingThreshold = 0;
+
+    /**
+     * If set to true, all induction loops and lane area detectors are retrieved from SUMO using one context
+     * subscription per detector class, instead of one subscription per detector. This reduces the communication
+     * overhead in scenarios with many detectors significantly.
+     */
+    public boolean aggregateDetectorSubscriptions = false;
+
+    /**
+     * The interval in which the values of induction loops are published. If not set, induction loops
+     * are published with each simulation step. Unit: [ms].
+     */
+    @JsonAdapter(TimeFieldAdapter.LegacyMilliSeconds.class)
+    public Long inductionLoopUpdateInterval;
+
+    /**
+     * The interval in which the values of lane area detectors are published. If not set, lane area detectors
+     * are published with each simulation step. Unit: [ms].
+     */
+    @JsonAdapter(TimeFieldAdapter.LegacyMilliSeconds.class)
+    public Long laneAreaUpdateInterval;
+
+    /**
+     * If set, all interactions published by the SUMO ambassador are recorded to this file. Such trace can be
+     * replayed by the {@link org.eclipse.mosaic.fed.sumo.ambassador.SumoReplayAmbassador} instead of
+     * coupling SUMO again, as long as no other federate changes the behavior of vehicles or traffic lights.
+     * Relative paths are resolved against the directory of this configuration file. The trace is stored
+     * as typed records in a versioned binary format.
+     */
+    public String traceFile;
+
+    /**
+     * The number of recorded interactions which are read ahead from the trace file during replay.
+     */
+    public int traceReadAhead = 1000;
+
     /**
      * Prints out all traci calls.
      */
@@ -159,5 +221,40 @@ public class CSumo implements Serializable {
 
     public final static String HIGHLIGHT_CHANGE_LANE = "changeLane";
     public final static String HIGHLIGHT_CHANGE_ROUTE = "changeRoute";
+
+    /**
+     * An optional list of geographic partitions of the road network, each simulated by its own SUMO instance.
+     * If given, the first partition is simulated by the SUMO instance started by the RTI (and its
+     * {@link CSumoPartition#sumoConfigurationFile} replaces {@link #sumoConfigurationFile}), whereas
+     * all further partitions are simulated by additional SUMO instances started by the ambassador.
+     * All instances are advanced in parallel, and vehicles are handed over between them at the configured
+     * boundary edges. Partitions require all vehicles to be subscribed (see {@link #subscribeToAllVehicles})
+     * and all vehicle types to be known to each SUMO instance.
+     */
+    public List<CSumoPartition> partitions = new ArrayList<>();
+
+    /**
+     * Configuration of one partition of the road network simulated by a separate SUMO instance.
+     */
+    public static class CSumoPartition implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Unique identifier of the partition.
+         */
+        public String id;
+
+        /**
+         * Name of the SUMO scenario configuration (*.sumocfg) covering the network of this partition.
+         */
+        public String sumoConfigurationFile;
+
+        /**
+         * Maps the IDs of all boundary edges of this partition to the ID of the partition taking over vehicles
+         * which enter this edge. Each boundary edge must exist in the networks of both partitions.
+         */
+        public Map<String, String> boundaryEdges = new HashMap<>();
+    }
 }
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import java.io.IOException;
+
+/**
+ * Encodes interactions of one type as typed records of the interaction trace, and decodes them again.
+ *
+ * @param <T> the type of the interaction
+ */
+interface InteractionRecordCodec<T extends Interaction> {
+
+    /**
+     * Writes all values of the given interaction, except for its time, which is part of the record header.
+     */
+    void write(RecordOutput out, T interaction) throws IOException;
+
+    /**
+     * Reads an interaction of the given time, which has been written by {@link #write}.
+     */
+    T read(RecordInput in, long time) throws IOException;
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
+import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.enums.LaneChangeMode;
+import org.eclipse.mosaic.lib.enums.SpeedMode;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
+import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
+import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroupInfo;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightState;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaEncoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The record codecs of all interactions published by the SUMO ambassador, identified by the type id of the interaction.
+ * Delta encoded {@link VehicleDeltaUpdates} are recorded with the full state of the vehicles as reconstructed by their
+ * receivers, and are encoded again when they are replayed. Hence, an instance of this class must be used for a single
+ * trace only.
+ */
+final class InteractionRecordCodecs {
+
+    private final Map<String, InteractionRecordCodec<?>> codecs = new HashMap<>();
+
+    /**
+     * Reconstructs the vehicle states of recorded {@link VehicleDeltaUpdates}, if not attached by the sender.
+     */
+    private final VehicleDataDeltaDecoder deltaDecoder = new VehicleDataDeltaDecoder();
+
+    /**
+     * Encodes replayed {@link VehicleDeltaUpdates} again. All values are transmitted, as the recorded
+     * states already are those reconstructed by the receivers.
+     */
+    private final VehicleDataDeltaEncoder deltaEncoder = new VehicleDataDeltaEncoder();
+
+    InteractionRecordCodecs() {
+        register(VehicleUpdates.TYPE_ID, new InteractionRecordCodec<VehicleUpdates>() {
+            @Override
+            public void write(RecordOutput out, VehicleUpdates interaction) throws IOException {
+                writeVehicleUpdates(out, interaction);
+            }
+
+            @Override
+            public VehicleUpdates read(RecordInput in, long time) throws IOException {
+                return readVehicleUpdates(in, time);
+            }
+        });
+        register(VehicleDeltaUpdates.TYPE_ID, new InteractionRecordCodec<VehicleDeltaUpdates>() {
+            @Override
+            public void write(RecordOutput out, VehicleDeltaUpdates interaction) throws IOException {
+                writeVehicleUpdates(out, interaction.decode(deltaDecoder));
+            }
+
+            @Override
+            public VehicleDeltaUpdates read(RecordInput in, long time) throws IOException {
+                return VehicleDeltaUpdates.encode(readVehicleUpdates(in, time), deltaEncoder);
+            }
+        });
+        register(TrafficDetectorUpdates.TYPE_ID, new InteractionRecordCodec<TrafficDetectorUpdates>() {
+            @Override
+            public void write(RecordOutput out, TrafficDetectorUpdates interaction) throws IOException {
+                out.writeList(interaction.getUpdatedLaneAreaDetectors(), (o, detector) -> {
+                    o.writeLong(detector.getTime());
+                    o.writeString(detector.getName());
+                    o.writeDouble(detector.getLength());
+                    o.writeDouble(detector.getTrafficDensity());
+                    o.writeInt(detector.getHaltingVehicles());
+                    o.writeInt(detector.getVehicleCount());
+                    o.writeDouble(detector.getMeanSpeed());
+                });
+                out.writeList(interaction.getUpdatedInductionLoops(), (o, detector) -> {
+                    o.writeLong(detector.getTime());
+                    o.writeString(detector.getName());
+                    o.writeInt(detector.getVehicleCount());
+                    o.writeDouble(detector.getTrafficFlow());
+                    o.writeDouble(detector.getMeanSpeed());
+                    o.writeDouble(detector.getMeanVehicleLength());
+                });
+            }
+
+            @Override
+            public TrafficDetectorUpdates read(RecordInput in, long time) throws IOException {
+                final List<LaneAreaDetectorInfo> laneAreaDetectors = in.readList(i -> new LaneAreaDetectorInfo.Builder(i.readLong(), i.readString())
+                        .length(i.readDouble())
+                        .density(i.readDouble())
+                        .haltingVehicles(i.readInt())
+                        .vehicleData(i.readInt(), i.readDouble())
+                        .create());
+                final List<InductionLoopInfo> inductionLoops = in.readList(i -> new InductionLoopInfo.Builder(i.readLong(), i.readString())
+                        .traffic(i.readInt(), i.readDouble())
+                        .vehicleData(i.readDouble(), i.readDouble())
+                        .create());
+                return new TrafficDetectorUpdates(time, laneAreaDetectors, inductionLoops);
+            }
+        });
+        register(TrafficLightUpdates.TYPE_ID, new InteractionRecordCodec<TrafficLightUpdates>() {
+            @Override
+            public void write(RecordOutput out, TrafficLightUpdates interaction) throws IOException {
+                out.writeList(interaction.getUpdated().values(), (o, info) -> {
+                    o.writeString(info.getGroupId());
+                    o.writeString(info.getCurrentProgramId());
+                    o.writeInt(info.getCurrentPhaseIndex());
+                    o.writeLong(info.getAssumedTimeOfNextSwitch());
+                    o.writeList(info.getCurrentState(), (o2, state) -> {
+                        o2.writeBoolean(state.isRed());
+                        o2.writeBoolean(state.isGreen());
+                        o2.writeBoolean(state.isYellow());
+                    });
+                });
+            }
+
+            @Override
+            public TrafficLightUpdates read(RecordInput in, long time) throws IOException {
+                final Map<String, TrafficLightGroupInfo> updated = new LinkedHashMap<>();
+                for (TrafficLightGroupInfo info : in.readList(i -> new TrafficLightGroupInfo(
+                        i.readString(), i.readString(), i.readInt(), i.readLong(),
+                        i.readList(i2 -> new TrafficLightState(i2.readBoolean(), i2.readBoolean(), i2.readBoolean()))
+                ))) {
+                    updated.put(info.getGroupId(), info);
+                }
+                return new TrafficLightUpdates(time, updated);
+            }
+        });
+        register(VehicleRouteRegistration.TYPE_ID, new InteractionRecordCodec<VehicleRouteRegistration>() {
+            @Override
+            public void write(RecordOutput out, VehicleRouteRegistration interaction) throws IOException {
+                final VehicleRoute route = interaction.getRoute();
+                out.writeString(route.getId());
+                out.writeStrings(route.getConnectionIds());
+                out.writeStrings(route.getNodeIds());
+                out.writeDouble(route.getLength());
+            }
+
+            @Override
+            public VehicleRouteRegistration read(RecordInput in, long time) throws IOException {
+                return new VehicleRouteRegistration(time,
+                        new VehicleRoute(in.readString(), in.readStrings(), in.readStrings(), in.readDouble())
+                );
+            }
+        });
+        register(ScenarioVehicleRegistration.TYPE_ID, new InteractionRecordCodec<ScenarioVehicleRegistration>() {
+            @Override
+            public void write(RecordOutput out, ScenarioVehicleRegistration interaction) throws IOException {
+                final VehicleType type = interaction.getVehicleType();
+                out.writeString(interaction.getName());
+                out.writeString(type.getName());
+                out.writeDouble(type.getLength());
+                out.writeDouble(type.getWidth());
+                out.writeDouble(type.getHeight());
+                out.writeDouble(type.getMinGap());
+                out.writeDouble(type.getMaxSpeed());
+                out.writeEnum(type.getVehicleClass());
+                out.writeDouble(type.getAccel());
+                out.writeDouble(type.getDecel());
+                out.writeDouble(type.getEmergencyDecel());
+                out.writeDouble(type.getSigma());
+                out.writeDouble(type.getTau());
+                out.writeDouble(type.getSpeedFactor());
+                out.writeString(type.getColor());
+                out.writeEnum(type.getLaneChangeMode());
+                out.writeEnum(type.getSpeedMode());
+            }
+
+            @Override
+            public ScenarioVehicleRegistration read(RecordInput in, long time) throws IOException {
+                return new ScenarioVehicleRegistration(time, in.readString(), new VehicleType(
+                        in.readString(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readEnum(VehicleClass.class), in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble(), in.readDouble(), in.readString(),
+                        in.readEnum(LaneChangeMode.class), in.readEnum(SpeedMode.class)
+                ));
+            }
+        });
+        register(ScenarioTrafficLightRegistration.TYPE_ID, new InteractionRecordCodec<ScenarioTrafficLightRegistration>() {
+            @Override
+            public void write(RecordOutput out, ScenarioTrafficLightRegistration interaction) throws IOException {
+                out.writeList(interaction.getTrafficLightGroups(), (o, group) -> group.toDataOutput(o.getDataOutput()));
+                out.writeList(interaction.getLanesControlledByGroups().entrySet(), (o, entry) -> {
+                    o.writeString(entry.getKey());
+                    o.writeStrings(entry.getValue());
+                });
+            }
+
+            @Override
+            public ScenarioTrafficLightRegistration read(RecordInput in, long time) throws IOException {
+                final List<TrafficLightGroup> trafficLightGroups = in.readList(i -> {
+                    try {
+                        return new TrafficLightGroup(i.getDataInput());
+                    } catch (InternalFederateException e) {
+                        throw new IOException("Could not read traffic light group", e);
+                    }
+                });
+                final Map<String, Collection<String>> lanesControlledByGroups = new LinkedHashMap<>();
+                final int size = in.readInt();
+                for (int i = 0; i < size; i++) {
+                    lanesControlledByGroups.put(in.readString(), in.readStrings());
+                }
+                return new ScenarioTrafficLightRegistration(time, trafficLightGroups, lanesControlledByGroups);
+            }
+        });
+        register(SumoTraciResponse.TYPE_ID, new InteractionRecordCodec<SumoTraciResponse>() {
+            @Override
+            public void write(RecordOutput out, SumoTraciResponse interaction) throws IOException {
+                final SumoTraciResult result = interaction.getSumoTraciResult();
+                out.writeString(result.getRequestCommandId());
+                out.writeByte(result.getTraciCommandStatus());
+                out.writeString(result.getTraciCommandMessage());
+                out.writeBytes(result.getTraciCommandResult());
+            }
+
+            @Override
+            public SumoTraciResponse read(RecordInput in, long time) throws IOException {
+                return new SumoTraciResponse(time,
+                        new SumoTraciResult(in.readString(), in.readByte(), in.readString(), in.readBytes())
+                );
+            }
+        });
+    }
+
+    private void register(String typeId, InteractionRecordCodec<?> codec) {
+        codecs.put(typeId, codec);
+    }
+
+    /**
+     * Returns the codec for interactions of the given type.
+     *
+     * @param typeId the type id of the interaction
+     * @return the codec, or <code>null</code> if interactions of this type can not be recorded
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Interaction> InteractionRecordCodec<T> getCodec(String typeId) {
+        return (InteractionRecordCodec<T>) codecs.get(typeId);
+    }
+
+    private static void writeVehicleUpdates(RecordOutput out, VehicleUpdates interaction) throws IOException {
+        out.writeLong(interaction.getNextUpdate());
+        out.writeList(interaction.getAdded(), VehicleDataRecords::write);
+        out.writeList(interaction.getUpdated(), VehicleDataRecords::write);
+        out.writeStrings(interaction.getRemovedNames());
+    }
+
+    private static VehicleUpdates readVehicleUpdates(RecordInput in, long time) throws IOException {
+        final long nextUpdate = in.readLong();
+        final VehicleUpdates vehicleUpdates = new VehicleUpdates(time,
+                in.readList(VehicleDataRecords::read), in.readList(VehicleDataRecords::read), in.readStrings()
+        );
+        vehicleUpdates.setNextUpdate(nextUpdate);
+        return vehicleUpdates;
+    }
+}
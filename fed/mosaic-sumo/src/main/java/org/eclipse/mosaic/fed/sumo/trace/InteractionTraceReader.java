@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+import javax.annotation.Nullable;
+
+/**
+ * Reads interactions from a trace file written by the {@link InteractionTraceWriter}. Traces of other
+ * format versions are rejected. Interactions are decoded by a background thread, which reads ahead
+ * up to a configurable number of interactions, so that the simulation does not need to wait for disk
+ * access and decompression.
+ */
+public class InteractionTraceReader implements Closeable {
+
+    /**
+     * Marks the end of the trace in the read-ahead queue.
+     */
+    private static final Object END_OF_TRACE = new Object();
+
+    private final InputStream input;
+    private final RecordInput in;
+    private final InteractionRecordCodecs codecs = new InteractionRecordCodecs();
+    private final BlockingQueue<Object> readAhead;
+    private final Thread readerThread;
+
+    private Object next;
+    private volatile boolean closed = false;
+
+    /**
+     * Opens the given trace file and starts reading ahead.
+     *
+     * @param traceFile     the trace file to read
+     * @param readAheadSize the maximum number of interactions to read ahead
+     * @throws IOException if the file could not be opened or is no valid trace file
+     */
+    public InteractionTraceReader(File traceFile, int readAheadSize) throws IOException {
+        final InputStream fileIn = new BufferedInputStream(new FileInputStream(traceFile), InteractionTraceWriter.BUFFER_SIZE);
+        try {
+            final DataInputStream header = new DataInputStream(fileIn);
+            if (header.readLong() != InteractionTraceWriter.MAGIC || header.readInt() != InteractionTraceWriter.VERSION) {
+                throw new StreamCorruptedException("Unsupported trace file " + traceFile);
+            }
+            this.input = new GZIPInputStream(fileIn, InteractionTraceWriter.BUFFER_SIZE);
+        } catch (EOFException e) {
+            fileIn.close();
+            throw new StreamCorruptedException("Unsupported trace file " + traceFile);
+        } catch (IOException e) {
+            fileIn.close();
+            throw e;
+        }
+        this.in = new RecordInput(input);
+        this.readAhead = new ArrayBlockingQueue<>(Math.max(1, readAheadSize));
+        this.readerThread = new Thread(this::readAll, "trace-reader");
+        this.readerThread.setDaemon(true);
+        this.readerThread.start();
+    }
+
+    private void readAll() {
+        try {
+            String typeId;
+            while (!closed && (typeId = in.readString()) != null) {
+                final long time = in.readLong();
+                final InteractionRecordCodec<?> codec = codecs.getCodec(typeId);
+                if (codec == null) {
+                    throw new StreamCorruptedException("Unknown interaction " + typeId + " in trace");
+                }
+                readAhead.put(codec.read(in, time));
+            }
+            readAhead.put(END_OF_TRACE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (EOFException e) {
+            putFailure(new IOException("Unexpected end of trace", e));
+        } catch (IOException e) {
+            putFailure(e);
+        } catch (RuntimeException e) {
+            putFailure(new IOException("Could not decode interaction", e));
+        }
+    }
+
+    private void putFailure(IOException e) {
+        try {
+            readAhead.put(e);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the next interaction of the trace without consuming it,
+     * blocking until it has been read from disk.
+     *
+     * @return the next interaction, or <code>null</code> if the end of the trace has been reached
+     * @throws IOException if the trace could not be read
+     */
+    @Nullable
+    public Interaction peek() throws IOException {
+        if (next == null) {
+            try {
+                next = readAhead.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading trace", e);
+            }
+        }
+        if (next instanceof IOException e) {
+            throw e;
+        }
+        if (next == END_OF_TRACE) {
+            return null;
+        }
+        return (Interaction) next;
+    }
+
+    /**
+     * Returns and consumes the next interaction of the trace, blocking until it has been read from disk.
+     *
+     * @return the next interaction, or <code>null</code> if the end of the trace has been reached
+     * @throws IOException if the trace could not be read
+     */
+    @Nullable
+    public Interaction next() throws IOException {
+        Interaction interaction = peek();
+        if (interaction != null) {
+            next = null;
+        }
+        return interaction;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        readerThread.interrupt();
+        input.close();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes interactions into a compressed binary trace file, which can be read again by
+ * the {@link InteractionTraceReader}. Interactions are expected to be written in order of their simulation time.
+ * <br>
+ * The trace starts with an uncompressed header consisting of the {@link #MAGIC} number and the
+ * {@link #VERSION} of the format, followed by the compressed records. Each record consists of the type id
+ * and the time of the interaction, followed by the values written by the {@link InteractionRecordCodec}
+ * of this interaction type. Strings are stored in a dictionary which is defined inline on first use,
+ * following the format of the {@code TraceWriter} of the output generator.
+ */
+public class InteractionTraceWriter implements Closeable {
+
+    /**
+     * "MOSAICIT" (MOSAIC interaction trace) in ASCII.
+     */
+    static final long MAGIC = 0x4D4F534149434954L;
+    static final int VERSION = 2;
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final RecordOutput record = new RecordOutput();
+    private final InteractionRecordCodecs codecs = new InteractionRecordCodecs();
+
+    /**
+     * Creates a new trace file, or overwrites an existing one.
+     *
+     * @param traceFile the file to write the trace to
+     * @throws IOException if the file could not be created
+     */
+    public InteractionTraceWriter(File traceFile) throws IOException {
+        final OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(traceFile), BUFFER_SIZE);
+        try {
+            final DataOutputStream header = new DataOutputStream(fileOut);
+            header.writeLong(MAGIC);
+            header.writeInt(VERSION);
+            header.flush();
+            this.out = new GZIPOutputStream(fileOut, BUFFER_SIZE);
+        } catch (IOException e) {
+            fileOut.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the given interaction to the trace.
+     *
+     * @param interaction the interaction to record
+     * @throws IOException if the interaction could not be written, or no codec exists for this type of interaction
+     */
+    public synchronized void write(Interaction interaction) throws IOException {
+        final InteractionRecordCodec<Interaction> codec = codecs.getCodec(interaction.getTypeId());
+        if (codec == null) {
+            throw new IOException("No record codec for interaction " + interaction.getTypeId());
+        }
+        try {
+            record.writeString(interaction.getTypeId());
+            record.writeLong(interaction.getTime());
+            codec.write(record, interaction);
+            record.commit(out);
+        } catch (IOException | RuntimeException e) {
+            record.rollback();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        // marks the end of the trace
+        record.writeString(null);
+        record.commit(out);
+        out.close();
+    }
+}
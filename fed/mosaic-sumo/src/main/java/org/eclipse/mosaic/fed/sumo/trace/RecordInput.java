@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typed input of the records of an interaction trace written by {@link RecordOutput}.
+ */
+final class RecordInput {
+
+    interface ValueReader<T> {
+        T read(RecordInput in) throws IOException;
+    }
+
+    private final DataInputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+
+    RecordInput(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    /**
+     * Returns the underlying input, e.g. for objects providing a constructor accepting a {@link DataInput}.
+     */
+    DataInput getDataInput() {
+        return in;
+    }
+
+    String readString() throws IOException {
+        final int index = in.readInt();
+        if (index == -1) {
+            return null;
+        }
+        if (index < dictionary.size()) {
+            return dictionary.get(index);
+        }
+        if (index != dictionary.size()) {
+            throw new StreamCorruptedException("Invalid string reference " + index);
+        }
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new StreamCorruptedException("Invalid string length " + length);
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        final String value = new String(bytes, StandardCharsets.UTF_8);
+        dictionary.add(value);
+        return value;
+    }
+
+    boolean readBoolean() throws IOException {
+        return in.readBoolean();
+    }
+
+    byte readByte() throws IOException {
+        return in.readByte();
+    }
+
+    int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    double readDouble() throws IOException {
+        return in.readDouble();
+    }
+
+    byte[] readBytes() throws IOException {
+        final int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0) {
+            throw new StreamCorruptedException("Invalid length " + length);
+        }
+        final byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+
+    <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        final String name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException("Unknown value " + name + " of " + type.getSimpleName());
+        }
+    }
+
+    GeoPoint readGeoPoint() throws IOException {
+        return readNullable(i -> SerializationUtils.decodeGeoPoint(i.in));
+    }
+
+    CartesianPoint readCartesianPoint() throws IOException {
+        return readNullable(i -> CartesianPoint.xyz(i.readDouble(), i.readDouble(), i.readDouble()));
+    }
+
+    <T> T readNullable(ValueReader<T> reader) throws IOException {
+        return in.readBoolean() ? reader.read(this) : null;
+    }
+
+    <T> List<T> readList(ValueReader<T> reader) throws IOException {
+        final int size = in.readInt();
+        if (size == -1) {
+            return null;
+        }
+        if (size < 0) {
+            throw new StreamCorruptedException("Invalid list size " + size);
+        }
+        final List<T> values = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            values.add(reader.read(this));
+        }
+        return values;
+    }
+
+    List<String> readStrings() throws IOException {
+        return readList(RecordInput::readString);
+    }
+}
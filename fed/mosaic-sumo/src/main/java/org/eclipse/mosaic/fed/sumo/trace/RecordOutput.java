@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.util.SerializationUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed output of a single record of the interaction trace. Values are collected in a buffer, which
+ * is either written to the trace by {@link #commit(OutputStream)} or discarded by {@link #rollback()},
+ * so that interactions which can not be encoded completely do not corrupt the trace.
+ * String values are replaced by their index in a dictionary, which is defined inline on their first use.
+ */
+final class RecordOutput {
+
+    interface ValueWriter<T> {
+        void write(RecordOutput out, T value) throws IOException;
+    }
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 12);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private int committedDictionarySize = 0;
+
+    /**
+     * Returns the underlying output, e.g. for objects implementing {@code ToDataOutput}.
+     */
+    DataOutput getDataOutput() {
+        return out;
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final Integer index = dictionaryIndex.get(value);
+        if (index != null) {
+            out.writeInt(index);
+            return;
+        }
+        out.writeInt(dictionary.size());
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        dictionaryIndex.put(value, dictionary.size());
+        dictionary.add(value);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+    }
+
+    void writeByte(byte value) throws IOException {
+        out.writeByte(value);
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        out.writeLong(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        out.writeDouble(value);
+    }
+
+    void writeBytes(byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    void writeEnum(Enum<?> value) throws IOException {
+        writeString(value != null ? value.name() : null);
+    }
+
+    void writeGeoPoint(GeoPoint value) throws IOException {
+        writeNullable(value, (o, v) -> SerializationUtils.encodeGeoPoint(o.out, v));
+    }
+
+    void writeCartesianPoint(CartesianPoint value) throws IOException {
+        writeNullable(value, (o, v) -> {
+            o.writeDouble(v.getX());
+            o.writeDouble(v.getY());
+            o.writeDouble(v.getZ());
+        });
+    }
+
+    <T> void writeNullable(T value, ValueWriter<T> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(this, value);
+        }
+    }
+
+    <T> void writeList(Collection<T> values, ValueWriter<T> writer) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (T value : values) {
+            writer.write(this, value);
+        }
+    }
+
+    void writeStrings(Collection<String> values) throws IOException {
+        writeList(values, RecordOutput::writeString);
+    }
+
+    /**
+     * Writes the current record to the given stream and starts a new one.
+     */
+    void commit(OutputStream target) throws IOException {
+        buffer.writeTo(target);
+        buffer.reset();
+        committedDictionarySize = dictionary.size();
+    }
+
+    /**
+     * Discards the current record including all strings it added to the dictionary.
+     */
+    void rollback() {
+        buffer.reset();
+        while (dictionary.size() > committedDictionarySize) {
+            dictionaryIndex.remove(dictionary.remove(dictionary.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+
+import com.google.common.collect.ImmutableCollection;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+/**
+ * Decorates the {@link RtiAmbassador} of a federate and records all interactions
+ * triggered by this federate using an {@link InteractionTraceWriter}.
+ */
+public class RecordingRtiAmbassador implements RtiAmbassador {
+
+    private final RtiAmbassador rti;
+    private final InteractionTraceWriter traceWriter;
+
+    public RecordingRtiAmbassador(RtiAmbassador rti, InteractionTraceWriter traceWriter) {
+        this.rti = rti;
+        this.traceWriter = traceWriter;
+    }
+
+    @Override
+    public void triggerInteraction(Interaction interaction) throws IllegalValueException, InternalFederateException {
+        try {
+            // record before passing the interaction to the RTI, as the sender ID is set by the RTI
+            traceWriter.write(interaction);
+        } catch (IOException e) {
+            throw new InternalFederateException("Could not record interaction " + interaction.getTypeId(), e);
+        }
+        rti.triggerInteraction(interaction);
+    }
+
+    @Override
+    public void requestAdvanceTime(long time) throws IllegalValueException {
+        rti.requestAdvanceTime(time);
+    }
+
+    @Override
+    public void requestAdvanceTime(long time, long lookahead, byte priority) throws IllegalValueException {
+        rti.requestAdvanceTime(time, lookahead, priority);
+    }
+
+    @Override
+    public long getNextEventTimestamp() throws IllegalValueException {
+        return rti.getNextEventTimestamp();
+    }
+
+    @Override
+    public ImmutableCollection<String> getSubscribedInteractions() {
+        return rti.getSubscribedInteractions();
+    }
+
+    @Nonnull
+    @Override
+    public RandomNumberGenerator createRandomNumberGenerator() {
+        return rti.createRandomNumberGenerator();
+    }
+
+    @Nonnull
+    @Override
+    public Monitor getMonitor() {
+        return rti.getMonitor();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.objects.pt.PtVehicleData;
+import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.vehicle.Consumptions;
+import org.eclipse.mosaic.lib.objects.vehicle.Emissions;
+import org.eclipse.mosaic.lib.objects.vehicle.SurroundingVehicle;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleConsumptions;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleEmissions;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleSensors;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleSignals;
+import org.eclipse.mosaic.lib.objects.vehicle.sensor.DistanceSensor;
+import org.eclipse.mosaic.lib.objects.vehicle.sensor.RadarSensor;
+import org.eclipse.mosaic.lib.objects.vehicle.sensor.SensorValue;
+import org.eclipse.mosaic.lib.util.objects.Position;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Encodes {@link VehicleData} and all its components as part of the records of the interaction trace.
+ */
+final class VehicleDataRecords {
+
+    private static final byte ROAD_POSITION_CONNECTION = 0;
+    private static final byte ROAD_POSITION_NODES = 1;
+
+    private static final byte ADDITIONAL_NONE = 0;
+    private static final byte ADDITIONAL_PT_VEHICLE_DATA = 1;
+
+    private VehicleDataRecords() {
+        // static methods only
+    }
+
+    static void write(RecordOutput out, VehicleData vehicleData) throws IOException {
+        out.writeLong(vehicleData.getTime());
+        out.writeString(vehicleData.getName());
+        out.writeGeoPoint(vehicleData.getPosition());
+        out.writeCartesianPoint(vehicleData.getProjectedPosition());
+        out.writeNullable(vehicleData.getRoadPosition(), VehicleDataRecords::writeRoadPosition);
+        out.writeString(vehicleData.getRouteId());
+        out.writeDouble(vehicleData.getSpeed());
+        out.writeDouble(nonNull(vehicleData.getLongitudinalAcceleration()));
+        out.writeDouble(vehicleData.getDistanceDriven());
+        // the orientation is only set as a whole, hence the heading indicates if it is available
+        out.writeNullable(vehicleData.getHeading(), (o, heading) -> {
+            o.writeEnum(vehicleData.getDriveDirection());
+            o.writeDouble(heading);
+            o.writeDouble(vehicleData.getSlope());
+        });
+        out.writeEnum(vehicleData.getVehicleStopMode());
+        out.writeString(vehicleData.getLaneAreaId());
+        out.writeNullable(vehicleData.getVehicleEmissions(), (o, emissions) -> {
+            o.writeNullable(emissions.getCurrentEmissions(), VehicleDataRecords::writeEmissions);
+            o.writeNullable(emissions.getAllEmissions(), VehicleDataRecords::writeEmissions);
+        });
+        out.writeNullable(vehicleData.getVehicleConsumptions(), (o, consumptions) -> {
+            o.writeNullable(consumptions.getCurrentConsumptions(), (o2, c) -> o2.writeDouble(c.getFuel()));
+            o.writeNullable(consumptions.getAllConsumptions(), (o2, c) -> o2.writeDouble(c.getFuel()));
+        });
+        out.writeNullable(vehicleData.getVehicleSignals(), (o, signals) -> {
+            o.writeBoolean(signals.isBlinkerLeft());
+            o.writeBoolean(signals.isBlinkerRight());
+            o.writeBoolean(signals.isBlinkerEmergency());
+            o.writeBoolean(signals.isBrakeLight());
+            o.writeBoolean(signals.isReverseDrive());
+        });
+        out.writeNullable(vehicleData.getVehicleSensors(), (o, sensors) -> {
+            o.writeNullable(sensors.distance, (o2, distance) -> {
+                o2.writeDouble(toRawValue(distance.front));
+                o2.writeDouble(toRawValue(distance.back));
+                o2.writeDouble(toRawValue(distance.left));
+                o2.writeDouble(toRawValue(distance.right));
+            });
+            o.writeNullable(sensors.radar, (o2, radar) -> o2.writeDouble(radar.speedFrontVehicle));
+        });
+        writeAdditionalData(out, vehicleData.getAdditionalData());
+        out.writeList(vehicleData.getVehiclesInSight(), VehicleDataRecords::writeSurroundingVehicle);
+    }
+
+    static VehicleData read(RecordInput in) throws IOException {
+        final VehicleData.Builder builder = new VehicleData.Builder(in.readLong(), in.readString());
+        builder.position(in.readGeoPoint(), in.readCartesianPoint());
+        builder.road(in.readNullable(VehicleDataRecords::readRoadPosition));
+        builder.route(in.readString());
+        builder.movement(in.readDouble(), in.readDouble(), in.readDouble());
+        if (in.readBoolean()) {
+            builder.orientation(in.readEnum(DriveDirection.class), in.readDouble(), in.readDouble());
+        }
+        builder.stopped(in.readEnum(VehicleStopMode.class));
+        builder.laneArea(in.readString());
+        builder.emissions(in.readNullable(i -> new VehicleEmissions(
+                i.readNullable(VehicleDataRecords::readEmissions), i.readNullable(VehicleDataRecords::readEmissions)
+        )));
+        builder.consumptions(in.readNullable(i -> new VehicleConsumptions(
+                i.readNullable(i2 -> new Consumptions(i2.readDouble())), i.readNullable(i2 -> new Consumptions(i2.readDouble()))
+        )));
+        builder.signals(in.readNullable(i -> new VehicleSignals(
+                i.readBoolean(), i.readBoolean(), i.readBoolean(), i.readBoolean(), i.readBoolean()
+        )));
+        builder.sensors(in.readNullable(i -> new VehicleSensors(
+                i.readNullable(i2 -> new DistanceSensor(i2.readDouble(), i2.readDouble(), i2.readDouble(), i2.readDouble())),
+                i.readNullable(i2 -> new RadarSensor(i2.readDouble()))
+        )));
+        final Object additionalData = readAdditionalData(in);
+        if (additionalData != null) {
+            builder.additional(additionalData);
+        }
+        builder.vehiclesInSight(in.readList(VehicleDataRecords::readSurroundingVehicle));
+        return builder.create();
+    }
+
+    /**
+     * Road positions are stored by their identifiers only, as provided by SUMO.
+     */
+    private static void writeRoadPosition(RecordOutput out, IRoadPosition roadPosition) throws IOException {
+        if (roadPosition.getConnection() == null && roadPosition.getPreviousNode() != null && roadPosition.getUpcomingNode() != null) {
+            out.writeByte(ROAD_POSITION_NODES);
+            out.writeString(roadPosition.getPreviousNode().getId());
+            out.writeString(roadPosition.getUpcomingNode().getId());
+            out.writeInt(roadPosition.getLaneIndex());
+            out.writeDouble(roadPosition.getOffset());
+        } else {
+            out.writeByte(ROAD_POSITION_CONNECTION);
+            out.writeString(roadPosition.getConnectionId());
+            out.writeInt(roadPosition.getLaneIndex());
+            out.writeDouble(roadPosition.getOffset());
+            out.writeDouble(roadPosition.getLateralLanePosition());
+        }
+    }
+
+    private static IRoadPosition readRoadPosition(RecordInput in) throws IOException {
+        final byte type = in.readByte();
+        return switch (type) {
+            case ROAD_POSITION_CONNECTION -> new SimpleRoadPosition(in.readString(), in.readInt(), in.readDouble(), in.readDouble());
+            case ROAD_POSITION_NODES -> new SimpleRoadPosition(in.readString(), in.readString(), in.readInt(), in.readDouble());
+            default -> throw new StreamCorruptedException("Unknown type of road position " + type);
+        };
+    }
+
+    private static void writeEmissions(RecordOutput out, Emissions emissions) throws IOException {
+        out.writeDouble(emissions.getCo2());
+        out.writeDouble(emissions.getCo());
+        out.writeDouble(emissions.getHc());
+        out.writeDouble(emissions.getPmx());
+        out.writeDouble(emissions.getNox());
+    }
+
+    private static Emissions readEmissions(RecordInput in) throws IOException {
+        return new Emissions(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    /**
+     * Converts the sensor value back to the raw value it has been created from (see {@link DistanceSensor}).
+     */
+    private static double toRawValue(SensorValue sensorValue) {
+        return switch (sensorValue.status) {
+            case NOT_EQUIPPED -> -1;
+            case NO_VEHICLE_DETECTED -> -2;
+            default -> sensorValue.distValue;
+        };
+    }
+
+    private static void writeAdditionalData(RecordOutput out, Object additionalData) throws IOException {
+        if (additionalData == null) {
+            out.writeByte(ADDITIONAL_NONE);
+        } else if (additionalData instanceof PtVehicleData ptVehicleData) {
+            out.writeByte(ADDITIONAL_PT_VEHICLE_DATA);
+            out.writeString(ptVehicleData.getLineId());
+            out.writeList(ptVehicleData.getNextStops(), (o, stop) -> {
+                o.writeString(stop.getStoppingPlaceId());
+                o.writeString(stop.getLaneId());
+                o.writeDouble(stop.getStartPos());
+                o.writeDouble(stop.getEndPos());
+                o.writeEnum(stop.getStopType());
+                o.writeDouble(stop.getStopDuration());
+                o.writeDouble(stop.getStoppedUntil());
+            });
+        } else {
+            throw new IOException("Unsupported additional vehicle data of type " + additionalData.getClass().getName());
+        }
+    }
+
+    private static Object readAdditionalData(RecordInput in) throws IOException {
+        final byte type = in.readByte();
+        return switch (type) {
+            case ADDITIONAL_NONE -> null;
+            case ADDITIONAL_PT_VEHICLE_DATA -> new PtVehicleData.Builder()
+                    .withLineId(in.readString())
+                    .nextStops(in.readList(i -> new PtVehicleData.StoppingPlace.Builder()
+                            .stoppingPlaceId(i.readString())
+                            .laneId(i.readString())
+                            .startPos(i.readDouble())
+                            .endPos(i.readDouble())
+                            .stopFlags(i.readEnum(VehicleStopMode.class))
+                            .stopDuration(i.readDouble())
+                            .stoppedUntil(i.readDouble())
+                            .build()))
+                    .build();
+            default -> throw new StreamCorruptedException("Unknown type of additional vehicle data " + type);
+        };
+    }
+
+    private static void writeSurroundingVehicle(RecordOutput out, SurroundingVehicle vehicle) throws IOException {
+        out.writeString(vehicle.getId());
+        out.writeCartesianPoint(vehicle.getProjectedPosition());
+        out.writeDouble(vehicle.getSpeed());
+        out.writeDouble(vehicle.getHeading());
+        out.writeString(vehicle.getEdgeId());
+        out.writeInt(vehicle.getLaneIndex());
+        out.writeDouble(vehicle.getLength());
+        out.writeDouble(vehicle.getWidth());
+        out.writeDouble(vehicle.getHeight());
+    }
+
+    private static SurroundingVehicle readSurroundingVehicle(RecordInput in) throws IOException {
+        return new SurroundingVehicle(in.readString(), new Position(in.readCartesianPoint()), in.readDouble(), in.readDouble(),
+                in.readString(), in.readInt(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    private static double nonNull(Double value) {
+        return value != null ? value : 0d;
+    }
+}
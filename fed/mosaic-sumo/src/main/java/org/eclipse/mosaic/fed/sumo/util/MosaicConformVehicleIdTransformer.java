@@ -28,7 +28,8 @@ import org.slf4j.LoggerFactory;
  * match the following expression: ^veh_[0-9]+$. However, predefined
  * scenarios usually come with custom vehicle ids which do not match this
  * pattern, so we need to transform them into the required format which is
- * accomplished by this class.
+ * accomplished by this class. This class is thread-safe, as the results of
+ * several SUMO instances may be read in parallel if the network is partitioned.
  */
 public class MosaicConformVehicleIdTransformer implements IdTransformer<String, String> {
 
@@ -44,7 +45,7 @@ public class MosaicConformVehicleIdTransformer implements IdTransformer<String,
      * @return the corresponding external id
      */
     @Override
-    public String toExternalId(String mosaicVehicleId) {
+    public synchronized String toExternalId(String mosaicVehicleId) {
         String externalVehicleId = vehicleIdMap.inverse().get(mosaicVehicleId);
         if (externalVehicleId == null) {
             vehicleIdMap.inverse().put(mosaicVehicleId, mosaicVehicleId);
@@ -60,7 +61,7 @@ public class MosaicConformVehicleIdTransformer implements IdTransformer<String,
      * @return the created MOSAIC conform vehicle id
      */
     @Override
-    public String fromExternalId(String externalVehicleId) {
+    public synchronized String fromExternalId(String externalVehicleId) {
         String mosaicVehicleId = vehicleIdMap.get(externalVehicleId);
         if (mosaicVehicleId == null) {
             mosaicVehicleId = UnitNameGenerator.nextVehicleName();
@@ -71,7 +72,7 @@ public class MosaicConformVehicleIdTransformer implements IdTransformer<String,
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         vehicleIdMap.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.api.complex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.util.objects.Position;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BulkVehicleSubscriptionResultTest {
+
+    @Rule
+    public GeoProjectionRule transformationRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
+    @Test
+    public void addAndCopy_growsBeyondInitialCapacity() {
+        BulkVehicleSubscriptionResult result = new BulkVehicleSubscriptionResult();
+
+        // RUN
+        for (int i = 0; i < 1000; i++) {
+            int index = result.add("veh_" + i);
+            result.positionValid[index] = true;
+            result.x[index] = i;
+            result.y[index] = 2 * i;
+            result.speed[index] = i / 10d;
+            result.routeId[index] = "route_" + i;
+            if (i % 2 == 0) {
+                result.leaderId[index] = "veh_" + (i + 1);
+                result.leaderDistance[index] = 10d;
+            }
+        }
+
+        // ASSERT
+        assertEquals(1000, result.size());
+
+        VehicleSubscriptionResult target = new VehicleSubscriptionResult();
+        assertSame(target, result.copyTo(998, target));
+        assertEquals("veh_998", target.id);
+        assertEquals(998d, target.position.getProjectedPosition().getX(), 0.0001d);
+        assertEquals(1996d, target.position.getProjectedPosition().getY(), 0.0001d);
+        assertEquals(99.8d, target.speed, 0.0001d);
+        assertEquals("route_998", target.routeId);
+        assertEquals("veh_999", target.leadingVehicle.getOtherVehicleId());
+        assertEquals(10d, target.leadingVehicle.getDistance(), 0.0001d);
+        assertSame(LeadFollowVehicle.NONE, target.followerVehicle);
+
+        // the same target is overwritten completely by the next vehicle
+        result.copyTo(999, target);
+        assertEquals("veh_999", target.id);
+        assertSame(LeadFollowVehicle.NONE, target.leadingVehicle);
+    }
+
+    @Test
+    public void copyTo_reusesPositionOfStandingVehicle() {
+        BulkVehicleSubscriptionResult result = new BulkVehicleSubscriptionResult();
+        VehicleSubscriptionResult target = new VehicleSubscriptionResult();
+        setPosition(result, result.add("veh_0"), 10, 20);
+        setPosition(result, result.add("veh_1"), 30, 40);
+        Position standingPosition = result.copyTo(0, target).position;
+        Position movingPosition = result.copyTo(1, target).position;
+
+        // RUN
+        result.clear();
+        setPosition(result, result.add("veh_0"), 10, 20);
+        setPosition(result, result.add("veh_1"), 31, 40);
+
+        // ASSERT
+        assertSame(standingPosition, result.copyTo(0, target).position);
+        assertNotSame(movingPosition, result.copyTo(1, target).position);
+        assertEquals(31d, target.position.getProjectedPosition().getX(), 0.0001d);
+
+        // forgotten vehicles get a new position
+        result.forget("veh_0");
+        assertNotSame(standingPosition, result.copyTo(0, target).position);
+    }
+
+    @Test
+    public void copyTo_reusesUnchangedLeadingVehicle() {
+        BulkVehicleSubscriptionResult result = new BulkVehicleSubscriptionResult();
+        VehicleSubscriptionResult target = new VehicleSubscriptionResult();
+        setLeader(result, result.add("veh_0"), "veh_2", 5d);
+        setLeader(result, result.add("veh_1"), "veh_2", 8d);
+        LeadFollowVehicle unchangedLeader = result.copyTo(0, target).leadingVehicle;
+        LeadFollowVehicle changedLeader = result.copyTo(1, target).leadingVehicle;
+
+        // RUN
+        result.clear();
+        setLeader(result, result.add("veh_0"), "veh_2", 5d);
+        setLeader(result, result.add("veh_1"), "veh_2", 9d);
+
+        // ASSERT
+        assertSame(unchangedLeader, result.copyTo(0, target).leadingVehicle);
+        assertNotSame(changedLeader, result.copyTo(1, target).leadingVehicle);
+        // values passed on before are not overwritten
+        assertEquals(8d, changedLeader.getDistance(), 0.0001d);
+        assertEquals(9d, target.leadingVehicle.getDistance(), 0.0001d);
+    }
+
+    private static void setLeader(BulkVehicleSubscriptionResult result, int index, String leaderId, double distance) {
+        result.leaderId[index] = leaderId;
+        result.leaderDistance[index] = distance;
+    }
+
+    private static void setPosition(BulkVehicleSubscriptionResult result, int index, double x, double y) {
+        result.positionValid[index] = true;
+        result.x[index] = x;
+        result.y[index] = y;
+    }
+
+    @Test
+    public void clear_keepsCapacity() {
+        BulkVehicleSubscriptionResult result = new BulkVehicleSubscriptionResult();
+        for (int i = 0; i < 300; i++) {
+            result.add("veh_" + i);
+        }
+        int capacity = result.ids.length;
+
+        // RUN
+        result.clear();
+        int index = result.add("veh_a");
+
+        // ASSERT
+        assertEquals(0, index);
+        assertEquals(1, result.size());
+        assertEquals(capacity, result.ids.length);
+        assertNull(result.ids[1]);
+        assertNull(result.copyTo(0, new VehicleSubscriptionResult()).position);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.partition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.api.VehicleSetRemove;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class PartitionedBridgeTest {
+
+    private Bridge bridgeA;
+    private Bridge bridgeB;
+
+    private PartitionedBridge partitionedBridge;
+
+    @Before
+    public void setup() throws InternalFederateException {
+        CSumo sumoConfiguration = new CSumo();
+        sumoConfiguration.partitions.add(partition("A", "e2", "B"));
+        sumoConfiguration.partitions.add(partition("B", "e4", "A"));
+
+        bridgeA = mockBridge();
+        bridgeB = mockBridge();
+
+        partitionedBridge = new PartitionedBridge(sumoConfiguration, Lists.newArrayList(bridgeA, bridgeB));
+        partitionedBridge.getRouteControl().addRoute("r1", Lists.newArrayList("e1", "e2", "e3"));
+    }
+
+    @After
+    public void tearDown() {
+        partitionedBridge.close();
+    }
+
+    @Test
+    public void addVehicle_routeCutAtBoundaryEdge() throws InternalFederateException {
+        // RUN
+        partitionedBridge.getSimulationControl().addVehicle("veh_0", "r1", "car", "best", "0", "max");
+
+        // ASSERT
+        verify(bridgeA.getRouteControl()).addRoute("r1_A_0", Lists.newArrayList("e1", "e2"));
+        verify(bridgeA.getSimulationControl()).addVehicle("veh_0", "r1_A_0", "car", "best", "0", "max");
+        verify(bridgeB.getSimulationControl(), never()).addVehicle(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void simulateUntil_vehicleHandedOverTransparently() throws InternalFederateException {
+        partitionedBridge.getSimulationControl().addVehicle("veh_0", "r1", "car", "best", "0", "max");
+        partitionedBridge.getSimulationControl().subscribeForVehicle("veh_0", 0, 100 * TIME.SECOND);
+        when(bridgeA.getVehicleControl().getVehicleTypeId("veh_0")).thenReturn("car");
+
+        // vehicle enters boundary edge e2 in partition A
+        when(bridgeA.getSimulationControl().simulateUntil(TIME.SECOND)).thenReturn(stepResult(TIME.SECOND,
+                List.of(vehicle(TIME.SECOND, "r1_A_0", "e2", 50d)), List.of(), List.of())
+        );
+        when(bridgeB.getSimulationControl().simulateUntil(TIME.SECOND)).thenReturn(stepResult(TIME.SECOND,
+                List.of(), List.of(), List.of())
+        );
+
+        // RUN + ASSERT (first step)
+        VehicleUpdates firstUpdates = partitionedBridge.getSimulationControl().simulateUntil(TIME.SECOND).getVehicleUpdates();
+        assertEquals(1, firstUpdates.getAdded().size());
+        assertEquals("r1", firstUpdates.getAdded().get(0).getRouteId());
+
+        verify(bridgeB.getRouteControl()).addRoute("r1_B_1", Lists.newArrayList("e2", "e3"));
+        verify(bridgeA.getSimulationControl()).removeVehicle("veh_0", VehicleSetRemove.Reason.ARRIVED);
+        verify(bridgeB.getSimulationControl()).addVehicle("veh_0", "r1_B_1", "car", "0", "5.00", "10.00");
+        verify(bridgeB.getSimulationControl()).subscribeForVehicle("veh_0", TIME.SECOND, 100 * TIME.SECOND);
+
+        // vehicle is removed from partition A and appears in partition B
+        when(bridgeA.getSimulationControl().simulateUntil(2 * TIME.SECOND)).thenReturn(stepResult(2 * TIME.SECOND,
+                List.of(), List.of(), List.of("veh_0"))
+        );
+        when(bridgeB.getSimulationControl().simulateUntil(2 * TIME.SECOND)).thenReturn(stepResult(2 * TIME.SECOND,
+                List.of(vehicle(2 * TIME.SECOND, "r1_B_1", "e2", 10d)), List.of(), List.of())
+        );
+
+        // RUN + ASSERT (second step)
+        VehicleUpdates secondUpdates = partitionedBridge.getSimulationControl().simulateUntil(2 * TIME.SECOND).getVehicleUpdates();
+        assertTrue(secondUpdates.getAdded().isEmpty());
+        assertTrue(secondUpdates.getRemovedNames().isEmpty());
+        assertEquals(1, secondUpdates.getUpdated().size());
+        assertEquals("r1", secondUpdates.getUpdated().get(0).getRouteId());
+        assertEquals(60d, secondUpdates.getUpdated().get(0).getDistanceDriven(), 0.0001d);
+
+        // vehicle must not be handed back at the same edge
+        verify(bridgeB.getSimulationControl(), never()).removeVehicle(any(), any());
+
+        when(bridgeB.getVehicleControl().getRouteId("veh_0")).thenReturn("r1_B_1");
+        assertEquals("r1", partitionedBridge.getVehicleControl().getRouteId("veh_0"));
+    }
+
+    private static CSumo.CSumoPartition partition(String id, String boundaryEdge, String targetPartition) {
+        CSumo.CSumoPartition partition = new CSumo.CSumoPartition();
+        partition.id = id;
+        partition.sumoConfigurationFile = id + ".sumocfg";
+        partition.boundaryEdges.put(boundaryEdge, targetPartition);
+        return partition;
+    }
+
+    private static Bridge mockBridge() throws InternalFederateException {
+        Bridge bridge = mock(Bridge.class);
+        when(bridge.getCommandRegister()).thenReturn(mock(CommandRegister.class));
+        RouteFacade routeFacade = mock(RouteFacade.class);
+        when(routeFacade.getRouteIds()).thenReturn(new ArrayList<>());
+        // no partition contains the complete route
+        doThrow(new InternalFederateException("Unknown edge")).when(routeFacade).addRoute(eq("r1"), anyList());
+        when(bridge.getRouteControl()).thenReturn(routeFacade);
+        when(bridge.getSimulationControl()).thenReturn(mock(SimulationFacade.class));
+        VehicleFacade vehicleFacade = mock(VehicleFacade.class);
+        when(bridge.getVehicleControl()).thenReturn(vehicleFacade);
+        return bridge;
+    }
+
+    private static VehicleData vehicle(long time, String routeId, String edge, double distanceDriven) {
+        return new VehicleData.Builder(time, "veh_0")
+                .road(new SimpleRoadPosition(edge, 0, 5d, 0d))
+                .route(routeId)
+                .movement(10d, 0d, distanceDriven)
+                .create();
+    }
+
+    private static TraciSimulationStepResult stepResult(long time, List<VehicleData> added, List<VehicleData> updated, List<String> removed) {
+        return new TraciSimulationStepResult(
+                new VehicleUpdates(time, new ArrayList<>(added), new ArrayList<>(updated), new ArrayList<>(removed)),
+                new TrafficDetectorUpdates(time, new ArrayList<>(), new ArrayList<>()),
+                new TrafficLightUpdates(time, new HashMap<>())
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.InductionLoopSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.SimulationContextSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.junit.SinceTraci;
+import org.eclipse.mosaic.fed.sumo.junit.SumoRunner;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+@RunWith(SumoRunner.class)
+public class InductionLoopSubscribeAllTest extends AbstractTraciCommandTest {
+
+    @Test
+    @SinceTraci(TraciVersion.API_20)
+    public void readSubscription() throws CommandException, InternalFederateException {
+        // PREPARE
+        new InductionLoopSubscribeAll().execute(traci.getTraciConnection(), 0, 40 * TIME.SECOND);
+
+        // RUN
+        int vehiclesPassed = 0;
+        // execute 30 simulation steps
+        for (long i = 0; i < 30; i++) {
+            List<AbstractSubscriptionResult> subscriptions = simulateStep.execute(traci.getTraciConnection(), i * TIME.SECOND);
+            SimulationContextSubscriptionResult result = (SimulationContextSubscriptionResult) Iterables.getOnlyElement(subscriptions);
+
+            // ASSERT
+            assertEquals(2, result.contextSubscriptions.size());
+            for (AbstractSubscriptionResult inductionLoop : result.contextSubscriptions) {
+                assertTrue(inductionLoop.id.startsWith("induction_loop_"));
+                if (inductionLoop.id.equals("induction_loop_1")) {
+                    vehiclesPassed += ((InductionLoopSubscriptionResult) inductionLoop).meanSpeed != -1.0d ? 1 : 0;
+                }
+            }
+        }
+
+        // 2 vehicles should have passed the induction loop
+        assertEquals(2, vehiclesPassed);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.interactions.vehicle.VehicleResume;
+import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.enums.LaneChangeMode;
+import org.eclipse.mosaic.lib.enums.SpeedMode;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLight;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightProgram;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightProgramPhase;
+import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightState;
+import org.eclipse.mosaic.lib.objects.vehicle.Consumptions;
+import org.eclipse.mosaic.lib.objects.vehicle.Emissions;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleConsumptions;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaEncoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleEmissions;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleSensors;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleSignals;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.lib.objects.vehicle.sensor.DistanceSensor;
+import org.eclipse.mosaic.lib.objects.vehicle.sensor.RadarSensor;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+public class InteractionTraceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void recordAndReplay() throws Exception {
+        File traceFile = temporaryFolder.newFile("trace.bin");
+        RtiAmbassador rti = mock(RtiAmbassador.class);
+
+        // RUN (record)
+        VehicleUpdates vehicleUpdates = vehicleUpdates(TIME.SECOND);
+        try (InteractionTraceWriter writer = new InteractionTraceWriter(traceFile)) {
+            RecordingRtiAmbassador recordingRti = new RecordingRtiAmbassador(rti, writer);
+            recordingRti.triggerInteraction(vehicleUpdates);
+            recordingRti.triggerInteraction(new TrafficLightUpdates(TIME.SECOND, new HashMap<>()));
+            recordingRti.triggerInteraction(vehicleUpdates(2 * TIME.SECOND));
+        }
+
+        // ASSERT (record)
+        verify(rti).triggerInteraction(vehicleUpdates);
+
+        // RUN + ASSERT (replay)
+        try (InteractionTraceReader reader = new InteractionTraceReader(traceFile, 1)) {
+            Interaction first = reader.peek();
+            assertTrue(first instanceof VehicleUpdates);
+            assertEquals(first, reader.next());
+            assertEquals("veh_0", ((VehicleUpdates) first).getUpdated().get(0).getName());
+            assertEquals(TIME.SECOND, first.getTime());
+
+            assertTrue(reader.next() instanceof TrafficLightUpdates);
+            assertEquals(2 * TIME.SECOND, reader.next().getTime());
+            assertNull(reader.peek());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void recordAndReplay_allVehicleData() throws Exception {
+        File traceFile = temporaryFolder.newFile("trace.bin");
+        VehicleData vehicleData = new VehicleData.Builder(TIME.SECOND, "veh_0")
+                .position(GeoPoint.latLon(52.5, 13.4), CartesianPoint.xyz(100, 200, 0))
+                .road(new SimpleRoadPosition("n1", "n2", 0, 25d))
+                .route("route_0")
+                .movement(13.2, -0.5, 1200d)
+                .orientation(DriveDirection.FORWARD, 95.3, 0.1)
+                .stopped(VehicleStopMode.NOT_STOPPED)
+                .laneArea("lad_0")
+                .emissions(new VehicleEmissions(new Emissions(1, 2, 3, 4, 5), new Emissions(10, 20, 30, 40, 50)))
+                .consumptions(new VehicleConsumptions(new Consumptions(0.3), new Consumptions(12.4)))
+                .signals(new VehicleSignals(true, false, false, true, false))
+                .sensors(new VehicleSensors(new DistanceSensor(12.5, -1, -1, -2), new RadarSensor(8.2)))
+                .create();
+
+        // RUN
+        try (InteractionTraceWriter writer = new InteractionTraceWriter(traceFile)) {
+            writer.write(new VehicleUpdates(TIME.SECOND, Arrays.asList(vehicleData), new ArrayList<>(), Arrays.asList("veh_1")));
+        }
+
+        // ASSERT
+        try (InteractionTraceReader reader = new InteractionTraceReader(traceFile, 10)) {
+            VehicleUpdates replayed = (VehicleUpdates) reader.next();
+            // Emissions#equals does not compare all values, hence all values are compared by their string representation
+            assertEquals(vehicleData.toString(), replayed.getAdded().get(0).toString());
+            assertEquals(vehicleData.getRoadPosition(), replayed.getAdded().get(0).getRoadPosition());
+            assertEquals(Arrays.asList("veh_1"), replayed.getRemovedNames());
+            assertTrue(replayed.getUpdated().isEmpty());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void recordAndReplay_registrationsAndDeltaUpdates() throws Exception {
+        File traceFile = temporaryFolder.newFile("trace.bin");
+        VehicleType vehicleType = new VehicleType("car", 4.5, 1.8, 1.5, 2.5, 40d, VehicleClass.Car,
+                2.6, 4.5, 9d, 0.5, 1d, 1.1, "red", LaneChangeMode.COOPERATIVE, SpeedMode.DEFAULT);
+        VehicleRoute route = new VehicleRoute("route_0", Arrays.asList("e1", "e2"), Arrays.asList("n1", "n2", "n3"), 320d);
+        VehicleDataDeltaEncoder encoder = new VehicleDataDeltaEncoder();
+        List<VehicleDeltaUpdates> recorded = new ArrayList<>();
+        List<TrafficLightState> states = Arrays.asList(new TrafficLightState(false, true, false));
+        Map<String, TrafficLightProgram> programs = new HashMap<>();
+        programs.put("0", new TrafficLightProgram("0", Arrays.asList(new TrafficLightProgramPhase(0, 30 * TIME.SECOND, states)), 0));
+        TrafficLightGroup trafficLightGroup = new TrafficLightGroup("tl_0", programs,
+                Arrays.asList(new TrafficLight(0, GeoPoint.latLon(52.5, 13.4), "e1_0", "e2_0", states.get(0))));
+        Map<String, Collection<String>> controlledLanes = new HashMap<>();
+        controlledLanes.put("tl_0", Arrays.asList("e1_0"));
+
+        // RUN
+        try (InteractionTraceWriter writer = new InteractionTraceWriter(traceFile)) {
+            writer.write(new VehicleRouteRegistration(0, route));
+            writer.write(new ScenarioVehicleRegistration(0, "veh_0", vehicleType));
+            writer.write(new ScenarioTrafficLightRegistration(0, Arrays.asList(trafficLightGroup), controlledLanes));
+            for (long time : new long[]{TIME.SECOND, 2 * TIME.SECOND}) {
+                VehicleDeltaUpdates deltaUpdates = VehicleDeltaUpdates.encode(vehicleUpdates(time), encoder);
+                recorded.add(deltaUpdates);
+                writer.write(deltaUpdates);
+            }
+        }
+
+        // ASSERT
+        try (InteractionTraceReader reader = new InteractionTraceReader(traceFile, 1)) {
+            assertEquals(route, ((VehicleRouteRegistration) reader.next()).getRoute());
+            ScenarioVehicleRegistration registration = (ScenarioVehicleRegistration) reader.next();
+            assertEquals("veh_0", registration.getName());
+            assertEquals(vehicleType, registration.getVehicleType());
+            ScenarioTrafficLightRegistration trafficLightRegistration = (ScenarioTrafficLightRegistration) reader.next();
+            assertEquals(Arrays.asList(trafficLightGroup), new ArrayList<>(trafficLightRegistration.getTrafficLightGroups()));
+            assertEquals(controlledLanes, trafficLightRegistration.getLanesControlledByGroups());
+
+            // receivers reconstruct the same states from the replayed delta updates as from the recorded ones
+            VehicleDataDeltaDecoder recordedDecoder = new VehicleDataDeltaDecoder();
+            VehicleDataDeltaDecoder replayedDecoder = new VehicleDataDeltaDecoder();
+            for (VehicleDeltaUpdates deltaUpdates : recorded) {
+                VehicleDeltaUpdates replayed = (VehicleDeltaUpdates) reader.next();
+                assertEquals(deltaUpdates.getTime(), replayed.getTime());
+                assertEquals(deltaUpdates.decode(recordedDecoder).getUpdated(), replayed.decode(replayedDecoder).getUpdated());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void unsupportedInteraction_traceRemainsReadable() throws Exception {
+        File traceFile = temporaryFolder.newFile("trace.bin");
+
+        // RUN
+        try (InteractionTraceWriter writer = new InteractionTraceWriter(traceFile)) {
+            try {
+                writer.write(new VehicleResume(0, "veh_0"));
+                fail("Expected IOException for interaction without record codec");
+            } catch (IOException e) {
+                // expected
+            }
+            writer.write(vehicleUpdates(TIME.SECOND));
+        }
+
+        // ASSERT
+        try (InteractionTraceReader reader = new InteractionTraceReader(traceFile, 10)) {
+            assertEquals(TIME.SECOND, reader.next().getTime());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void invalidTraceFile() throws IOException {
+        File traceFile = temporaryFolder.newFile("invalid.bin");
+        try (GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(traceFile))) {
+            out.write(new byte[]{1, 2, 3, 4});
+        }
+
+        // RUN
+        new InteractionTraceReader(traceFile, 10).close();
+    }
+
+    private static VehicleUpdates vehicleUpdates(long time) {
+        List<VehicleData> updated = new ArrayList<>();
+        updated.add(new VehicleData.Builder(time, "veh_0")
+                .road(new SimpleRoadPosition("e1", 0, 5d, 0d))
+                .movement(10d, 0d, 10d)
+                .create());
+        return new VehicleUpdates(time, new ArrayList<>(), updated, new ArrayList<>());
+    }
+}
@@ -18,6 +18,8 @@ package org.eclipse.mosaic.lib.database;
 import org.eclipse.mosaic.lib.database.building.Building;
 import org.eclipse.mosaic.lib.database.building.Corner;
 import org.eclipse.mosaic.lib.database.building.Wall;
+import org.eclipse.mosaic.lib.database.persistence.NetworkSnapshotReader;
+import org.eclipse.mosaic.lib.database.persistence.NetworkSnapshotWriter;
 import org.eclipse.mosaic.lib.database.persistence.OutdatedDatabaseException;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteReader;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteTypeDetector;
@@ -166,6 +168,21 @@ public class Database {
         return Database.Builder.loadFromFile(file).build();
     }
 
+    /**
+     * This method loads tries to load a database object from
+     * the given {@link File}, which should refer to a database-file.
+     * The loaded network is cached in a binary snapshot within the given directory.
+     *
+     * @param file              the database-file
+     * @param snapshotDirectory the directory to store the network snapshot in,
+     *                          or <code>null</code> to always load the database-file
+     * @return the loaded database
+     * @see Builder#loadFromFile(File, File)
+     */
+    public static Database loadFromFile(File file, File snapshotDirectory) {
+        return Database.Builder.loadFromFile(file, snapshotDirectory).build();
+    }
+
     /**
      * This method loads tries to load a database object from
      * the given filename, which should refer to a database-file.
@@ -444,6 +461,23 @@ public class Database {
          * @return the builder for easy cascading of methods
          */
         public static Builder loadFromFile(File file) {
+            return loadFromFile(file, null);
+        }
+
+        /**
+         * This method loads tries to load a database object from
+         * the given {@link File}, which should refer to a database-file.
+         * A {@link SQLiteReader} is used for the translation of the database
+         * to the Java-Object. If a snapshot directory is given, the loaded network is
+         * cached in a binary snapshot within this directory (see {@link NetworkSnapshotWriter}),
+         * which is used instead as long as the database-file remains unchanged.
+         *
+         * @param file              the database-file
+         * @param snapshotDirectory the directory to store the network snapshot in,
+         *                          or <code>null</code> to always load the database-file
+         * @return the builder for easy cascading of methods
+         */
+        public static Builder loadFromFile(File file, File snapshotDirectory) {
             SQLiteReader reader;
             try {
                 String contentType = Files.probeContentType(file.toPath());
@@ -461,8 +495,25 @@ public class Database {
 
             // type was already determined, start loading
             if (reader != null) {
+                final String formatVersion = reader.getStableVersion().toString();
+                final File snapshotFile = snapshotDirectory != null
+                        ? NetworkSnapshotWriter.getSnapshotFile(snapshotDirectory, file)
+                        : null;
+                if (snapshotFile != null && NetworkSnapshotReader.isUpToDate(snapshotFile, file, formatVersion)) {
+                    try {
+                        Builder builder = new NetworkSnapshotReader().loadFromFile(snapshotFile);
+                        log.debug("loaded database from snapshot {}", snapshotFile);
+                        return builder;
+                    } catch (IOException e) {
+                        log.warn("could not load database snapshot {}, loading {} instead", snapshotFile, file, e);
+                    }
+                }
                 try {
-                    return reader.loadFromFile(file.getCanonicalPath());
+                    Builder builder = reader.loadFromFile(file.getCanonicalPath());
+                    if (snapshotFile != null) {
+                        writeSnapshot(builder.database, formatVersion, file, snapshotFile);
+                    }
+                    return builder;
                 } catch (OutdatedDatabaseException | IOException ode) {
                     throw new RuntimeException(ode);
                 }
@@ -471,6 +522,20 @@ public class Database {
             }
         }
 
+        /**
+         * Stores the freshly loaded database as snapshot, which speeds up subsequent loading.
+         * Failing to do so (e.g. if the directory is read-only) is not critical.
+         */
+        private static void writeSnapshot(Database database, String formatVersion, File file, File snapshotFile) {
+            try {
+                Files.createDirectories(snapshotFile.getAbsoluteFile().getParentFile().toPath());
+                new NetworkSnapshotWriter().write(database, formatVersion, file, snapshotFile);
+                log.debug("wrote database snapshot {}", snapshotFile);
+            } catch (IOException | RuntimeException e) {
+                log.warn("could not write database snapshot {}: {}", snapshotFile, e.getMessage());
+            }
+        }
+
         /**
          * Overrides the database to be created with the
          * input {@link Database}.
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.database.persistence;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.database.route.Route;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a network snapshot written by the {@link NetworkSnapshotWriter} into a {@link Database.Builder}.
+ * The snapshot is memory-mapped in sections, so that it is not limited to the 2 GB a single mapping
+ * can address. All elements are created directly from its flat arrays, while strings are only decoded
+ * when they are referenced.
+ */
+public class NetworkSnapshotReader {
+
+    static final int NODE_TRAFFIC_LIGHT = 1;
+    static final int NODE_INTERSECTION = 1 << 1;
+    static final int NODE_GENERATED = 1 << 2;
+
+    /**
+     * Magic, version, length and modification time of the source file, and length of the format version.
+     */
+    static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+
+    /**
+     * The maximum size of a single mapped section of the snapshot.
+     */
+    private static final int DEFAULT_SECTION_SIZE = 1 << 30;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final int sectionSize;
+
+    private MappedByteBuffer[] sections;
+    private long position;
+
+    private long stringOffsets;
+    private long stringData;
+    private String[] strings;
+
+    public NetworkSnapshotReader() {
+        this(DEFAULT_SECTION_SIZE);
+    }
+
+    /**
+     * Creates a reader which maps snapshots in sections of the given size.
+     *
+     * @param sectionSize the size of each mapped section in bytes
+     */
+    NetworkSnapshotReader(int sectionSize) {
+        this.sectionSize = sectionSize;
+    }
+
+    /**
+     * Checks whether the given snapshot exists and has been created from the given source
+     * database file in its current state, using the given version of the database format.
+     * Only the header of the snapshot is read.
+     *
+     * @param snapshotFile  the snapshot file
+     * @param sourceFile    the source database file
+     * @param formatVersion the version of the database format the source has been checked against
+     * @return <code>true</code>, if the snapshot can be used instead of the source file
+     */
+    public static boolean isUpToDate(File snapshotFile, File sourceFile, String formatVersion) {
+        if (!snapshotFile.isFile() || snapshotFile.length() < HEADER_SIZE) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(snapshotFile.toPath());
+             DataInputStream header = new DataInputStream(in)) {
+            if (header.readLong() != NetworkSnapshotWriter.MAGIC
+                    || header.readInt() != NetworkSnapshotWriter.VERSION
+                    || header.readLong() != sourceFile.length()
+                    || header.readLong() != sourceFile.lastModified()) {
+                return false;
+            }
+            final byte[] snapshotFormatVersion = new byte[header.readInt()];
+            header.readFully(snapshotFormatVersion);
+            return formatVersion.equals(new String(snapshotFormatVersion, StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads the network from the given snapshot file.
+     *
+     * @param snapshotFile the snapshot file
+     * @return the builder holding the loaded network
+     * @throws IOException if the snapshot could not be read
+     */
+    public Database.Builder loadFromFile(File snapshotFile) throws IOException {
+        map(snapshotFile);
+        try {
+            // skip the header, which has already been checked by isUpToDate
+            position = HEADER_SIZE - Integer.BYTES;
+            final int formatVersionLength = nextInt();
+            position += formatVersionLength;
+            final Database.Builder builder = new Database.Builder(string(nextInt()));
+
+            log.debug("Loading properties...");
+            loadProperties(builder);
+            log.debug("Loading nodes...");
+            final Node[] nodes = loadNodes(builder);
+            log.debug("Loading ways...");
+            final Way[] ways = loadWays(builder, nodes);
+            log.debug("Loading connections...");
+            final Connection[] connections = loadConnections(builder, ways, nodes);
+            log.debug("Loading roundabouts...");
+            loadRoundabouts(builder, nodes);
+            log.debug("Loading restrictions...");
+            loadRestrictions(builder, ways, nodes);
+            log.debug("Loading buildings...");
+            loadBuildings(builder);
+            log.debug("Loading routes...");
+            loadRoutes(builder, connections);
+            log.debug("Snapshot loaded");
+            return builder;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException | ArithmeticException e) {
+            throw new StreamCorruptedException("Invalid network snapshot " + snapshotFile + ": " + e.getMessage());
+        } finally {
+            sections = null;
+            strings = null;
+        }
+    }
+
+    private void map(File snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE + Long.BYTES) {
+                throw new StreamCorruptedException("Network snapshot " + snapshotFile + " is truncated");
+            }
+            // each section overlaps the next one by the largest value read at once, so that no value
+            // is split across sections. The mappings remain valid after the channel has been closed.
+            sections = new MappedByteBuffer[(int) ((size - 1) / sectionSize) + 1];
+            for (int i = 0; i < sections.length; i++) {
+                final long start = (long) i * sectionSize;
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, (long) sectionSize + Long.BYTES));
+            }
+            final long stringTable = getLong(size - Long.BYTES);
+            strings = new String[getInt(stringTable)];
+            stringOffsets = stringTable + Integer.BYTES;
+            stringData = stringOffsets + (strings.length + 1L) * Long.BYTES;
+        }
+    }
+
+    private void loadProperties(Database.Builder builder) {
+        final int count = nextInt();
+        final long keys = intColumn(count);
+        final long values = intColumn(count);
+        for (int i = 0; i < count; i++) {
+            builder.addProperty(string(getInt(keys, i)), string(getInt(values, i)));
+        }
+    }
+
+    private Node[] loadNodes(Database.Builder builder) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long latitudes = doubleColumn(count);
+        final long longitudes = doubleColumn(count);
+        final long altitudes = doubleColumn(count);
+        final long flags = byteColumn(count);
+
+        final Node[] nodes = new Node[count];
+        for (int i = 0; i < count; i++) {
+            final byte flag = getByte(flags, i);
+            final Node node = builder.addNode(
+                    string(getInt(ids, i)),
+                    GeoPoint.lonLat(getDouble(longitudes, i), getDouble(latitudes, i), getDouble(altitudes, i)),
+                    (flag & NODE_TRAFFIC_LIGHT) != 0
+            );
+            node.setIntersection((flag & NODE_INTERSECTION) != 0);
+            node.setGenerated((flag & NODE_GENERATED) != 0);
+            nodes[i] = node;
+        }
+        return nodes;
+    }
+
+    private Way[] loadWays(Database.Builder builder, Node[] nodes) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long names = intColumn(count);
+        final long types = intColumn(count);
+        final long speeds = doubleColumn(count);
+        final long lanesForward = intColumn(count);
+        final long lanesBackward = intColumn(count);
+        final long oneways = byteColumn(count);
+        final long offsets = intColumn(count + 1);
+        final long references = intColumn(getInt(offsets, count));
+        final long nodeOffsets = intColumn(nodes.length + 1);
+        final long nodeReferences = intColumn(getInt(nodeOffsets, nodes.length));
+
+        final Way[] ways = new Way[count];
+        for (int i = 0; i < count; i++) {
+            final Way way = builder.addWay(string(getInt(ids, i)), string(getInt(names, i)), string(getInt(types, i)));
+            way.setMaxSpeedInMs(getDouble(speeds, i));
+            way.setLanes(getInt(lanesForward, i), getInt(lanesBackward, i));
+            way.setIsOneway(getByte(oneways, i) != 0);
+            for (int r = getInt(offsets, i); r < getInt(offsets, i + 1); r++) {
+                way.addNode(nodes[getInt(references, r)]);
+            }
+            ways[i] = way;
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            for (int r = getInt(nodeOffsets, i); r < getInt(nodeOffsets, i + 1); r++) {
+                nodes[i].addWay(ways[getInt(nodeReferences, r)]);
+            }
+        }
+        return ways;
+    }
+
+    private Connection[] loadConnections(Database.Builder builder, Way[] ways, Node[] nodes) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long wayReferences = intColumn(count);
+        final long lanes = intColumn(count);
+        final long lengths = doubleColumn(count);
+        final long offsets = intColumn(count + 1);
+        final long references = intColumn(getInt(offsets, count));
+
+        final Connection[] connections = new Connection[count];
+        for (int i = 0; i < count; i++) {
+            final Connection connection = new Connection(string(getInt(ids, i)), ways[getInt(wayReferences, i)]);
+            builder.addConnection(connection);
+            connection.setLanes(getInt(lanes, i)).setLength(getDouble(lengths, i));
+            for (int r = getInt(offsets, i); r < getInt(offsets, i + 1); r++) {
+                connection.addNode(nodes[getInt(references, r)]);
+            }
+            connections[i] = connection;
+        }
+        return connections;
+    }
+
+    private void loadRoundabouts(Database.Builder builder, Node[] nodes) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long offsets = intColumn(count + 1);
+        final long references = intColumn(getInt(offsets, count));
+
+        for (int i = 0; i < count; i++) {
+            final List<Node> roundaboutNodes = new ArrayList<>();
+            for (int r = getInt(offsets, i); r < getInt(offsets, i + 1); r++) {
+                final int node = getInt(references, r);
+                roundaboutNodes.add(node >= 0 ? nodes[node] : null);
+            }
+            builder.addRoundabout(string(getInt(ids, i)), roundaboutNodes);
+        }
+    }
+
+    private void loadRestrictions(Database.Builder builder, Way[] ways, Node[] nodes) {
+        // same as in SQLiteReader, connections must be complete before restrictions can be added
+        builder.completeConnections();
+
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long types = byteColumn(count);
+        final long sources = intColumn(count);
+        final long vias = intColumn(count);
+        final long targets = intColumn(count);
+
+        final Restriction.Type[] typeValues = Restriction.Type.values();
+        for (int i = 0; i < count; i++) {
+            builder.addRestriction(
+                    string(getInt(ids, i)),
+                    typeValues[getByte(types, i)],
+                    ways[getInt(sources, i)].getId(),
+                    nodes[getInt(vias, i)].getId(),
+                    ways[getInt(targets, i)].getId()
+            );
+        }
+    }
+
+    private void loadBuildings(Database.Builder builder) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long names = intColumn(count);
+        final long heights = doubleColumn(count);
+        final long offsets = intColumn(count + 1);
+        final int cornerCount = getInt(offsets, count);
+        final long latitudes = doubleColumn(cornerCount);
+        final long longitudes = doubleColumn(cornerCount);
+
+        for (int i = 0; i < count; i++) {
+            final int from = getInt(offsets, i);
+            final GeoPoint[] corners = new GeoPoint[getInt(offsets, i + 1) - from];
+            for (int c = 0; c < corners.length; c++) {
+                corners[c] = GeoPoint.latLon(getDouble(latitudes, from + c), getDouble(longitudes, from + c));
+            }
+            builder.addBuilding(string(getInt(ids, i)), string(getInt(names, i)), getDouble(heights, i), corners);
+        }
+    }
+
+    private void loadRoutes(Database.Builder builder, Connection[] connections) {
+        final int count = nextInt();
+        final long ids = intColumn(count);
+        final long offsets = intColumn(count + 1);
+        final long references = intColumn(getInt(offsets, count));
+
+        for (int i = 0; i < count; i++) {
+            final Route route = new Route(string(getInt(ids, i)));
+            for (int r = getInt(offsets, i); r < getInt(offsets, i + 1); r++) {
+                route.addConnection(connections[getInt(references, r)]);
+            }
+            builder.addRoute(route);
+        }
+    }
+
+    private int nextInt() {
+        final int value = getInt(position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    private long intColumn(int count) {
+        return column(count, Integer.BYTES);
+    }
+
+    private long doubleColumn(int count) {
+        return column(count, Double.BYTES);
+    }
+
+    private long byteColumn(int count) {
+        return column(count, Byte.BYTES);
+    }
+
+    /**
+     * Skips a column of the given number of values and returns its start position.
+     */
+    private long column(int count, int valueSize) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative column length " + count);
+        }
+        final long start = position;
+        position += (long) count * valueSize;
+        return start;
+    }
+
+    private int getInt(long column, int index) {
+        return getInt(column + (long) index * Integer.BYTES);
+    }
+
+    private double getDouble(long column, int index) {
+        return section(column + (long) index * Double.BYTES).getDouble(offset(column + (long) index * Double.BYTES));
+    }
+
+    private byte getByte(long column, int index) {
+        return section(column + index).get(offset(column + index));
+    }
+
+    private int getInt(long address) {
+        return section(address).getInt(offset(address));
+    }
+
+    private long getLong(long address) {
+        return section(address).getLong(offset(address));
+    }
+
+    private MappedByteBuffer section(long address) {
+        return sections[(int) (address / sectionSize)];
+    }
+
+    private int offset(long address) {
+        return (int) (address % sectionSize);
+    }
+
+    private String string(int index) {
+        if (index < 0) {
+            return null;
+        }
+        String string = strings[index];
+        if (string == null) {
+            final long start = getLong(stringOffsets + (long) index * Long.BYTES);
+            final long end = getLong(stringOffsets + (index + 1L) * Long.BYTES);
+            final byte[] bytes = new byte[Math.toIntExact(end - start)];
+            // a string may span several sections
+            int copied = 0;
+            while (copied < bytes.length) {
+                final long address = stringData + start + copied;
+                final int length = Math.min(bytes.length - copied, sectionSize - offset(address));
+                section(address).get(offset(address), bytes, copied, length);
+                copied += length;
+            }
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = string;
+        }
+        return string;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.database.persistence;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.building.Wall;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.Roundabout;
+import org.eclipse.mosaic.lib.database.road.TrafficLightNode;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.database.route.Route;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes the content of a {@link Database} into a compact binary snapshot, which can be memory-mapped
+ * and read by the {@link NetworkSnapshotReader} much faster than loading the SQLite database it originates from.
+ * All strings are stored once in a string table, and all elements are stored column-wise in flat arrays,
+ * referencing strings and other elements by their index. Variable-length lists (e.g. the nodes of a way)
+ * are stored as one offset array and one array of element indices.
+ *
+ * <p>The snapshot is bound to its source database file by its length and modification time,
+ * and must be re-created as soon as the source database has changed.</p>
+ */
+public class NetworkSnapshotWriter {
+
+    static final long MAGIC = 0x4D4F534149434E57L; // "MOSAICNW"
+    static final int VERSION = 2;
+    static final String FILE_SUFFIX = ".snapshot";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+
+    /**
+     * Returns the snapshot file which belongs to the given database file.
+     *
+     * @param snapshotDirectory the directory in which snapshots are stored
+     * @param databaseFile      the SQLite database file
+     * @return the snapshot file of the database file within the snapshot directory
+     */
+    public static File getSnapshotFile(File snapshotDirectory, File databaseFile) {
+        return new File(snapshotDirectory, databaseFile.getName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the snapshot of the given database into the given file. The snapshot is written
+     * into a temporary file first, which replaces the target file atomically when finished.
+     *
+     * @param database      the (intermediate) database, as loaded from the source database file
+     * @param formatVersion the version of the database format the database has been checked against
+     * @param sourceFile    the file the database has been loaded from
+     * @param snapshotFile  the file to write the snapshot to
+     * @throws IOException if the snapshot could not be written
+     */
+    public void write(Database database, String formatVersion, File sourceFile, File snapshotFile) throws IOException {
+        stringIndices.clear();
+        strings.clear();
+
+        final List<Node> nodes = new ArrayList<>(database.getNodes());
+        final List<Way> ways = new ArrayList<>(database.getWays());
+        final List<Connection> connections = new ArrayList<>(database.getConnections());
+        final Map<Node, Integer> nodeIndices = indexOf(nodes);
+        final Map<Way, Integer> wayIndices = indexOf(ways);
+        final Map<Connection, Integer> connectionIndices = indexOf(connections);
+
+        final File tmpFile = File.createTempFile(snapshotFile.getName(), ".tmp", snapshotFile.getAbsoluteFile().getParentFile());
+        try {
+            // the string table is collected while encoding the elements, hence it is written to the end of the file
+            final CountingOutputStream counter = new CountingOutputStream(Files.newOutputStream(tmpFile.toPath()));
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(counter, BUFFER_SIZE))) {
+                out.writeLong(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(sourceFile.length());
+                out.writeLong(sourceFile.lastModified());
+                // the format version is stored inline, so that it can be checked without reading the string table
+                final byte[] formatVersionBytes = formatVersion.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(formatVersionBytes.length);
+                out.write(formatVersionBytes);
+                out.writeInt(string(database.getVersion()));
+
+                writeProperties(out, database);
+                writeNodes(out, nodes);
+                writeWays(out, ways, nodes, wayIndices, nodeIndices);
+                writeConnections(out, connections, wayIndices, nodeIndices);
+                writeRoundabouts(out, new ArrayList<>(database.getRoundabouts()), nodeIndices);
+                writeRestrictions(out, new ArrayList<>(database.getRestrictions()), wayIndices, nodeIndices);
+                writeBuildings(out, new ArrayList<>(database.getBuildings()));
+                writeRoutes(out, new ArrayList<>(database.getRoutes()), connectionIndices);
+                // DataOutputStream counts in int, which overflows for snapshots larger than 2 GB
+                out.flush();
+                final long stringTableOffset = counter.count;
+                writeStrings(out);
+                out.writeLong(stringTableOffset);
+            }
+            Files.move(tmpFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile.toPath());
+        }
+    }
+
+    private void writeProperties(DataOutputStream out, Database database) throws IOException {
+        final List<String> keys = new ArrayList<>(database.getPropertyKeys());
+        keys.remove(Database.PROPERTY_VERSION);
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            out.writeInt(string(key));
+        }
+        for (String key : keys) {
+            out.writeInt(string(database.getProperty(key)));
+        }
+    }
+
+    private void writeNodes(DataOutputStream out, List<Node> nodes) throws IOException {
+        out.writeInt(nodes.size());
+        for (Node node : nodes) {
+            out.writeInt(string(node.getId()));
+        }
+        for (Node node : nodes) {
+            out.writeDouble(node.getPosition().getLatitude());
+        }
+        for (Node node : nodes) {
+            out.writeDouble(node.getPosition().getLongitude());
+        }
+        for (Node node : nodes) {
+            out.writeDouble(node.getPosition().getAltitude());
+        }
+        for (Node node : nodes) {
+            out.writeByte((node instanceof TrafficLightNode ? NetworkSnapshotReader.NODE_TRAFFIC_LIGHT : 0)
+                    | (node.isIntersection() ? NetworkSnapshotReader.NODE_INTERSECTION : 0)
+                    | (node.isGenerated() ? NetworkSnapshotReader.NODE_GENERATED : 0));
+        }
+    }
+
+    private void writeWays(DataOutputStream out, List<Way> ways, List<Node> nodes,
+                           Map<Way, Integer> wayIndices, Map<Node, Integer> nodeIndices) throws IOException {
+        out.writeInt(ways.size());
+        for (Way way : ways) {
+            out.writeInt(string(way.getId()));
+        }
+        for (Way way : ways) {
+            out.writeInt(string(way.getName()));
+        }
+        for (Way way : ways) {
+            out.writeInt(string(way.getType()));
+        }
+        for (Way way : ways) {
+            out.writeDouble(way.getMaxSpeedInMs());
+        }
+        for (Way way : ways) {
+            out.writeInt(way.getNumberOfLanesForward());
+        }
+        for (Way way : ways) {
+            out.writeInt(way.getNumberOfLanesBackward());
+        }
+        for (Way way : ways) {
+            out.writeBoolean(way.isOneway());
+        }
+        writeLists(out, ways, Way::getNodes, nodeIndices);
+        // the ways of each node are stored separately to retain their order
+        writeLists(out, nodes, Node::getWays, wayIndices);
+    }
+
+    private void writeConnections(DataOutputStream out, List<Connection> connections,
+                                  Map<Way, Integer> wayIndices, Map<Node, Integer> nodeIndices) throws IOException {
+        out.writeInt(connections.size());
+        for (Connection connection : connections) {
+            out.writeInt(string(connection.getId()));
+        }
+        for (Connection connection : connections) {
+            out.writeInt(wayIndices.get(connection.getWay()));
+        }
+        for (Connection connection : connections) {
+            out.writeInt(connection.getLanes());
+        }
+        for (Connection connection : connections) {
+            out.writeDouble(connection.getLength());
+        }
+        writeLists(out, connections, Connection::getNodes, nodeIndices);
+    }
+
+    private void writeRoundabouts(DataOutputStream out, List<Roundabout> roundabouts, Map<Node, Integer> nodeIndices) throws IOException {
+        out.writeInt(roundabouts.size());
+        for (Roundabout roundabout : roundabouts) {
+            out.writeInt(string(roundabout.getId()));
+        }
+        writeLists(out, roundabouts, Roundabout::getNodes, nodeIndices);
+    }
+
+    private void writeRestrictions(DataOutputStream out, List<Restriction> restrictions,
+                                   Map<Way, Integer> wayIndices, Map<Node, Integer> nodeIndices) throws IOException {
+        out.writeInt(restrictions.size());
+        for (Restriction restriction : restrictions) {
+            out.writeInt(string(restriction.getId()));
+        }
+        for (Restriction restriction : restrictions) {
+            out.writeByte(restriction.getType().ordinal());
+        }
+        for (Restriction restriction : restrictions) {
+            out.writeInt(wayIndices.get(restriction.getSource()));
+        }
+        for (Restriction restriction : restrictions) {
+            out.writeInt(nodeIndices.get(restriction.getVia()));
+        }
+        for (Restriction restriction : restrictions) {
+            out.writeInt(wayIndices.get(restriction.getTarget()));
+        }
+    }
+
+    private void writeBuildings(DataOutputStream out, List<Building> buildings) throws IOException {
+        out.writeInt(buildings.size());
+        for (Building building : buildings) {
+            out.writeInt(string(building.getId()));
+        }
+        for (Building building : buildings) {
+            out.writeInt(string(building.getName()));
+        }
+        for (Building building : buildings) {
+            out.writeDouble(building.getHeight());
+        }
+        // we only store the from-corner of each wall, as walls form a closed loop
+        int offset = 0;
+        out.writeInt(offset);
+        for (Building building : buildings) {
+            offset += building.getWalls().size();
+            out.writeInt(offset);
+        }
+        for (Building building : buildings) {
+            for (Wall wall : building.getWalls()) {
+                out.writeDouble(wall.getFromCorner().getPosition().getLatitude());
+            }
+        }
+        for (Building building : buildings) {
+            for (Wall wall : building.getWalls()) {
+                out.writeDouble(wall.getFromCorner().getPosition().getLongitude());
+            }
+        }
+    }
+
+    private void writeRoutes(DataOutputStream out, List<Route> routes, Map<Connection, Integer> connectionIndices) throws IOException {
+        out.writeInt(routes.size());
+        for (Route route : routes) {
+            out.writeInt(string(route.getId()));
+        }
+        writeLists(out, routes, Route::getConnections, connectionIndices);
+    }
+
+    private void writeStrings(DataOutputStream out) throws IOException {
+        out.writeInt(strings.size());
+        long offset = 0;
+        out.writeLong(offset);
+        for (byte[] string : strings) {
+            offset += string.length;
+            out.writeLong(offset);
+        }
+        for (byte[] string : strings) {
+            out.write(string);
+        }
+    }
+
+    /**
+     * Writes the lists of referenced elements of all given elements as offset array followed by the element indices.
+     * A missing element is stored as -1.
+     */
+    private static <T, R> void writeLists(DataOutputStream out, List<T> elements,
+                                          Function<T, List<R>> listGetter,
+                                          Map<R, Integer> indices) throws IOException {
+        int offset = 0;
+        out.writeInt(offset);
+        for (T element : elements) {
+            offset = Math.addExact(offset, listGetter.apply(element).size());
+            out.writeInt(offset);
+        }
+        for (T element : elements) {
+            for (R reference : listGetter.apply(element)) {
+                out.writeInt(reference != null ? indices.get(reference) : -1);
+            }
+        }
+    }
+
+    private static <T> Map<T, Integer> indexOf(List<T> elements) {
+        // identity is sufficient, as all elements originate from the same database
+        final Map<T, Integer> indices = new IdentityHashMap<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            indices.put(elements.get(i), i);
+        }
+        return indices;
+    }
+
+    private int string(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return stringIndices.computeIfAbsent(value, v -> {
+            strings.add(v.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Counts the bytes written to the underlying stream.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
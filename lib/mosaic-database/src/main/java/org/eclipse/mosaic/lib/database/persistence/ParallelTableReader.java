@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.database.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Reads several tables of an SQLite database in parallel, each on its own read-only connection.
+ * Rows are mapped to objects by the reading threads and handed over in batches, so that the
+ * calling thread can process the rows of one table while they are still being read, and while
+ * the following tables are read ahead already. Each table can be consumed exactly once.
+ */
+class ParallelTableReader implements AutoCloseable {
+
+    private static final int BATCH_SIZE = 4096;
+
+    /**
+     * Maximum number of batches read ahead per table, which limits the memory required
+     * for tables which are not consumed yet.
+     */
+    private static final int MAX_PENDING_BATCHES = 256;
+
+    private static final int PROGRESS_INTERVAL = 1_000_000;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final SQLiteAccess sqlite;
+    private final ExecutorService executor;
+
+    ParallelTableReader(SQLiteAccess sqlite, int threads) {
+        this.sqlite = sqlite;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "sqlite-reader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts reading the result of the given query in the background.
+     *
+     * @param name      name of the table for logging purposes
+     * @param query     the query to execute
+     * @param rowMapper maps each row to an object, called by the reading thread
+     * @return the table to consume the mapped rows from
+     */
+    <T> Table<T> read(String name, String query, RowMapper<T> rowMapper) {
+        final Table<T> table = new Table<>(name);
+        executor.execute(() -> table.produce(query, rowMapper));
+        return table;
+    }
+
+    @Override
+    public void close() {
+        // interrupts readers of tables which have not been consumed, e.g. after an error
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(SQLiteAccess.ResultRow row) throws SQLException;
+    }
+
+    /**
+     * The result of a query, which is read in the background.
+     */
+    class Table<T> {
+
+        private final String name;
+        private final BlockingQueue<Object> batches = new ArrayBlockingQueue<>(MAX_PENDING_BATCHES);
+        private volatile long readTime;
+
+        /**
+         * The batch currently filled by the reading thread.
+         */
+        private List<T> pending = new ArrayList<>(BATCH_SIZE);
+
+        private Table(String name) {
+            this.name = name;
+        }
+
+        private void produce(String query, RowMapper<T> rowMapper) {
+            final long start = System.nanoTime();
+            try {
+                sqlite.streamStatement(query, row -> {
+                    pending.add(rowMapper.map(row));
+                    if (pending.size() == BATCH_SIZE) {
+                        put(pending);
+                        pending = new ArrayList<>(BATCH_SIZE);
+                    }
+                });
+                put(pending);
+                readTime = System.nanoTime() - start;
+                put(End.END);
+            } catch (InterruptedRead e) {
+                Thread.currentThread().interrupt();
+            } catch (SQLException | RuntimeException e) {
+                try {
+                    batches.put(e);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                pending = null;
+            }
+        }
+
+        private void put(Object batch) {
+            try {
+                batches.put(batch);
+            } catch (InterruptedException e) {
+                // the consumer has given up on this table, the row callback can only throw unchecked exceptions though
+                throw new InterruptedRead(e);
+            }
+        }
+
+        /**
+         * Passes all rows of this table to the given consumer, as soon as they have been read.
+         *
+         * @param rowConsumer called for each row in order of the query result
+         * @return the number of consumed rows
+         * @throws SQLException if the table could not be read
+         */
+        @SuppressWarnings("unchecked")
+        int forEach(Consumer<T> rowConsumer) throws SQLException {
+            final long start = System.nanoTime();
+            int rows = 0;
+            try {
+                while (true) {
+                    final Object batch = batches.take();
+                    if (batch == End.END) {
+                        break;
+                    }
+                    if (batch instanceof SQLException e) {
+                        throw e;
+                    }
+                    if (batch instanceof RuntimeException e) {
+                        throw e;
+                    }
+                    for (T row : (List<T>) batch) {
+                        rowConsumer.accept(row);
+                        if (++rows % PROGRESS_INTERVAL == 0) {
+                            log.debug("Loaded {} rows of {}", rows, name);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while loading " + name, e);
+            }
+            log.debug("Loaded {} rows of {} in {} ms (read: {} ms)",
+                    rows, name, (System.nanoTime() - start) / 1_000_000, readTime / 1_000_000);
+            return rows;
+        }
+    }
+
+    private enum End {
+        END
+    }
+
+    private static class InterruptedRead extends RuntimeException {
+        private InterruptedRead(InterruptedException cause) {
+            super(cause);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.function.Function;
 
 /**
@@ -157,14 +158,49 @@ class SQLiteAccess {
         return result;
     }
 
-    private List<ResultRow> readRows(ResultSet rs) throws SQLException {
-        List<ResultRow> re = new ArrayList<>();
+    /**
+     * Executes the given query on a separate read-only connection and passes each row of the result
+     * to the given consumer, without collecting all rows in memory. Since no state of this object is
+     * changed, this method can be called by several threads in parallel. Note, that the row object passed
+     * to the consumer is reused for all rows, and must therefore not be kept by the consumer.
+     *
+     * @param statementString SQL query to be executed
+     * @param rowConsumer     called for each row of the result
+     * @throws SQLException Exception that provides information on a database access error or other errors.
+     */
+    protected void streamStatement(String statementString, RowConsumer rowConsumer) throws SQLException {
+        final Properties properties = new Properties();
+        // corresponds to SQLITE_OPEN_READONLY of the SQLite JDBC driver
+        properties.setProperty("open_mode", "1");
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbName, properties);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(statementString)) {
+
+            final Map<String, Integer> columnIndex = getColumnIndex(resultSet);
+            final Object[] fields = new Object[columnIndex.size()];
+            final ResultRow row = new ResultRow(columnIndex, fields);
+            while (resultSet.next()) {
+                for (int column = 0; column < fields.length; column++) {
+                    fields[column] = resultSet.getObject(column + 1);
+                }
+                rowConsumer.accept(row);
+            }
+        }
+    }
 
+    private static Map<String, Integer> getColumnIndex(ResultSet rs) throws SQLException {
         final Map<String, Integer> columnIndex = new HashMap<>();
         final ResultSetMetaData metaData = rs.getMetaData();
         for (int i = 0; i < metaData.getColumnCount(); i++) {
             columnIndex.put(metaData.getColumnName(i + 1), i);
         }
+        return columnIndex;
+    }
+
+    private List<ResultRow> readRows(ResultSet rs) throws SQLException {
+        List<ResultRow> re = new ArrayList<>();
+
+        final Map<String, Integer> columnIndex = getColumnIndex(rs);
 
         while (rs.next()) {
             Object[] fields = new Object[columnIndex.size()];
@@ -176,6 +212,11 @@ class SQLiteAccess {
         return re;
     }
 
+    @FunctionalInterface
+    interface RowConsumer {
+        void accept(ResultRow row) throws SQLException;
+    }
+
     static class ResultRow {
 
         private final Object[] fields;
@@ -33,8 +33,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import javax.annotation.Nonnull;
 
 /**
@@ -42,6 +46,8 @@ import javax.annotation.Nonnull;
  */
 public class SQLiteReader {
 
+    private static final int DEFAULT_THREADS = 4;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final SQLiteAccess sqlite = new SQLiteAccess();
@@ -55,6 +61,11 @@ public class SQLiteReader {
 
     private final boolean skipVersionCheck;
 
+    /**
+     * The number of tables which are read in parallel.
+     */
+    private final int threads;
+
     /**
      * Default constructor.
      */
@@ -68,9 +79,20 @@ public class SQLiteReader {
      * @param skipVersionCheck Disable the check the version of the database.
      */
     public SQLiteReader(boolean skipVersionCheck) {
+        this(skipVersionCheck, Math.min(DEFAULT_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a new {@link SQLiteReader} object.
+     *
+     * @param skipVersionCheck Disable the check the version of the database.
+     * @param threads          The number of tables to read in parallel, each using its own connection.
+     */
+    public SQLiteReader(boolean skipVersionCheck, int threads) {
         super();
 
         this.skipVersionCheck = skipVersionCheck;
+        this.threads = Math.max(1, threads);
 
         // determine stable version to check against
         try (InputStream propertiesStream = this.getClass().getResourceAsStream("/database.properties")) {
@@ -83,39 +105,68 @@ public class SQLiteReader {
         }
     }
 
+    /**
+     * Returns the current stable version of the database file format, which loaded databases are checked against.
+     *
+     * @return the stable version of the database format
+     */
+    public MosaicVersion getStableVersion() {
+        return stable;
+    }
+
     /**
      * This loads the given database into our database objects by skipping the values in the list.
+     * All tables are read in parallel on separate connections, while the network is linked by the
+     * calling thread as soon as the required rows are available.
      *
      * @param dbFilename Database filename.
      * @return Loaded database.
      * @throws OutdatedDatabaseException if there is an error while reading version from database or the read version is older than stable version.
      */
     public Database.Builder loadFromFile(@Nonnull String dbFilename) throws OutdatedDatabaseException {
+        final long start = System.nanoTime();
         sqlite.setDatabaseFile(dbFilename);
         log.debug("checking version...");
         Database.Builder builder = new Database.Builder(checkVersion());
-        log.debug("Loading properties...");
-        loadProperties(builder);
-        log.debug("Loading nodes...");
-        loadNodes(builder); //Needs to be loaded before any other network related table
-        log.debug("Loading ways...");
-        loadWays(builder);
-        log.debug("Loading way <--> node relations...");
-        loadWayNodes(builder);
-        log.debug("Loading connections...");
-        loadConnections(builder);
-        log.debug("Loading connection <--> node relations...");
-        loadConnectionNodes(builder);
-        log.debug("Loading roundabouts...");
-        loadRoundabouts(builder);
-        log.debug("Loading restrictions...");
-        loadRestrictions(builder);
-        log.debug("Loading buildings...");
-        loadBuildings(builder);
-        log.debug("Loading routes...");
-        loadRoutes(builder);
-        log.debug("Database loaded");
-        sqlite.disconnect(null);
+
+        // tables are consumed in the same order as they are read
+        try (ParallelTableReader reader = new ParallelTableReader(sqlite, threads)) {
+            final ParallelTableReader.Table<Property> properties = readProperties(reader);
+            final ParallelTableReader.Table<NodeRow> nodes = readNodes(reader);
+            final ParallelTableReader.Table<WayRow> ways = readWays(reader);
+            final ParallelTableReader.Table<Relation> wayNodes = readRelations(reader, TABLES.WAY_CONSISTS_OF, "way_id", "node_id", "sequence_number");
+            final ParallelTableReader.Table<ConnectionRow> connections = readConnections(reader);
+            final ParallelTableReader.Table<Relation> connectionNodes =
+                    readRelations(reader, TABLES.CONNECTION_CONSISTS_OF, "connection_id", "node_id", "sequence_number");
+            final ParallelTableReader.Table<String> roundabouts = readRoundabouts(reader);
+            final ParallelTableReader.Table<Relation> roundaboutNodes =
+                    readRelations(reader, TABLES.ROUNDABOUT_CONSISTS_OF, "roundabout_id", "node_id", getRoundaboutNodesOrderColumn());
+            final ParallelTableReader.Table<RestrictionRow> restrictions = readRestrictions(reader);
+            final ParallelTableReader.Table<BuildingCornerRow> buildings = readBuildings(reader);
+            final ParallelTableReader.Table<Relation> routes = readRoutes(reader);
+
+            log.debug("Loading properties...");
+            loadProperties(builder, properties);
+            log.debug("Loading nodes...");
+            loadNodes(builder, nodes); //Needs to be loaded before any other network related table
+            log.debug("Loading ways...");
+            loadWays(builder, ways);
+            log.debug("Loading way <--> node relations...");
+            loadWayNodes(builder, wayNodes);
+            log.debug("Loading connections...");
+            loadConnections(builder, connections);
+            log.debug("Loading connection <--> node relations...");
+            loadConnectionNodes(builder, connectionNodes);
+            log.debug("Loading roundabouts...");
+            loadRoundabouts(builder, roundabouts, roundaboutNodes);
+            log.debug("Loading restrictions...");
+            loadRestrictions(builder, restrictions);
+            log.debug("Loading buildings...");
+            loadBuildings(builder, buildings);
+            log.debug("Loading routes...");
+            loadRoutes(builder, routes);
+        }
+        log.info("Loaded database {} in {} ms", dbFilename, (System.nanoTime() - start) / 1_000_000);
         return builder;
     }
 
@@ -143,106 +194,97 @@ public class SQLiteReader {
         return versionString;
     }
 
+    private ParallelTableReader.Table<Property> readProperties(ParallelTableReader reader) {
+        return reader.read(TABLES.PROPERTIES, "SELECT id, value FROM " + TABLES.PROPERTIES,
+                row -> new Property(row.getString("id"), row.getString("value", null))
+        );
+    }
+
     /**
-     * Loads all {@link Node}s from the persistence and writes to the given {@link Database}.
+     * Loads all properties from the persistence and writes to the given {@link Database}.
      *
      * @param databaseBuilder Database from which to load.
      */
-    private void loadProperties(Database.Builder databaseBuilder) {
-
+    private void loadProperties(Database.Builder databaseBuilder, ParallelTableReader.Table<Property> properties) {
         try {
-            // get all properties
-            List<SQLiteAccess.ResultRow> propertyList = sqlite.executeStatement(
-                    "SELECT id, value FROM " + TABLES.PROPERTIES
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow propertyEntry : propertyList) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = propertyEntry.getString("id");
-                if (id.equals(Database.PROPERTY_VERSION)) {
-                    continue;
+            properties.forEach(property -> {
+                if (!property.id().equals(Database.PROPERTY_VERSION)) {
+                    databaseBuilder.addProperty(property.id(), property.value());
                 }
-                String value = propertyEntry.getString("value", null);
-                databaseBuilder.addProperty(id, value);
-            }
+            });
         } catch (SQLException e) {
             log.warn("Error loading properties: {}. Skipping", e.getMessage());
         }
     }
 
+    private ParallelTableReader.Table<NodeRow> readNodes(ParallelTableReader reader) {
+        return reader.read(TABLES.NODE,
+                "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE,
+                row -> new NodeRow(
+                        row.getString("id"),
+                        row.getDouble("lat"),
+                        row.getDouble("lon"),
+                        row.getDouble("ele", 0d),
+                        row.getBoolean("is_traffic_light"),
+                        row.getBoolean("is_intersection"),
+                        row.getBoolean("is_generated")
+                )
+        );
+    }
+
     /**
      * Loads all {@link Node}s from the persistence and writes to the given {@link Database}. This
      * needs to be loaded before any other network related tables.
      *
      * @param databaseBuilder Database builder from which to load.
      */
-    private void loadNodes(Database.Builder databaseBuilder) {
-
+    private void loadNodes(Database.Builder databaseBuilder, ParallelTableReader.Table<NodeRow> nodes) {
         try {
-            // get all nodes
-            List<SQLiteAccess.ResultRow> nodeList = sqlite.executeStatement(
-                    "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow nodeEntry : nodeList) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = nodeEntry.getString("id");
-                double latitude = nodeEntry.getDouble("lat");
-                double longitude = nodeEntry.getDouble("lon");
-                double elevation = nodeEntry.getDouble("ele", 0d);
-                boolean isTrafficLight = nodeEntry.getBoolean("is_traffic_light");
-                boolean isIntersection = nodeEntry.getBoolean("is_intersection");
-                boolean isGenerated = nodeEntry.getBoolean("is_generated");
-
+            nodes.forEach(nodeEntry -> {
                 // create object and save to db
                 Node node = databaseBuilder.addNode(
-                        id,
-                        GeoPoint.lonLat(longitude, latitude, elevation),
-                        isTrafficLight
+                        nodeEntry.id(),
+                        GeoPoint.lonLat(nodeEntry.longitude(), nodeEntry.latitude(), nodeEntry.elevation()),
+                        nodeEntry.isTrafficLight()
                 );
-                node.setIntersection(isIntersection);
-                node.setGenerated(isGenerated);
-            }
+                node.setIntersection(nodeEntry.isIntersection());
+                node.setGenerated(nodeEntry.isGenerated());
+            });
         } catch (SQLException e) {
             log.warn("Error loading nodes: {}. Skipping", e.getMessage());
         }
     }
 
+    private ParallelTableReader.Table<WayRow> readWays(ParallelTableReader reader) {
+        return reader.read(TABLES.WAY,
+                "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY,
+                row -> new WayRow(
+                        row.getString("id"),
+                        row.getString("name", null),
+                        row.getString("type", null),
+                        row.getDouble("speed"),
+                        row.getInt("lanesForward"),
+                        row.getInt("lanesBackward"),
+                        row.getBoolean("oneway")
+                )
+        );
+    }
+
     /**
      * Loads all {@link Way}s from the persistence and writes to the given {@link Database}. This is
      * the second step when loading the network.
      *
      * @param databaseBuilder Database from which to load.
      */
-    private void loadWays(Database.Builder databaseBuilder) {
+    private void loadWays(Database.Builder databaseBuilder, ParallelTableReader.Table<WayRow> ways) {
         try {
-            // get all ways
-            List<SQLiteAccess.ResultRow> wayList = sqlite.executeStatement(
-                    "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow wayEntry : wayList) {
-
-                String id = wayEntry.getString("id");
-                String name = wayEntry.getString("name", null);
-                String type = wayEntry.getString("type", null);
-                double speed = wayEntry.getDouble("speed");
-                int lanesForward = wayEntry.getInt("lanesForward");
-                int lanesBackward = wayEntry.getInt("lanesBackward");
-                boolean oneway = wayEntry.getBoolean("oneway");
-
+            ways.forEach(wayEntry -> {
                 // create object and save to database
-                Way way = databaseBuilder.addWay(id, name, type);
-                way.setMaxSpeedInMs(speed);
-                way.setLanes(lanesForward, lanesBackward);
-                way.setIsOneway(oneway);
-
-            }
-
+                Way way = databaseBuilder.addWay(wayEntry.id(), wayEntry.name(), wayEntry.type());
+                way.setMaxSpeedInMs(wayEntry.speed());
+                way.setLanes(wayEntry.lanesForward(), wayEntry.lanesBackward());
+                way.setIsOneway(wayEntry.oneway());
+            });
         } catch (IllegalArgumentException iae) {
             log.error("could not read way from DB please check for consistency");
         } catch (SQLException e) {
@@ -250,52 +292,48 @@ public class SQLiteReader {
         }
     }
 
+    /**
+     * Reads a relation table, which assigns elements to a parent element in the order of the given column.
+     */
+    private ParallelTableReader.Table<Relation> readRelations(ParallelTableReader reader, String table,
+                                                             String parentColumn, String childColumn, String orderColumn) {
+        return reader.read(table,
+                "SELECT " + parentColumn + ", " + childColumn + " FROM " + table + " ORDER BY " + orderColumn,
+                row -> new Relation(row.getString(parentColumn), row.getString(childColumn))
+        );
+    }
+
     /**
      * This loads the relations between {@link Way}s and {@link Node}s.
      *
      * @param databaseBuilder Database from which to load.
      */
-    private void loadWayNodes(Database.Builder databaseBuilder) {
+    private void loadWayNodes(Database.Builder databaseBuilder, ParallelTableReader.Table<Relation> wayNodes) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF+ " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
-                String wayId = consistsEntry.getString("way_id");
-                String nodeId = consistsEntry.getString("node_id");
-                databaseBuilder.addNodeToWay(wayId, nodeId);
-            }
-
+            wayNodes.forEach(relation -> databaseBuilder.addNodeToWay(relation.parentId(), relation.childId()));
         } catch (SQLException e) {
             log.warn("Error loading way <--> node relations: {}. Skipping", e.getMessage());
         }
     }
 
+    private ParallelTableReader.Table<ConnectionRow> readConnections(ParallelTableReader reader) {
+        return reader.read(TABLES.CONNECTION, "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION,
+                row -> new ConnectionRow(row.getString("id"), row.getString("way_id"), row.getInt("lanes"), row.getDouble("length"))
+        );
+    }
+
     /**
      * This loads the {@link Connection}s (abstract part of ways that connects junctions).
      *
      * @param databaseBuilder Database from which to load.
      */
-    private void loadConnections(Database.Builder databaseBuilder) {
+    private void loadConnections(Database.Builder databaseBuilder, ParallelTableReader.Table<ConnectionRow> connections) {
         try {
-            List<SQLiteAccess.ResultRow> connections = sqlite.executeStatement(
-                    "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow connectionEntry : connections) {
-
-                String id = connectionEntry.getString("id");
-                String wayId = connectionEntry.getString("way_id");
-                int lanes = connectionEntry.getInt("lanes");
-                double length = connectionEntry.getDouble("length");
-
-                // create object and save to db
-                databaseBuilder.addConnection(id, wayId).setLanes(lanes).setLength(length);
-            }
-
+            connections.forEach(connectionEntry -> databaseBuilder
+                    .addConnection(connectionEntry.id(), connectionEntry.wayId())
+                    .setLanes(connectionEntry.lanes())
+                    .setLength(connectionEntry.length())
+            );
         } catch (SQLException e) {
             log.warn("Error loading connections: {}. Skipping", e.getMessage());
         }
@@ -306,74 +344,83 @@ public class SQLiteReader {
      *
      * @param databaseBuilder Database builder from which to load.
      */
-    private void loadConnectionNodes(Database.Builder databaseBuilder) {
+    private void loadConnectionNodes(Database.Builder databaseBuilder, ParallelTableReader.Table<Relation> connectionNodes) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
-
-                // read files from entry, mind index order (see columns above)
-                String connectionId = consistsEntry.getString("connection_id");
-                String nodeId = consistsEntry.getString("node_id");
-
-                // create object and save to db
-                databaseBuilder.addNodeToConnection(connectionId, nodeId);
-            }
-
+            connectionNodes.forEach(relation -> databaseBuilder.addNodeToConnection(relation.parentId(), relation.childId()));
         } catch (SQLException e) {
             log.warn("Error loading connection <--> node relations: {}. Skipping", e.getMessage());
         }
     }
 
     /**
-     * This loads {@link Roundabout}s.
-     *
-     * @param databaseBuilder Database builder from which to load.
+     * Returns the column defining the order of the nodes of roundabouts. Older databases misspell the sequence number column,
+     * or may lack it at all, in which case the insertion order of the rows is used.
      */
-    private void loadRoundabouts(Database.Builder databaseBuilder) {
+    private String getRoundaboutNodesOrderColumn() {
+        final Set<String> columns = new HashSet<>();
         try {
-            List<SQLiteAccess.ResultRow> roundabouts = sqlite.executeStatement(
-                    "SELECT id FROM " + TABLES.ROUNDABOUT
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow roundaboutEntry : roundabouts) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = roundaboutEntry.getString("id");
-
-                // create object and save to db
-                List<Node> nodes = loadRoundaboutNodes(id, databaseBuilder);
-                databaseBuilder.addRoundabout(id, nodes);
+            for (SQLiteAccess.ResultRow row : sqlite.executeStatement("PRAGMA table_info(" + TABLES.ROUNDABOUT_CONSISTS_OF + ")").getRows()) {
+                columns.add(row.getString("name"));
             }
-        } catch (Exception e) {
-            log.warn("No roundabouts were found in the scenario database. Note that roundabouts in this scenario may be treated as ordinary crossings.");
+        } catch (SQLException e) {
+            log.warn("Could not read columns of table {}: {}", TABLES.ROUNDABOUT_CONSISTS_OF, e.getMessage());
+        }
+        if (columns.contains("sequence_number")) {
+            return "sequence_number";
+        } else if (columns.contains("sequnce_number")) {
+            return "sequnce_number";
         }
+        return "rowid";
+    }
+
+    private ParallelTableReader.Table<String> readRoundabouts(ParallelTableReader reader) {
+        return reader.read(TABLES.ROUNDABOUT, "SELECT id FROM " + TABLES.ROUNDABOUT, row -> row.getString("id"));
     }
 
     /**
-     * This loads {@link Node}-References (IDs) that are part of the {@link Roundabout} with id `roundaboutId`.
+     * This loads {@link Roundabout}s and the {@link Node}s they consist of.
      *
-     * @param roundaboutId Id of the roundabout from which to load the nodes.
+     * @param databaseBuilder Database builder from which to load.
      */
-    private List<Node> loadRoundaboutNodes(String roundaboutId, Database.Builder databaseBuilder) {
+    private void loadRoundabouts(Database.Builder databaseBuilder, ParallelTableReader.Table<String> roundabouts,
+                                 ParallelTableReader.Table<Relation> roundaboutNodes) {
+        final List<String> roundaboutIds = new ArrayList<>();
         try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT node_id FROM " + TABLES.ROUNDABOUT_CONSISTS_OF + " WHERE roundabout_id = \""
-                            + roundaboutId + "\" ORDER BY sequence_number ASC"
-            ).getRows();
-            List<Node> restrictionNodes = new ArrayList<>();
-            for (SQLiteAccess.ResultRow restriction : restrictions) {
-                restrictionNodes.add(databaseBuilder.getNode(restriction.getString("id")));
-            }
-            return restrictionNodes;
+            roundabouts.forEach(roundaboutIds::add);
+        } catch (Exception e) {
+            log.warn("No roundabouts were found in the scenario database. Note that roundabouts in this scenario may be treated as ordinary crossings.");
+            return;
+        }
+
+        final Map<String, List<Node>> nodesPerRoundabout = new HashMap<>();
+        try {
+            roundaboutNodes.forEach(relation -> {
+                Node node = databaseBuilder.getNode(relation.childId());
+                if (node != null) {
+                    nodesPerRoundabout.computeIfAbsent(relation.parentId(), id -> new ArrayList<>()).add(node);
+                }
+            });
         } catch (Exception e) {
             log.warn("Error loading roundabout nodes: {}. Skipping", e.getMessage());
+            nodesPerRoundabout.clear();
+        }
+
+        for (String id : roundaboutIds) {
+            databaseBuilder.addRoundabout(id, nodesPerRoundabout.getOrDefault(id, new ArrayList<>()));
         }
-        return new ArrayList<>();
+    }
+
+    private ParallelTableReader.Table<RestrictionRow> readRestrictions(ParallelTableReader reader) {
+        return reader.read(TABLES.RESTRICTION,
+                "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION,
+                row -> new RestrictionRow(
+                        row.getString("id"),
+                        row.getString("source_way_id"),
+                        row.getString("via_node_id"),
+                        row.getString("target_way_id"),
+                        Restriction.Type.convertTypeFromString(row.getString("type"))
+                )
+        );
     }
 
     /**
@@ -381,101 +428,123 @@ public class SQLiteReader {
      *
      * @param databaseBuilder Database builder from which to load the restrictions.
      */
-    private void loadRestrictions(Database.Builder databaseBuilder) {
+    private void loadRestrictions(Database.Builder databaseBuilder, ParallelTableReader.Table<RestrictionRow> restrictions) {
         databaseBuilder.completeConnections();
 
         try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow restrictionEntry : restrictions) {
-                String restrictionId = restrictionEntry.getString("id");
-                String sourceWayId = restrictionEntry.getString("source_way_id");
-                String viaNodeId = restrictionEntry.getString("via_node_id");
-                String targetWayId = restrictionEntry.getString("target_way_id");
-                Restriction.Type type = Restriction.Type.convertTypeFromString(restrictionEntry.getString("type"));
-
-                databaseBuilder.addRestriction(restrictionId, type, sourceWayId, viaNodeId, targetWayId);
-            }
-
+            restrictions.forEach(restriction -> databaseBuilder.addRestriction(
+                    restriction.id(), restriction.type(), restriction.sourceWayId(), restriction.viaNodeId(), restriction.targetWayId()
+            ));
         } catch (SQLException e) {
             log.warn("Error loading restrictions: {}, Skipping", e.getMessage());
         }
     }
 
+    private ParallelTableReader.Table<BuildingCornerRow> readBuildings(ParallelTableReader reader) {
+        // buildings are joined with their corners, which avoids one query per building
+        return reader.read(TABLES.BUILDING,
+                "SELECT b.id AS id, b.name AS name, b.height AS height, c.lat AS lat, c.lon AS lon"
+                        + " FROM " + TABLES.BUILDING + " b LEFT JOIN " + TABLES.BUILDING_CONSISTS_OF + " c ON c.building_id = b.id"
+                        + " ORDER BY b.id, c.sequence_number",
+                row -> new BuildingCornerRow(
+                        row.getString("id"),
+                        row.getString("name"),
+                        row.getDouble("height"),
+                        row.getDouble("lat", null) != null ? GeoPoint.latLon(row.getDouble("lat"), row.getDouble("lon")) : null
+                )
+        );
+    }
+
     /**
      * This loads the {@link Building}s from the database.
      *
      * @param databaseBuilder Database from which to load the buildings.
      */
-    private void loadBuildings(Database.Builder databaseBuilder) {
+    private void loadBuildings(Database.Builder databaseBuilder, ParallelTableReader.Table<BuildingCornerRow> buildingCorners) {
+        final List<GeoPoint> corners = new ArrayList<>();
+        final BuildingCornerRow[] current = new BuildingCornerRow[1];
         try {
-            List<SQLiteAccess.ResultRow> buildingEntries = sqlite.executeStatement("SELECT id, name, height FROM " + TABLES.BUILDING).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow buildingEntry : buildingEntries) {
-                String id = buildingEntry.getString("id");
-                String name = buildingEntry.getString("name");
-                double height = buildingEntry.getDouble("height");
-
-                List<SQLiteAccess.ResultRow> cornerEntries = sqlite.executeStatement(
-                        "SELECT lat, lon FROM " + TABLES.BUILDING_CONSISTS_OF + " WHERE building_id = \"" + id + "\" ORDER BY sequence_number"
-                ).getRows();
-
-                final GeoPoint[] corners = new GeoPoint[cornerEntries.size()];
-                int i = 0;
-                for (SQLiteAccess.ResultRow cornerEntry : cornerEntries) {
-                    corners[i++] = GeoPoint.latLon(cornerEntry.getDouble("lat"), cornerEntry.getDouble("lon"));
+            buildingCorners.forEach(corner -> {
+                if (current[0] != null && !current[0].id().equals(corner.id())) {
+                    addBuilding(databaseBuilder, current[0], corners);
                 }
-
-                // create building and save to db
-                databaseBuilder.addBuilding(id, name, height, corners);
+                current[0] = corner;
+                if (corner.position() != null) {
+                    corners.add(corner.position());
+                }
+            });
+            if (current[0] != null) {
+                addBuilding(databaseBuilder, current[0], corners);
             }
-
         } catch (SQLException e) {
             log.warn("Error loading buildings: {}. Skipping", e.getMessage());
         }
     }
 
+    private void addBuilding(Database.Builder databaseBuilder, BuildingCornerRow building, List<GeoPoint> corners) {
+        // create building and save to db
+        databaseBuilder.addBuilding(building.id(), building.name(), building.height(), corners.toArray(new GeoPoint[0]));
+        corners.clear();
+    }
+
+    private ParallelTableReader.Table<Relation> readRoutes(ParallelTableReader reader) {
+        return reader.read(TABLES.ROUTE, "SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number",
+                row -> new Relation(row.getString("id"), row.getString("connection_id"))
+        );
+    }
+
     /**
      * This loads the {@link Route}s.
      *
      * @param databaseBuilder Database from which to load the routes.
      */
-    private void loadRoutes(Database.Builder databaseBuilder) {
+    private void loadRoutes(Database.Builder databaseBuilder, ParallelTableReader.Table<Relation> routes) {
+        final Database.RouteBuilder[] routeBuilder = new Database.RouteBuilder[1];
+        final String[] lastId = new String[1];
         try {
-            List<SQLiteAccess.ResultRow> routes = sqlite.executeStatement(
-                    "SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number"
-            ).getRows();
-
-            String lastId = null;
-            Database.RouteBuilder routeBuilder = null;
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow routeEntry : routes) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = routeEntry.getString("id");
-                String connectionId = routeEntry.getString("connection_id");
-
+            routes.forEach(routeEntry -> {
                 // we need to group into our route object
-                if (!id.equals(lastId)) {
-                    if (routeBuilder != null) {
-                        routeBuilder.create();
+                if (!routeEntry.parentId().equals(lastId[0])) {
+                    if (routeBuilder[0] != null) {
+                        routeBuilder[0].create();
                     }
-                    routeBuilder = databaseBuilder.addRoute(id);
-                    lastId = id;
+                    routeBuilder[0] = databaseBuilder.addRoute(routeEntry.parentId());
+                    lastId[0] = routeEntry.parentId();
                 }
-                routeBuilder.addConnection(connectionId);
-            }
+                routeBuilder[0].addConnection(routeEntry.childId());
+            });
 
-            if (routeBuilder != null) {
-                routeBuilder.create();
+            if (routeBuilder[0] != null) {
+                routeBuilder[0].create();
             }
         } catch (SQLException e) {
             log.warn("Error loading routes: {}. Skipping", e.getMessage());
         }
     }
 
+    private record Property(String id, String value) {
+    }
+
+    private record NodeRow(String id, double latitude, double longitude, double elevation,
+                           boolean isTrafficLight, boolean isIntersection, boolean isGenerated) {
+    }
+
+    private record WayRow(String id, String name, String type, double speed, int lanesForward, int lanesBackward, boolean oneway) {
+    }
+
+    private record ConnectionRow(String id, String wayId, int lanes, double length) {
+    }
+
+    /**
+     * Assigns an element to a parent element, e.g. a node to a way.
+     */
+    private record Relation(String parentId, String childId) {
+    }
+
+    private record RestrictionRow(String id, String sourceWayId, String viaNodeId, String targetWayId, Restriction.Type type) {
+    }
+
+    private record BuildingCornerRow(String id, String name, double height, GeoPoint position) {
+    }
+
 }
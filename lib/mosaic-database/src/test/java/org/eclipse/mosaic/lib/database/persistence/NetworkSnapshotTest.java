@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.Way;
+import org.eclipse.mosaic.lib.database.route.Route;
+import org.eclipse.mosaic.lib.util.junit.TestFileRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+
+public class NetworkSnapshotTest {
+
+    @Rule
+    public TestFileRule testFileRule = new TestFileRule()
+            .with("/butzbach.db")
+            .with("/kaiserdammPristine.db");
+
+    @Rule
+    public TemporaryFolder snapshotFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndReadSnapshot() throws Exception {
+        writeAndReadSnapshot(new NetworkSnapshotReader());
+    }
+
+    @Test
+    public void writeAndReadSnapshot_mappedInSections() throws Exception {
+        // tiny sections, so that values and strings are spread across section boundaries
+        writeAndReadSnapshot(new NetworkSnapshotReader(97));
+    }
+
+    private void writeAndReadSnapshot(NetworkSnapshotReader reader) throws Exception {
+        // SETUP
+        File dbFile = testFileRule.get("butzbach.db");
+        File snapshotFile = NetworkSnapshotWriter.getSnapshotFile(snapshotFolder.getRoot(), dbFile);
+        SQLiteReader sqliteReader = new SQLiteReader();
+        String formatVersion = sqliteReader.getStableVersion().toString();
+        Database.Builder original = sqliteReader.loadFromFile(dbFile.getAbsolutePath());
+
+        // RUN
+        new NetworkSnapshotWriter().write(original.getIntermediateDatabase(), formatVersion, dbFile, snapshotFile);
+        Database expected = original.build();
+        Database actual = reader.loadFromFile(snapshotFile).build();
+
+        // ASSERT
+        assertTrue(NetworkSnapshotReader.isUpToDate(snapshotFile, dbFile, formatVersion));
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getImportOrigin(), actual.getImportOrigin());
+        assertEquals(expected.getBoundingBox(), actual.getBoundingBox());
+        assertEquals(expected.getNodes().size(), actual.getNodes().size());
+        assertEquals(expected.getWays().size(), actual.getWays().size());
+        assertEquals(expected.getConnections().size(), actual.getConnections().size());
+        assertEquals(expected.getRoundabouts().size(), actual.getRoundabouts().size());
+        assertEquals(expected.getRestrictions().size(), actual.getRestrictions().size());
+        assertEquals(expected.getRoutes().size(), actual.getRoutes().size());
+
+        for (Node node : expected.getNodes()) {
+            Node actualNode = actual.getNode(node.getId());
+            assertEquals(node.getPosition(), actualNode.getPosition());
+            assertEquals(node.getClass(), actualNode.getClass());
+            assertEquals(node.isIntersection(), actualNode.isIntersection());
+            assertEquals(wayIds(node.getWays()), wayIds(actualNode.getWays()));
+            assertEquals(node.getOutgoingConnections().size(), actualNode.getOutgoingConnections().size());
+        }
+        for (Way way : expected.getWays()) {
+            Way actualWay = actual.getWay(way.getId());
+            assertEquals(way.getName(), actualWay.getName());
+            assertEquals(way.getType(), actualWay.getType());
+            assertEquals(way.getMaxSpeedInMs(), actualWay.getMaxSpeedInMs(), 0d);
+            assertEquals(way.getNumberOfLanesBackward(), actualWay.getNumberOfLanesBackward());
+            assertEquals(way.isOneway(), actualWay.isOneway());
+            assertEquals(nodeIds(way.getNodes()), nodeIds(actualWay.getNodes()));
+        }
+        for (Connection connection : expected.getConnections()) {
+            Connection actualConnection = actual.getConnection(connection.getId());
+            assertEquals(connection.getWay().getId(), actualConnection.getWay().getId());
+            assertEquals(connection.getLanes(), actualConnection.getLanes());
+            assertEquals(connection.getLength(), actualConnection.getLength(), 0d);
+            assertEquals(nodeIds(connection.getNodes()), nodeIds(actualConnection.getNodes()));
+            assertEquals(connection.getOutgoingConnections().size(), actualConnection.getOutgoingConnections().size());
+        }
+        for (Restriction restriction : expected.getRestrictions()) {
+            Restriction actualRestriction = actual.getRestriction(restriction.getId());
+            assertEquals(restriction.getType(), actualRestriction.getType());
+            assertEquals(restriction.getVia().getId(), actualRestriction.getVia().getId());
+        }
+        for (Route route : expected.getRoutes()) {
+            assertEquals(route.getConnectionIds(), actual.getRoute(route.getId()).getConnectionIds());
+        }
+    }
+
+    @Test
+    public void loadFromFile_snapshotCreatedAndUsed() {
+        // SETUP
+        File dbFile = testFileRule.get("kaiserdammPristine.db");
+        File snapshotDirectory = new File(snapshotFolder.getRoot(), "snapshots");
+        File snapshotFile = NetworkSnapshotWriter.getSnapshotFile(snapshotDirectory, dbFile);
+        assertFalse(snapshotFile.exists());
+
+        // RUN
+        Database fromSqlite = Database.loadFromFile(dbFile, snapshotDirectory);
+        assertTrue(snapshotFile.exists());
+        Database fromSnapshot = Database.loadFromFile(dbFile, snapshotDirectory);
+
+        // ASSERT
+        assertEquals(fromSqlite.getNodes().size(), fromSnapshot.getNodes().size());
+        assertEquals(100, fromSnapshot.getBuildings().size());
+        Building building = fromSnapshot.getBuilding("82504793");
+        assertNotNull(building);
+        assertEquals(fromSqlite.getBuilding("82504793").getWalls(), building.getWalls());
+    }
+
+    @Test
+    public void loadFromFile_noSnapshotWithoutDirectory() {
+        // SETUP
+        File dbFile = testFileRule.get("kaiserdammPristine.db");
+
+        // RUN
+        Database.loadFromFile(dbFile);
+
+        // ASSERT
+        assertEquals(0, dbFile.getParentFile().list((dir, name) -> name.endsWith(NetworkSnapshotWriter.FILE_SUFFIX)).length);
+    }
+
+    @Test
+    public void snapshotOutdated_whenDatabaseChanged() throws Exception {
+        // SETUP
+        File dbFile = testFileRule.get("butzbach.db");
+        File snapshotFile = NetworkSnapshotWriter.getSnapshotFile(snapshotFolder.getRoot(), dbFile);
+        String formatVersion = new SQLiteReader().getStableVersion().toString();
+        Database.loadFromFile(dbFile, snapshotFolder.getRoot());
+        assertTrue(NetworkSnapshotReader.isUpToDate(snapshotFile, dbFile, formatVersion));
+
+        // RUN
+        assertTrue(dbFile.setLastModified(dbFile.lastModified() - 10000));
+
+        // ASSERT
+        assertFalse(NetworkSnapshotReader.isUpToDate(snapshotFile, dbFile, formatVersion));
+    }
+
+    private static List<String> nodeIds(List<Node> nodes) {
+        return nodes.stream().map(Node::getId).toList();
+    }
+
+    private static List<String> wayIds(List<Way> ways) {
+        return ways.stream().map(Way::getId).toList();
+    }
+}
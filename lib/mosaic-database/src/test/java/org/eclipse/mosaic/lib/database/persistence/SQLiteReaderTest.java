@@ -23,11 +23,18 @@ import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.building.Building;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Roundabout;
 import org.eclipse.mosaic.lib.database.road.Way;
 import org.eclipse.mosaic.lib.util.junit.TestFileRule;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+import java.sql.Statement;
 
 /**
  * Tests the loader class for SQLite Databases.
@@ -36,9 +43,13 @@ public class SQLiteReaderTest {
 
     @Rule
     public TestFileRule testFileRule = new TestFileRule()
+            .with("/basicTest.db")
             .with("/butzbach.db")
             .with("/kaiserdammPristine.db");
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testLoadFromFile() throws OutdatedDatabaseException {
         // SETUP
@@ -94,4 +105,81 @@ public class SQLiteReaderTest {
                 building.getWalls().get(6).getToCorner()
         );
     }
+
+    @Test
+    public void testLoadRoundaboutNodes() throws OutdatedDatabaseException {
+        // SETUP
+        String path = testFileRule.get("butzbach.db").getAbsolutePath();
+
+        // RUN
+        Database result = new SQLiteReader().loadFromFile(path).build();
+
+        Roundabout roundabout = result.getRoundabouts().iterator().next();
+        // two of the referenced nodes are not part of the database
+        assertEquals("Wrong amount of nodes for roundabout_0", 5, roundabout.getNodes().size());
+        assertEquals("265306327", roundabout.getNodes().get(0).getId());
+        assertEquals("265306279", roundabout.getNodes().get(2).getId());
+        assertEquals("265306324", roundabout.getNodes().get(4).getId());
+    }
+
+    @Test
+    public void testLoadRoundaboutNodes_resolvesNodeIds() throws OutdatedDatabaseException {
+        // SETUP
+        String path = testFileRule.get("basicTest.db").getAbsolutePath();
+
+        // RUN
+        Database result = new SQLiteReader().loadFromFile(path).build();
+
+        // ASSERT
+        // the nodes of roundabouts are referenced by the column node_id, previously the non-existing column id was read
+        Roundabout roundabout = result.getRoundabouts().iterator().next();
+        assertEquals(4, roundabout.getNodes().size());
+        for (Node node : roundabout.getNodes()) {
+            assertSame(result.getNode(node.getId()), node);
+        }
+    }
+
+    @Test
+    public void testLoadRoundaboutNodes_orderedBySequenceNumber() throws Exception {
+        // SETUP
+        File databaseFile = new File(temporaryFolder.getRoot(), "basicTest.db");
+        Files.copy(testFileRule.get("basicTest.db").toPath(), databaseFile.toPath());
+        // rewrite the nodes of the roundabout in reverse order, keeping their sequence numbers
+        try (java.sql.Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE Reversed AS SELECT * FROM RoundaboutConsistsOf ORDER BY sequence_number DESC");
+            statement.executeUpdate("DELETE FROM RoundaboutConsistsOf");
+            statement.executeUpdate("INSERT INTO RoundaboutConsistsOf SELECT * FROM Reversed");
+            statement.executeUpdate("DROP TABLE Reversed");
+        }
+
+        // RUN
+        Database result = new SQLiteReader().loadFromFile(databaseFile.getAbsolutePath()).build();
+
+        // ASSERT
+        Roundabout roundabout = result.getRoundabouts().iterator().next();
+        assertEquals(4, roundabout.getNodes().size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Integer.toString(i + 1), roundabout.getNodes().get(i).getId());
+        }
+    }
+
+    @Test
+    public void testLoadSingleThreaded() throws OutdatedDatabaseException {
+        // SETUP
+        String path = testFileRule.get("kaiserdammPristine.db").getAbsolutePath();
+
+        // RUN
+        Database parallel = new SQLiteReader(false, 4).loadFromFile(path).build();
+        Database sequential = new SQLiteReader(false, 1).loadFromFile(path).build();
+
+        // ASSERT
+        assertEquals(parallel.getNodes().size(), sequential.getNodes().size());
+        assertEquals(parallel.getWays().size(), sequential.getWays().size());
+        assertEquals(parallel.getConnections().size(), sequential.getConnections().size());
+        assertEquals(parallel.getBuildings().size(), sequential.getBuildings().size());
+        for (Way way : parallel.getWays()) {
+            assertEquals(way.getNodes().size(), sequential.getWay(way.getId()).getNodes().size());
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.mapping;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This extension of {@link Interaction} is sent by the mapping ambassador to register several vehicles
+ * departing at the same time at once, instead of sending one {@link VehicleRegistration} per vehicle.
+ * Receivers handle each contained {@link VehicleRegistration} as if it had been received on its own,
+ * in the order of the list.
+ */
+public final class VehicleRegistrations extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(VehicleRegistrations.class);
+
+    /**
+     * The registrations of the vehicles, all with the time of this interaction.
+     */
+    private final List<VehicleRegistration> registrations;
+
+    /**
+     * Creates a new interaction which registers several vehicles at once.
+     *
+     * @param time          Timestamp of this interaction, unit: [ns]
+     * @param registrations the registrations of the vehicles, which must have the same time as this interaction
+     */
+    public VehicleRegistrations(long time, List<VehicleRegistration> registrations) {
+        super(time);
+        for (VehicleRegistration registration : registrations) {
+            Validate.isTrue(registration.getTime() == time, "All vehicle registrations must have the time of the interaction.");
+        }
+        this.registrations = Collections.unmodifiableList(registrations);
+    }
+
+    public List<VehicleRegistration> getRegistrations() {
+        return registrations;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(11, 37)
+                .append(registrations)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        VehicleRegistrations rhs = (VehicleRegistrations) obj;
+        return new EqualsBuilder()
+                .append(this.registrations, rhs.registrations)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("registrations", registrations)
+                .toString();
+    }
+}
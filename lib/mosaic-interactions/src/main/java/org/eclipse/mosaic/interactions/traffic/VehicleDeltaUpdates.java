@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.traffic;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.lib.objects.UnitData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDelta;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaEncoder;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Delta encoded variant of {@link VehicleUpdates}. Newly added vehicles are transmitted with their
+ * full {@link VehicleData}, whereas for updated vehicles only those values are transmitted
+ * which changed since their last transmission (see {@link VehicleDataDelta}). Receivers reconstruct
+ * the full {@link VehicleUpdates} interaction using {@link #decode(VehicleDataDeltaDecoder)}.
+ *
+ * <p>The sender already knows the reconstructed states from its {@link VehicleDataDeltaEncoder}, and
+ * attaches them to the interaction as one shared view. All receivers within the same process use this
+ * view, hence each state is created only once per step, regardless of the number of receivers. Only if the
+ * view is not available, e.g. for deserialized interactions, each receiver reconstructs the states using
+ * its own decoder.</p>
+ */
+public final class VehicleDeltaUpdates extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(VehicleDeltaUpdates.class);
+
+    /**
+     * Time at which the next sensor update will be sent.
+     */
+    private long nextUpdate;
+
+    /**
+     * List of {@link VehicleData} identifying added vehicles.
+     */
+    private final List<VehicleData> added;
+
+    /**
+     * List of {@link VehicleDataDelta} of vehicles with updated values.
+     */
+    private final List<VehicleDataDelta> updated;
+
+    /**
+     * List of vehicle IDs (strings) identifying removed vehicles.
+     */
+    private final List<String> removedNames;
+
+    /**
+     * The reconstructed vehicle updates as attached by the sender, shared by all receivers.
+     */
+    private transient VehicleUpdates decoded;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param time         Timestamp of this interaction, unit: [ns]
+     * @param added        Vehicles that were added in this simulation step.
+     * @param updated      Deltas of vehicles that were already in the simulation.
+     * @param removedNames Vehicles that were removed in this simulation step.
+     */
+    public VehicleDeltaUpdates(long time, List<VehicleData> added, List<VehicleDataDelta> updated, List<String> removedNames) {
+        super(time);
+        this.added = added;
+        this.updated = updated;
+        this.removedNames = removedNames;
+    }
+
+    /**
+     * Creates the delta encoded variant of the given {@link VehicleUpdates} interaction.
+     *
+     * @param vehicleUpdates the full vehicle updates to encode
+     * @param encoder        the encoder holding the last transmitted states of all vehicles
+     * @return the delta encoded vehicle updates
+     */
+    public static VehicleDeltaUpdates encode(VehicleUpdates vehicleUpdates, VehicleDataDeltaEncoder encoder) {
+        for (VehicleData addedVehicle : vehicleUpdates.getAdded()) {
+            encoder.add(addedVehicle);
+        }
+        List<VehicleDataDelta> deltas = new ArrayList<>(vehicleUpdates.getUpdated().size());
+        List<VehicleData> transmittedVehicles = new ArrayList<>(vehicleUpdates.getUpdated().size());
+        for (VehicleData updatedVehicle : vehicleUpdates.getUpdated()) {
+            deltas.add(encoder.encode(updatedVehicle));
+            // this is exactly the state each receiver would reconstruct from the delta
+            transmittedVehicles.add(encoder.getTransmitted(updatedVehicle.getName()));
+        }
+        for (String removed : vehicleUpdates.getRemovedNames()) {
+            encoder.remove(removed);
+        }
+        VehicleDeltaUpdates result = new VehicleDeltaUpdates(
+                vehicleUpdates.getTime(), vehicleUpdates.getAdded(), deltas, vehicleUpdates.getRemovedNames()
+        );
+        result.setNextUpdate(vehicleUpdates.getNextUpdate());
+        result.decoded = new VehicleUpdates(
+                vehicleUpdates.getTime(), vehicleUpdates.getAdded(), transmittedVehicles, vehicleUpdates.getRemovedNames()
+        );
+        result.decoded.setNextUpdate(vehicleUpdates.getNextUpdate());
+        return result;
+    }
+
+    /**
+     * Reconstructs the full {@link VehicleUpdates} interaction from this delta encoded variant. If the sender
+     * attached the reconstructed states, these are returned without touching the decoder. As this is the case
+     * either for all or for none of the interactions of a sender, the decoder is still consistent.
+     *
+     * @param decoder the decoder holding the latest states of all vehicles known to the receiver
+     * @return the full vehicle updates, sent by the same sender as this interaction
+     */
+    public VehicleUpdates decode(VehicleDataDeltaDecoder decoder) {
+        final VehicleUpdates shared = decoded;
+        if (shared != null) {
+            return withSender(shared);
+        }
+        for (VehicleData addedVehicle : added) {
+            decoder.add(addedVehicle);
+        }
+        List<VehicleData> updatedVehicles = new ArrayList<>(updated.size());
+        for (VehicleDataDelta delta : updated) {
+            updatedVehicles.add(decoder.decode(delta));
+        }
+        for (String removed : removedNames) {
+            decoder.remove(removed);
+        }
+        VehicleUpdates result = new VehicleUpdates(getTime(), added, updatedVehicles, removedNames);
+        result.setNextUpdate(nextUpdate);
+        return withSender(result);
+    }
+
+    /**
+     * The sender ID is assigned by the RTI after the interaction has been encoded, hence it is passed on lazily.
+     */
+    private VehicleUpdates withSender(VehicleUpdates vehicleUpdates) {
+        if (getSenderId() != null && vehicleUpdates.getSenderId() == null) {
+            try {
+                vehicleUpdates.setSenderId(getSenderId());
+            } catch (IllegalValueException e) {
+                // cannot happen, as the same sender ID is assigned by each receiver
+                throw new IllegalStateException(e);
+            }
+        }
+        return vehicleUpdates;
+    }
+
+    public List<VehicleData> getAdded() {
+        return this.added;
+    }
+
+    public List<VehicleDataDelta> getUpdated() {
+        return this.updated;
+    }
+
+    public List<String> getRemovedNames() {
+        return this.removedNames;
+    }
+
+    public long getNextUpdate() {
+        return this.nextUpdate;
+    }
+
+    public void setNextUpdate(long nextUpdate) {
+        this.nextUpdate = nextUpdate;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(5, 19)
+                .append(nextUpdate)
+                .append(added)
+                .append(updated)
+                .append(removedNames)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        VehicleDeltaUpdates other = (VehicleDeltaUpdates) obj;
+        return new EqualsBuilder()
+                .append(this.nextUpdate, other.nextUpdate)
+                .append(this.added, other.added)
+                .append(this.updated, other.updated)
+                .append(this.removedNames, other.removedNames)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("added", added.stream().map(UnitData::getName).collect(Collectors.joining(",")))
+                .append("updated", updated.stream().map(VehicleDataDelta::getName).collect(Collectors.joining(",")))
+                .append("removed", removedNames)
+                .toString();
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.interactions.traffic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaEncoder;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+import java.util.List;
+
+public class VehicleDeltaUpdatesTest {
+
+    private final VehicleDataDeltaEncoder encoder = new VehicleDataDeltaEncoder(0.5, 0.1, 1.0);
+
+    @Test
+    public void decode_sharedByAllReceivers() throws Exception {
+        // SETUP
+        VehicleDataDeltaDecoder firstReceiver = new VehicleDataDeltaDecoder();
+        VehicleDataDeltaDecoder secondReceiver = new VehicleDataDeltaDecoder();
+        VehicleDeltaUpdates added = VehicleDeltaUpdates.encode(updates(0, Lists.newArrayList(vehicle(0, 10)), Lists.newArrayList()), encoder);
+        added.setSenderId("sumo");
+        added.decode(firstReceiver);
+        added.decode(secondReceiver);
+
+        // RUN
+        VehicleDeltaUpdates updated = VehicleDeltaUpdates.encode(updates(TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(vehicle(1, 20))), encoder);
+        updated.setSenderId("sumo");
+        VehicleUpdates first = updated.decode(firstReceiver);
+        VehicleUpdates second = updated.decode(secondReceiver);
+
+        // ASSERT: all receivers get the same instances, which are created only once by the sender
+        assertSame(first, second);
+        assertSame(encoder.getTransmitted("veh_0"), first.getUpdated().get(0));
+        assertEquals("sumo", first.getSenderId());
+        assertEquals(20, first.getUpdated().get(0).getPosition().getLongitude(), 0d);
+    }
+
+    @Test
+    public void decode_deserialized() {
+        // SETUP
+        VehicleDataDeltaDecoder decoder = new VehicleDataDeltaDecoder();
+        VehicleDeltaUpdates added = VehicleDeltaUpdates.encode(updates(0, Lists.newArrayList(vehicle(0, 10)), Lists.newArrayList()), encoder);
+        VehicleDeltaUpdates updated = VehicleDeltaUpdates.encode(updates(TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(vehicle(1, 20))), encoder);
+
+        // RUN: the shared states are not serialized, hence the decoder of the receiver is used
+        SerializationUtils.clone(added).decode(decoder);
+        VehicleUpdates decoded = SerializationUtils.clone(updated).decode(decoder);
+
+        // ASSERT
+        assertNotSame(encoder.getTransmitted("veh_0"), decoded.getUpdated().get(0));
+        assertEquals(encoder.getTransmitted("veh_0"), decoded.getUpdated().get(0));
+    }
+
+    private static VehicleData vehicle(long time, double longitude) {
+        return new VehicleData.Builder(time * TIME.SECOND, "veh_0").position(GeoPoint.latLon(52.5, longitude), null).create();
+    }
+
+    private static VehicleUpdates updates(long time, List<VehicleData> added, List<VehicleData> updated) {
+        return new VehicleUpdates(time, added, updated, Lists.newArrayList());
+    }
+}
@@ -21,10 +21,15 @@ import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleDeltaUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.NodeDataContainer;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.ReceiveMessageContainer;
+import org.eclipse.mosaic.lib.coupling.transport.ChannelTransport;
+import org.eclipse.mosaic.lib.coupling.transport.SharedMemoryChannelTransport;
+import org.eclipse.mosaic.lib.coupling.transport.TcpChannelTransport;
+import org.eclipse.mosaic.lib.coupling.transport.UnixDomainSocketChannelTransport;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.UnitData;
@@ -37,6 +42,7 @@ import org.eclipse.mosaic.lib.objects.mapping.ChargingStationMapping;
 import org.eclipse.mosaic.lib.objects.mapping.RsuMapping;
 import org.eclipse.mosaic.lib.objects.mapping.TrafficLightMapping;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDeltaDecoder;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
@@ -47,6 +53,7 @@ import org.eclipse.mosaic.rti.api.federatestarter.DockerFederateExecutor;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
 import com.google.common.collect.Lists;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +61,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -134,6 +143,17 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      */
     private VehicleUpdates latestVehicleUpdates = null;
 
+    /**
+     * Positions of simulated nodes as last sent to the federate. Only filled if
+     * {@link CAbstractNetworkAmbassador#positionUpdateEpsilon} is set.
+     */
+    private final Map<String, CartesianPoint> lastSentPositions = new HashMap<>();
+
+    /**
+     * Reconstructs full vehicle data from received {@link VehicleDeltaUpdates}.
+     */
+    private final VehicleDataDeltaDecoder vehicleDataDecoder = new VehicleDataDeltaDecoder();
+
     /**
      * A config object for whether to bypass federate destination type capability queries in
      * {@link #process(V2xMessageTransmission interaction)} if needed.
@@ -213,15 +233,13 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         log.trace("{} finished ConnectToFederate", ambassadorName);
     }
 
-    private ClientServerChannel waitForClientServerChannel(String host, int port) {
-        InetAddress h;
+    private InetAddress resolveHost(String host) {
         try {
-            h = InetAddress.getByName(host);
+            return InetAddress.getByName(host);
         } catch (UnknownHostException ex) {
             log.error("Unknown host: {}", ex.toString());
             throw new RuntimeException(ex);
         }
-        return waitForClientServerChannel(h, port);
     }
 
     /**
@@ -235,7 +253,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         RuntimeException lastException = null;
         while (tries++ < MAX_CONNECTION_TRIES) {
             try {
-                return new ClientServerChannel(host, port, log);
+                return new ClientServerChannel(createTransport(host, port), log, config.pipelinedChannel);
             } catch (IOException ex) {
                 lastException = new RuntimeException(ex);
             }
@@ -250,6 +268,15 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         throw lastException;
     }
 
+    private ChannelTransport createTransport(InetAddress host, int port) throws IOException {
+        Path transportDirectory = Paths.get(ObjectUtils.defaultIfNull(config.transportDirectory, System.getProperty("java.io.tmpdir")));
+        return switch (config.transport) {
+            case TCP -> new TcpChannelTransport(host, port);
+            case UNIX_DOMAIN_SOCKET -> new UnixDomainSocketChannelTransport(transportDirectory.resolve("mosaic-" + port + ".sock"));
+            case SHARED_MEMORY -> new SharedMemoryChannelTransport(transportDirectory, port, config.sharedMemoryTimeout);
+        };
+    }
+
     /**
      * Connects the incoming channel with the federate, waits for INIT message and a port number,
      * connects the outgoing channel to the received port number.
@@ -261,8 +288,13 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      */
     @Override
     public void connectToFederate(String host, int port) {
+        if (config.transport != CAbstractNetworkAmbassador.Transport.TCP && !config.experimentalTransports) {
+            throw new IllegalArgumentException("The transport " + config.transport + " is experimental and not supported by "
+                    + federateName + " yet, set 'experimentalTransports' to use it anyway.");
+        }
         // Connect to the network federate for reading
-        federateAmbassadorChannel = waitForClientServerChannel(host, port);
+        final InetAddress federateHost = resolveHost(host);
+        federateAmbassadorChannel = waitForClientServerChannel(federateHost, port);
         log.info("Connected to {} for reading on port {}", federateName, port);
 
         try { // Read the initial command and the port number to connect incoming channel
@@ -272,7 +304,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                 int remotePort = federateAmbassadorChannel.readPortBody();
                 remotePort = getHostPortFromDockerPort(remotePort);
                 // Connect the second channel
-                ambassadorFederateChannel = waitForClientServerChannel(federateAmbassadorChannel.socket.getInetAddress(), remotePort);
+                ambassadorFederateChannel = waitForClientServerChannel(federateHost, remotePort);
                 log.info("Connected to {} for commands on port {}", federateName, remotePort);
             } else {
                 throw new RuntimeException("Could not connect to federate. Federate response is " + cmd);
@@ -330,6 +362,8 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
             this.process((ChargingStationRegistration) interaction);
         } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
             this.process((VehicleUpdates) interaction);
+        } else if (interaction.getTypeId().equals(VehicleDeltaUpdates.TYPE_ID)) {
+            this.process(((VehicleDeltaUpdates) interaction).decode(vehicleDataDecoder));
         } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
             this.process((V2xMessageTransmission) interaction);
         } else if (interaction.getTypeId().equals(AdHocCommunicationConfiguration.TYPE_ID)) {
@@ -343,6 +377,12 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         try {
             // 3rd and last step of cycle: Allow events up to current time in network simulator scheduler
             ambassadorFederateChannel.writeAdvanceTimeMessage(time);
+            // In pipelined mode, all commands sent since the last time advance are acknowledged at once
+            if (CMD.SUCCESS != ambassadorFederateChannel.awaitPendingAcks()) {
+                throw new InternalFederateException(
+                        "Error in " + federateName + ": Command not acknowledged. " + federateAmbassadorChannel.getLastStatusMessage()
+                );
+            }
             // Wait until next event request to start time management cycle
             // read while end of step is signalled
             command_loop:
@@ -518,6 +558,9 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                     GeoPoint geoPosition = vi.getPosition();
                     CartesianPoint projectedPosition = vi.getProjectedPosition();
                     if (simulatedNodes.containsInternalId(vi.getName())) { // if the vehicle is already present in the simulation
+                        if (!hasMovedSinceLastUpdate(vi.getName(), projectedPosition)) {
+                            continue;
+                        }
                         Integer id = simulatedNodes.toExternalId(vi.getName());
                         if (log.isTraceEnabled()) {
                             log.trace("UpdateNode : ID: [int={}, ext={}] Pos: x({}) y({}) Geo: {}", vi.getName(), id,
@@ -535,19 +578,46 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
                         log.warn("Node ID[int={}] is not simulated", vi.getName());
                     }
                 }
-                if (CMD.SUCCESS != ambassadorFederateChannel.writeUpdatePositionsMessage(time, nodesToUpdate)) {
+                if (!nodesToUpdate.isEmpty() && CMD.SUCCESS != writeUpdatePositions(time, nodesToUpdate)) {
                     LoggerFactory.getLogger(this.getClass()).error(
                             "Could not update nodes: " + federateAmbassadorChannel.getLastStatusMessage()
                     );
                     throw new InternalFederateException("Could not update nodes: " + federateAmbassadorChannel.getLastStatusMessage());
                 }
             }
+
+            for (String removed : interaction.getRemovedNames()) {
+                lastSentPositions.remove(removed);
+            }
         } catch (IOException | InternalFederateException e) {
             log.error(e.getMessage(), e);
             throw new InternalFederateException("Could not update positions or remove vehicles.", e);
         }
     }
 
+    private int writeUpdatePositions(long time, List<NodeDataContainer> nodesToUpdate) throws IOException {
+        if (config.bulkNodeUpdates) {
+            return ambassadorFederateChannel.writeBulkUpdatePositionsMessage(time, nodesToUpdate);
+        }
+        return ambassadorFederateChannel.writeUpdatePositionsMessage(time, nodesToUpdate);
+    }
+
+    /**
+     * Returns {@code false}, if the node has moved less than the configured epsilon since its last position
+     * update sent to the federate. Otherwise, the given position is remembered as the last sent position.
+     */
+    private boolean hasMovedSinceLastUpdate(String nodeId, CartesianPoint position) {
+        if (config.positionUpdateEpsilon <= 0) {
+            return true;
+        }
+        CartesianPoint lastPosition = lastSentPositions.get(nodeId);
+        if (lastPosition != null && lastPosition.distanceTo(position) < config.positionUpdateEpsilon) {
+            return false;
+        }
+        lastSentPositions.put(nodeId, position);
+        return true;
+    }
+
     /**
      * Insert a V2X message based on received {@link V2xMessageTransmission} interaction.
      *
@@ -653,6 +723,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
         if (nodeToRemove != null) {
             log.info("removeNode ID[int={}, ext={}] time={}", nodeId, nodeToRemove, TIME.format(time));
             simulatedNodes.removeUsingInternalId(nodeId); // remove the vehicle from our internal list
+            lastSentPositions.remove(nodeId);
             removedNodes.add(nodeId);
         } else if (registeredNodes.containsKey(nodeId)) {
             log.info("removeNode (still virtual) ID[int={}] time={}", nodeId, TIME.format(time));
@@ -750,6 +821,9 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
             } else {
                 int id = simulatedNodes.toExternalId(nodeId);
                 nodesToAdd.add(new NodeDataContainer(id, registeredNode.position));
+                if (config.positionUpdateEpsilon > 0) {
+                    lastSentPositions.put(nodeId, registeredNode.position);
+                }
                 if (CMD.SUCCESS != ambassadorFederateChannel.writeAddNodeMessage(time, nodesToAdd)) {
                     log.error("Could not add new vehicles: {}", federateAmbassadorChannel.getLastStatusMessage());
                     throw new InternalFederateException(
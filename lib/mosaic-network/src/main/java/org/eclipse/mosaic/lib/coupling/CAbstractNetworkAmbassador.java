@@ -26,6 +26,54 @@ public final class CAbstractNetworkAmbassador {
 
     public String federateConfigurationFile;
 
+    /**
+     * If {@code true}, commands are sent to the federate in batches, and their acknowledgements are
+     * read only once per time advance instead of after each single command.
+     */
+    public boolean pipelinedChannel = false;
+
+    /**
+     * If {@code true}, position updates of all nodes are sent in a single bulk command
+     * with packed columns. Requires support by the federate.
+     */
+    public boolean bulkNodeUpdates = false;
+
+    /**
+     * Minimum distance in meters a node must have moved since its last position update
+     * sent to the federate, before a new position is sent.
+     */
+    public double positionUpdateEpsilon = 0d;
+
+    /**
+     * The transport used for the channels between ambassador and federate. Transports
+     * other than {@link Transport#TCP} require the federate to run on the same host.
+     * They are experimental, as the federates shipped with MOSAIC do not support them yet,
+     * and can only be used if {@link #experimentalTransports} is enabled.
+     */
+    public Transport transport = Transport.TCP;
+
+    /**
+     * If {@code true}, the experimental transports {@link Transport#UNIX_DOMAIN_SOCKET} and
+     * {@link Transport#SHARED_MEMORY} can be selected, which require a federate implementing them.
+     */
+    public boolean experimentalTransports = false;
+
+    /**
+     * Maximum time in seconds to wait for the federate to read or write any bytes if {@link #transport}
+     * is {@link Transport#SHARED_MEMORY}, as a crashed federate can not be detected otherwise. 0 waits infinitely.
+     */
+    public long sharedMemoryTimeout = 300;
+
+    /**
+     * Directory of the socket or ring buffer files if {@link #transport} is {@link Transport#UNIX_DOMAIN_SOCKET}
+     * or {@link Transport#SHARED_MEMORY}. Defaults to the temporary directory of the system.
+     */
+    public String transportDirectory;
+
+    public enum Transport {
+        TCP, UNIX_DOMAIN_SOCKET, SHARED_MEMORY
+    }
+
     private CMessages messages = new CMessages();
 
     /**
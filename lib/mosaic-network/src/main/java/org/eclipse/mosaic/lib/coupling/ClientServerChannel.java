@@ -25,6 +25,9 @@ import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.SendMessageMess
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.TimeMessage;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode.NodeData;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNodes;
+import org.eclipse.mosaic.lib.coupling.transport.ChannelTransport;
+import org.eclipse.mosaic.lib.coupling.transport.TcpChannelTransport;
 import org.eclipse.mosaic.lib.enums.AdHocChannel;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
@@ -49,16 +52,29 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Inet4Address;
 import java.net.InetAddress;
-import java.net.Socket;
-import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
  * Abstraction of Ambassador->Federate Byte Protocol
  * for coupling of a network federate to MOSAIC.
+ * <br>
+ * If the channel is pipelined, commands are collected in a buffer and sent to the federate
+ * in one batch, without waiting for the acknowledgement of each single command. Instead, all pending
+ * acknowledgements are read at once by calling {@link #awaitPendingAcks()}, usually when advancing time.
  */
 public class ClientServerChannel {
 
+    /**
+     * Size of the buffers for reading and writing on the socket.
+     */
+    private final static int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Maximum number of unread acknowledgements in pipelined mode. If reached, all pending acknowledgements are read
+     * before sending further commands, to prevent the federate from blocking on a full socket buffer.
+     */
+    private final static int MAX_PENDING_ACKS = 1024;
+
     public String getLastStatusMessage() {
         return lastStatusMessage;
     }
@@ -89,6 +105,11 @@ public class ClientServerChannel {
          */
         public static final int REMOVE_NODE = 11;
 
+        /**
+         * Update properties of many nodes at once, using packed columns.
+         */
+        public static final int UPDATE_NODES = 12;
+
         /**
          * Advance simulation time.
          */
@@ -148,9 +169,9 @@ public class ClientServerChannel {
     }
 
     /**
-     * Socket connected to the network federate.
+     * Transport connected to the network federate.
      */
-    public Socket socket;
+    private final ChannelTransport transport;
 
     /**
      * Input stream from network federate.
@@ -172,6 +193,24 @@ public class ClientServerChannel {
      */  //TODO: implement usage
     private String lastStatusMessage = "";
 
+    /**
+     * If {@code true}, acknowledgements of commands are not awaited immediately.
+     */
+    private final boolean pipelined;
+
+    /**
+     * Number of commands sent in pipelined mode, whose acknowledgement has not been read yet.
+     */
+    private int pendingAcks = 0;
+
+    /*
+     * Builders are reused for each command to avoid allocating them for every single message and node.
+     */
+    private final CommandMessage.Builder commandBuilder = CommandMessage.newBuilder();
+    private final UpdateNode.Builder updateNodeBuilder = UpdateNode.newBuilder();
+    private final NodeData.Builder nodeDataBuilder = NodeData.newBuilder();
+    private final UpdateNodes.Builder updateNodesBuilder = UpdateNodes.newBuilder();
+
     /**
      * Constructor.
      *
@@ -181,18 +220,53 @@ public class ClientServerChannel {
      * @throws IOException if the streams cannot be opened.
      */
     public ClientServerChannel(InetAddress host, int port, Logger log) throws IOException {
-        this.socket = new Socket(host, port);
-        socket.setTcpNoDelay(true);
-        this.in = new DataInputStream(socket.getInputStream());
-        this.out = new DataOutputStream(socket.getOutputStream());
+        this(host, port, log, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param host      the remote host address as an InetAddress
+     * @param port      the remote port number
+     * @param log       logger to log on
+     * @param pipelined if {@code true}, commands are sent in batches without awaiting each acknowledgement
+     * @throws IOException if the streams cannot be opened.
+     */
+    public ClientServerChannel(InetAddress host, int port, Logger log, boolean pipelined) throws IOException {
+        this(new TcpChannelTransport(host, port), log, pipelined);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param transport the transport connected to the network federate
+     * @param log       logger to log on
+     * @param pipelined if {@code true}, commands are sent in batches without awaiting each acknowledgement
+     */
+    public ClientServerChannel(ChannelTransport transport, Logger log, boolean pipelined) {
+        this.transport = transport;
+        this.in = new DataInputStream(new BufferedInputStream(transport.getInputStream(), BUFFER_SIZE));
+        this.out = new DataOutputStream(new BufferedOutputStream(transport.getOutputStream(), BUFFER_SIZE));
         this.log = log;
+        this.pipelined = pipelined;
     }
 
     /**
-     * Closes the channel.
+     * Closes the channel after sending all buffered commands.
      */
     public void close() throws IOException {
-        this.socket.close();
+        try {
+            out.flush();
+        } finally {
+            this.transport.close();
+        }
+    }
+
+    /**
+     * Returns {@code true}, if commands are sent in batches without awaiting each acknowledgement.
+     */
+    public boolean isPipelined() {
+        return pipelined;
     }
 
     //####################################################################
@@ -265,6 +339,7 @@ public class ClientServerChannel {
         InitMessage.Builder initMessage = InitMessage.newBuilder(); //Builder for the protobuf message
         initMessage.setStartTime(startTime).setEndTime(endTime);    //Hand times to builder
         initMessage.build().writeDelimitedTo(out);                  //Build object and write it (delimited!) to stream
+        out.flush();                                                //The federate is initialized before any other command
         return readCommand();                                       //Return the command that the federate sent as ack
     }
 
@@ -276,16 +351,7 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeAddNodeMessage(long time, List<NodeDataContainer> nodes) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);                                  //Announce UPDATE_NODE message
-        UpdateNode.Builder updateNode = UpdateNode.newBuilder();        //Create builder
-        updateNode.setUpdateType(UpdateNode.UpdateType.ADD_VEHICLE).setTime(time);  //Set the type of the update message
-        for (NodeDataContainer cont : nodes) {                           //Fill the given nodes into the builder
-            NodeData.Builder tmpBuilder = NodeData.newBuilder();        //Every node data is another protobuf object, thus new builder
-            tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());  //Set coordinates
-            updateNode.addProperties(tmpBuilder.build());               //Add node data to message
-        }
-        updateNode.build().writeDelimitedTo(out);                       //Build message and write to stream
-        return readCommand();                                           //Read command (hopefully a success)
+        return writeUpdateNodeMessage(UpdateNode.UpdateType.ADD_VEHICLE, time, nodes);
     }
 
     /**
@@ -296,17 +362,7 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeAddRsuNodeMessage(long time, List<NodeDataContainer> rsus) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);
-        UpdateNode.Builder updateNode = UpdateNode.newBuilder();
-        updateNode.setUpdateType(UpdateNode.UpdateType.ADD_RSU).setTime(time);
-        for (NodeDataContainer cont : rsus) {
-            NodeData.Builder tmpBuilder = NodeData.newBuilder();
-            tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());
-            updateNode.addProperties(tmpBuilder.build());
-        }
-        updateNode.build().writeDelimitedTo(out);
-
-        return readCommand();
+        return writeUpdateNodeMessage(UpdateNode.UpdateType.ADD_RSU, time, rsus);
     }
 
     /**
@@ -317,16 +373,29 @@ public class ClientServerChannel {
      * @return command returned by the federate
      */
     public int writeUpdatePositionsMessage(long time, List<NodeDataContainer> nodes) throws IOException {
-        writeCommand(CMD.UPDATE_NODE);
-        UpdateNode.Builder updateNode = UpdateNode.newBuilder();
-        updateNode.setUpdateType(UpdateNode.UpdateType.MOVE_NODE).setTime(time);
+        return writeUpdateNodeMessage(UpdateNode.UpdateType.MOVE_NODE, time, nodes);
+    }
+
+    /**
+     * Command: Update nodes in bulk. In contrast to {@link #writeUpdatePositionsMessage}, the
+     * ids and coordinates of all nodes are sent as packed columns within a single message,
+     * which requires support of the {@link CMD#UPDATE_NODES} command by the federate.
+     *
+     * @param time  time at which the positions are updated
+     * @param nodes a list of ids and positions
+     * @return command returned by the federate
+     */
+    public int writeBulkUpdatePositionsMessage(long time, List<NodeDataContainer> nodes) throws IOException {
+        writeCommand(CMD.UPDATE_NODES);
+        updateNodesBuilder.clear().setUpdateType(UpdateNode.UpdateType.MOVE_NODE).setTime(time);
         for (NodeDataContainer cont : nodes) {
-            NodeData.Builder tmpBuilder = NodeData.newBuilder();
-            tmpBuilder.setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY());
-            updateNode.addProperties(tmpBuilder.build());
+            updateNodesBuilder.addIds(cont.id)
+                    .addX(cont.pos.getX())
+                    .addY(cont.pos.getY())
+                    .addZ(cont.pos.getZ());
         }
-        updateNode.build().writeDelimitedTo(out);
-        return readCommand();
+        updateNodesBuilder.build().writeDelimitedTo(out);
+        return awaitAck();
     }
 
     /**
@@ -338,16 +407,23 @@ public class ClientServerChannel {
      */
     public int writeRemoveNodesMessage(long time, List<Integer> ids) throws IOException {
         writeCommand(CMD.UPDATE_NODE);
-        UpdateNode.Builder updateNode = UpdateNode.newBuilder();
-        updateNode.setUpdateType(UpdateNode.UpdateType.REMOVE_NODE).setTime(time);
+        updateNodeBuilder.clear().setUpdateType(UpdateNode.UpdateType.REMOVE_NODE).setTime(time);
         for (int id : ids) {
-            NodeData.Builder tmpBuilder = NodeData.newBuilder();  //like add and move but coordinates are ignored
-            tmpBuilder.setId(id).setX(0).setY(0);
-            updateNode.addProperties(tmpBuilder.build());
+            //like add and move but coordinates are ignored
+            updateNodeBuilder.addProperties(nodeDataBuilder.clear().setId(id).setX(0).setY(0));
         }
-        updateNode.build().writeDelimitedTo(out);
+        updateNodeBuilder.build().writeDelimitedTo(out);
+        return awaitAck();
+    }
 
-        return readCommand();
+    private int writeUpdateNodeMessage(UpdateNode.UpdateType updateType, long time, List<NodeDataContainer> nodes) throws IOException {
+        writeCommand(CMD.UPDATE_NODE);                                      //Announce UPDATE_NODE message
+        updateNodeBuilder.clear().setUpdateType(updateType).setTime(time); //Set the type of the update message
+        for (NodeDataContainer cont : nodes) {                              //Fill the given nodes into the builder
+            updateNodeBuilder.addProperties(nodeDataBuilder.clear().setId(cont.id).setX(cont.pos.getX()).setY(cont.pos.getY()));
+        }
+        updateNodeBuilder.build().writeDelimitedTo(out);                    //Build message and write to stream
+        return awaitAck();                                                  //Read command (hopefully a success)
     }
 
     // @param channelId the channelID               //TODO: make enum from
@@ -374,15 +450,13 @@ public class ClientServerChannel {
                 .setMessageId(msgId)
                 .setLength(msgLength);
 
-        ByteBuffer buffer = ByteBuffer.allocate(Long.SIZE);
-        buffer.put(dac.getAddress().getIPv4Address().getAddress()); //make an int32 out of the byte array
-        buffer.position(0);
+        final int ipAddress = inet4ToInt(dac.getAddress().getIPv4Address()); //make an int32 out of the byte array
 
         if (dac.isGeocast()) { //Geocasts
             if (dac.getGeoArea() instanceof GeoRectangle geoRectangle) {   //Rectangular area
                 SendMessageMessage.GeoRectangleAddress.Builder rectangleAddress = SendMessageMessage.GeoRectangleAddress.newBuilder();
                 //builder for rectangular addresses
-                rectangleAddress.setIpAddress(buffer.getInt()); //write the ip address as flat integer into the builder
+                rectangleAddress.setIpAddress(ipAddress); //write the ip address as flat integer into the builder
                 //convert coordinates etc.
                 CartesianRectangle projectedRectangle = geoRectangle.toCartesian();
                 //write the coordinates of the area into the builder
@@ -394,7 +468,7 @@ public class ClientServerChannel {
                 sendMess.setRectangleAddress(rectangleAddress);
             } else if (dac.getGeoArea() instanceof GeoCircle geoCircle) {
                 SendMessageMessage.GeoCircleAddress.Builder circleAddress = SendMessageMessage.GeoCircleAddress.newBuilder();
-                circleAddress.setIpAddress(buffer.getInt());
+                circleAddress.setIpAddress(ipAddress);
 
                 CartesianCircle projectedCircle = geoCircle.toCartesian();
                 //write area into the address object
@@ -408,12 +482,12 @@ public class ClientServerChannel {
             }
         } else if (dac.getTimeToLive() > -1) {  //Topocast addresses
             SendMessageMessage.TopoAddress.Builder topoAddress = SendMessageMessage.TopoAddress.newBuilder();
-            topoAddress.setIpAddress(buffer.getInt());  //Add IP as flat int
+            topoAddress.setIpAddress(ipAddress);  //Add IP as flat int
             topoAddress.setTtl(dac.getTimeToLive());    //add time to live
             sendMess.setTopoAddress(topoAddress);   //set address in message
         } //TODO: create else case and throw exception
-        sendMess.build().writeDelimitedTo(out); //write message onto channel        
-        return readCommand();
+        sendMess.build().writeDelimitedTo(out); //write message onto channel
+        return awaitAck();
     }
 
     /**
@@ -468,11 +542,11 @@ public class ClientServerChannel {
             configRadio.setSecondaryRadioConfiguration(radioConfig2);
         }
         configRadio.build().writeDelimitedTo(out);
-        return readCommand();
+        return awaitAck();
     }
 
     /**
-     * Command: advance time.
+     * Command: advance time. Sends all buffered commands to the federate.
      *
      * @param time point in time up to which advance is granted
      */
@@ -481,6 +555,43 @@ public class ClientServerChannel {
         TimeMessage.Builder timeMessage = TimeMessage.newBuilder();
         timeMessage.setTime(time);
         timeMessage.build().writeDelimitedTo(out);
+        out.flush();
+    }
+
+    /**
+     * Sends all buffered commands to the federate and reads the acknowledgements of all commands
+     * which have been sent in pipelined mode since the last call.
+     *
+     * @return {@link CMD#SUCCESS} if all commands were acknowledged, otherwise the first other command returned by the federate
+     */
+    public int awaitPendingAcks() throws IOException {
+        out.flush();
+        int result = CMD.SUCCESS;
+        while (pendingAcks > 0) {
+            pendingAcks--;
+            int ack = readCommand();
+            if (result == CMD.SUCCESS) {
+                result = ack;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the acknowledgement of the command just written. In pipelined mode, the acknowledgement is
+     * only read later in {@link #awaitPendingAcks()}, and success is assumed for now.
+     *
+     * @return command returned by the federate, or {@link CMD#SUCCESS} in pipelined mode
+     */
+    private int awaitAck() throws IOException {
+        if (!pipelined) {
+            out.flush();
+            return readCommand();
+        }
+        if (++pendingAcks >= MAX_PENDING_ACKS) {
+            return awaitPendingAcks();
+        }
+        return CMD.SUCCESS;
     }
 
     /**
@@ -494,9 +605,7 @@ public class ClientServerChannel {
         if (protobufCmd == CommandType.UNDEF) {
             return;
         }
-        CommandMessage.Builder commandMessage = CommandMessage.newBuilder();
-        commandMessage.setCommandType(protobufCmd);
-        commandMessage.build().writeDelimitedTo(out);
+        commandBuilder.clear().setCommandType(protobufCmd).build().writeDelimitedTo(out);
     }
 
     //####################################################################
@@ -511,10 +620,8 @@ public class ClientServerChannel {
      * @return an int representing the IP address
      */
     private int inet4ToInt(Inet4Address ip) {
-        ByteBuffer buffer = ByteBuffer.allocate(Long.SIZE);
-        buffer.put(ip.getAddress());
-        buffer.position(0);
-        return buffer.getInt();
+        byte[] address = ip.getAddress();
+        return (address[0] & 0xFF) << 24 | (address[1] & 0xFF) << 16 | (address[2] & 0xFF) << 8 | (address[3] & 0xFF);
     }
 
     private int protobufCmdToCmd(CommandType protoCmd) {
@@ -523,6 +630,7 @@ public class ClientServerChannel {
             case SHUT_DOWN -> CMD.SHUT_DOWN;
             case UPDATE_NODE -> CMD.UPDATE_NODE;
             case REMOVE_NODE -> CMD.REMOVE_NODE;
+            case UPDATE_NODES -> CMD.UPDATE_NODES;
             case ADVANCE_TIME -> CMD.ADVANCE_TIME;
             case NEXT_EVENT -> CMD.NEXT_EVENT;
             case MSG_RECV -> CMD.MSG_RECV;
@@ -540,6 +648,7 @@ public class ClientServerChannel {
             case CMD.SHUT_DOWN -> CommandType.SHUT_DOWN;
             case CMD.UPDATE_NODE -> CommandType.UPDATE_NODE;
             case CMD.REMOVE_NODE -> CommandType.REMOVE_NODE;
+            case CMD.UPDATE_NODES -> CommandType.UPDATE_NODES;
             case CMD.ADVANCE_TIME -> CommandType.ADVANCE_TIME;
             case CMD.NEXT_EVENT -> CommandType.NEXT_EVENT;
             case CMD.MSG_RECV -> CommandType.MSG_RECV;
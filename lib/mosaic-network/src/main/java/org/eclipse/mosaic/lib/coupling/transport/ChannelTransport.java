@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Transport of the byte stream of a {@link org.eclipse.mosaic.lib.coupling.ClientServerChannel}
+ * between the ambassador and the network federate. The channel buffers both streams itself,
+ * therefore implementations should not add further buffering.
+ */
+public interface ChannelTransport extends Closeable {
+
+    /**
+     * Returns the stream of bytes sent by the federate.
+     */
+    InputStream getInputStream();
+
+    /**
+     * Returns the stream of bytes to send to the federate.
+     */
+    OutputStream getOutputStream();
+}
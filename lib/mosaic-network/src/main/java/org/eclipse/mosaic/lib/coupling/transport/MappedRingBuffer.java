@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-producer single-consumer ring buffer of bytes in a memory-mapped file, which can be shared
+ * between two processes on the same host. The file starts with a header holding the total number of
+ * bytes written, the total number of bytes read, and a closed flag, each as 64-bit little endian integers
+ * on their own cache line. The data section follows, whose size must be a power of two.
+ * <br>
+ * Writing and reading blocks while the buffer is full or empty, by spinning shortly before parking the thread.
+ * As the other side may terminate without closing the buffer, e.g., if its process crashed, waiting fails
+ * after a configurable timeout without any progress of the other side.
+ */
+public class MappedRingBuffer implements Closeable {
+
+    private final static int WRITE_POSITION_OFFSET = 0;
+    private final static int READ_POSITION_OFFSET = 64;
+    private final static int CLOSED_OFFSET = 128;
+    final static int HEADER_SIZE = 192;
+
+    private final static int SPINS_BEFORE_PARK = 1000;
+    private final static long PARK_NANOS = 10_000;
+
+    private final static VarHandle LONG_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    private long timeoutNanos = 0;
+
+    private MappedRingBuffer(MappedByteBuffer buffer, int capacity) {
+        Validate.isTrue(Integer.bitCount(capacity) == 1, "Capacity of ring buffer must be a power of two.");
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a new empty ring buffer file, or replaces an existing one.
+     *
+     * @param file     the file to map
+     * @param capacity the size of the data section in bytes, must be a power of two
+     * @return the mapped ring buffer
+     * @throws IOException if the file could not be created or mapped
+     */
+    public static MappedRingBuffer create(Path file, int capacity) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedRingBuffer(fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + capacity), capacity);
+        }
+    }
+
+    /**
+     * Maps an existing ring buffer file, which has been created by the other side.
+     *
+     * @param file the file to map
+     * @return the mapped ring buffer
+     * @throws IOException if the file does not exist or could not be mapped
+     */
+    public static MappedRingBuffer open(Path file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long capacity = fileChannel.size() - HEADER_SIZE;
+            if (capacity <= 0 || capacity > Integer.MAX_VALUE) {
+                throw new IOException("Invalid size of ring buffer file " + file);
+            }
+            return new MappedRingBuffer(fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileChannel.size()), (int) capacity);
+        }
+    }
+
+    /**
+     * Sets the maximum time to wait for the other side to read or write any bytes, before
+     * reading or writing fails with an {@link IOException}.
+     *
+     * @param timeout the timeout, 0 for waiting infinitely
+     * @param unit    the unit of the timeout
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        Validate.isTrue(timeout >= 0, "Timeout must not be negative.");
+        this.timeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * Writes the given bytes, blocking while there is not enough space left in the buffer.
+     *
+     * @throws IOException if the buffer has been closed, or the other side did not read any bytes within the timeout
+     */
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        long writePosition = (long) LONG_HANDLE.getOpaque(buffer, WRITE_POSITION_OFFSET);
+        while (length > 0) {
+            int free = awaitFreeSpace(writePosition);
+            int chunk = Math.min(length, Math.min(free, capacity - (int) (writePosition & mask)));
+            buffer.put(HEADER_SIZE + (int) (writePosition & mask), bytes, offset, chunk);
+            writePosition += chunk;
+            offset += chunk;
+            length -= chunk;
+            LONG_HANDLE.setRelease(buffer, WRITE_POSITION_OFFSET, writePosition);
+        }
+    }
+
+    /**
+     * Reads up to {@code length} bytes, blocking until at least one byte is available.
+     *
+     * @return the number of bytes read, or -1 if the buffer has been closed and all bytes have been read
+     * @throws IOException if the other side did not write any bytes within the timeout
+     */
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        long readPosition = (long) LONG_HANDLE.getOpaque(buffer, READ_POSITION_OFFSET);
+        int available = awaitAvailable(readPosition);
+        if (available == 0) {
+            return -1;
+        }
+        int chunk = Math.min(length, Math.min(available, capacity - (int) (readPosition & mask)));
+        buffer.get(HEADER_SIZE + (int) (readPosition & mask), bytes, offset, chunk);
+        LONG_HANDLE.setRelease(buffer, READ_POSITION_OFFSET, readPosition + chunk);
+        return chunk;
+    }
+
+    /**
+     * Returns the number of bytes which can be read without blocking.
+     */
+    public int available() {
+        return (int) ((long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET) - (long) LONG_HANDLE.getOpaque(buffer, READ_POSITION_OFFSET));
+    }
+
+    public boolean isClosed() {
+        return (long) LONG_HANDLE.getVolatile(buffer, CLOSED_OFFSET) != 0;
+    }
+
+    /**
+     * Marks the buffer as closed for both sides. Bytes written before can still be read.
+     */
+    @Override
+    public void close() {
+        LONG_HANDLE.setVolatile(buffer, CLOSED_OFFSET, 1L);
+    }
+
+    private int awaitFreeSpace(long writePosition) throws IOException {
+        int spins = 0;
+        long waitingSince = 0;
+        while (true) {
+            if (isClosed()) {
+                throw new IOException("Ring buffer has been closed.");
+            }
+            int free = capacity - (int) (writePosition - (long) LONG_HANDLE.getAcquire(buffer, READ_POSITION_OFFSET));
+            if (free > 0) {
+                return free;
+            }
+            waitingSince = checkTimeout(spins, waitingSince);
+            spins = backOff(spins);
+        }
+    }
+
+    private int awaitAvailable(long readPosition) throws IOException {
+        int spins = 0;
+        long waitingSince = 0;
+        while (true) {
+            int available = (int) ((long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET) - readPosition);
+            if (available > 0 || isClosed()) {
+                // bytes written before closing may have been missed, therefore check once more
+                return (int) ((long) LONG_HANDLE.getAcquire(buffer, WRITE_POSITION_OFFSET) - readPosition);
+            }
+            waitingSince = checkTimeout(spins, waitingSince);
+            spins = backOff(spins);
+        }
+    }
+
+    /**
+     * Starts measuring the waiting time once the thread is parked, and fails if the timeout has been exceeded.
+     *
+     * @return the time when parking started, or 0 if still spinning
+     */
+    private long checkTimeout(int spins, long waitingSince) throws IOException {
+        if (spins < SPINS_BEFORE_PARK || timeoutNanos == 0) {
+            return waitingSince;
+        }
+        final long now = System.nanoTime();
+        if (waitingSince == 0) {
+            return now;
+        }
+        if (now - waitingSince > timeoutNanos) {
+            throw new IOException("No progress of the other side of the ring buffer within "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms, it may have terminated.");
+        }
+        return waitingSince;
+    }
+
+    private static int backOff(int spins) {
+        if (spins < SPINS_BEFORE_PARK) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+        return spins;
+    }
+
+    /**
+     * Returns a stream reading from this buffer.
+     */
+    public InputStream asInputStream() {
+        return new InputStream() {
+            private final byte[] single = new byte[1];
+
+            @Override
+            public int read() throws IOException {
+                return MappedRingBuffer.this.read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return MappedRingBuffer.this.read(bytes, offset, length);
+            }
+
+            @Override
+            public int available() {
+                return MappedRingBuffer.this.available();
+            }
+
+            @Override
+            public void close() {
+                MappedRingBuffer.this.close();
+            }
+        };
+    }
+
+    /**
+     * Returns a stream writing into this buffer.
+     */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            private final byte[] single = new byte[1];
+
+            @Override
+            public void write(int b) throws IOException {
+                single[0] = (byte) b;
+                MappedRingBuffer.this.write(single, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                MappedRingBuffer.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() {
+                MappedRingBuffer.this.close();
+            }
+        };
+    }
+}
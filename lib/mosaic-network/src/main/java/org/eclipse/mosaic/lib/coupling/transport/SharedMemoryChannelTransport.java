@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transports the channel via two {@link MappedRingBuffer}s, one for each direction. This avoids
+ * any system call for sending bulk data, such as position updates, if the federate runs on the same host.
+ * The ring buffer files are created by the federate and are named after the port the federate
+ * announces for the channel:
+ * <ul>
+ *     <li>{@code mosaic-<port>-to-federate.ring} for bytes sent by the ambassador</li>
+ *     <li>{@code mosaic-<port>-from-federate.ring} for bytes sent by the federate</li>
+ * </ul>
+ */
+public class SharedMemoryChannelTransport implements ChannelTransport {
+
+    private final MappedRingBuffer toFederate;
+    private final MappedRingBuffer fromFederate;
+
+    /**
+     * Maps the ring buffer files of the given channel.
+     *
+     * @param directory      the directory containing the ring buffer files
+     * @param port           the port announced by the federate
+     * @param timeoutSeconds the maximum time to wait for the federate to read or write any bytes, 0 for waiting infinitely
+     * @throws IOException if the ring buffer files do not exist (yet)
+     */
+    public SharedMemoryChannelTransport(Path directory, int port, long timeoutSeconds) throws IOException {
+        this(MappedRingBuffer.open(toFederateFile(directory, port)), MappedRingBuffer.open(fromFederateFile(directory, port)));
+        toFederate.setTimeout(timeoutSeconds, TimeUnit.SECONDS);
+        fromFederate.setTimeout(timeoutSeconds, TimeUnit.SECONDS);
+    }
+
+    public SharedMemoryChannelTransport(MappedRingBuffer toFederate, MappedRingBuffer fromFederate) {
+        this.toFederate = toFederate;
+        this.fromFederate = fromFederate;
+    }
+
+    public static Path toFederateFile(Path directory, int port) {
+        return directory.resolve("mosaic-" + port + "-to-federate.ring");
+    }
+
+    public static Path fromFederateFile(Path directory, int port) {
+        return directory.resolve("mosaic-" + port + "-from-federate.ring");
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return fromFederate.asInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return toFederate.asOutputStream();
+    }
+
+    @Override
+    public void close() {
+        toFederate.close();
+        fromFederate.close();
+    }
+}
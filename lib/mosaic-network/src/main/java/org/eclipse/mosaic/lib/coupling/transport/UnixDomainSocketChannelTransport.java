@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Transports the channel via a Unix domain socket, which avoids the TCP/IP stack
+ * if the federate runs on the same host as the ambassador.
+ */
+public class UnixDomainSocketChannelTransport implements ChannelTransport {
+
+    private final SocketChannel socketChannel;
+    private final InputStream in;
+    private final OutputStream out;
+
+    /**
+     * Connects to the socket file the federate is listening on.
+     *
+     * @param socketFile path to the socket file
+     * @throws IOException if the connection could not be established
+     */
+    public UnixDomainSocketChannelTransport(Path socketFile) throws IOException {
+        this.socketChannel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            this.socketChannel.connect(UnixDomainSocketAddress.of(socketFile));
+        } catch (IOException e) {
+            socketChannel.close();
+            throw e;
+        }
+        this.in = Channels.newInputStream(socketChannel);
+        this.out = Channels.newOutputStream(socketChannel);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socketChannel.close();
+    }
+}
@@ -231,10 +231,42 @@ public class AbstractNetworkAmbassadorTest {
         verify(ambassadorFederateChannelMock, times(1)).writeConfigMessage(eq(2 * TIME.SECOND), anyInt(), anyInt(), eq(adHocConfiguration));
     }
 
+    @Test
+    public void vehicleMovedLessThanEpsilon_noPositionUpdateSent() throws Exception {
+        // Setup
+        networkAmbassador.config.positionUpdateEpsilon = 1d;
+        when(ambassadorFederateChannelMock.writeUpdatePositionsMessage(anyLong(), anyList())).thenReturn(ClientServerChannel.CMD.SUCCESS);
+        networkAmbassador.initialize(0, 1000);
+
+        final AdHocConfiguration adHocConfiguration = new AdHocConfiguration.Builder("veh_0")
+                .addInterface(new InterfaceConfiguration.Builder(AdHocChannel.CCH).power(50d).ip(createDummyIp()).subnet(createDummyIp()).create())
+                .create();
+        networkAmbassador.processInteraction(new AdHocCommunicationConfiguration(TIME.SECOND, adHocConfiguration));
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                TIME.SECOND, Lists.newArrayList(createVehicleInfo("veh_0")), Lists.newArrayList(), Lists.newArrayList()
+        ));
+
+        // Run
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                2 * TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(createVehicleInfo("veh_0", 10.5)), Lists.newArrayList()
+        ));
+        networkAmbassador.processInteraction(new VehicleUpdates(
+                3 * TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(createVehicleInfo("veh_0", 12)), Lists.newArrayList()
+        ));
+
+        // Assert
+        verify(ambassadorFederateChannelMock, never()).writeUpdatePositionsMessage(eq(2 * TIME.SECOND), anyList());
+        verify(ambassadorFederateChannelMock, times(1)).writeUpdatePositionsMessage(eq(3 * TIME.SECOND), anyList());
+    }
+
     private VehicleData createVehicleInfo(String string) {
+        return createVehicleInfo(string, 10);
+    }
+
+    private VehicleData createVehicleInfo(String string, double x) {
         VehicleData vehInfo = mock(VehicleData.class);
         when(vehInfo.getName()).thenReturn(string);
-        when(vehInfo.getProjectedPosition()).thenReturn(CartesianPoint.xy(10, 20));
+        when(vehInfo.getProjectedPosition()).thenReturn(CartesianPoint.xy(x, 20));
         return vehInfo;
     }
 
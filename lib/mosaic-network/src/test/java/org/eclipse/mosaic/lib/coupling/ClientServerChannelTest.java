@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel.NodeDataContainer;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.TimeMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNode;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.UpdateNodes;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+
+public class ClientServerChannelTest {
+
+    private final static Logger log = LoggerFactory.getLogger(ClientServerChannelTest.class);
+
+    private final List<NodeDataContainer> nodes = Lists.newArrayList(
+            new NodeDataContainer(0, CartesianPoint.xy(10, 20)),
+            new NodeDataContainer(1, CartesianPoint.xy(30, 40))
+    );
+
+    private ServerSocket serverSocket;
+    private Socket federateSocket;
+    private ClientServerChannel channel;
+
+    @Before
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        if (federateSocket != null) {
+            federateSocket.close();
+        }
+        serverSocket.close();
+    }
+
+    @Test
+    public void writeUpdatePositions_notPipelined_awaitsAck() throws IOException {
+        connect(false);
+        // the federate acknowledges in advance, as this test runs single-threaded
+        writeAck(CommandType.SUCCESS);
+
+        // RUN
+        int ack = channel.writeUpdatePositionsMessage(5L, nodes);
+
+        // ASSERT
+        assertEquals(CMD.SUCCESS, ack);
+        assertUpdateNode(5L);
+        assertEquals(CMD.SUCCESS, channel.awaitPendingAcks());
+    }
+
+    @Test
+    public void writeUpdatePositions_pipelined_acksReadOnTimeAdvance() throws IOException {
+        connect(true);
+
+        // RUN
+        for (int i = 0; i < 3; i++) {
+            assertEquals(CMD.SUCCESS, channel.writeUpdatePositionsMessage(i, nodes));
+        }
+        // ASSERT (nothing sent yet)
+        assertEquals(0, federateSocket.getInputStream().available());
+
+        // RUN
+        channel.writeAdvanceTimeMessage(10L);
+
+        // ASSERT
+        for (int i = 0; i < 3; i++) {
+            assertUpdateNode(i);
+        }
+        InputStream in = federateSocket.getInputStream();
+        assertEquals(CommandType.ADVANCE_TIME, CommandMessage.parseDelimitedFrom(in).getCommandType());
+        assertEquals(10L, TimeMessage.parseDelimitedFrom(in).getTime());
+
+        // RUN (federate acknowledges, second command failed)
+        writeAck(CommandType.SUCCESS);
+        writeAck(CommandType.END);
+        writeAck(CommandType.SUCCESS);
+
+        // ASSERT
+        assertEquals(CMD.END, channel.awaitPendingAcks());
+        assertEquals(CMD.SUCCESS, channel.awaitPendingAcks());
+    }
+
+    @Test
+    public void writeBulkUpdatePositions() throws IOException {
+        connect(false);
+        writeAck(CommandType.SUCCESS);
+
+        // RUN
+        int ack = channel.writeBulkUpdatePositionsMessage(5L, nodes);
+
+        // ASSERT
+        assertEquals(CMD.SUCCESS, ack);
+        InputStream in = federateSocket.getInputStream();
+        assertEquals(CommandType.UPDATE_NODES, CommandMessage.parseDelimitedFrom(in).getCommandType());
+        UpdateNodes updateNodes = UpdateNodes.parseDelimitedFrom(in);
+        assertEquals(UpdateNode.UpdateType.MOVE_NODE, updateNodes.getUpdateType());
+        assertEquals(5L, updateNodes.getTime());
+        assertEquals(Lists.newArrayList(0, 1), updateNodes.getIdsList());
+        assertEquals(Lists.newArrayList(10d, 30d), updateNodes.getXList());
+        assertEquals(Lists.newArrayList(20d, 40d), updateNodes.getYList());
+        assertEquals(2, updateNodes.getZCount());
+    }
+
+    private void connect(boolean pipelined) throws IOException {
+        channel = new ClientServerChannel(serverSocket.getInetAddress(), serverSocket.getLocalPort(), log, pipelined);
+        federateSocket = serverSocket.accept();
+    }
+
+    private void writeAck(CommandType commandType) throws IOException {
+        OutputStream out = federateSocket.getOutputStream();
+        CommandMessage.newBuilder().setCommandType(commandType).build().writeDelimitedTo(out);
+        out.flush();
+    }
+
+    private void assertUpdateNode(long expectedTime) throws IOException {
+        InputStream in = federateSocket.getInputStream();
+        assertEquals(CommandType.UPDATE_NODE, CommandMessage.parseDelimitedFrom(in).getCommandType());
+        UpdateNode updateNode = UpdateNode.parseDelimitedFrom(in);
+        assertEquals(UpdateNode.UpdateType.MOVE_NODE, updateNode.getUpdateType());
+        assertEquals(expectedTime, updateNode.getTime());
+        assertEquals(2, updateNode.getPropertiesCount());
+        assertEquals(1, updateNode.getProperties(1).getId());
+        assertEquals(30d, updateNode.getProperties(1).getX(), 0.0001d);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mosaic.lib.coupling.ClientServerChannel;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.CommandMessage.CommandType;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.InitMessage;
+import org.eclipse.mosaic.lib.coupling.ClientServerChannelProtos.TimeMessage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+public class ChannelTransportTest {
+
+    private final static Logger log = LoggerFactory.getLogger(ChannelTransportTest.class);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void loopback() throws IOException {
+        LoopbackChannelTransport[] transports = LoopbackChannelTransport.createPair();
+
+        // RUN + ASSERT
+        exchangeInitAndTime(transports[0], transports[1]);
+    }
+
+    @Test
+    public void unixDomainSocket() throws IOException {
+        Path socketFile = temporaryFolder.getRoot().toPath().resolve("mosaic-1234.sock");
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketFile));
+            UnixDomainSocketChannelTransport transport = new UnixDomainSocketChannelTransport(socketFile);
+            SocketChannel federateSocket = server.accept();
+
+            // RUN + ASSERT
+            exchangeInitAndTime(transport, new ChannelTransport() {
+                @Override
+                public InputStream getInputStream() {
+                    return Channels.newInputStream(federateSocket);
+                }
+
+                @Override
+                public OutputStream getOutputStream() {
+                    return Channels.newOutputStream(federateSocket);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    federateSocket.close();
+                }
+            });
+        }
+    }
+
+    @Test
+    public void sharedMemory() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        // the federate creates the ring buffer files
+        SharedMemoryChannelTransport federateTransport = new SharedMemoryChannelTransport(
+                MappedRingBuffer.create(SharedMemoryChannelTransport.fromFederateFile(directory, 1234), 1024),
+                MappedRingBuffer.create(SharedMemoryChannelTransport.toFederateFile(directory, 1234), 1024)
+        );
+
+        // RUN + ASSERT
+        exchangeInitAndTime(new SharedMemoryChannelTransport(directory, 1234, 10), federateTransport);
+    }
+
+    /**
+     * Simulates the initialization of a federate and its first time advance.
+     */
+    private void exchangeInitAndTime(ChannelTransport ambassadorTransport, ChannelTransport federateTransport) throws IOException {
+        ClientServerChannel channel = new ClientServerChannel(ambassadorTransport, log, false);
+
+        // the federate acknowledges in advance, as this test runs single-threaded
+        CommandMessage.newBuilder().setCommandType(CommandType.SUCCESS).build()
+                .writeDelimitedTo(federateTransport.getOutputStream());
+        federateTransport.getOutputStream().flush();
+
+        assertEquals(ClientServerChannel.CMD.SUCCESS, channel.writeInitBody(5L, 10L));
+        assertEquals(CommandType.INIT, CommandMessage.parseDelimitedFrom(federateTransport.getInputStream()).getCommandType());
+        assertEquals(10L, InitMessage.parseDelimitedFrom(federateTransport.getInputStream()).getEndTime());
+
+        channel.writeAdvanceTimeMessage(7L);
+        assertEquals(CommandType.ADVANCE_TIME, CommandMessage.parseDelimitedFrom(federateTransport.getInputStream()).getCommandType());
+        assertEquals(7L, TimeMessage.parseDelimitedFrom(federateTransport.getInputStream()).getTime());
+
+        channel.close();
+        federateTransport.close();
+    }
+}
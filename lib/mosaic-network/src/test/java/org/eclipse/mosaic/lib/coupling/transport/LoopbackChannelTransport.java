@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+
+/**
+ * Test double which connects two {@link ChannelTransport}s within the same process,
+ * e.g. to test or benchmark the channel protocol without a real network federate.
+ */
+public class LoopbackChannelTransport implements ChannelTransport {
+
+    private final Pipe.SourceChannel source;
+    private final Pipe.SinkChannel sink;
+    private final InputStream in;
+    private final OutputStream out;
+
+    private LoopbackChannelTransport(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+        this.source = source;
+        this.sink = sink;
+        this.in = Channels.newInputStream(source);
+        this.out = Channels.newOutputStream(sink);
+    }
+
+    /**
+     * Creates two connected transports, the first one to be used by the ambassador, the second one
+     * to be used by the simulated federate.
+     */
+    public static LoopbackChannelTransport[] createPair() throws IOException {
+        Pipe toFederate = Pipe.open();
+        Pipe fromFederate = Pipe.open();
+        return new LoopbackChannelTransport[]{
+                new LoopbackChannelTransport(fromFederate.source(), toFederate.sink()),
+                new LoopbackChannelTransport(toFederate.source(), fromFederate.sink())
+        };
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return in;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sink.close();
+        source.close();
+    }
+}
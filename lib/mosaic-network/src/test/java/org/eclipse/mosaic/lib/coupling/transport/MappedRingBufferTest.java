@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.coupling.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class MappedRingBufferTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead_exceedingCapacity() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("test.ring");
+        MappedRingBuffer writer = MappedRingBuffer.create(file, 64);
+        MappedRingBuffer reader = MappedRingBuffer.open(file);
+
+        byte[] expected = new byte[10_000];
+        new Random(7).nextBytes(expected);
+
+        // RUN
+        CompletableFuture<Void> writing = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < expected.length; i += 100) {
+                    writer.write(expected, i, 100);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        byte[] actual = new byte[expected.length];
+        new DataInputStream(reader.asInputStream()).readFully(actual);
+        writing.get(10, TimeUnit.SECONDS);
+
+        // ASSERT
+        assertArrayEquals(expected, actual);
+        assertEquals(0, reader.available());
+    }
+
+    @Test
+    public void read_afterClose_returnsRemainingBytes() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("test.ring");
+        MappedRingBuffer writer = MappedRingBuffer.create(file, 16);
+        MappedRingBuffer reader = MappedRingBuffer.open(file);
+
+        // RUN
+        writer.write(new byte[]{1, 2, 3}, 0, 3);
+        writer.close();
+
+        // ASSERT
+        byte[] actual = new byte[8];
+        assertEquals(3, reader.read(actual, 0, 8));
+        assertEquals(-1, reader.read(actual, 0, 8));
+    }
+
+    @Test(expected = IOException.class)
+    public void write_afterClose() throws IOException {
+        MappedRingBuffer writer = MappedRingBuffer.create(temporaryFolder.getRoot().toPath().resolve("test.ring"), 16);
+        writer.close();
+
+        // RUN
+        writer.write(new byte[]{1}, 0, 1);
+    }
+
+    @Test(expected = IOException.class, timeout = 10000)
+    public void read_otherSideTerminated_timeout() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("test.ring");
+        MappedRingBuffer.create(file, 16);
+        MappedRingBuffer reader = MappedRingBuffer.open(file);
+        reader.setTimeout(50, TimeUnit.MILLISECONDS);
+
+        // RUN
+        reader.read(new byte[8], 0, 8);
+    }
+
+    @Test(expected = IOException.class, timeout = 10000)
+    public void write_otherSideTerminated_timeout() throws IOException {
+        MappedRingBuffer writer = MappedRingBuffer.create(temporaryFolder.getRoot().toPath().resolve("test.ring"), 16);
+        writer.setTimeout(50, TimeUnit.MILLISECONDS);
+
+        // RUN
+        writer.write(new byte[32], 0, 32);
+    }
+}
@@ -23,11 +23,10 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -57,6 +56,12 @@ public final class EncodedPayload implements Serializable {
      */
     private final long minimalLength;
 
+    /**
+     * The content decoded from {@link #bytes}, which is kept to decode the payload only once,
+     * even if it is received by many receivers.
+     */
+    private transient volatile ToDataOutput decodedContent;
+
     /**
      * Creates a new payload which encodes the given {@link ToDataOutput} into an byte array beforehand.
      * <b>Warning,</b> this constructor should be only used if you want to
@@ -137,6 +142,19 @@ public final class EncodedPayload implements Serializable {
         return bytes.clone();
     }
 
+    /**
+     * Returns a read-only view on the encoded bytes of the payload, which does not copy the bytes.
+     *
+     * @return the encoded bytes of the payload, or an empty buffer if no bytes exist
+     */
+    @Nonnull
+    public ByteBuffer asByteBuffer() {
+        if (bytes == null) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the length of the message. Please prefer this method instead
      * to get the length from {@link EncodedPayload#getBytes()}.
@@ -164,6 +182,9 @@ public final class EncodedPayload implements Serializable {
     /**
      * Tries to decode the payload byte array into the original object. This
      * only works if this object has been initialized with a implementation of {@link ToDataOutput}.
+     * The payload is decoded only once using the {@link PayloadDecoder} registered in {@link PayloadCodecs},
+     * and the decoded object is returned on all subsequent calls. Therefore, the decoded object
+     * is shared between all receivers of the message and must not be modified.
      *
      * @param <T> the object type to decode the byte array to
      * @return the decoded object of type {@code T}.
@@ -171,14 +192,17 @@ public final class EncodedPayload implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public final <T extends ToDataOutput> T decodePayload() throws IllegalStateException {
-        if (contentClassName != null && getBytes() != null && getBytes().length > 0) {
-            try {
-                Class<?> contentClass = Class.forName(contentClassName);
-                Constructor<?> constructorDataInput = contentClass.getConstructor(DataInput.class);
-                return (T) constructorDataInput.newInstance(new DataInputStream(new ByteArrayInputStream(getBytes())));
-            } catch (Exception e) {
-                throw new IllegalStateException(e);
+        if (contentClassName != null && bytes != null && bytes.length > 0) {
+            ToDataOutput content = decodedContent;
+            if (content == null) {
+                try {
+                    content = PayloadCodecs.getDecoder(contentClassName).decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                decodedContent = content;
             }
+            return (T) content;
         }
         return null;
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import org.eclipse.mosaic.lib.objects.ToDataOutput;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.CamContent;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.DenmContent;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.IvimContent;
+import org.eclipse.mosaic.lib.objects.v2x.etsi.SpatmContent;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link PayloadDecoder}s used to decode {@link EncodedPayload}s by the name of their content class.
+ * Decoders for the ETSI message contents are registered by default. For any other content class, a decoder which
+ * invokes its constructor accepting a {@link DataInput} is looked up once and kept for all subsequent decodes.
+ */
+public final class PayloadCodecs {
+
+    private static final Map<String, PayloadDecoder<?>> DECODERS = new ConcurrentHashMap<>();
+
+    static {
+        register(CamContent.class, CamContent::new);
+        register(DenmContent.class, DenmContent::new);
+        register(IvimContent.class, IvimContent::new);
+        register(SpatmContent.class, SpatmContent::new);
+    }
+
+    private PayloadCodecs() {
+        // static methods only
+    }
+
+    /**
+     * Registers a decoder for the given content class, which replaces any previously registered decoder.
+     *
+     * @param contentClass the class of the encoded content
+     * @param decoder      the decoder creating the content from its encoded form
+     * @param <T>          the type of the content
+     */
+    public static <T extends ToDataOutput> void register(Class<T> contentClass, PayloadDecoder<T> decoder) {
+        DECODERS.put(contentClass.getCanonicalName(), decoder);
+    }
+
+    /**
+     * Returns the decoder for the content class with the given name.
+     *
+     * @param contentClassName the canonical name of the content class
+     * @return the decoder for the content class
+     * @throws IllegalStateException if no decoder could be created for the given class
+     */
+    public static PayloadDecoder<?> getDecoder(String contentClassName) {
+        return DECODERS.computeIfAbsent(contentClassName, PayloadCodecs::createReflectiveDecoder);
+    }
+
+    private static PayloadDecoder<?> createReflectiveDecoder(String contentClassName) {
+        final MethodHandle constructor;
+        try {
+            final Class<?> contentClass = Class.forName(contentClassName);
+            constructor = MethodHandles.publicLookup().findConstructor(contentClass, MethodType.methodType(void.class, DataInput.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No decoder available for " + contentClassName, e);
+        }
+        final PayloadDecoder<ToDataOutput> decoder = dataInput -> {
+            try {
+                return (ToDataOutput) constructor.invoke(dataInput);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Could not decode " + contentClassName, e);
+            }
+        };
+        return decoder;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import org.eclipse.mosaic.lib.objects.ToDataOutput;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Decodes the content of an {@link EncodedPayload} which has been written by {@link ToDataOutput#toDataOutput}.
+ *
+ * @param <T> the type of the decoded content
+ */
+@FunctionalInterface
+public interface PayloadDecoder<T extends ToDataOutput> {
+
+    /**
+     * Reads the content from the given {@link DataInput}.
+     *
+     * @param dataInput the encoded content
+     * @return the decoded content
+     */
+    T decode(DataInput dataInput) throws IOException;
+}
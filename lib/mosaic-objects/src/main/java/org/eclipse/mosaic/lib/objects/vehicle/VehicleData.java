@@ -598,6 +598,22 @@ public class VehicleData extends UnitData {
             return this;
         }
 
+        /**
+         * Replaces additional data, which may have been taken over by {@link #copyFrom(VehicleData)} before.
+         */
+        Builder replaceAdditional(Object additionalData) {
+            this.additionalData = additionalData;
+            return this;
+        }
+
+        /**
+         * Set the list of vehicles in the field of view of this vehicle.
+         */
+        public Builder vehiclesInSight(List<SurroundingVehicle> vehiclesInSight) {
+            this.vehiclesInSight = vehiclesInSight;
+            return this;
+        }
+
         /**
          * Copy all values from an existing {@link VehicleData} object.
          */
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.vehicle;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.util.gson.PolymorphismTypeAdapterFactory;
+
+import com.google.gson.annotations.JsonAdapter;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.io.Serializable;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Holds only those values of a {@link VehicleData} object which changed since the
+ * previously transmitted state of the same vehicle. All values of field groups
+ * which are not contained in this delta are <code>null</code> (or zero for primitives),
+ * and must be taken from the previous state of the vehicle. Use {@link VehicleDataDeltaEncoder}
+ * to create deltas, and {@link VehicleDataDeltaDecoder} to reconstruct full {@link VehicleData} objects.
+ */
+@Immutable
+public class VehicleDataDelta implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The groups of values of a {@link VehicleData} object which are transmitted together.
+     */
+    public enum Field {
+        /**
+         * Geographic and projected position.
+         */
+        POSITION,
+        /**
+         * Position on the road network.
+         */
+        ROAD_POSITION,
+        /**
+         * ID of the route.
+         */
+        ROUTE,
+        /**
+         * Speed, acceleration, and driven distance.
+         */
+        MOVEMENT,
+        /**
+         * Heading, slope, and drive direction.
+         */
+        ORIENTATION,
+        STOP_MODE,
+        LANE_AREA,
+        EMISSIONS,
+        CONSUMPTIONS,
+        SIGNALS,
+        SENSORS,
+        ADDITIONAL_DATA,
+        VEHICLES_IN_SIGHT;
+
+        private final int mask = 1 << ordinal();
+    }
+
+    static final int ALL_FIELDS = (1 << Field.values().length) - 1;
+
+    private final long time;
+    private final String name;
+
+    /**
+     * Bit mask of all {@link Field}s contained in this delta.
+     */
+    private final int changedFields;
+
+    private final GeoPoint position;
+    private final CartesianPoint projectedPosition;
+    @JsonAdapter(PolymorphismTypeAdapterFactory.class)
+    private final IRoadPosition roadPosition;
+    private final String routeId;
+    private final double speed;
+    private final double longitudinalAcceleration;
+    private final double distanceDriven;
+    private final double heading;
+    private final double slope;
+    private final DriveDirection driveDirection;
+    private final VehicleStopMode vehicleStopMode;
+    private final String laneAreaId;
+    private final VehicleEmissions vehicleEmissions;
+    private final VehicleConsumptions vehicleConsumptions;
+    private final VehicleSignals vehicleSignals;
+    private final VehicleSensors vehicleSensors;
+    @JsonAdapter(PolymorphismTypeAdapterFactory.class)
+    private final Object additionalData;
+    private final List<SurroundingVehicle> vehiclesInSight;
+
+    /**
+     * Creates a delta holding the values of all fields marked in {@code changedFields}
+     * taken from the given {@link VehicleData} object.
+     *
+     * @param changedFields bit mask of the {@link Field}s to transmit
+     * @param current       the current state of the vehicle
+     */
+    VehicleDataDelta(int changedFields, VehicleData current) {
+        this.time = current.getTime();
+        this.name = current.getName();
+        this.changedFields = changedFields;
+
+        boolean position = contains(changedFields, Field.POSITION);
+        this.position = position ? current.getPosition() : null;
+        this.projectedPosition = position ? current.getProjectedPosition() : null;
+        this.roadPosition = contains(changedFields, Field.ROAD_POSITION) ? current.getRoadPosition() : null;
+        this.routeId = contains(changedFields, Field.ROUTE) ? current.getRouteId() : null;
+
+        boolean movement = contains(changedFields, Field.MOVEMENT);
+        this.speed = movement ? current.getSpeed() : 0d;
+        this.longitudinalAcceleration = movement && current.getLongitudinalAcceleration() != null
+                ? current.getLongitudinalAcceleration() : 0d;
+        this.distanceDriven = movement ? current.getDistanceDriven() : 0d;
+
+        boolean orientation = contains(changedFields, Field.ORIENTATION);
+        this.heading = orientation && current.getHeading() != null ? current.getHeading() : 0d;
+        this.slope = orientation ? current.getSlope() : 0d;
+        this.driveDirection = orientation ? current.getDriveDirection() : null;
+
+        this.vehicleStopMode = contains(changedFields, Field.STOP_MODE) ? current.getVehicleStopMode() : null;
+        this.laneAreaId = contains(changedFields, Field.LANE_AREA) ? current.getLaneAreaId() : null;
+        this.vehicleEmissions = contains(changedFields, Field.EMISSIONS) ? current.getVehicleEmissions() : null;
+        this.vehicleConsumptions = contains(changedFields, Field.CONSUMPTIONS) ? current.getVehicleConsumptions() : null;
+        this.vehicleSignals = contains(changedFields, Field.SIGNALS) ? current.getVehicleSignals() : null;
+        this.vehicleSensors = contains(changedFields, Field.SENSORS) ? current.getVehicleSensors() : null;
+        this.additionalData = contains(changedFields, Field.ADDITIONAL_DATA) ? current.getAdditionalData() : null;
+        this.vehiclesInSight = contains(changedFields, Field.VEHICLES_IN_SIGHT) ? current.getVehiclesInSight() : null;
+    }
+
+    private static boolean contains(int changedFields, Field field) {
+        return (changedFields & field.mask) != 0;
+    }
+
+    static int mask(Field field) {
+        return field.mask;
+    }
+
+    /**
+     * Returns the simulation time of this delta in [ns].
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the name of the vehicle this delta belongs to.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns <code>true</code>, if the values of the given {@link Field} are contained in this delta.
+     */
+    public boolean contains(Field field) {
+        return contains(changedFields, field);
+    }
+
+    /**
+     * Returns <code>true</code>, if no value of the vehicle changed beyond the configured thresholds.
+     */
+    public boolean isEmpty() {
+        return changedFields == 0;
+    }
+
+    /**
+     * Returns <code>true</code>, if this delta contains all values of the vehicle, which is
+     * the case for vehicles without previously transmitted state.
+     */
+    public boolean isComplete() {
+        return changedFields == ALL_FIELDS;
+    }
+
+    /**
+     * Reconstructs the full {@link VehicleData} by applying this delta to the previous state of the vehicle.
+     * All unchanged values are taken over by reference from the previous state, since {@link VehicleData}
+     * and all its values are immutable.
+     *
+     * @param previous the previously reconstructed state of the same vehicle, may only
+     *                 be <code>null</code> if this delta {@link #isComplete() is complete}
+     * @return the current state of the vehicle
+     */
+    public VehicleData applyTo(@Nullable VehicleData previous) {
+        Validate.isTrue(previous != null || isComplete(), "No previous state given for vehicle %s", name);
+
+        VehicleData.Builder builder = new VehicleData.Builder(time, name);
+        if (previous != null) {
+            builder.copyFrom(previous);
+        }
+        if (contains(Field.POSITION)) {
+            builder.position(position, projectedPosition);
+        }
+        if (contains(Field.ROAD_POSITION)) {
+            builder.road(roadPosition);
+        }
+        if (contains(Field.ROUTE)) {
+            builder.route(routeId);
+        }
+        if (contains(Field.MOVEMENT)) {
+            builder.movement(speed, longitudinalAcceleration, distanceDriven);
+        }
+        if (contains(Field.ORIENTATION)) {
+            builder.orientation(driveDirection, heading, slope);
+        }
+        if (contains(Field.STOP_MODE)) {
+            builder.stopped(vehicleStopMode);
+        }
+        if (contains(Field.LANE_AREA)) {
+            builder.laneArea(laneAreaId);
+        }
+        if (contains(Field.EMISSIONS)) {
+            builder.emissions(vehicleEmissions);
+        }
+        if (contains(Field.CONSUMPTIONS)) {
+            builder.consumptions(vehicleConsumptions);
+        }
+        if (contains(Field.SIGNALS)) {
+            builder.signals(vehicleSignals);
+        }
+        if (contains(Field.SENSORS)) {
+            builder.sensors(vehicleSensors);
+        }
+        if (contains(Field.ADDITIONAL_DATA)) {
+            builder.replaceAdditional(additionalData);
+        }
+        if (contains(Field.VEHICLES_IN_SIGHT)) {
+            builder.vehiclesInSight(vehiclesInSight);
+        }
+        return builder.create();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(7, 31)
+                .append(time)
+                .append(name)
+                .append(changedFields)
+                .append(position)
+                .append(projectedPosition)
+                .append(roadPosition)
+                .append(routeId)
+                .append(speed)
+                .append(longitudinalAcceleration)
+                .append(distanceDriven)
+                .append(heading)
+                .append(slope)
+                .append(driveDirection)
+                .append(vehicleStopMode)
+                .append(laneAreaId)
+                .append(vehicleEmissions)
+                .append(vehicleConsumptions)
+                .append(vehicleSignals)
+                .append(vehicleSensors)
+                .append(additionalData)
+                .append(vehiclesInSight)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        VehicleDataDelta other = (VehicleDataDelta) obj;
+        return new EqualsBuilder()
+                .append(this.time, other.time)
+                .append(this.name, other.name)
+                .append(this.changedFields, other.changedFields)
+                .append(this.position, other.position)
+                .append(this.projectedPosition, other.projectedPosition)
+                .append(this.roadPosition, other.roadPosition)
+                .append(this.routeId, other.routeId)
+                .append(this.speed, other.speed)
+                .append(this.longitudinalAcceleration, other.longitudinalAcceleration)
+                .append(this.distanceDriven, other.distanceDriven)
+                .append(this.heading, other.heading)
+                .append(this.slope, other.slope)
+                .append(this.driveDirection, other.driveDirection)
+                .append(this.vehicleStopMode, other.vehicleStopMode)
+                .append(this.laneAreaId, other.laneAreaId)
+                .append(this.vehicleEmissions, other.vehicleEmissions)
+                .append(this.vehicleConsumptions, other.vehicleConsumptions)
+                .append(this.vehicleSignals, other.vehicleSignals)
+                .append(this.vehicleSensors, other.vehicleSensors)
+                .append(this.additionalData, other.additionalData)
+                .append(this.vehiclesInSight, other.vehiclesInSight)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("time", time)
+                .append("name", name)
+                .append("changedFields", Integer.toBinaryString(changedFields))
+                .build();
+    }
+}
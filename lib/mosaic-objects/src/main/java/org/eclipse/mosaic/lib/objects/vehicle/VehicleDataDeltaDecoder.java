@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.vehicle;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Reconstructs full {@link VehicleData} objects from {@link VehicleDataDelta}s. For this purpose,
+ * the decoder keeps the latest state of each vehicle, and applies each incoming delta on it.
+ * Each receiver of delta encoded vehicle data requires its own decoder instance.
+ */
+@NotThreadSafe
+public class VehicleDataDeltaDecoder {
+
+    private final Map<String, VehicleData> vehicles = new HashMap<>();
+
+    /**
+     * Registers the full state of a vehicle, e.g. of a newly added vehicle.
+     *
+     * @param vehicleData the full state of the vehicle
+     */
+    public void add(VehicleData vehicleData) {
+        vehicles.put(vehicleData.getName(), vehicleData);
+    }
+
+    /**
+     * Applies the given delta on the latest known state of the vehicle.
+     *
+     * @param delta the delta of the vehicle
+     * @return the reconstructed current state of the vehicle
+     * @throws IllegalArgumentException if no state is known for the vehicle and the delta is not complete
+     */
+    public VehicleData decode(VehicleDataDelta delta) {
+        VehicleData current = delta.applyTo(vehicles.get(delta.getName()));
+        vehicles.put(current.getName(), current);
+        return current;
+    }
+
+    /**
+     * Returns the latest known state of the vehicle, or <code>null</code> if the vehicle is unknown.
+     */
+    @Nullable
+    public VehicleData get(String vehicleName) {
+        return vehicles.get(vehicleName);
+    }
+
+    /**
+     * Forgets the state of the given vehicle, e.g. after it has been removed from the simulation.
+     */
+    public void remove(String vehicleName) {
+        vehicles.remove(vehicleName);
+    }
+}
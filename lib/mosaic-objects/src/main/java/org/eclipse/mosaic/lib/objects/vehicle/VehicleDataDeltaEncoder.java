@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.vehicle;
+
+import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDelta.Field;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.Objects;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Creates {@link VehicleDataDelta}s which only contain the values of a vehicle which changed
+ * since its last transmission. Continuous values, such as position, speed, and heading, are only
+ * considered as changed if they differ from the last transmitted value by more than a configurable threshold.
+ * Since thresholds are compared against the last <i>transmitted</i> value, the state reconstructed by a
+ * {@link VehicleDataDeltaDecoder} never deviates from the actual state by more than the threshold.
+ */
+@NotThreadSafe
+public class VehicleDataDeltaEncoder {
+
+    /**
+     * Reflects the state of the vehicles as seen by the receivers of the deltas.
+     */
+    private final VehicleDataDeltaDecoder transmitted = new VehicleDataDeltaDecoder();
+
+    private final double positionThreshold;
+    private final double speedThreshold;
+    private final double headingThreshold;
+
+    /**
+     * Creates an encoder which transmits each value which changed.
+     */
+    public VehicleDataDeltaEncoder() {
+        this(0d, 0d, 0d);
+    }
+
+    /**
+     * Creates an encoder using the given thresholds for continuous values.
+     *
+     * @param positionThreshold minimum change of position or driven distance to be transmitted. Unit: [m]
+     * @param speedThreshold    minimum change of speed to be transmitted. Unit: [m/s]
+     * @param headingThreshold  minimum change of heading or slope to be transmitted. Unit: [deg]
+     */
+    public VehicleDataDeltaEncoder(double positionThreshold, double speedThreshold, double headingThreshold) {
+        Validate.isTrue(positionThreshold >= 0 && speedThreshold >= 0 && headingThreshold >= 0,
+                "Thresholds must not be negative.");
+        this.positionThreshold = positionThreshold;
+        this.speedThreshold = speedThreshold;
+        this.headingThreshold = headingThreshold;
+    }
+
+    /**
+     * Registers the full state of a newly added vehicle, which is transmitted without encoding.
+     *
+     * @param vehicleData the full state of the vehicle
+     */
+    public void add(VehicleData vehicleData) {
+        transmitted.add(vehicleData);
+    }
+
+    /**
+     * Creates the delta between the last transmitted state of the vehicle and its current state. If the vehicle
+     * has not been transmitted before, the delta contains all values of the vehicle.
+     *
+     * @param current the current state of the vehicle
+     * @return the delta to transmit
+     */
+    public VehicleDataDelta encode(VehicleData current) {
+        VehicleData previous = transmitted.get(current.getName());
+        VehicleDataDelta delta = new VehicleDataDelta(
+                previous == null ? VehicleDataDelta.ALL_FIELDS : getChangedFields(previous, current), current
+        );
+        transmitted.decode(delta);
+        return delta;
+    }
+
+    /**
+     * Returns the state of the vehicle as reconstructed by the receivers of all deltas
+     * transmitted so far, or <code>null</code> if the vehicle is unknown.
+     */
+    @Nullable
+    public VehicleData getTransmitted(String vehicleName) {
+        return transmitted.get(vehicleName);
+    }
+
+    /**
+     * Forgets the state of the given vehicle, e.g. after it has been removed from the simulation.
+     */
+    public void remove(String vehicleName) {
+        transmitted.remove(vehicleName);
+    }
+
+    private int getChangedFields(VehicleData previous, VehicleData current) {
+        int changedFields = 0;
+
+        boolean positionChanged = isPositionChanged(previous, current);
+        if (positionChanged) {
+            changedFields |= VehicleDataDelta.mask(Field.POSITION);
+        }
+        if (positionChanged || isRoadPositionChanged(previous.getRoadPosition(), current.getRoadPosition())) {
+            changedFields |= VehicleDataDelta.mask(Field.ROAD_POSITION);
+        }
+        if (!Objects.equals(previous.getRouteId(), current.getRouteId())) {
+            changedFields |= VehicleDataDelta.mask(Field.ROUTE);
+        }
+        if (exceeds(previous.getSpeed(), current.getSpeed(), speedThreshold)
+                || exceeds(previous.getDistanceDriven(), current.getDistanceDriven(), positionThreshold)
+                || (current.getSpeed() == 0 && previous.getSpeed() != 0)) {
+            changedFields |= VehicleDataDelta.mask(Field.MOVEMENT);
+        }
+        if (isOrientationChanged(previous, current)) {
+            changedFields |= VehicleDataDelta.mask(Field.ORIENTATION);
+        }
+        if (previous.getVehicleStopMode() != current.getVehicleStopMode()) {
+            changedFields |= VehicleDataDelta.mask(Field.STOP_MODE);
+        }
+        if (!Objects.equals(previous.getLaneAreaId(), current.getLaneAreaId())) {
+            changedFields |= VehicleDataDelta.mask(Field.LANE_AREA);
+        }
+        if (!Objects.equals(previous.getVehicleEmissions(), current.getVehicleEmissions())) {
+            changedFields |= VehicleDataDelta.mask(Field.EMISSIONS);
+        }
+        if (!Objects.equals(previous.getVehicleConsumptions(), current.getVehicleConsumptions())) {
+            changedFields |= VehicleDataDelta.mask(Field.CONSUMPTIONS);
+        }
+        if (!Objects.equals(previous.getVehicleSignals(), current.getVehicleSignals())) {
+            changedFields |= VehicleDataDelta.mask(Field.SIGNALS);
+        }
+        if (!Objects.equals(previous.getVehicleSensors(), current.getVehicleSensors())) {
+            changedFields |= VehicleDataDelta.mask(Field.SENSORS);
+        }
+        if (!Objects.equals(previous.getAdditionalData(), current.getAdditionalData())) {
+            changedFields |= VehicleDataDelta.mask(Field.ADDITIONAL_DATA);
+        }
+        if (!Objects.equals(previous.getVehiclesInSight(), current.getVehiclesInSight())) {
+            changedFields |= VehicleDataDelta.mask(Field.VEHICLES_IN_SIGHT);
+        }
+        return changedFields;
+    }
+
+    private boolean isPositionChanged(VehicleData previous, VehicleData current) {
+        if (previous.getProjectedPosition() != null && current.getProjectedPosition() != null) {
+            return previous.getProjectedPosition().distanceTo(current.getProjectedPosition()) > positionThreshold;
+        }
+        if (previous.getPosition() != null && current.getPosition() != null) {
+            return previous.getPosition().distanceTo(current.getPosition()) > positionThreshold;
+        }
+        return !Objects.equals(previous.getProjectedPosition(), current.getProjectedPosition())
+                || !Objects.equals(previous.getPosition(), current.getPosition());
+    }
+
+    private static boolean isRoadPositionChanged(IRoadPosition previous, IRoadPosition current) {
+        if (previous == null || current == null) {
+            return previous != current;
+        }
+        return !Objects.equals(previous.getConnectionId(), current.getConnectionId())
+                || previous.getLaneIndex() != current.getLaneIndex();
+    }
+
+    private boolean isOrientationChanged(VehicleData previous, VehicleData current) {
+        if (current.getHeading() == null) {
+            // the heading is kept from the previous state if not provided anymore
+            return false;
+        }
+        return previous.getHeading() == null
+                || getAngleDifference(previous.getHeading(), current.getHeading()) > headingThreshold
+                || exceeds(previous.getSlope(), current.getSlope(), headingThreshold)
+                || previous.getDriveDirection() != current.getDriveDirection();
+    }
+
+    private static boolean exceeds(double previous, double current, double threshold) {
+        return Math.abs(previous - current) > threshold;
+    }
+
+    private static double getAngleDifference(double previous, double current) {
+        double difference = Math.abs(previous - current) % 360;
+        return Math.min(difference, 360 - difference);
+    }
+}
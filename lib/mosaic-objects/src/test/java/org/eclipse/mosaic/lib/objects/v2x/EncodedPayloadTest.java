@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.objects.ToDataOutput;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EncodedPayloadTest {
+
+    private static final AtomicInteger decodeCount = new AtomicInteger();
+
+    @Test
+    public void decodePayload_decodedOnce() {
+        PayloadCodecs.register(TestContent.class, dataInput -> {
+            decodeCount.incrementAndGet();
+            return new TestContent(dataInput);
+        });
+        EncodedPayload payload = new EncodedPayload(new TestContent(42), 100);
+        decodeCount.set(0);
+
+        //RUN
+        TestContent first = payload.decodePayload();
+        TestContent second = payload.decodePayload();
+
+        //ASSERT
+        assertEquals(42, first.value);
+        assertSame(first, second);
+        assertEquals(1, decodeCount.get());
+
+        //RUN (decoded content is not serialized)
+        EncodedPayload copy = SerializationUtils.clone(payload);
+        TestContent decodedCopy = copy.decodePayload();
+
+        //ASSERT
+        assertEquals(payload, copy);
+        assertNotSame(first, decodedCopy);
+        assertEquals(42, decodedCopy.value);
+        assertEquals(2, decodeCount.get());
+    }
+
+    @Test
+    public void asByteBuffer_readOnlyView() {
+        EncodedPayload payload = new EncodedPayload(new byte[]{1, 2, 3}, 0);
+
+        //RUN
+        ByteBuffer buffer = payload.asByteBuffer();
+
+        //ASSERT
+        assertTrue(buffer.isReadOnly());
+        assertEquals(3, buffer.remaining());
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(payload.getBytes(), bytes);
+
+        assertEquals(0, new EncodedPayload(10, 10).asByteBuffer().remaining());
+        assertNull(new EncodedPayload(10, 10).decodePayload());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getDecoder_unknownClass() {
+        PayloadCodecs.getDecoder("org.eclipse.mosaic.UnknownContent");
+    }
+
+    public static class TestContent implements ToDataOutput {
+
+        private final int value;
+
+        TestContent(int value) {
+            this.value = value;
+        }
+
+        TestContent(DataInput dataInput) throws IOException {
+            this.value = dataInput.readInt();
+        }
+
+        @Override
+        public void toDataOutput(DataOutput dataOutput) throws IOException {
+            dataOutput.writeInt(value);
+        }
+    }
+}
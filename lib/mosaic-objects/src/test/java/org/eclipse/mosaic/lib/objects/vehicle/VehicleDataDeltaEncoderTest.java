@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.vehicle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDataDelta.Field;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class VehicleDataDeltaEncoderTest {
+
+    private final VehicleSignals signals = new VehicleSignals(false, false, false, false, false);
+
+    private VehicleDataDeltaEncoder encoder;
+    private VehicleDataDeltaDecoder decoder;
+
+    @Before
+    public void setup() {
+        encoder = new VehicleDataDeltaEncoder(0.5, 0.1, 1.0);
+        decoder = new VehicleDataDeltaDecoder();
+    }
+
+    @Test
+    public void unknownVehicle_completeDelta() {
+        VehicleData vehicle = createVehicle(1, 10.0, 10.0, 90.0, "edge_0");
+
+        VehicleDataDelta delta = encoder.encode(vehicle);
+
+        assertTrue(delta.isComplete());
+        assertEquals(vehicle, decoder.decode(delta));
+    }
+
+    @Test
+    public void unchangedVehicle_emptyDelta() {
+        VehicleData initial = createVehicle(1, 10.0, 10.0, 90.0, "edge_0");
+        encoder.add(initial);
+        decoder.add(initial);
+
+        VehicleDataDelta delta = encoder.encode(createVehicle(2, 10.0, 10.0, 90.0, "edge_0"));
+        VehicleData decoded = decoder.decode(delta);
+
+        assertTrue(delta.isEmpty());
+        assertEquals(2, decoded.getTime());
+        assertSame(initial.getProjectedPosition(), decoded.getProjectedPosition());
+        assertSame(initial.getVehicleSignals(), decoded.getVehicleSignals());
+    }
+
+    @Test
+    public void changesBelowThreshold_notTransmitted() {
+        VehicleData initial = createVehicle(1, 10.0, 10.0, 90.0, "edge_0");
+        encoder.add(initial);
+        decoder.add(initial);
+
+        VehicleDataDelta delta = encoder.encode(createVehicle(2, 10.05, 10.3, 90.5, "edge_0"));
+        VehicleData decoded = decoder.decode(delta);
+
+        assertFalse(delta.contains(Field.POSITION));
+        assertFalse(delta.contains(Field.MOVEMENT));
+        assertFalse(delta.contains(Field.ORIENTATION));
+        assertEquals(10.0, decoded.getSpeed(), 0.0001d);
+        assertEquals(90.0, decoded.getHeading(), 0.0001d);
+    }
+
+    @Test
+    public void accumulatedChanges_transmittedOnceThresholdExceeded() {
+        VehicleData initial = createVehicle(1, 10.0, 10.0, 90.0, "edge_0");
+        encoder.add(initial);
+        decoder.add(initial);
+
+        decoder.decode(encoder.encode(createVehicle(2, 10.0, 10.3, 90.0, "edge_0")));
+        VehicleDataDelta delta = encoder.encode(createVehicle(3, 10.0, 10.6, 90.0, "edge_0"));
+        VehicleData decoded = decoder.decode(delta);
+
+        assertTrue(delta.contains(Field.POSITION));
+        assertTrue(delta.contains(Field.ROAD_POSITION));
+        assertEquals(10.6, decoded.getProjectedPosition().getX(), 0.0001d);
+    }
+
+    @Test
+    public void changedDiscreteValues_transmitted() {
+        VehicleData initial = createVehicle(1, 10.0, 10.0, 359.5, "edge_0");
+        encoder.add(initial);
+        decoder.add(initial);
+
+        VehicleDataDelta delta = encoder.encode(createVehicle(2, 10.0, 10.0, 0.2, "edge_1"));
+        VehicleData decoded = decoder.decode(delta);
+
+        assertFalse(delta.contains(Field.ORIENTATION));
+        assertTrue(delta.contains(Field.ROAD_POSITION));
+        assertEquals("edge_1", decoded.getRoadPosition().getConnectionId());
+        assertEquals(359.5, decoded.getHeading(), 0.0001d);
+    }
+
+    @Test
+    public void removedVehicle_completeDeltaAfterwards() {
+        encoder.add(createVehicle(1, 10.0, 10.0, 90.0, "edge_0"));
+        encoder.remove("veh_0");
+
+        assertTrue(encoder.encode(createVehicle(2, 10.0, 10.0, 90.0, "edge_0")).isComplete());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void incompleteDeltaForUnknownVehicle() {
+        encoder.add(createVehicle(1, 10.0, 10.0, 90.0, "edge_0"));
+
+        decoder.decode(encoder.encode(createVehicle(2, 10.0, 20.0, 90.0, "edge_0")));
+    }
+
+    private VehicleData createVehicle(long time, double speed, double x, double heading, String edge) {
+        return new VehicleData.Builder(time, "veh_0")
+                .position(GeoPoint.latLon(52.5, 13.4), CartesianPoint.xy(x, 0))
+                .road(new SimpleRoadPosition(edge, 0, x, 0))
+                .route("route_0")
+                .movement(speed, 0, x)
+                .orientation(DriveDirection.FORWARD, heading, 0)
+                .stopped(VehicleStopMode.NOT_STOPPED)
+                .signals(signals)
+                .create();
+    }
+}
@@ -25,6 +25,8 @@ import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,32 @@ public interface VehicleRouting {
      */
     RoutingResponse findRoutes(RoutingRequest routingRequest);
 
+    /**
+     * Calculates the routes for a batch of routing requests, e.g., to reroute a whole fleet at once.
+     * Implementations may calculate the routes in parallel.
+     *
+     * @param routingRequests the routing requests
+     * @return the responses to the routing requests, in the same order as the requests
+     */
+    default List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        final List<RoutingResponse> responses = new ArrayList<>(routingRequests.size());
+        for (RoutingRequest routingRequest : routingRequests) {
+            responses.add(findRoutes(routingRequest));
+        }
+        return responses;
+    }
+
+    /**
+     * Updates the measured travel speeds of the given connections at once, e.g., taken from the traffic simulation.
+     * Subsequent routing requests consider these speeds instead of the speed limits of the connections.
+     * Implementations which do not support measured speeds ignore them.
+     *
+     * @param speedsByConnection the measured speeds in [m/s] by connection id, {@link Double#NaN} removes a measured speed
+     */
+    default void updateTravelSpeeds(Map<String, Double> speedsByConnection) {
+        // not supported by default
+    }
+
     /**
      * Build a new route out of a list with node ID's. The route gets a new ID
      * and can be stored in the database.
@@ -148,4 +176,11 @@ public interface VehicleRouting {
      * @return the bounds of the scenario
      */
     CartesianRectangle getScenarioBounds();
+
+    /**
+     * Releases all resources of the routing, e.g., threads used for calculating routes in parallel.
+     */
+    default void close() {
+        // nothing to release by default
+    }
 }
\ No newline at end of file
@@ -27,4 +27,48 @@ public class CVehicleRouting implements Serializable {
      */
     public String source = null;
 
+    /**
+     * The directory in which the prepared routing graph is stored, in order to reuse it in subsequent simulations
+     * using the same road network. Relative paths are resolved against the scenario directory. If not set,
+     * the routing graph is prepared on each start.
+     */
+    public String graphCache = null;
+
+    /**
+     * The directory in which a binary snapshot of the loaded road network is stored, in order to load the
+     * network faster in subsequent simulations using the same database. Relative paths are resolved against
+     * the scenario directory. If not set, the road network is loaded from the database on each start.
+     */
+    public String networkSnapshot = null;
+
+    /**
+     * If enabled, contraction hierarchies are prepared for each vehicle profile, which speed up the calculation of the
+     * fastest route without turn costs and alternatives by several orders of magnitude. Preparation takes some time
+     * at start up, therefore this should be used together with {@link #graphCache}.
+     */
+    public boolean contractionHierarchies = false;
+
+    /**
+     * If enabled, landmarks are prepared for each vehicle profile, which speed up the calculation of the fastest route
+     * by using the A* algorithm with landmark based estimations, also when turn costs are considered.
+     */
+    public boolean landmarks = false;
+
+    /**
+     * The number of threads used to prepare the routing graph. If not set, all available processors are used.
+     */
+    public Integer preparationThreads = null;
+
+    /**
+     * The maximum number of routing responses which are cached and reused for subsequent equal routing requests.
+     * Only requests using the fastest or shortest cost function are cached. If set to 0, no responses are cached.
+     */
+    public int routeCacheSize = 0;
+
+    /**
+     * The number of threads used to calculate routes for a batch of routing requests.
+     * If not set, all available processors are used.
+     */
+    public Integer routingThreads = null;
+
 }
@@ -38,6 +38,7 @@ import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.VehicleRouting;
 import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+import org.eclipse.mosaic.lib.routing.util.RouteCache;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Iterables;
@@ -49,6 +50,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * An implementation of the {@link VehicleRouting} interface which provides access to routing functions
@@ -65,6 +68,11 @@ public class DatabaseRouting implements VehicleRouting {
 
     private GraphHopperRouting routing;
 
+    private RouteCache routeCache;
+
+    private int routingThreads;
+    private ForkJoinPool routingPool;
+
     @Override
     public void initialize(final CVehicleRouting configuration, final File baseDirectory) throws InternalFederateException {
 
@@ -79,17 +87,33 @@ public class DatabaseRouting implements VehicleRouting {
         }
         log.trace("loading database '" + dbFile.getAbsolutePath() + "'");
 
+        File snapshotDirectory = null;
+        if (configuration != null && configuration.networkSnapshot != null) {
+            snapshotDirectory = new File(configuration.networkSnapshot);
+            if (!snapshotDirectory.isAbsolute() && baseDirectory != null) {
+                snapshotDirectory = new File(baseDirectory, configuration.networkSnapshot);
+            }
+        }
+
         // actually try to load
         try {
-            this.scenarioDatabase = Database.loadFromFile(dbFile);
+            this.scenarioDatabase = Database.loadFromFile(dbFile, snapshotDirectory);
         } catch (RuntimeException re) {
             throw new InternalFederateException("Could not load database file! Invalid type or outdated?", re);
         }
 
         //creates an implementation of IRoutingGraph according to the configuration
-        this.routing = new GraphHopperRouting(scenarioDatabase);
+        this.routing = new GraphHopperRouting(scenarioDatabase, configuration, baseDirectory);
 
         this.routeManager = new RouteManager(this.scenarioDatabase);
+
+        this.routingThreads = configuration != null && configuration.routingThreads != null
+                ? configuration.routingThreads
+                : Runtime.getRuntime().availableProcessors();
+
+        if (configuration != null && configuration.routeCacheSize > 0) {
+            this.routeCache = new RouteCache(configuration.routeCacheSize);
+        }
     }
 
     @Override
@@ -134,6 +158,12 @@ public class DatabaseRouting implements VehicleRouting {
      */
     @Override
     public RoutingResponse findRoutes(RoutingRequest routingRequest) {
+        if (routeCache != null) {
+            final RoutingResponse cachedResponse = routeCache.get(routingRequest);
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+        }
         final List<CandidateRoute> candidateRoutes = this.routing.findRoutes(routingRequest);
         final CandidateRoute bestRoute = Iterables.getFirst(candidateRoutes, null);
         final List<CandidateRoute> alternatives;
@@ -142,13 +172,92 @@ public class DatabaseRouting implements VehicleRouting {
         } else {
             alternatives = Lists.newArrayList();
         }
-        return new RoutingResponse(bestRoute, alternatives);
+        final RoutingResponse response = new RoutingResponse(bestRoute, alternatives);
+        if (routeCache != null) {
+            routeCache.put(routingRequest, response);
+        }
+        return response;
     }
 
+    /**
+     * Calculates the routes for all given requests in parallel on a work-stealing pool.
+     *
+     * @param routingRequests the routing requests
+     * @return the responses to the routing requests, in the same order as the requests
+     */
+    @Override
+    public List<RoutingResponse> findRoutes(List<RoutingRequest> routingRequests) {
+        if (routingThreads <= 1 || routingRequests.size() <= 1) {
+            return VehicleRouting.super.findRoutes(routingRequests);
+        }
+        if (routingPool == null) {
+            routingPool = new ForkJoinPool(routingThreads);
+        }
+        // a parallel stream executed within a ForkJoinPool runs its tasks on the workers of this pool
+        return routingPool.submit(() -> routingRequests.parallelStream()
+                .map(this::findRoutes)
+                .collect(Collectors.toList())
+        ).join();
+    }
+
+    /**
+     * Shuts down the pool used for calculating routes in parallel, if it has been created.
+     */
+    @Override
+    public void close() {
+        if (routingPool != null) {
+            routingPool.shutdown();
+            routingPool = null;
+        }
+    }
+
+    /**
+     * Creates a {@link VehicleRoute} for the given {@link CandidateRoute}. If the candidate route
+     * has been taken from a cached routing response, the route created for it before is returned, so
+     * that it does not need to be registered again.
+     */
     @Override
     public VehicleRoute createRouteForRTI(CandidateRoute candidateRoute) throws IllegalRouteException {
+        if (routeCache != null) {
+            final VehicleRoute registeredRoute = routeCache.getRegisteredRoute(candidateRoute);
+            if (registeredRoute != null) {
+                return registeredRoute;
+            }
+        }
         Route route = routeManager.createRouteByCandidateRoute(candidateRoute);
-        return routeManager.createRouteForRTI(route);
+        VehicleRoute vehicleRoute = routeManager.createRouteForRTI(route);
+        if (routeCache != null) {
+            routeCache.putRegisteredRoute(candidateRoute, vehicleRoute);
+        }
+        return vehicleRoute;
+    }
+
+    /**
+     * Updates the measured travel speeds in the routing graph and invalidates all cached routing responses.
+     */
+    @Override
+    public void updateTravelSpeeds(Map<String, Double> speedsByConnection) {
+        final long version = routing.updateTravelSpeeds(speedsByConnection);
+        log.debug("Updated travel speeds of {} connections (version {})", speedsByConnection.size(), version);
+        invalidateRouteCache();
+    }
+
+    /**
+     * Invalidates all cached routing responses. Must be called whenever the weights of the routing graph change.
+     */
+    public void invalidateRouteCache() {
+        if (routeCache != null) {
+            routeCache.invalidate();
+        }
+    }
+
+    /**
+     * Returns the cache for routing responses.
+     *
+     * @return the route cache, or {@code null} if caching is disabled
+     */
+    RouteCache getRouteCache() {
+        return routeCache;
     }
 
 
@@ -20,12 +20,15 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.TravelTimeOverlay;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
 import com.google.common.collect.Iterables;
+import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.util.EdgeIteratorState;
 import com.graphhopper.util.FetchMode;
+import com.graphhopper.util.GHUtility;
 import org.apache.commons.lang3.Validate;
 
 import java.util.Optional;
@@ -42,6 +45,7 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
 
     private EdgeIteratorState currentEdgeIterator;
     private boolean reverseRequests;
+    private TravelTimeOverlay.Snapshot travelTimes;
 
     GraphHopperEdgeProperties(VehicleEncoding encoding, WayTypeEncoder wayTypeEncoder, GraphhopperToDatabaseMapper graphMapper) {
         this.encoding = encoding;
@@ -55,12 +59,37 @@ public class GraphHopperEdgeProperties implements EdgeProperties {
         this.reverseRequests = reverseRequests;
     }
 
+    void setTravelTimes(TravelTimeOverlay.Snapshot travelTimes) {
+        this.travelTimes = travelTimes;
+    }
+
+    boolean hasTravelTimes() {
+        return travelTimes != null && !travelTimes.isEmpty();
+    }
+
+    /**
+     * Returns the speed on the edge in [m/s]. If a speed has been measured for this edge, the measured speed
+     * is returned, but never more than the speed limit of the edge, which keeps the estimations of
+     * prepared landmarks valid.
+     */
     @Override
     public double getSpeed() {
         Validate.notNull(currentEdgeIterator, "Edge iterator is null");
-        return reverseRequests
+        final double speed = reverseRequests
                 ? currentEdgeIterator.getReverse(encoding.speed()) / 3.6
                 : currentEdgeIterator.get(encoding.speed()) / 3.6;
+        if (!hasTravelTimes()) {
+            return speed;
+        }
+        final double measuredSpeed = travelTimes.getSpeed(getOriginalEdge(currentEdgeIterator));
+        return Double.isNaN(measuredSpeed) ? speed : Math.min(speed, measuredSpeed);
+    }
+
+    private static int getOriginalEdge(EdgeIteratorState edge) {
+        if (edge instanceof VirtualEdgeIteratorState virtualEdge) {
+            return GHUtility.getEdgeFromEdgeKey(virtualEdge.getOriginalEdgeKey());
+        }
+        return edge.getEdge();
     }
 
     @Override
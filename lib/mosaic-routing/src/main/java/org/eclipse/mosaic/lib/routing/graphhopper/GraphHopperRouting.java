@@ -26,37 +26,57 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoUtils;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.RoutingAlgorithmFactory;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.DatabaseGraphLoader;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.OptionalTurnCostProvider;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.TravelTimeOverlay;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncodingManager;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.graphhopper.config.Profile;
+import com.graphhopper.routing.AlgorithmOptions;
 import com.graphhopper.routing.Path;
 import com.graphhopper.routing.RoutingAlgorithm;
+import com.graphhopper.routing.ch.CHRoutingAlgorithmFactory;
+import com.graphhopper.routing.ch.PrepareContractionHierarchies;
 import com.graphhopper.routing.ev.BooleanEncodedValue;
+import com.graphhopper.routing.lm.LMConfig;
+import com.graphhopper.routing.lm.LMRoutingAlgorithmFactory;
+import com.graphhopper.routing.lm.LandmarkStorage;
+import com.graphhopper.routing.lm.PrepareLandmarks;
 import com.graphhopper.routing.querygraph.QueryGraph;
 import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.routing.subnetwork.PrepareRoutingSubnetworks;
 import com.graphhopper.routing.util.AccessFilter;
 import com.graphhopper.routing.util.EdgeFilter;
+import com.graphhopper.routing.util.TraversalMode;
+import com.graphhopper.routing.weighting.TurnCostProvider;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.CHConfig;
+import com.graphhopper.storage.CHStorage;
+import com.graphhopper.storage.DAType;
+import com.graphhopper.storage.GHDirectory;
 import com.graphhopper.storage.Graph;
 import com.graphhopper.storage.NodeAccess;
 import com.graphhopper.storage.RAMDirectory;
+import com.graphhopper.storage.RoutingCHGraph;
+import com.graphhopper.storage.RoutingCHGraphImpl;
 import com.graphhopper.storage.index.LocationIndex;
 import com.graphhopper.storage.index.LocationIndexTree;
 import com.graphhopper.storage.index.Snap;
 import com.graphhopper.util.DistanceCalc;
 import com.graphhopper.util.DistancePlaneProjection;
 import com.graphhopper.util.EdgeIteratorState;
+import com.graphhopper.util.GHUtility;
 import com.graphhopper.util.PMap;
 import com.graphhopper.util.Parameters;
 import com.graphhopper.util.PointList;
@@ -67,11 +87,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @SuppressWarnings(value = "MS_SHOULD_BE_FINAL", justification = "Static fields kept public and adjustable for user customization")
@@ -135,35 +160,89 @@ public class GraphHopperRouting {
      */
     private static final double MAX_DISTANCE_TO_TARGET = 500d;
 
+    /**
+     * The number of landmarks to prepare per profile, if landmarks are enabled.
+     */
+    private static final int LANDMARKS = 16;
+
     private final DistanceCalc distanceCalculation = new DistancePlaneProjection();
 
     private final GraphhopperToDatabaseMapper graphMapper;
     private final Database db;
     private final VehicleEncodingManager encoding;
-    private final BaseGraph graph;
-    private final LocationIndex locationIndex;
+    private final Map<String, RoutingCHGraph> chGraphs = new HashMap<>();
+    private final Map<String, LandmarkStorage> landmarks = new HashMap<>();
+    /**
+     * Weightings hold a mutable edge state, therefore each thread calculating routes keeps its own instances.
+     */
+    private final ThreadLocal<Map<WeightingKey, GraphHopperWeighting>> weightings = ThreadLocal.withInitial(HashMap::new);
+    private BaseGraph graph;
+    private LocationIndex locationIndex;
+    private TravelTimeOverlay travelTimes;
 
     public GraphHopperRouting(Database db) {
+        this(db, new CVehicleRouting(), null);
+    }
+
+    /**
+     * Creates the routing graph from the given database. Depending on the configuration, the graph is prepared
+     * for contraction hierarchies and landmarks, and is loaded from or stored in the configured graph cache.
+     *
+     * @param db            the database containing the road network
+     * @param configuration the routing configuration
+     * @param baseDirectory the directory to resolve a relative graph cache directory against
+     */
+    public GraphHopperRouting(Database db, CVehicleRouting configuration, File baseDirectory) {
         this.db = db;
 
         graphMapper = new GraphhopperToDatabaseMapper();
         encoding = new VehicleEncodingManager(PROFILES);
 
-        graph = createGraphFromDatabase(db);
+        final long start = System.currentTimeMillis();
+        final int threads = ObjectUtils.defaultIfNull(configuration.preparationThreads, Runtime.getRuntime().availableProcessors());
+        final GraphCache cache = configuration.graphCache != null
+                ? new GraphCache(resolve(configuration.graphCache, baseDirectory), db, encoding, configuration.contractionHierarchies + "," + configuration.landmarks)
+                : null;
+
+        if (cache != null && cache.exists() && loadGraph(cache, configuration)) {
+            LOG.info("Loaded prepared routing graph from {} in {} ms", cache.getDirectory(), System.currentTimeMillis() - start);
+            travelTimes = new TravelTimeOverlay(graph.getEdges());
+            return;
+        }
+
+        File cacheDirectory = null;
+        try {
+            cacheDirectory = cache != null ? cache.createTemporaryDirectory() : null;
+        } catch (IOException e) {
+            LOG.warn("Could not create graph cache directory, routing graph is prepared in memory only", e);
+        }
+
+        graph = createGraphFromDatabase(db, cacheDirectory);
         locationIndex = createLocationIndex();
-        cleanUpGraph();
+        cleanUpGraph(threads);
+        prepareSpeedUps(configuration, threads);
 
         graph.flush();
+        travelTimes = new TravelTimeOverlay(graph.getEdges());
+        LOG.info("Prepared routing graph in {} ms", System.currentTimeMillis() - start);
+
+        if (cacheDirectory != null) {
+            try {
+                ((LocationIndexTree) locationIndex).flush();
+                cache.commit(cacheDirectory, graph, graphMapper);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not store prepared routing graph in {}", cache.getDirectory(), e);
+            }
+        }
     }
 
-    private BaseGraph createGraphFromDatabase(Database db) {
-        final BaseGraph graph = new BaseGraph
-                .Builder(encoding.getEncodingManager())
-                .setDir(new RAMDirectory())
-                .set3D(true)
-                .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
-                .setSegmentSize(-1)
-                .build();
+    private static File resolve(String path, File baseDirectory) {
+        final File file = new File(path);
+        return file.isAbsolute() || baseDirectory == null ? file : new File(baseDirectory, path);
+    }
+
+    private BaseGraph createGraphFromDatabase(Database db, File directory) {
+        final BaseGraph graph = createGraph(directory);
 
         final DatabaseGraphLoader reader = new DatabaseGraphLoader(db);
         reader.initialize(graph, encoding, graphMapper);
@@ -172,17 +251,30 @@ public class GraphHopperRouting {
         return graph;
     }
 
-    private LocationIndex createLocationIndex() {
+    private BaseGraph createGraph(File directory) {
+        return new BaseGraph
+                .Builder(encoding.getEncodingManager())
+                .setDir(directory != null ? new GHDirectory(directory.getAbsolutePath(), DAType.RAM_STORE) : new RAMDirectory())
+                .set3D(true)
+                .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
+                .setSegmentSize(-1)
+                .build();
+    }
+
+    private LocationIndexTree createLocationIndexTree() {
         return new LocationIndexTree(graph, graph.getDirectory())
                 .setMinResolutionInMeter(300)
-                .setMaxRegionSearch(4)
-                .prepareIndex();
+                .setMaxRegionSearch(4);
     }
 
-    protected void cleanUpGraph() {
+    private LocationIndex createLocationIndex() {
+        return createLocationIndexTree().prepareIndex();
+    }
+
+    protected void cleanUpGraph(int threads) {
         new PrepareRoutingSubnetworks(graph, buildSubnetworkRemovalJobs())
                 .setMinNetworkSize(200)
-                .setThreads(1)
+                .setThreads(threads)
                 .doWork();
     }
 
@@ -195,6 +287,157 @@ public class GraphHopperRouting {
         return jobs;
     }
 
+    /**
+     * Prepares contraction hierarchies and landmarks for all profiles, as configured. All preparations
+     * run in parallel, each of them writing to separate storages of the graph directory.
+     */
+    private void prepareSpeedUps(CVehicleRouting configuration, int threads) {
+        if (!configuration.contractionHierarchies && !configuration.landmarks) {
+            return;
+        }
+        graph.freeze();
+
+        final List<Runnable> preparations = new ArrayList<>();
+        for (Profile profile : encoding.getAllProfiles()) {
+            if (configuration.contractionHierarchies) {
+                final PrepareContractionHierarchies preparation = PrepareContractionHierarchies.fromGraph(graph, createCHConfig(profile));
+                preparations.add(() -> {
+                    final PrepareContractionHierarchies.Result result = preparation.doWork();
+                    result.getCHStorage().flush();
+                    synchronized (chGraphs) {
+                        chGraphs.put(profile.getName(), RoutingCHGraphImpl.fromGraph(graph, result.getCHStorage(), result.getCHConfig()));
+                    }
+                    LOG.info("Prepared contraction hierarchies for profile '{}' in {} ms", profile.getName(), result.getTotalPrepareTime());
+                });
+            }
+            if (configuration.landmarks) {
+                final PrepareLandmarks preparation = new PrepareLandmarks(
+                        graph.getDirectory(), graph, encoding.getEncodingManager(), createLMConfig(profile), LANDMARKS
+                );
+                preparations.add(() -> {
+                    preparation.doWork();
+                    preparation.getLandmarkStorage().flush();
+                    synchronized (landmarks) {
+                        landmarks.put(profile.getName(), preparation.getLandmarkStorage());
+                    }
+                    LOG.info("Prepared landmarks for profile '{}' in {} ms", profile.getName(), preparation.getTotalPrepareTime());
+                });
+            }
+        }
+        GHUtility.runConcurrently(preparations.stream(), threads);
+    }
+
+    /**
+     * Loads the graph, the location index, and all configured preparations from the cache.
+     *
+     * @return <code>false</code>, if the cached graph could not be loaded completely
+     */
+    private boolean loadGraph(GraphCache cache, CVehicleRouting configuration) {
+        try {
+            graph = createGraph(cache.getDirectory());
+            final LocationIndexTree locationIndexTree = createLocationIndexTree();
+            if (!graph.loadExisting() || !locationIndexTree.loadExisting()) {
+                throw new IllegalStateException("Graph or location index is missing");
+            }
+            locationIndex = locationIndexTree;
+            cache.readMapping(db, graphMapper);
+
+            for (Profile profile : encoding.getAllProfiles()) {
+                if (configuration.contractionHierarchies) {
+                    final CHConfig chConfig = createCHConfig(profile);
+                    final CHStorage chStorage = CHStorage.fromGraph(graph, chConfig);
+                    if (!chStorage.loadExisting()) {
+                        throw new IllegalStateException("Contraction hierarchies are missing for profile " + profile.getName());
+                    }
+                    chGraphs.put(profile.getName(), RoutingCHGraphImpl.fromGraph(graph, chStorage, chConfig));
+                }
+                if (configuration.landmarks) {
+                    final LandmarkStorage landmarkStorage = new LandmarkStorage(
+                            graph, encoding.getEncodingManager(), graph.getDirectory(), createLMConfig(profile), LANDMARKS
+                    );
+                    if (!landmarkStorage.loadExisting()) {
+                        throw new IllegalStateException("Landmarks are missing for profile " + profile.getName());
+                    }
+                    landmarks.put(profile.getName(), landmarkStorage);
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not load prepared routing graph from {}, preparing it again", cache.getDirectory(), e);
+            graph = null;
+            locationIndex = null;
+            chGraphs.clear();
+            landmarks.clear();
+            graphMapper.clear();
+            GraphCache.delete(cache.getDirectory());
+            return false;
+        }
+    }
+
+    /**
+     * Contraction hierarchies are prepared for the fastest route without turn costs. Since turn restrictions
+     * are still considered, the preparation must be edge based.
+     */
+    private CHConfig createCHConfig(Profile profile) {
+        return CHConfig.edgeBased(profile.getName(), createWeighting(profile, RoutingCostFunction.Fastest, false));
+    }
+
+    /**
+     * Landmarks are prepared for the fastest route ignoring turn restrictions and turn costs. Since this
+     * only underestimates the actual costs, the resulting estimations are valid for any fastest route.
+     */
+    private LMConfig createLMConfig(Profile profile) {
+        final VehicleEncoding vehicleEncoding = encoding.getVehicleEncoding(profile.getVehicle());
+        return new LMConfig(profile.getName(),
+                new GraphHopperWeighting(vehicleEncoding, encoding.wayType(), TurnCostProvider.NO_TURN_COST_PROVIDER, graphMapper)
+                        .setRoutingCostFunction(RoutingCostFunction.Fastest)
+        );
+    }
+
+    /**
+     * Updates the measured travel speeds of the given connections at once. Subsequent routing queries
+     * consider these speeds instead of the static speeds of the connections. Connections which are not
+     * part of the routing graph are ignored.
+     *
+     * @param speedsByConnection the measured speeds in [m/s] by connection id, {@link Double#NaN} removes a measured speed
+     * @return the version of the travel speeds after the update
+     */
+    public long updateTravelSpeeds(Map<String, Double> speedsByConnection) {
+        final int[] edges = new int[speedsByConnection.size()];
+        final double[] speeds = new double[speedsByConnection.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : speedsByConnection.entrySet()) {
+            final Connection connection = db.getConnection(entry.getKey());
+            final int edge = connection != null ? graphMapper.fromConnection(connection) : -1;
+            if (edge >= 0 && entry.getValue() != null) {
+                edges[i] = edge;
+                speeds[i] = entry.getValue();
+                i++;
+            }
+        }
+        return travelTimes.update(Arrays.copyOf(edges, i), Arrays.copyOf(speeds, i));
+    }
+
+    /**
+     * Removes all measured travel speeds, so that only the static speeds of the connections are used for routing.
+     *
+     * @return the version of the travel speeds after the update
+     */
+    public long clearTravelSpeeds() {
+        return travelTimes.clear();
+    }
+
+    public TravelTimeOverlay getTravelTimes() {
+        return travelTimes;
+    }
+
+    /**
+     * Calculates the best route and, if requested, alternative routes for the given request.
+     * This method may be called concurrently, as the graph is only read during route calculation.
+     *
+     * @param routingRequest the routing request
+     * @return the list of found routes, starting with the best route
+     */
     public List<CandidateRoute> findRoutes(RoutingRequest routingRequest) {
         if (graph == null) {
             throw new IllegalStateException("Load database at first");
@@ -228,14 +471,16 @@ public class GraphHopperRouting {
             algoHints.putObject(Parameters.Algorithms.AltRoute.MAX_PATHS, Math.max(numberOfAlternatives, NUM_ALTERNATIVE_PATHS) + 1);
         }
 
-        final Weighting weighting = createWeighting(profile,
+        final TravelTimeOverlay.Snapshot travelTimesSnapshot = travelTimes.getSnapshot();
+        final GraphHopperWeighting weighting = getWeighting(profile,
                 routingRequest.getRoutingParameters().getRoutingCostFunction(),
                 routingRequest.getRoutingParameters().isConsiderTurnCosts()
         );
 
-        final RoutingAlgorithm algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(
-                queryGraph, queryGraph.wrapWeighting(weighting), algoHints
-        );
+        weighting.setTravelTimes(travelTimesSnapshot);
+
+        final RoutingAlgorithm algo = createAlgorithm(profile, queryGraph, weighting, routingRequest.getRoutingParameters(),
+                travelTimesSnapshot, algoHints);
 
         final List<Path> paths = algo.calcPaths(snapSource.getClosestNode(), snapTarget.getClosestNode());
 
@@ -261,7 +506,47 @@ public class GraphHopperRouting {
         return result;
     }
 
-    private Weighting createWeighting(Profile profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
+    /**
+     * Uses contraction hierarchies or landmarks if they have been prepared with the same weighting as requested.
+     * Otherwise, or if alternative routes are requested, the default routing algorithm is used. As contraction
+     * hierarchies are prepared with static weights, they're not used as soon as any travel speeds have been measured.
+     * Landmarks remain valid, since measured speeds never exceed the static speeds.
+     */
+    private RoutingAlgorithm createAlgorithm(Profile profile, QueryGraph queryGraph, Weighting weighting,
+                                             RoutingParameters routingParameters, TravelTimeOverlay.Snapshot travelTimesSnapshot,
+                                             PMap algoHints) {
+        final RoutingCostFunction costFunction = ObjectUtils.defaultIfNull(routingParameters.getRoutingCostFunction(), RoutingCostFunction.Default);
+        if (costFunction == RoutingCostFunction.Fastest && routingParameters.getNumAlternativeRoutes() == 0) {
+            final RoutingCHGraph chGraph = chGraphs.get(profile.getName());
+            if (chGraph != null && !routingParameters.isConsiderTurnCosts() && travelTimesSnapshot.isEmpty()) {
+                return new CHRoutingAlgorithmFactory(chGraph, queryGraph).createAlgo(new PMap());
+            }
+            final LandmarkStorage landmarkStorage = landmarks.get(profile.getName());
+            if (landmarkStorage != null) {
+                return new LMRoutingAlgorithmFactory(landmarkStorage).createAlgo(queryGraph, queryGraph.wrapWeighting(weighting),
+                        new AlgorithmOptions().setAlgorithm(Parameters.Algorithms.ASTAR_BI).setTraversalMode(TraversalMode.EDGE_BASED)
+                );
+            }
+        }
+        return RoutingAlgorithmFactory.DEFAULT.createAlgorithm(queryGraph, queryGraph.wrapWeighting(weighting), algoHints);
+    }
+
+    /**
+     * Returns a weighting of the current thread for the stateless built-in cost functions,
+     * or creates a new one for any custom cost function.
+     */
+    private GraphHopperWeighting getWeighting(Profile profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
+        final RoutingCostFunction actualCostFunction = ObjectUtils.defaultIfNull(costFunction, RoutingCostFunction.Default);
+        if (actualCostFunction != RoutingCostFunction.Fastest && actualCostFunction != RoutingCostFunction.Shortest) {
+            return createWeighting(profile, actualCostFunction, withTurnCosts);
+        }
+        return weightings.get().computeIfAbsent(
+                new WeightingKey(profile.getName(), actualCostFunction, withTurnCosts),
+                key -> createWeighting(profile, actualCostFunction, withTurnCosts)
+        );
+    }
+
+    private GraphHopperWeighting createWeighting(Profile profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
         final VehicleEncoding vehicleEncoding = encoding.getVehicleEncoding(profile.getVehicle());
         final OptionalTurnCostProvider turnCostProvider = new OptionalTurnCostProvider(vehicleEncoding, graph.getTurnCostStorage());
         if (!withTurnCosts) {
@@ -486,4 +771,7 @@ public class GraphHopperRouting {
             }
         }
     }
+
+    private record WeightingKey(String profile, RoutingCostFunction costFunction, boolean withTurnCosts) {
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.TravelTimeOverlay;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.WayTypeEncoder;
 
@@ -48,6 +49,18 @@ public class GraphHopperWeighting extends AbstractWeighting {
         return this;
     }
 
+    /**
+     * Sets the measured speeds to consider instead of the static speeds of the edges.
+     *
+     * @param travelTimes a snapshot of measured speeds, or {@code null} to use static speeds only
+     */
+    public GraphHopperWeighting setTravelTimes(TravelTimeOverlay.Snapshot travelTimes) {
+        synchronized (edgePropertiesState) {
+            this.edgePropertiesState.setTravelTimes(travelTimes);
+        }
+        return this;
+    }
+
     @Override
     public double getMinWeight(double distance) {
         return distance / maxSpeed;
@@ -73,6 +86,23 @@ public class GraphHopperWeighting extends AbstractWeighting {
         }
     }
 
+    /**
+     * Calculates the travel time on the edge, considering measured speeds if available.
+     */
+    @Override
+    public long calcEdgeMillis(EdgeIteratorState edge, boolean reverse) {
+        final long staticMillis = super.calcEdgeMillis(edge, reverse);
+        final double speed;
+        synchronized (edgePropertiesState) {
+            if (!edgePropertiesState.hasTravelTimes()) {
+                return staticMillis;
+            }
+            edgePropertiesState.setCurrentEdgeIterator(edge, reverse);
+            speed = edgePropertiesState.getSpeed();
+        }
+        return Math.max(staticMillis, Math.round(edge.getDistance() / speed * 1000));
+    }
+
     public String getName() {
         if (routingCostFunction == null) {
             return "fastest";
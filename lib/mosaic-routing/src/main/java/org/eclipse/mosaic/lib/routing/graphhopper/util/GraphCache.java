@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.graphhopper.config.Profile;
+import com.graphhopper.routing.ev.EncodedValue;
+import com.graphhopper.routing.ev.EncodedValueSerializer;
+import com.graphhopper.storage.BaseGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Stores prepared routing graphs in a local directory, so that subsequent simulations using
+ * the same road network can skip building the graph, the location index, and any speed-up
+ * preparations. Each prepared graph is stored in its own sub-directory, which is named by a hash
+ * of the road network, the routing profiles and their encoding, and the preparation options. A graph is prepared in a temporary directory
+ * first, which is renamed once all files have been written, so that incomplete graphs are never used.
+ */
+public class GraphCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GraphCache.class);
+
+    /**
+     * Must be increased whenever the way the graph is built from the database changes.
+     */
+    static final int VERSION = 1;
+
+    static final String MAPPING_FILE = "mosaic_mapping";
+
+    private final File directory;
+
+    /**
+     * @param cacheDirectory the directory holding all prepared graphs
+     * @param database       the road network to prepare the graph for
+     * @param encoding       the profiles and encoded values the graph is built with
+     * @param options        any options which affect the preparation of the graph
+     */
+    public GraphCache(File cacheDirectory, Database database, VehicleEncodingManager encoding, String options) {
+        this.directory = new File(cacheDirectory, "graph-" + hash(database, encoding, options));
+    }
+
+    /**
+     * Returns the directory holding the prepared graph, which only exists if the graph has been prepared completely.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    public boolean exists() {
+        return new File(directory, MAPPING_FILE).isFile();
+    }
+
+    /**
+     * Creates a new temporary directory to prepare the graph in, which is moved by {@link #commit}.
+     */
+    public File createTemporaryDirectory() throws IOException {
+        Files.createDirectories(directory.getParentFile().toPath());
+        return Files.createTempDirectory(directory.getParentFile().toPath(), directory.getName() + ".tmp").toFile();
+    }
+
+    /**
+     * Writes the mapping between graph and database and moves the temporary directory to its final location.
+     * If another simulation has prepared the same graph in the meantime, the temporary directory is discarded.
+     *
+     * @param temporaryDirectory the directory the graph has been flushed to
+     * @param graph              the prepared graph
+     * @param graphMapper        the mapping between the graph and the database
+     */
+    public void commit(File temporaryDirectory, BaseGraph graph, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        writeMapping(new File(temporaryDirectory, MAPPING_FILE), graph, graphMapper);
+        try {
+            Files.move(temporaryDirectory.toPath(), directory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            LOG.info("Stored prepared routing graph in {}", directory);
+        } catch (IOException e) {
+            delete(temporaryDirectory);
+            if (!exists()) {
+                throw e;
+            }
+            LOG.debug("Prepared routing graph has been stored in {} in the meantime", directory);
+        }
+    }
+
+    /**
+     * Restores the mapping between the graph and the database, after the graph has been loaded from this cache.
+     */
+    public void readMapping(Database database, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(new File(directory, MAPPING_FILE).toPath())))) {
+            if (in.readInt() != VERSION) {
+                throw new StreamCorruptedException("Unsupported version of " + MAPPING_FILE);
+            }
+            final int nodes = in.readInt();
+            for (int i = 0; i < nodes; i++) {
+                final Node node = database.getNode(in.readUTF());
+                if (node == null) {
+                    throw new StreamCorruptedException("Unknown node in " + MAPPING_FILE);
+                }
+                graphMapper.setNode(node, i);
+            }
+            final int edges = in.readInt();
+            for (int i = 0; i < edges; i++) {
+                final Connection connection = database.getConnection(in.readUTF());
+                if (connection == null) {
+                    throw new StreamCorruptedException("Unknown connection in " + MAPPING_FILE);
+                }
+                graphMapper.setConnection(connection, i);
+            }
+        }
+    }
+
+    private static void writeMapping(File file, BaseGraph graph, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+            out.writeInt(VERSION);
+            out.writeInt(graph.getNodes());
+            for (int i = 0; i < graph.getNodes(); i++) {
+                out.writeUTF(graphMapper.toNode(i).getId());
+            }
+            out.writeInt(graph.getEdges());
+            for (int i = 0; i < graph.getEdges(); i++) {
+                out.writeUTF(graphMapper.toConnection(i).getId());
+            }
+        }
+    }
+
+    /**
+     * Removes the given directory including all files.
+     */
+    public static void delete(File directory) {
+        try (Stream<Path> files = Files.walk(directory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            LOG.warn("Could not delete {}", directory);
+        }
+    }
+
+    /**
+     * Calculates a hash of all properties of the road network which are used to build the routing graph.
+     */
+    static String hash(Database database, VehicleEncodingManager encoding, String options) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putInt(VERSION)
+                .putString(options, StandardCharsets.UTF_8);
+        // the graph stores flags and turn costs per profile, laid out as defined by the encoded values
+        for (Profile profile : encoding.getAllProfiles()) {
+            hasher.putString(profile.toString(), StandardCharsets.UTF_8);
+        }
+        for (EncodedValue encodedValue : encoding.getEncodingManager().getEncodedValues()) {
+            hasher.putString(EncodedValueSerializer.serializeEncodedValue(encodedValue), StandardCharsets.UTF_8);
+        }
+        for (EncodedValue encodedValue : encoding.getEncodingManager().getTurnEncodedValues()) {
+            hasher.putString(EncodedValueSerializer.serializeEncodedValue(encodedValue), StandardCharsets.UTF_8);
+        }
+        for (Connection connection : database.getConnections()) {
+            hasher.putString(connection.getId(), StandardCharsets.UTF_8)
+                    .putString(connection.getFrom().getId(), StandardCharsets.UTF_8)
+                    .putString(connection.getTo().getId(), StandardCharsets.UTF_8)
+                    .putDouble(connection.getLength())
+                    .putInt(connection.getLanes())
+                    .putString(String.valueOf(connection.getWay().getType()), StandardCharsets.UTF_8)
+                    .putDouble(connection.getWay().getMaxSpeedInMs());
+            for (Node node : connection.getNodes()) {
+                hasher.putDouble(node.getPosition().getLatitude())
+                        .putDouble(node.getPosition().getLongitude())
+                        .putDouble(node.getPosition().getAltitude());
+            }
+            // turn restrictions are derived from the outgoing connections
+            for (Connection outgoing : connection.getOutgoingConnections()) {
+                hasher.putString(outgoing.getId(), StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().toString();
+    }
+}
@@ -62,6 +62,16 @@ public class GraphhopperToDatabaseMapper {
         getGraphToDbNodeMap().put(nodeId, node);
     }
 
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        graphToDbConnectionMap = null;
+        dbToGraphConnectionMap = null;
+        graphToDbNodeMap = null;
+        dbToGraphNodeMap = null;
+    }
+
     private ObjectIntMap<Connection> getDbToGraphConnectionMap() {
         if (dbToGraphConnectionMap == null) {
             dbToGraphConnectionMap = new ObjectIntHashMap<>();
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import java.util.Arrays;
+
+/**
+ * Holds measured travel speeds for the edges of the routing graph, e.g., taken from the traffic simulation,
+ * which are considered instead of the static speed of an edge during routing.
+ * <br>
+ * The speeds are stored in primitive arrays indexed by the edge id, which are split into pages. Each
+ * update creates a new {@link Snapshot} which only copies the pages of the changed edges, so that an update
+ * costs O(changed edges). Routing queries read a consistent {@link Snapshot} without any locking,
+ * while updates are applied concurrently.
+ */
+public class TravelTimeOverlay {
+
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * The minimum speed in [m/s] stored for an edge, so that jammed edges remain passable but expensive.
+     */
+    public static final double MIN_SPEED = 0.1;
+
+    private final int numberOfEdges;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates an empty overlay for a graph with the given number of edges.
+     *
+     * @param numberOfEdges the number of edges of the routing graph
+     */
+    public TravelTimeOverlay(int numberOfEdges) {
+        this.numberOfEdges = numberOfEdges;
+        this.snapshot = new Snapshot(0, new double[(numberOfEdges + PAGE_SIZE - 1) >> PAGE_BITS][], 0);
+    }
+
+    /**
+     * Returns the current snapshot of measured speeds. The returned snapshot never changes.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Updates the measured speeds of the given edges at once. Passing {@link Double#NaN} as speed removes
+     * the measured speed of an edge, so that its static speed is used again.
+     *
+     * @param edges  the ids of the edges to update
+     * @param speeds the measured speeds in [m/s] of the edges, in the same order as the edge ids
+     * @return the version of the new snapshot
+     */
+    public synchronized long update(int[] edges, double[] speeds) {
+        if (edges.length != speeds.length) {
+            throw new IllegalArgumentException("Number of edges and speeds do not match");
+        }
+        final Snapshot current = snapshot;
+        final double[][] pages = current.pages.clone();
+        final boolean[] copiedPages = new boolean[pages.length];
+        int measuredEdges = current.measuredEdges;
+
+        for (int i = 0; i < edges.length; i++) {
+            final int edge = edges[i];
+            if (edge < 0 || edge >= numberOfEdges) {
+                throw new IndexOutOfBoundsException("Edge " + edge + " is not part of the routing graph");
+            }
+            final int pageIndex = edge >> PAGE_BITS;
+            if (!copiedPages[pageIndex]) {
+                pages[pageIndex] = copyPage(pages[pageIndex]);
+                copiedPages[pageIndex] = true;
+            }
+            final double speed = Double.isNaN(speeds[i]) ? Double.NaN : Math.max(MIN_SPEED, speeds[i]);
+            final double previous = pages[pageIndex][edge & PAGE_MASK];
+            if (Double.isNaN(previous) && !Double.isNaN(speed)) {
+                measuredEdges++;
+            } else if (!Double.isNaN(previous) && Double.isNaN(speed)) {
+                measuredEdges--;
+            }
+            pages[pageIndex][edge & PAGE_MASK] = speed;
+        }
+        snapshot = new Snapshot(current.version + 1, pages, measuredEdges);
+        return snapshot.version;
+    }
+
+    /**
+     * Removes all measured speeds.
+     *
+     * @return the version of the new snapshot
+     */
+    public synchronized long clear() {
+        snapshot = new Snapshot(snapshot.version + 1, new double[snapshot.pages.length][], 0);
+        return snapshot.version;
+    }
+
+    private static double[] copyPage(double[] page) {
+        if (page == null) {
+            final double[] newPage = new double[PAGE_SIZE];
+            Arrays.fill(newPage, Double.NaN);
+            return newPage;
+        }
+        return page.clone();
+    }
+
+    /**
+     * An immutable state of measured speeds.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final double[][] pages;
+        private final int measuredEdges;
+
+        private Snapshot(long version, double[][] pages, int measuredEdges) {
+            this.version = version;
+            this.pages = pages;
+            this.measuredEdges = measuredEdges;
+        }
+
+        /**
+         * Returns the measured speed of the given edge.
+         *
+         * @param edge the id of the edge
+         * @return the measured speed in [m/s], or {@link Double#NaN} if no speed has been measured for this edge
+         */
+        public double getSpeed(int edge) {
+            final int pageIndex = edge >> PAGE_BITS;
+            if (edge < 0 || pageIndex >= pages.length) {
+                return Double.NaN;
+            }
+            final double[] page = pages[pageIndex];
+            return page == null ? Double.NaN : page[edge & PAGE_MASK];
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns {@code true}, if no speeds have been measured for any edge in this snapshot.
+         */
+        public boolean isEmpty() {
+            return measuredEdges == 0;
+        }
+
+        public int getMeasuredEdges() {
+            return measuredEdges;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.util;
+
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.RoutingResponse;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache for the results of routing requests. Requests are identified by their source and target
+ * (exact position and, if given, connection) and by their {@link RoutingParameters}. Only requests using one of the
+ * stateless built-in cost functions are cached, as custom cost functions may change their costs at any time.
+ * <br>
+ * All cached responses are invalidated at once by calling {@link #invalidate()}, e.g., whenever the
+ * weights of the routing graph have been updated. Furthermore, the {@link VehicleRoute} created for
+ * a cached {@link CandidateRoute} can be stored alongside, so that equal routing requests
+ * result in the very same registered route.
+ */
+public class RouteCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> entries;
+    /**
+     * Maps each candidate route of a cached response to its entry. Candidate routes do not implement equals,
+     * therefore they're identified by reference.
+     */
+    private final Map<CandidateRoute, Entry> entriesByRoute = new IdentityHashMap<>();
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates a new cache holding the responses of at most {@code capacity} routing requests. If the
+     * capacity is exceeded, the least recently used response is removed.
+     *
+     * @param capacity the maximum number of cached responses
+     */
+    public RouteCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the route cache must be positive.");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RouteCache.this.capacity) {
+                    removeFromIndex(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Checks whether the response to the given request can be cached at all.
+     *
+     * @param request the routing request
+     * @return {@code true}, if the request uses a cost function which does not change over time
+     */
+    public static boolean isCacheable(RoutingRequest request) {
+        RoutingCostFunction costFunction = request.getRoutingParameters().getRoutingCostFunction();
+        return (costFunction == null || costFunction == RoutingCostFunction.Fastest || costFunction == RoutingCostFunction.Shortest)
+                && request.getSource() != null && request.getTarget() != null;
+    }
+
+    /**
+     * Returns the cached response for the given request.
+     *
+     * @param request the routing request
+     * @return the cached response, or {@code null} if no valid response has been cached for this request
+     */
+    @Nullable
+    public synchronized RoutingResponse get(RoutingRequest request) {
+        if (!isCacheable(request)) {
+            return null;
+        }
+        Entry entry = entries.get(Key.of(request));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.response;
+    }
+
+    /**
+     * Stores the response to the given request, if the request is cacheable.
+     *
+     * @param request  the routing request
+     * @param response the response to the request
+     */
+    public synchronized void put(RoutingRequest request, RoutingResponse response) {
+        if (isCacheable(request) && response.getBestRoute() != null) {
+            Entry entry = new Entry(response);
+            Entry replaced = entries.put(Key.of(request), entry);
+            if (replaced != null) {
+                removeFromIndex(replaced);
+            }
+            entriesByRoute.put(response.getBestRoute(), entry);
+            for (CandidateRoute alternativeRoute : response.getAlternativeRoutes()) {
+                entriesByRoute.put(alternativeRoute, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link VehicleRoute} which has previously been created for the given {@link CandidateRoute}.
+     *
+     * @param candidateRoute a candidate route, usually taken from a cached response
+     * @return the registered route, or {@code null} if no route has been created for this candidate route yet
+     */
+    @Nullable
+    public synchronized VehicleRoute getRegisteredRoute(CandidateRoute candidateRoute) {
+        Entry entry = entriesByRoute.get(candidateRoute);
+        return entry != null ? entry.registeredRoutes.get(candidateRoute) : null;
+    }
+
+    /**
+     * Remembers the {@link VehicleRoute} created for the given {@link CandidateRoute}, if
+     * the candidate route is part of a cached response.
+     *
+     * @param candidateRoute the candidate route
+     * @param route          the route created for the candidate route
+     */
+    public synchronized void putRegisteredRoute(CandidateRoute candidateRoute, VehicleRoute route) {
+        Entry entry = entriesByRoute.get(candidateRoute);
+        if (entry != null) {
+            entry.registeredRoutes.put(candidateRoute, route);
+        }
+    }
+
+    /**
+     * Invalidates all cached responses, e.g., after the weights of the routing graph have changed.
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+        entriesByRoute.clear();
+    }
+
+    private void removeFromIndex(Entry entry) {
+        entriesByRoute.remove(entry.response.getBestRoute());
+        for (CandidateRoute alternativeRoute : entry.response.getAlternativeRoutes()) {
+            entriesByRoute.remove(alternativeRoute);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static class Entry {
+
+        private final RoutingResponse response;
+        private final Map<CandidateRoute, VehicleRoute> registeredRoutes = new IdentityHashMap<>(2);
+
+        private Entry(RoutingResponse response) {
+            this.response = response;
+        }
+    }
+
+    private record Anchor(String connectionId, double latitude, double longitude) {
+
+        private static Anchor of(RoutingPosition position) {
+            // the coordinates are always part of the key, since they also determine the offset along a given connection,
+            // and are copied, as the given position may be mutable
+            return new Anchor(position.getConnectionId(), position.getPosition().getLatitude(), position.getPosition().getLongitude());
+        }
+    }
+
+    private record Key(Anchor source, Anchor target, VehicleClass vehicleClass, RoutingCostFunction costFunction,
+                       int alternatives, boolean turnCosts, double restrictionCosts) {
+
+        private static Key of(RoutingRequest request) {
+            RoutingParameters parameters = request.getRoutingParameters();
+            return new Key(
+                    Anchor.of(request.getSource()),
+                    Anchor.of(request.getTarget()),
+                    parameters.getVehicleClass(),
+                    parameters.getRoutingCostFunction() != null ? parameters.getRoutingCostFunction() : RoutingCostFunction.Fastest,
+                    parameters.getNumAlternativeRoutes(),
+                    parameters.isConsiderTurnCosts(),
+                    parameters.getRestrictionCosts()
+            );
+        }
+    }
+}
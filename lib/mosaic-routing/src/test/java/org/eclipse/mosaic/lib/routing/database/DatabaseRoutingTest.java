@@ -17,6 +17,10 @@ package org.eclipse.mosaic.lib.routing.database;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
@@ -49,6 +53,7 @@ import org.mockito.quality.Strictness;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -240,6 +245,95 @@ public class DatabaseRoutingTest {
                 response.getBestRoute().getConnectionIds());
     }
 
+
+    @Test
+    public void findRoutes_batch() throws InternalFederateException {
+        //PREPARE
+        configuration.source = "tiergarten.db";
+        configuration.routingThreads = 4;
+        databaseRouting.initialize(configuration, cfgDir);
+
+        final List<String> nodeIds = Arrays.asList("26704482", "26704584", "21487171", "27537750", "252864802", "26873454");
+        final List<RoutingRequest> requests = new ArrayList<>();
+        for (String sourceNodeId : nodeIds) {
+            for (String targetNodeId : nodeIds) {
+                if (!sourceNodeId.equals(targetNodeId)) {
+                    requests.add(new RoutingRequest(
+                            new RoutingPosition(databaseRouting.getNode(sourceNodeId).getPosition()),
+                            new RoutingPosition(databaseRouting.getNode(targetNodeId).getPosition()),
+                            new RoutingParameters().alternativeRoutes(1).costFunction(RoutingCostFunction.Fastest)
+                    ));
+                }
+            }
+        }
+
+        //RUN
+        final List<RoutingResponse> responses = databaseRouting.findRoutes(requests);
+
+        //ASSERT
+        assertEquals(requests.size(), responses.size());
+        int foundRoutes = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            final RoutingResponse expected = databaseRouting.findRoutes(requests.get(i));
+            if (expected.getBestRoute() == null) {
+                assertNull(responses.get(i).getBestRoute());
+                continue;
+            }
+            assertEquals(expected.getBestRoute().getConnectionIds(), responses.get(i).getBestRoute().getConnectionIds());
+            assertEquals(expected.getAlternativeRoutes().size(), responses.get(i).getAlternativeRoutes().size());
+            foundRoutes++;
+        }
+        assertTrue(foundRoutes > requests.size() / 2);
+
+        // the routing pool is shut down on close and created again if required
+        databaseRouting.close();
+        assertEquals(requests.size(), databaseRouting.findRoutes(requests).size());
+        databaseRouting.close();
+    }
+
+    @Test
+    public void findRoutes_cached() throws InternalFederateException, IllegalRouteException {
+        //PREPARE
+        configuration.source = "tiergarten.db";
+        configuration.routeCacheSize = 10;
+        databaseRouting.initialize(configuration, cfgDir);
+
+        final RoutingParameters routingParameters = new RoutingParameters()
+                .alternativeRoutes(0)
+                .costFunction(RoutingCostFunction.Shortest);
+        final GeoPoint start = databaseRouting.getNode("26704482").getPosition();
+        final GeoPoint target = databaseRouting.getNode("26704584").getPosition();
+
+        //RUN
+        final RoutingResponse response = databaseRouting.findRoutes(
+                new RoutingRequest(new RoutingPosition(start), new RoutingPosition(target), routingParameters));
+        final VehicleRoute route = databaseRouting.createRouteForRTI(response.getBestRoute());
+        final RoutingResponse cachedResponse = databaseRouting.findRoutes(
+                new RoutingRequest(new RoutingPosition(start), new RoutingPosition(target), routingParameters));
+
+        //ASSERT
+        assertSame(response, cachedResponse);
+        assertSame(route, databaseRouting.createRouteForRTI(cachedResponse.getBestRoute()));
+        assertEquals(1, databaseRouting.getRouteCache().getHits());
+
+        //RUN (other cost function)
+        final RoutingResponse fastestResponse = databaseRouting.findRoutes(new RoutingRequest(
+                new RoutingPosition(start), new RoutingPosition(target), new RoutingParameters().costFunction(RoutingCostFunction.Fastest)));
+
+        //ASSERT
+        assertNotSame(response, fastestResponse);
+        assertEquals(2, databaseRouting.getRouteCache().size());
+
+        //RUN (invalidate)
+        databaseRouting.invalidateRouteCache();
+        final RoutingResponse recalculatedResponse = databaseRouting.findRoutes(
+                new RoutingRequest(new RoutingPosition(start), new RoutingPosition(target), routingParameters));
+
+        //ASSERT
+        assertNotSame(response, recalculatedResponse);
+        assertEquals(response.getBestRoute().getConnectionIds(), recalculatedResponse.getBestRoute().getConnectionIds());
+        assertEquals(1, databaseRouting.getRouteCache().getHits());
+    }
     @Test(expected = IllegalArgumentException.class)
     public void getPositionOfNode_noSuchNode() throws InternalFederateException {
         //PREPARE
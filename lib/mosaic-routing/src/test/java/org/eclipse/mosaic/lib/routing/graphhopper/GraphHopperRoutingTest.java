@@ -16,7 +16,9 @@
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
@@ -27,6 +29,7 @@ import org.eclipse.mosaic.lib.routing.CandidateRoute;
 import org.eclipse.mosaic.lib.routing.RoutingParameters;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Before;
@@ -37,7 +40,10 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GraphHopperRoutingTest {
 
@@ -92,6 +98,80 @@ public class GraphHopperRoutingTest {
         assertValidRoute(result.get(0));
     }
 
+    @Test
+    public void findPaths_preparedAndCachedGraph() throws IOException {
+        CVehicleRouting configuration = new CVehicleRouting();
+        configuration.graphCache = folder.newFolder("graph-cache").getAbsolutePath();
+        configuration.contractionHierarchies = true;
+        configuration.landmarks = true;
+        configuration.preparationThreads = 2;
+
+        // prepares and stores the graph
+        GraphHopperRouting preparedRouting = new GraphHopperRouting(database, configuration, null);
+        assertEquals(1, new File(configuration.graphCache).list((dir, name) -> name.startsWith("graph-") && !name.contains(".tmp")).length);
+        // loads the graph from the cache
+        GraphHopperRouting cachedRouting = new GraphHopperRouting(database, configuration, null);
+
+        for (GraphHopperRouting r : Arrays.asList(preparedRouting, cachedRouting)) {
+            for (boolean turnCosts : new boolean[]{false, true}) {
+                RoutingParameters parameters = new RoutingParameters().alternativeRoutes(0).considerTurnCosts(turnCosts);
+                assertSameRoute(routing, r, "27537749", "252864802", parameters);
+                assertSameRoute(routing, r, "21487169", "415838100", parameters);
+            }
+        }
+    }
+
+    @Test
+    public void findPaths_measuredTravelSpeeds() {
+        CVehicleRouting configuration = new CVehicleRouting();
+        configuration.contractionHierarchies = true;
+        configuration.landmarks = true;
+        GraphHopperRouting preparedRouting = new GraphHopperRouting(database, configuration, null);
+
+        RoutingParameters parameters = new RoutingParameters().alternativeRoutes(0);
+        RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode("21487169").getPosition()),
+                new RoutingPosition(database.getNode("415838100").getPosition()),
+                parameters
+        );
+        CandidateRoute originalRoute = routing.findRoutes(request).get(0);
+        assertTrue(originalRoute.getConnectionIds().contains("32935480_21677261_21668930"));
+
+        // traffic jam on a connection of the original route
+        Map<String, Double> speeds = new HashMap<>();
+        speeds.put("32935480_21677261_21668930", 0.5);
+        speeds.put("unknown_connection", 0.5);
+        routing.updateTravelSpeeds(speeds);
+        assertEquals(1, preparedRouting.updateTravelSpeeds(speeds));
+
+        CandidateRoute detour = routing.findRoutes(request).get(0);
+        assertFalse(detour.getConnectionIds().contains("32935480_21677261_21668930"));
+        assertTrue(detour.getTime() > originalRoute.getTime());
+        assertValidRoute(detour);
+        // contraction hierarchies are not applicable anymore, landmarks still are
+        assertSameRoute(routing, preparedRouting, "21487169", "415838100", parameters);
+
+        // measured speeds higher than the speed limit are ignored
+        routing.updateTravelSpeeds(Collections.singletonMap("32935480_21677261_21668930", 1000d));
+        assertEquals(originalRoute.getTime(), routing.findRoutes(request).get(0).getTime(), 0.1d);
+
+        routing.clearTravelSpeeds();
+        assertEquals(originalRoute.getConnectionIds(), routing.findRoutes(request).get(0).getConnectionIds());
+        assertTrue(routing.getTravelTimes().getSnapshot().isEmpty());
+    }
+
+    private void assertSameRoute(GraphHopperRouting expectedRouting, GraphHopperRouting actualRouting, String from, String to, RoutingParameters parameters) {
+        RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode(from).getPosition()), new RoutingPosition(database.getNode(to).getPosition()), parameters
+        );
+        List<CandidateRoute> expected = expectedRouting.findRoutes(request);
+        List<CandidateRoute> actual = actualRouting.findRoutes(request);
+        assertEquals(1, actual.size());
+        assertEquals(expected.get(0).getConnectionIds(), actual.get(0).getConnectionIds());
+        assertEquals(expected.get(0).getTime(), actual.get(0).getTime(), 0.1d);
+        assertValidRoute(actual.get(0));
+    }
+
     private void assertValidRoute(CandidateRoute candidateRoute) {
         Connection currentConnection;
         Connection previousConnection = null;
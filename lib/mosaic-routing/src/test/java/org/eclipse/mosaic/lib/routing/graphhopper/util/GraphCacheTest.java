@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+
+import com.google.common.collect.Lists;
+import com.graphhopper.config.Profile;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class GraphCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Database database;
+
+    @Before
+    public void setup() throws Exception {
+        File testDb = folder.newFile();
+        try (InputStream input = this.getClass().getResourceAsStream("/basicTest.db");
+             OutputStream output = new FileOutputStream(testDb)) {
+            IOUtils.copy(input, output);
+        }
+        database = Database.loadFromFile(testDb);
+    }
+
+    @Test
+    public void hash_sameNetworkAndEncoding() {
+        assertEquals(
+                GraphCache.hash(database, new VehicleEncodingManager(GraphHopperRouting.PROFILES), "false,0"),
+                GraphCache.hash(database, new VehicleEncodingManager(GraphHopperRouting.PROFILES), "false,0")
+        );
+    }
+
+    @Test
+    public void hash_differentProfiles() {
+        String hash = GraphCache.hash(database, new VehicleEncodingManager(GraphHopperRouting.PROFILES), "false,0");
+
+        // other vehicles
+        assertNotEquals(hash, GraphCache.hash(database,
+                new VehicleEncodingManager(Lists.newArrayList(GraphHopperRouting.PROFILE_CAR)), "false,0"));
+        // same vehicles, other turn costs
+        assertNotEquals(hash, GraphCache.hash(database, new VehicleEncodingManager(Lists.newArrayList(
+                new Profile("car").setVehicle("car").setTurnCosts(false), GraphHopperRouting.PROFILE_BIKE
+        )), "false,0"));
+        // other preparation options
+        assertNotEquals(hash, GraphCache.hash(database, new VehicleEncodingManager(GraphHopperRouting.PROFILES), "true,0"));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TravelTimeOverlayTest {
+
+    @Test
+    public void updateAndSnapshots() {
+        TravelTimeOverlay overlay = new TravelTimeOverlay(5000);
+        TravelTimeOverlay.Snapshot initial = overlay.getSnapshot();
+
+        //RUN
+        long version = overlay.update(new int[]{3, 2048, 4999}, new double[]{10d, 0d, 5d});
+        TravelTimeOverlay.Snapshot updated = overlay.getSnapshot();
+
+        //ASSERT
+        assertEquals(1, version);
+        assertTrue(initial.isEmpty());
+        assertTrue(Double.isNaN(initial.getSpeed(3)));
+
+        assertFalse(updated.isEmpty());
+        assertEquals(3, updated.getMeasuredEdges());
+        assertEquals(10d, updated.getSpeed(3), 0d);
+        assertEquals(TravelTimeOverlay.MIN_SPEED, updated.getSpeed(2048), 0d);
+        assertEquals(5d, updated.getSpeed(4999), 0d);
+        assertTrue(Double.isNaN(updated.getSpeed(4)));
+        assertTrue(Double.isNaN(updated.getSpeed(6000)));
+
+        //RUN
+        overlay.update(new int[]{3, 4}, new double[]{Double.NaN, 7d});
+
+        //ASSERT
+        assertEquals(2, overlay.getSnapshot().getVersion());
+        assertEquals(3, overlay.getSnapshot().getMeasuredEdges());
+        assertTrue(Double.isNaN(overlay.getSnapshot().getSpeed(3)));
+        assertEquals(7d, overlay.getSnapshot().getSpeed(4), 0d);
+        // previous snapshot remains unchanged
+        assertEquals(10d, updated.getSpeed(3), 0d);
+        assertTrue(Double.isNaN(updated.getSpeed(4)));
+
+        //RUN
+        overlay.clear();
+
+        //ASSERT
+        assertTrue(overlay.getSnapshot().isEmpty());
+        assertTrue(Double.isNaN(overlay.getSnapshot().getSpeed(4)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void updateUnknownEdge() {
+        new TravelTimeOverlay(10).update(new int[]{10}, new double[]{1d});
+    }
+}
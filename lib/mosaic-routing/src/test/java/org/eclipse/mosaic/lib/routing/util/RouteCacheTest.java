@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.util;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+import org.eclipse.mosaic.lib.routing.RoutingParameters;
+import org.eclipse.mosaic.lib.routing.RoutingPosition;
+import org.eclipse.mosaic.lib.routing.RoutingRequest;
+import org.eclipse.mosaic.lib.routing.RoutingResponse;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+public class RouteCacheTest {
+
+    private final RoutingParameters parameters = new RoutingParameters().costFunction(RoutingCostFunction.Fastest);
+
+    @Test
+    public void get_sameConnectionDifferentOffset() {
+        RouteCache routeCache = new RouteCache(10);
+        RoutingRequest request = request("1_1_2", GeoPoint.latLon(52.5, 13.4), "2_2_3", GeoPoint.latLon(52.51, 13.41));
+        RoutingResponse response = response();
+
+        // RUN
+        routeCache.put(request, response);
+
+        // ASSERT
+        assertSame(response, routeCache.get(request("1_1_2", GeoPoint.latLon(52.5, 13.4), "2_2_3", GeoPoint.latLon(52.51, 13.41))));
+        assertNull(routeCache.get(request("1_1_2", GeoPoint.latLon(52.5, 13.4), "2_2_3", GeoPoint.latLon(52.511, 13.41))));
+        assertNull(routeCache.get(request("1_1_2", GeoPoint.latLon(52.501, 13.4), "2_2_3", GeoPoint.latLon(52.51, 13.41))));
+    }
+
+    @Test
+    public void registeredRoute_removedOnEvictionAndInvalidation() {
+        RouteCache routeCache = new RouteCache(1);
+        RoutingResponse first = response();
+        RoutingResponse second = response();
+        VehicleRoute route = new VehicleRoute("0", Lists.newArrayList("1_1_2"), Lists.newArrayList("1", "2"), 10d);
+
+        routeCache.put(request(null, GeoPoint.latLon(52.5, 13.4), null, GeoPoint.latLon(52.51, 13.41)), first);
+        routeCache.putRegisteredRoute(first.getAlternativeRoutes().get(0), route);
+        assertSame(route, routeCache.getRegisteredRoute(first.getAlternativeRoutes().get(0)));
+        assertNull(routeCache.getRegisteredRoute(first.getBestRoute()));
+
+        // RUN (evict first response)
+        routeCache.put(request(null, GeoPoint.latLon(52.6, 13.4), null, GeoPoint.latLon(52.51, 13.41)), second);
+        routeCache.putRegisteredRoute(first.getAlternativeRoutes().get(0), route);
+        routeCache.putRegisteredRoute(second.getBestRoute(), route);
+
+        // ASSERT
+        assertNull(routeCache.getRegisteredRoute(first.getAlternativeRoutes().get(0)));
+        assertSame(route, routeCache.getRegisteredRoute(second.getBestRoute()));
+
+        // RUN (invalidate)
+        routeCache.invalidate();
+
+        // ASSERT
+        assertNull(routeCache.getRegisteredRoute(second.getBestRoute()));
+    }
+
+    private RoutingRequest request(String sourceConnection, GeoPoint source, String targetConnection, GeoPoint target) {
+        return new RoutingRequest(
+                new RoutingPosition(source, null, sourceConnection), new RoutingPosition(target, null, targetConnection), parameters
+        );
+    }
+
+    private static RoutingResponse response() {
+        return new RoutingResponse(
+                new CandidateRoute(Lists.newArrayList("1_1_2", "2_2_3"), 100d, 10d),
+                Lists.newArrayList(new CandidateRoute(Lists.newArrayList("1_1_2", "3_2_3"), 120d, 12d))
+        );
+    }
+}
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.rti.api;
 import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
 
 import java.util.Collection;
+import java.util.Collections;
 
 
 /**
@@ -65,6 +66,16 @@ public interface FederationManagement {
      */
     Collection<FederateAmbassador> getAmbassadors();
 
+    /**
+     * Returns the ids of the federates which must be initialized before the given federate.
+     *
+     * @param federateId unique string identifying the federate
+     * @return the ids of the federates the given federate depends on
+     */
+    default Collection<String> getFederateDependencies(String federateId) {
+        return Collections.emptyList();
+    }
+
     /**
      * Stops the federation. All resources of federates are freed. Afterwards,
      * no new federates are allowed to join.
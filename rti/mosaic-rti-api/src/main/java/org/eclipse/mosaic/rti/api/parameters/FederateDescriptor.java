@@ -24,7 +24,9 @@ import org.apache.commons.lang3.Validate;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
@@ -102,6 +104,11 @@ public class FederateDescriptor {
      */
     private JavaFederateParameters javaFederateParameters;
 
+    /**
+     * The ids of the federates which must be started and initialized before this federate.
+     */
+    private List<String> dependencies = new ArrayList<>();
+
     /**
      * Creates a new {@link FederateDescriptor} which provides various information
      * for managing the ambassador and the federate it presents.
@@ -212,4 +219,12 @@ public class FederateDescriptor {
     public void setJavaFederateParameters(JavaFederateParameters javaFederateParameters) {
         this.javaFederateParameters = javaFederateParameters;
     }
+
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
+    public void setDependencies(@Nonnull Collection<String> dependencies) {
+        this.dependencies = new ArrayList<>(dependencies);
+    }
 }
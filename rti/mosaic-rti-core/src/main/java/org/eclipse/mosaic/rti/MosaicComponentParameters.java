@@ -42,6 +42,11 @@ public class MosaicComponentParameters {
      */
     private int numberOfThreads = 1;
 
+    /**
+     * Defines whether independent federates are started and initialized concurrently.
+     */
+    private boolean parallelStartup = false;
+
     public String getFederationId() {
         return federationId;
     }
@@ -87,4 +92,13 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public boolean isParallelStartup() {
+        return parallelStartup;
+    }
+
+    public MosaicComponentParameters setParallelStartup(boolean parallelStartup) {
+        this.parallelStartup = parallelStartup;
+        return this;
+    }
+
 }
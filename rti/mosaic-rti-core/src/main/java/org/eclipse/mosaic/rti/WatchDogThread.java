@@ -20,7 +20,8 @@ import org.eclipse.mosaic.rti.api.WatchDog;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
-import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This thread is used to monitor a federate.
@@ -44,12 +45,12 @@ public class WatchDogThread extends Thread implements WatchDog {
      */
     private volatile boolean watching = true;
 
-    private final LinkedList<Process> processList;
+    private final List<Process> processList;
 
     public WatchDogThread(ComponentProvider federation, int maxIdleTime) {
         this.federation = federation;
         this.maxIdleTime = maxIdleTime;
-        processList = new LinkedList<>();
+        processList = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -27,6 +27,7 @@ import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
 import ch.qos.logback.classic.LoggerContext;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.apache.commons.io.input.CloseShieldInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,8 +43,9 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This implementation of <code>FederationManagement</code> allows local
@@ -66,16 +68,16 @@ public class LocalFederationManagement implements FederationManagement {
     protected final ComponentProvider federation;
 
     /**
-     * Mapping between federation id and federation descriptors.
+     * Mapping between federation id and federation descriptors. Federates may be added concurrently during startup.
      */
-    protected final Map<String, FederateDescriptor> federateDescriptors = new HashMap<>();
+    protected final Map<String, FederateDescriptor> federateDescriptors = new ConcurrentHashMap<>();
 
     /**
-     * Mapping between federation id and federation ambassador instances.
+     * Mapping between federation id and federation ambassador instances. Federates may be added concurrently during startup.
      */
-    protected final Map<String, FederateAmbassador> federateAmbassadors = new HashMap<>();
+    protected final Map<String, FederateAmbassador> federateAmbassadors = new ConcurrentHashMap<>();
 
-    protected final Multimap<String, ProcessLoggingThread> loggingThreads = HashMultimap.create();
+    protected final Multimap<String, ProcessLoggingThread> loggingThreads = Multimaps.synchronizedSetMultimap(HashMultimap.create());
 
     protected WatchDog watchDog;
 
@@ -106,8 +108,9 @@ public class LocalFederationManagement implements FederationManagement {
         }
 
         descriptor.getAmbassador().setRtiAmbassador(federation.createRtiAmbassador(descriptor.getId()));
-        this.federateDescriptors.put(descriptor.getId(), descriptor);
+        // the ambassador is added first, so that a joined federate always provides its ambassador
         this.federateAmbassadors.put(descriptor.getId(), descriptor.getAmbassador());
+        this.federateDescriptors.put(descriptor.getId(), descriptor);
     }
 
     @Override
@@ -125,6 +128,12 @@ public class LocalFederationManagement implements FederationManagement {
         return this.federateAmbassadors.values();
     }
 
+    @Override
+    public Collection<String> getFederateDependencies(String federateId) {
+        final FederateDescriptor descriptor = this.federateDescriptors.get(federateId);
+        return descriptor != null ? descriptor.getDependencies() : Collections.emptyList();
+    }
+
     @Override
     public void stopFederation() throws Exception {
         for (FederateDescriptor handle : this.federateDescriptors.values()) {
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.federation;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executes a startup phase (e.g. starting or initializing) for all federates of a federation. A federate is
+ * processed only after all federates it depends on have been processed. If parallel startup is enabled,
+ * independent federates are processed concurrently, otherwise one after another in the given order,
+ * as long as this order does not conflict with the dependencies. The time spent in each phase is logged
+ * and can be requested afterwards.
+ */
+public class StartupOrchestrator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    /**
+     * A task executed for a single federate during a startup phase.
+     *
+     * @param <T> the type of the object representing the federate
+     */
+    @FunctionalInterface
+    public interface FederateTask<T> {
+
+        void execute(T federate) throws Exception;
+    }
+
+    private final boolean parallel;
+
+    private final Function<String, Collection<String>> dependencies;
+
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+
+    /**
+     * Creates a new {@link StartupOrchestrator}.
+     *
+     * @param parallel     {@code true}, if independent federates should be processed concurrently
+     * @param dependencies provides the ids of the federates the federate with the given id depends on
+     */
+    public StartupOrchestrator(boolean parallel, Function<String, Collection<String>> dependencies) {
+        this.parallel = parallel;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Executes the given task for all federates, respecting their dependencies.
+     *
+     * @param phase      the name of the phase, used for logging
+     * @param federates  the federates to process
+     * @param idFunction returns the id of a federate
+     * @param task       the task to execute for each federate
+     * @param <T>        the type of the object representing a federate
+     * @throws Exception the first exception thrown by a task
+     */
+    public <T> void runPhase(String phase, List<T> federates, Function<T, String> idFunction, FederateTask<T> task) throws Exception {
+        final long phaseStart = System.nanoTime();
+        final int[][] dependencyIndices = resolveDependencies(federates, idFunction);
+        if (parallel && federates.size() > 1) {
+            runParallel(phase, federates, idFunction, task, dependencyIndices);
+        } else {
+            for (int index : getExecutionOrder(dependencyIndices)) {
+                execute(phase, federates.get(index), idFunction, task);
+            }
+        }
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart);
+        phaseDurations.put(phase, durationMs);
+        LOG.info("Finished phase '{}' for {} federates in {} ms", phase, federates.size(), durationMs);
+    }
+
+    /**
+     * Returns the duration of the given phase in milliseconds, or {@code null} if the phase has not been executed.
+     */
+    public Long getPhaseDuration(String phase) {
+        return phaseDurations.get(phase);
+    }
+
+    private <T> void execute(String phase, T federate, Function<T, String> idFunction, FederateTask<T> task) throws Exception {
+        final long start = System.nanoTime();
+        task.execute(federate);
+        LOG.info("Finished phase '{}' for federate '{}' in {} ms",
+                phase, idFunction.apply(federate), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private <T> void runParallel(String phase, List<T> federates, Function<T, String> idFunction, FederateTask<T> task,
+                                 int[][] dependencyIndices) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(federates.size(), createThreadFactory(phase));
+        try {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>(federates.size());
+            for (int i = 0; i < federates.size(); i++) {
+                futures.add(null);
+            }
+            // futures of dependencies are always created first
+            for (int index : getExecutionOrder(dependencyIndices)) {
+                final CompletableFuture<?>[] required = new CompletableFuture<?>[dependencyIndices[index].length];
+                for (int i = 0; i < required.length; i++) {
+                    required[i] = futures.get(dependencyIndices[index][i]);
+                }
+                final T federate = federates.get(index);
+                futures.set(index, CompletableFuture.allOf(required).thenRunAsync(() -> {
+                    try {
+                        execute(phase, federate, idFunction, task);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Exception unwrap(CompletionException e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception exception) {
+            return exception;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    private static ThreadFactory createThreadFactory(String phase) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "startup-" + phase + "-" + counter.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private <T> int[][] resolveDependencies(List<T> federates, Function<T, String> idFunction) {
+        final Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < federates.size(); i++) {
+            final String id = idFunction.apply(federates.get(i));
+            if (id != null) {
+                indices.put(id, i);
+            }
+        }
+        final int[][] result = new int[federates.size()][];
+        for (int i = 0; i < federates.size(); i++) {
+            final String id = idFunction.apply(federates.get(i));
+            final Collection<String> dependencyIds = id != null ? dependencies.apply(id) : null;
+            final List<Integer> dependencyIndices = new ArrayList<>();
+            if (dependencyIds != null) {
+                for (String dependencyId : dependencyIds) {
+                    final Integer dependencyIndex = indices.get(dependencyId);
+                    if (dependencyIndex == null) {
+                        LOG.warn("Federate '{}' depends on federate '{}' which is not part of the federation.", id, dependencyId);
+                    } else if (dependencyIndex != i) {
+                        dependencyIndices.add(dependencyIndex);
+                    }
+                }
+            }
+            result[i] = dependencyIndices.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the federates topologically by their dependencies. Federates which are ready at the same time
+     * keep their given order, hence, the given order is kept if there are no dependencies.
+     *
+     * @throws IllegalArgumentException if the dependencies contain a cycle
+     */
+    private static int[] getExecutionOrder(int[][] dependencyIndices) {
+        final int size = dependencyIndices.length;
+        final int[] missingDependencies = new int[size];
+        final List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (int dependency : dependencyIndices[i]) {
+                missingDependencies[i]++;
+                dependents.get(dependency).add(i);
+            }
+        }
+        final PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < size; i++) {
+            if (missingDependencies[i] == 0) {
+                ready.add(i);
+            }
+        }
+        final int[] order = new int[size];
+        int count = 0;
+        while (!ready.isEmpty()) {
+            final int next = ready.poll();
+            order[count++] = next;
+            for (int dependent : dependents.get(next)) {
+                if (--missingDependencies[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        Validate.isTrue(count == size, "The dependencies between the federates contain a cycle.");
+        return order;
+    }
+}
@@ -23,11 +23,13 @@ import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.WatchDogThread;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.api.WatchDog;
 import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.federation.StartupOrchestrator;
 
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
@@ -36,8 +38,8 @@ import org.slf4j.LoggerFactory;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Observable;
 import java.util.Queue;
@@ -85,6 +87,11 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
      */
     private final long endTime;
 
+    /**
+     * Whether independent federates are initialized concurrently.
+     */
+    private final boolean parallelStartup;
+
     /**
      * The current simulation time of the federation in nanoseconds.
      */
@@ -99,6 +106,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         this.events = new EfficientPriorityQueue<>();
         this.federation = federation;
         this.endTime = componentParameters.getEndTime();
+        this.parallelStartup = componentParameters.isParallelStartup();
     }
 
     @Override
@@ -143,10 +151,16 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         // advance to start time
         this.time = 0;
 
-        // schedule start event for each federate
-        Collection<FederateAmbassador> ambassadors = federation.getFederationManagement().getAmbassadors();
-        for (FederateAmbassador fed : ambassadors) {
-            fed.initialize(0, getEndTime());
+        // schedule start event for each federate, federates are initialized after the federates they depend on
+        final FederationManagement federationManagement = federation.getFederationManagement();
+        final List<FederateAmbassador> ambassadors = List.copyOf(federationManagement.getAmbassadors());
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(parallelStartup, federationManagement::getFederateDependencies);
+        try {
+            orchestrator.runPhase("initialize", ambassadors, FederateAmbassador::getId, fed -> fed.initialize(0, getEndTime()));
+        } catch (IllegalValueException | InternalFederateException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InternalFederateException(e);
         }
 
         simStartRealtimeNs = System.nanoTime();
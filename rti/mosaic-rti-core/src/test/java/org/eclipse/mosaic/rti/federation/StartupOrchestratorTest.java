@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.federation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class StartupOrchestratorTest {
+
+    private final Map<String, Collection<String>> dependencies = new HashMap<>();
+
+    @Test
+    public void sequential_noDependencies_givenOrder() throws Exception {
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(false, this::getDependencies);
+
+        orchestrator.runPhase("start", List.of("sumo", "application", "mapping"), id -> id, executed::add);
+
+        assertEquals(List.of("sumo", "application", "mapping"), executed);
+        assertNotNull(orchestrator.getPhaseDuration("start"));
+    }
+
+    @Test
+    public void sequential_dependencies_dependenciesFirst() throws Exception {
+        dependencies.put("sumo", List.of("mapping"));
+        dependencies.put("application", List.of("sumo", "unknown"));
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(false, this::getDependencies);
+
+        orchestrator.runPhase("start", List.of("sumo", "application", "mapping", "ns3"), id -> id, executed::add);
+
+        assertEquals(List.of("mapping", "sumo", "application", "ns3"), executed);
+    }
+
+    @Test
+    public void parallel_independentFederatesConcurrently() throws Exception {
+        final CountDownLatch allStarted = new CountDownLatch(3);
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(true, this::getDependencies);
+
+        orchestrator.runPhase("start", List.of("sumo", "ns3", "application"), id -> id, id -> {
+            allStarted.countDown();
+            // would time out if federates were started one after another
+            assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+        });
+    }
+
+    @Test
+    public void parallel_dependencies_dependenciesFinishedFirst() throws Exception {
+        dependencies.put("application", List.of("sumo", "ns3"));
+        dependencies.put("ns3", List.of("sumo"));
+        final List<String> finished = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(true, this::getDependencies);
+
+        orchestrator.runPhase("initialize", List.of("application", "ns3", "sumo", "mapping"), id -> id, id -> {
+            for (String dependency : getDependencies(id)) {
+                assertTrue(id + " started before " + dependency, finished.contains(dependency));
+            }
+            Thread.sleep(20);
+            finished.add(id);
+        });
+
+        assertEquals(4, finished.size());
+        assertTrue(finished.indexOf("sumo") < finished.indexOf("ns3"));
+        assertTrue(finished.indexOf("ns3") < finished.indexOf("application"));
+    }
+
+    @Test
+    public void parallel_exception_thrownUnwrappedAndDependentsSkipped() throws Exception {
+        dependencies.put("application", List.of("sumo"));
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(true, this::getDependencies);
+
+        try {
+            orchestrator.runPhase("start", List.of("sumo", "application"), id -> id, id -> {
+                executed.add(id);
+                if (id.equals("sumo")) {
+                    throw new InternalFederateException("Could not start " + id);
+                }
+            });
+            throw new AssertionError("Expected exception");
+        } catch (InternalFederateException e) {
+            assertEquals("Could not start sumo", e.getMessage());
+        }
+        assertFalse(executed.contains("application"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cyclicDependencies() throws Exception {
+        dependencies.put("sumo", List.of("application"));
+        dependencies.put("application", List.of("sumo"));
+
+        new StartupOrchestrator(true, this::getDependencies).runPhase("start", List.of("sumo", "application"), id -> id, id -> {
+        });
+    }
+
+    private Collection<String> getDependencies(String id) {
+        return dependencies.getOrDefault(id, Collections.emptyList());
+    }
+}
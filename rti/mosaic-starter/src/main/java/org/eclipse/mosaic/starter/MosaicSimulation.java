@@ -43,6 +43,7 @@ import org.eclipse.mosaic.rti.config.CHosts;
 import org.eclipse.mosaic.rti.config.CIpResolver;
 import org.eclipse.mosaic.rti.config.CLocalHost;
 import org.eclipse.mosaic.rti.config.CProjection;
+import org.eclipse.mosaic.rti.federation.StartupOrchestrator;
 import org.eclipse.mosaic.starter.config.CRuntime;
 import org.eclipse.mosaic.starter.config.CScenario;
 
@@ -69,6 +70,8 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -179,7 +182,8 @@ public class MosaicSimulation {
             printMosaicVersion();
 
             final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
-                    .setNumberOfThreads(runtimeConfiguration.threads);
+                    .setNumberOfThreads(runtimeConfiguration.threads)
+                    .setParallelStartup(runtimeConfiguration.parallelStartup);
 
             initializeSingletons(scenarioConfiguration);
 
@@ -365,6 +369,7 @@ public class MosaicSimulation {
             }
         }
         descriptor.setStartAndStop(federate.start);
+        descriptor.setDependencies(federate.dependsOn);
 
         final CLocalHost host = Validate.notNull(
                 hostsConfiguration.getHostById(federate.host), "No suitable host found for federate " + federate.id
@@ -451,13 +456,21 @@ public class MosaicSimulation {
     }
 
     /**
-     * Adds the list of {@link FederateDescriptor}s to the given federation.
+     * Adds the list of {@link FederateDescriptor}s to the given federation. Federates are started after
+     * the federates they depend on, and concurrently to independent federates if parallel startup is enabled.
      */
     private void addFederates(ComponentProvider federation, List<FederateDescriptor> federates) throws Exception {
-        for (FederateDescriptor descriptor : federates) {
+        final Map<String, Collection<String>> dependencies = new HashMap<>();
+        federates.forEach(descriptor -> dependencies.put(descriptor.getId(), descriptor.getDependencies()));
+
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(runtimeConfiguration.parallelStartup, dependencies::get);
+        orchestrator.runPhase("start", federates, FederateDescriptor::getId, descriptor -> {
             federation.getFederationManagement().addFederate(descriptor);
-            federation.getInteractionManagement().subscribeInteractions(descriptor.getId(), descriptor.getInteractions());
             federation.getTimeManagement().updateWatchDog();
+        });
+
+        for (FederateDescriptor descriptor : federates) {
+            federation.getInteractionManagement().subscribeInteractions(descriptor.getId(), descriptor.getInteractions());
         }
     }
 
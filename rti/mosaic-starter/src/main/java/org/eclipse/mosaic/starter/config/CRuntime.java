@@ -33,6 +33,12 @@ public class CRuntime {
      */
     public int threads = 1;
 
+    /**
+     * If enabled, independent federates are started and initialized concurrently, which reduces
+     * the time until the first simulation step if federates take long to start up (e.g. SUMO, ns-3, or the
+     * preparation of routing data). Dependencies between federates can be declared via {@link CFederate#dependsOn}.
+     */
+    public boolean parallelStartup = false;
 
     public List<CFederate> federates = new ArrayList<>();
 
@@ -62,6 +68,11 @@ public class CRuntime {
         public Integer javaMemorySizeXmx;
 
         public List<String> javaClasspathEntries = new ArrayList<>();
+
+        /**
+         * The ids of the federates which must be started and initialized before this federate.
+         */
+        public List<String> dependsOn = new ArrayList<>();
     }
 
 }